@@ -24,6 +24,7 @@ package org.jtuples;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -58,12 +59,20 @@ public abstract class AbstractTuple implements Tuple {
     }
 
     private boolean equalsTuple(Tuple other) {
-        if (this.arity() != other.arity()) {
+        int arity = this.arity();
+        if (arity != other.arity()) {
             return false;
         }
-        else {
+        if (!(other instanceof AbstractTuple)) {
             return Arrays.equals(this.toArray(), other.toArray());
         }
+        AbstractTuple tuple = (AbstractTuple) other;
+        for (int i = 0; i < arity; ++i) {
+            if (!Objects.equals(this.element(i), tuple.element(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -71,7 +80,11 @@ public abstract class AbstractTuple implements Tuple {
      */
     @Override
     public final int hashCode() {
-        return this.asList().hashCode();
+        int hashCode = 1;
+        for (int i = 0, arity = this.arity(); i < arity; ++i) {
+            hashCode = 31 * hashCode + Objects.hashCode(this.element(i));
+        }
+        return hashCode;
     }
 
     /**
@@ -83,4 +96,25 @@ public abstract class AbstractTuple implements Tuple {
                 .map(String::valueOf)
                 .collect(Collectors.joining(", ", "(", ")"));
     }
+
+
+    /**
+     * Returns the element at the given zero-based position of this tuple.
+     * Implementations in this package read their fields directly,
+     * without copying the tuple to an array.
+     */
+    Object element(int index) {
+        return this.toArray()[index];
+    }
+
+    /**
+     * Returns the element at the given zero-based position of a tuple,
+     * reading it directly when the tuple is one of ours.
+     */
+    static Object elementOf(Tuple tuple, int index) {
+        if (tuple instanceof AbstractTuple) {
+            return ((AbstractTuple) tuple).element(index);
+        }
+        return tuple.toArray()[index];
+    }
 }
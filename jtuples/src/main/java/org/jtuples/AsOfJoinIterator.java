@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * An iterator that pairs each event with the most recent reference
+ * at or before the time of the event.
+ *
+ * Both iterators must be sorted by time, and they are merged in a single
+ * forward pass.
+ * Only the latest reference is kept in memory or, when keys are given,
+ * the latest reference of each key.
+ *
+ * @author Andre Santos
+ * @param <E> the type of the events
+ * @param <R> the type of the references
+ * @param <K> the type of the keys
+ * @see Tuples#asOfJoin(Iterator, Iterator, ToLongFunction, ToLongFunction)
+ */
+final class AsOfJoinIterator<E, R, K> implements Iterator<Pair<E, R>> {
+    private final Iterator<E> events;
+    private final Iterator<R> references;
+    private final ToLongFunction<? super E> eventTime;
+    private final ToLongFunction<? super R> referenceTime;
+    private final Function<? super E, ? extends K> eventKey;
+    private final Function<? super R, ? extends K> referenceKey;
+    private final long tolerance;
+    private final Map<K, R> latestByKey;
+    private R latest;
+    private long lastEventTime;
+    private boolean started;
+    private R pending;
+    private long pendingTime;
+    private boolean hasPending;
+
+    AsOfJoinIterator(Iterator<E> events, Iterator<R> references,
+            ToLongFunction<? super E> eventTime,
+            ToLongFunction<? super R> referenceTime,
+            Function<? super E, ? extends K> eventKey,
+            Function<? super R, ? extends K> referenceKey,
+            long tolerance) {
+        this.events = events;
+        this.references = references;
+        this.eventTime = eventTime;
+        this.referenceTime = referenceTime;
+        this.eventKey = eventKey;
+        this.referenceKey = referenceKey;
+        this.tolerance = tolerance;
+        this.latestByKey = eventKey == null ? null : new HashMap<>();
+        advanceReference();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return events.hasNext();
+    }
+
+    @Override
+    public Pair<E, R> next() {
+        E event = events.next();
+        long time = eventTime.applyAsLong(event);
+        if (started && time < lastEventTime) {
+            throw new IllegalStateException("Events are not sorted by time.");
+        }
+        started = true;
+        lastEventTime = time;
+        while (hasPending && pendingTime <= time) {
+            if (latestByKey == null) {
+                latest = pending;
+            }
+            else {
+                latestByKey.put(referenceKey.apply(pending), pending);
+            }
+            advanceReference();
+        }
+        R match = latestByKey == null
+                ? latest : latestByKey.get(eventKey.apply(event));
+        if (match != null && tolerance != Long.MAX_VALUE
+                && time - referenceTime.applyAsLong(match) > tolerance) {
+            match = null;
+        }
+        return new Pair<>(event, match);
+    }
+
+    private void advanceReference() {
+        if (!references.hasNext()) {
+            hasPending = false;
+            pending = null;
+            return;
+        }
+        R reference = references.next();
+        long time = referenceTime.applyAsLong(reference);
+        if (hasPending && time < pendingTime) {
+            throw new IllegalStateException(
+                    "References are not sorted by time.");
+        }
+        pending = reference;
+        pendingTime = time;
+        hasPending = true;
+    }
+}
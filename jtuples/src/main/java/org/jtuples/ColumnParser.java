@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+/**
+ * Parses the text of a column of delimited text into a value.
+ *
+ * Column parsers read straight from the character buffer of
+ * a {@link DelimitedReader}, so that columns that are not kept as text,
+ * such as numbers, can be parsed without creating a {@code String}.
+ * Parsers must not keep a reference to the buffer, whose contents change
+ * as the reader moves on to the following lines.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the parsed values
+ * @see ColumnParsers
+ */
+@FunctionalInterface
+public interface ColumnParser<T> {
+    /**
+     * Parses the text in the given range of a character buffer.
+     * @param buffer the buffer that holds the text of the column
+     * @param offset the index of the first character of the column
+     * @param length the number of characters of the column
+     * @return the parsed value
+     * @throws IllegalArgumentException if the text cannot be parsed
+     */
+    T parse(char[] buffer, int offset, int length);
+}
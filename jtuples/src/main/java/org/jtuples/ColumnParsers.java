@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+/**
+ * This class consists exclusively of static fields and methods that
+ * provide common {@link ColumnParser}s.
+ *
+ * The numeric parsers accept the same text as the {@code parseInt},
+ * {@code parseLong} and {@code parseDouble} methods of the boxed types,
+ * without leading or trailing whitespace.
+ * They read digits straight from the buffer, and only create
+ * a {@code String} when the text is not a valid number, to report it,
+ * or, for doubles, when the value cannot be computed exactly with
+ * a single floating-point operation.
+ *
+ * @author Andre Santos
+ * @see DelimitedReader
+ */
+public final class ColumnParsers {
+    /**
+     * A parser that keeps the text of columns as strings.
+     */
+    public static final ColumnParser<String> STRING = String::new;
+
+    /**
+     * A parser of decimal integers.
+     */
+    public static final ColumnParser<Integer> INT = ColumnParsers::parseInt;
+
+    /**
+     * A parser of decimal longs.
+     */
+    public static final ColumnParser<Long> LONG = ColumnParsers::parseLong;
+
+    /**
+     * A parser of doubles.
+     */
+    public static final ColumnParser<Double> DOUBLE =
+            ColumnParsers::parseDouble;
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private ColumnParsers() {
+        throw new AssertionError();
+    }
+
+
+    static int parseInt(char[] buffer, int offset, int length) {
+        long value = parseLong(buffer, offset, length);
+        if (value != (int) value) {
+            throw numberFormat(buffer, offset, length);
+        }
+        return (int) value;
+    }
+
+    static long parseLong(char[] buffer, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            ++i;
+        }
+        if (i == end) {
+            throw numberFormat(buffer, offset, length);
+        }
+        // accumulate negatively, so that Long.MIN_VALUE fits
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < end; ++i) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || value < limit / 10) {
+                throw numberFormat(buffer, offset, length);
+            }
+            value *= 10;
+            if (value < limit + digit) {
+                throw numberFormat(buffer, offset, length);
+            }
+            value -= digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses a double with the fast path of Clinger's algorithm: when the
+     * digits fit exactly in a double and the decimal exponent is small,
+     * a single multiplication or division by an exact power of ten gives
+     * the correctly rounded result.
+     * Anything else falls back to {@code Double.parseDouble}.
+     */
+    static double parseDouble(char[] buffer, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            ++i;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean point = false;
+        boolean any = false;
+        for (; i < end; ++i) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (mantissa != 0 || c != '0') {
+                    if (++digits > MAX_MANTISSA_DIGITS) {
+                        return slowParseDouble(buffer, offset, length);
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if (point) {
+                    --exponent;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end) {
+            char c = buffer[i];
+            if (!any || (c != 'e' && c != 'E')) {
+                return slowParseDouble(buffer, offset, length);
+            }
+            int e = parseExponent(buffer, i + 1, end);
+            if (e == Integer.MIN_VALUE) {
+                return slowParseDouble(buffer, offset, length);
+            }
+            exponent += e;
+        } else if (!any) {
+            return slowParseDouble(buffer, offset, length);
+        }
+        if (mantissa > MAX_EXACT_MANTISSA
+                || exponent < -22 || exponent > 22) {
+            return slowParseDouble(buffer, offset, length);
+        }
+        double value = mantissa;
+        if (exponent < 0) {
+            value /= POWERS_OF_TEN[-exponent];
+        } else {
+            value *= POWERS_OF_TEN[exponent];
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Returns a small decimal exponent, or {@code Integer.MIN_VALUE} if
+     * the text is not one.
+     */
+    private static int parseExponent(char[] buffer, int i, int end) {
+        boolean negative = false;
+        if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            ++i;
+        }
+        if (i == end || end - i > 4) {
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (; i < end; ++i) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private static double slowParseDouble(char[] buffer, int offset,
+            int length) {
+        return Double.parseDouble(new String(buffer, offset, length));
+    }
+
+    private static NumberFormatException numberFormat(char[] buffer,
+            int offset, int length) {
+        return new NumberFormatException("For input string: \""
+                + new String(buffer, offset, length) + "\"");
+    }
+}
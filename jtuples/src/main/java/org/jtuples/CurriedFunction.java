@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The curried version of a function of pairs, as returned by
+ * {@link Functions#curry(Function)}.
+ * Uncurrying it again gives back the original function.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first component of the pair
+ * @param <B> the type of the second component of the pair
+ * @param <C> the return type
+ */
+final class CurriedFunction<A, B, C> implements BiFunction<A, B, C> {
+    final Function<Pair<A, B>, C> function;
+
+    CurriedFunction(Function<Pair<A, B>, C> function) {
+        this.function = function;
+    }
+
+    @Override
+    public C apply(A a, B b) {
+        return function.apply(new Pair<>(a, b));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents a function that accepts ten arguments and produces a result.
+ * This is the ten-arity specialization of {@link Function}.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first argument to the function
+ * @param <B> the type of the second argument to the function
+ * @param <C> the type of the third argument to the function
+ * @param <D> the type of the fourth argument to the function
+ * @param <E> the type of the fifth argument to the function
+ * @param <F> the type of the sixth argument to the function
+ * @param <G> the type of the seventh argument to the function
+ * @param <H> the type of the eighth argument to the function
+ * @param <I> the type of the ninth argument to the function
+ * @param <J> the type of the tenth argument to the function
+ * @param <R> the type of the result of the function
+ * @see org.jtuples.EnneaFunction
+ */
+@FunctionalInterface
+public interface DecaFunction<A, B, C, D, E, F, G, H, I, J, R> {
+    /**
+     * Applies this function to the given arguments.
+     * @param a the first function argument
+     * @param b the second function argument
+     * @param c the third function argument
+     * @param d the fourth function argument
+     * @param e the fifth function argument
+     * @param f the sixth function argument
+     * @param g the seventh function argument
+     * @param h the eighth function argument
+     * @param i the ninth function argument
+     * @param j the tenth function argument
+     * @return the function result
+     */
+    R apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j);
+
+    /**
+     * Returns a composed function that first applies this function to
+     * its input, and then applies the {@code after} function to the result.
+     * @param <V> the type of output of the {@code after} function,
+     *        and of the composed function
+     * @param after the function to apply after this function is applied
+     * @return a composed function that first applies this function and then
+     *         applies the {@code after} function
+     * @throws NullPointerException if after is null
+     */
+    default <V> DecaFunction<A, B, C, D, E, F, G, H, I, J, V> andThen(
+            Function<? super R, ? extends V> after) {
+        Objects.requireNonNull(after);
+        return (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j) ->
+                after.apply(apply(a, b, c, d, e, f, g, h, i, j));
+    }
+}
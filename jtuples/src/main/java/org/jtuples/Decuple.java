@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -42,7 +45,9 @@ import java.util.function.Function;
  * @param <I> the type of the ninth element of the decuple
  * @param <J> the type of the tenth element of the decuple
  */
-public final class Decuple<A, B, C, D, E, F, G, H, I, J> extends AbstractTuple {
+public final class Decuple<A, B, C, D, E, F, G, H, I, J> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 10;
 
     private final A first;
@@ -237,6 +242,34 @@ public final class Decuple<A, B, C, D, E, F, G, H, I, J> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            case 4:
+                return fifth;
+            case 5:
+                return sixth;
+            case 6:
+                return seventh;
+            case 7:
+                return eighth;
+            case 8:
+                return ninth;
+            case 9:
+                return tenth;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new decuple, transforming the first member of this
@@ -397,4 +430,337 @@ public final class Decuple<A, B, C, D, E, F, G, H, I, J> extends AbstractTuple {
         return new Decuple<>(first, second, third, fourth, fifth, sixth,
                 seventh, eighth, ninth, function.apply(tenth));
     }
+
+    /**
+     * Returns the result of applying the given function to this decuple.
+     * The members of this decuple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this decuple
+     * @return the function's result
+     */
+    public <R> R apply(DecaFunction<A, B, C, D, E, F, G, H, I, J, R> function) {
+        return function.apply(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth, tenth);
+    }
+
+    /**
+     * Returns a builder that creates a new decuple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new decuple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this decuple
+     */
+    public Builder<A, B, C, D, E, F, G, H, I, J> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this decuple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this decuple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of decuples, obtained from {@link Decuple#toBuilder()}.
+     * It starts with the members of the original decuple, and allows
+     * replacing or transforming any of them before the new decuple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the decuple
+     * @param <B> the type of the second element of the decuple
+     * @param <C> the type of the third element of the decuple
+     * @param <D> the type of the fourth element of the decuple
+     * @param <E> the type of the fifth element of the decuple
+     * @param <F> the type of the sixth element of the decuple
+     * @param <G> the type of the seventh element of the decuple
+     * @param <H> the type of the eighth element of the decuple
+     * @param <I> the type of the ninth element of the decuple
+     * @param <J> the type of the tenth element of the decuple
+     */
+    public static final class Builder<A, B, C, D, E, F, G, H, I, J> {
+        private final Decuple<A, B, C, D, E, F, G, H, I, J> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+        private E fifth;
+        private F sixth;
+        private G seventh;
+        private H eighth;
+        private I ninth;
+        private J tenth;
+
+        private Builder(Decuple<A, B, C, D, E, F, G, H, I, J> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+            this.fifth = source.fifth;
+            this.sixth = source.sixth;
+            this.seventh = source.seventh;
+            this.eighth = source.eighth;
+            this.ninth = source.ninth;
+            this.tenth = source.tenth;
+        }
+
+        /**
+         * Replaces the first member of the decuple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the decuple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the decuple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the decuple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fifth member of the decuple being built.
+         * @param value the new fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> fifth(E value) {
+            this.fifth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the sixth member of the decuple being built.
+         * @param value the new sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> sixth(F value) {
+            this.sixth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the seventh member of the decuple being built.
+         * @param value the new seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> seventh(G value) {
+            this.seventh = value;
+            return this;
+        }
+
+        /**
+         * Replaces the eighth member of the decuple being built.
+         * @param value the new eighth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> eighth(H value) {
+            this.eighth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the ninth member of the decuple being built.
+         * @param value the new ninth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> ninth(I value) {
+            this.ninth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the tenth member of the decuple being built.
+         * @param value the new tenth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> tenth(J value) {
+            this.tenth = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the decuple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the decuple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the decuple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the decuple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Transforms the fifth member of the decuple being built.
+         * The new fifth member is the result of applying the given function
+         * to the current fifth member of this builder.
+         * @param function the function used to transform the fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyFifth(
+                Function<? super E, ? extends E> function) {
+            this.fifth = function.apply(fifth);
+            return this;
+        }
+
+        /**
+         * Transforms the sixth member of the decuple being built.
+         * The new sixth member is the result of applying the given function
+         * to the current sixth member of this builder.
+         * @param function the function used to transform the sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applySixth(
+                Function<? super F, ? extends F> function) {
+            this.sixth = function.apply(sixth);
+            return this;
+        }
+
+        /**
+         * Transforms the seventh member of the decuple being built.
+         * The new seventh member is the result of applying the given function
+         * to the current seventh member of this builder.
+         * @param function the function used to transform the seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applySeventh(
+                Function<? super G, ? extends G> function) {
+            this.seventh = function.apply(seventh);
+            return this;
+        }
+
+        /**
+         * Transforms the eighth member of the decuple being built.
+         * The new eighth member is the result of applying the given function
+         * to the current eighth member of this builder.
+         * @param function the function used to transform the eighth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyEighth(
+                Function<? super H, ? extends H> function) {
+            this.eighth = function.apply(eighth);
+            return this;
+        }
+
+        /**
+         * Transforms the ninth member of the decuple being built.
+         * The new ninth member is the result of applying the given function
+         * to the current ninth member of this builder.
+         * @param function the function used to transform the ninth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyNinth(
+                Function<? super I, ? extends I> function) {
+            this.ninth = function.apply(ninth);
+            return this;
+        }
+
+        /**
+         * Transforms the tenth member of the decuple being built.
+         * The new tenth member is the result of applying the given function
+         * to the current tenth member of this builder.
+         * @param function the function used to transform the tenth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I, J> applyTenth(
+                Function<? super J, ? extends J> function) {
+            this.tenth = function.apply(tenth);
+            return this;
+        }
+
+        /**
+         * Returns a decuple with the members of this builder.
+         * If every member is the same object as in the original decuple,
+         * the original decuple is returned instead of a new one.
+         * @return a decuple with the members of this builder
+         */
+        public Decuple<A, B, C, D, E, F, G, H, I, J> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth &&
+                    fifth == source.fifth && sixth == source.sixth &&
+                    seventh == source.seventh && eighth == source.eighth &&
+                    ninth == source.ninth && tenth == source.tenth) {
+                return source;
+            }
+            return new Decuple<>(first, second, third, fourth, fifth, sixth,
+                    seventh, eighth, ninth, tenth);
+        }
+    }
 }
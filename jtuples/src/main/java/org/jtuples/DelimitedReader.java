@@ -0,0 +1,790 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Reads lines of delimited text, such as CSV or TSV, as tuples.
+ *
+ * Each line holds one tuple, with a column for each of its members,
+ * separated by a delimiter character.
+ * Each column is parsed by its own {@link ColumnParser}, straight from
+ * a character buffer that is reused from line to line, so that numeric
+ * columns are parsed without creating a {@code String}.
+ * Columns may be enclosed in quotes, by default {@code '"'}, to include
+ * delimiters or line breaks; a quote inside a quoted column is written
+ * as two quotes.
+ * A quote only starts a quoted column when it is the first character of
+ * the column; anywhere else in an unquoted column it is read as is.
+ * Empty lines are skipped, and lines may end with either {@code "\n"} or
+ * {@code "\r\n"}.
+ * For instance, the following reader parses lines such as
+ * {@code 1500000000,42,0.5}:
+ * <pre>{@code
+ * DelimitedReader<Triple<Long, Integer, Double>> reader =
+ *         DelimitedReader.of(',', ColumnParsers.LONG, ColumnParsers.INT,
+ *                 ColumnParsers.DOUBLE);
+ * }</pre>
+ *
+ * Text is read either from a {@code Reader}, or from a
+ * {@code FileChannel}, decoded as UTF-8.
+ * Large files can be read in parallel with
+ * {@link #readAll(FileChannel, int)}, which splits them at line
+ * boundaries.
+ *
+ * Delimited readers are immutable, and are thread-safe as long as their
+ * column parsers are.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the tuples read
+ * @see ColumnParsers
+ */
+public final class DelimitedReader<T extends Tuple> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NO_QUOTE = -1;
+
+    private final char delimiter;
+    private final int quote;
+    private final boolean header;
+    private final ColumnParser<?>[] parsers;
+
+    private DelimitedReader(char delimiter, int quote, boolean header,
+            ColumnParser<?>... parsers) {
+        for (ColumnParser<?> parser : parsers) {
+            Objects.requireNonNull(parser);
+        }
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.header = header;
+        this.parsers = parsers;
+    }
+
+
+    /**
+     * Returns a reader of pairs, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the pairs
+     * @param <B> the type of the second element of the pairs
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @return a reader of pairs
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B> DelimitedReader<Pair<A, B>> of(char delimiter,
+            ColumnParser<A> first, ColumnParser<B> second) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second);
+    }
+
+    /**
+     * Returns a reader of triples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the triples
+     * @param <B> the type of the second element of the triples
+     * @param <C> the type of the third element of the triples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @return a reader of triples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C> DelimitedReader<Triple<A, B, C>> of(char delimiter,
+            ColumnParser<A> first, ColumnParser<B> second,
+            ColumnParser<C> third) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third);
+    }
+
+    /**
+     * Returns a reader of quadruples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the quadruples
+     * @param <B> the type of the second element of the quadruples
+     * @param <C> the type of the third element of the quadruples
+     * @param <D> the type of the fourth element of the quadruples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @return a reader of quadruples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D>
+            DelimitedReader<Quadruple<A, B, C, D>> of(char delimiter,
+                    ColumnParser<A> first, ColumnParser<B> second,
+                    ColumnParser<C> third, ColumnParser<D> fourth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth);
+    }
+
+    /**
+     * Returns a reader of quintuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the quintuples
+     * @param <B> the type of the second element of the quintuples
+     * @param <C> the type of the third element of the quintuples
+     * @param <D> the type of the fourth element of the quintuples
+     * @param <E> the type of the fifth element of the quintuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @return a reader of quintuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E>
+            DelimitedReader<Quintuple<A, B, C, D, E>> of(char delimiter,
+                    ColumnParser<A> first, ColumnParser<B> second,
+                    ColumnParser<C> third, ColumnParser<D> fourth,
+                    ColumnParser<E> fifth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth);
+    }
+
+    /**
+     * Returns a reader of sextuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the sextuples
+     * @param <B> the type of the second element of the sextuples
+     * @param <C> the type of the third element of the sextuples
+     * @param <D> the type of the fourth element of the sextuples
+     * @param <E> the type of the fifth element of the sextuples
+     * @param <F> the type of the sixth element of the sextuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @param sixth the parser of the sixth column
+     * @return a reader of sextuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E, F>
+            DelimitedReader<Sextuple<A, B, C, D, E, F>> of(char delimiter,
+                    ColumnParser<A> first, ColumnParser<B> second,
+                    ColumnParser<C> third, ColumnParser<D> fourth,
+                    ColumnParser<E> fifth, ColumnParser<F> sixth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Returns a reader of septuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the septuples
+     * @param <B> the type of the second element of the septuples
+     * @param <C> the type of the third element of the septuples
+     * @param <D> the type of the fourth element of the septuples
+     * @param <E> the type of the fifth element of the septuples
+     * @param <F> the type of the sixth element of the septuples
+     * @param <G> the type of the seventh element of the septuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @param sixth the parser of the sixth column
+     * @param seventh the parser of the seventh column
+     * @return a reader of septuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E, F, G>
+            DelimitedReader<Septuple<A, B, C, D, E, F, G>> of(char delimiter,
+                    ColumnParser<A> first, ColumnParser<B> second,
+                    ColumnParser<C> third, ColumnParser<D> fourth,
+                    ColumnParser<E> fifth, ColumnParser<F> sixth,
+                    ColumnParser<G> seventh) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth, sixth, seventh);
+    }
+
+    /**
+     * Returns a reader of octuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the octuples
+     * @param <B> the type of the second element of the octuples
+     * @param <C> the type of the third element of the octuples
+     * @param <D> the type of the fourth element of the octuples
+     * @param <E> the type of the fifth element of the octuples
+     * @param <F> the type of the sixth element of the octuples
+     * @param <G> the type of the seventh element of the octuples
+     * @param <H> the type of the eighth element of the octuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @param sixth the parser of the sixth column
+     * @param seventh the parser of the seventh column
+     * @param eighth the parser of the eighth column
+     * @return a reader of octuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            DelimitedReader<Octuple<A, B, C, D, E, F, G, H>> of(char delimiter,
+                    ColumnParser<A> first, ColumnParser<B> second,
+                    ColumnParser<C> third, ColumnParser<D> fourth,
+                    ColumnParser<E> fifth, ColumnParser<F> sixth,
+                    ColumnParser<G> seventh, ColumnParser<H> eighth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth, sixth, seventh, eighth);
+    }
+
+    /**
+     * Returns a reader of nonuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the nonuples
+     * @param <B> the type of the second element of the nonuples
+     * @param <C> the type of the third element of the nonuples
+     * @param <D> the type of the fourth element of the nonuples
+     * @param <E> the type of the fifth element of the nonuples
+     * @param <F> the type of the sixth element of the nonuples
+     * @param <G> the type of the seventh element of the nonuples
+     * @param <H> the type of the eighth element of the nonuples
+     * @param <I> the type of the ninth element of the nonuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @param sixth the parser of the sixth column
+     * @param seventh the parser of the seventh column
+     * @param eighth the parser of the eighth column
+     * @param ninth the parser of the ninth column
+     * @return a reader of nonuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            DelimitedReader<Nonuple<A, B, C, D, E, F, G, H, I>> of(
+                    char delimiter, ColumnParser<A> first,
+                    ColumnParser<B> second, ColumnParser<C> third,
+                    ColumnParser<D> fourth, ColumnParser<E> fifth,
+                    ColumnParser<F> sixth, ColumnParser<G> seventh,
+                    ColumnParser<H> eighth, ColumnParser<I> ninth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth, sixth, seventh, eighth, ninth);
+    }
+
+    /**
+     * Returns a reader of decuples, with the given delimiter and a parser
+     * for each column.
+     * @param <A> the type of the first element of the decuples
+     * @param <B> the type of the second element of the decuples
+     * @param <C> the type of the third element of the decuples
+     * @param <D> the type of the fourth element of the decuples
+     * @param <E> the type of the fifth element of the decuples
+     * @param <F> the type of the sixth element of the decuples
+     * @param <G> the type of the seventh element of the decuples
+     * @param <H> the type of the eighth element of the decuples
+     * @param <I> the type of the ninth element of the decuples
+     * @param <J> the type of the tenth element of the decuples
+     * @param delimiter the character that separates columns
+     * @param first the parser of the first column
+     * @param second the parser of the second column
+     * @param third the parser of the third column
+     * @param fourth the parser of the fourth column
+     * @param fifth the parser of the fifth column
+     * @param sixth the parser of the sixth column
+     * @param seventh the parser of the seventh column
+     * @param eighth the parser of the eighth column
+     * @param ninth the parser of the ninth column
+     * @param tenth the parser of the tenth column
+     * @return a reader of decuples
+     * @throws NullPointerException if any of the parsers is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            DelimitedReader<Decuple<A, B, C, D, E, F, G, H, I, J>> of(
+                    char delimiter, ColumnParser<A> first,
+                    ColumnParser<B> second, ColumnParser<C> third,
+                    ColumnParser<D> fourth, ColumnParser<E> fifth,
+                    ColumnParser<F> sixth, ColumnParser<G> seventh,
+                    ColumnParser<H> eighth, ColumnParser<I> ninth,
+                    ColumnParser<J> tenth) {
+        return new DelimitedReader<>(delimiter, '"', false, first, second,
+                third, fourth, fifth, sixth, seventh, eighth, ninth, tenth);
+    }
+
+
+    /**
+     * Returns a reader like this one, that encloses columns in the given
+     * quote character.
+     * @param quote the quote character
+     * @return a reader with the given quote character
+     */
+    public DelimitedReader<T> withQuote(char quote) {
+        return new DelimitedReader<>(delimiter, quote, header, parsers);
+    }
+
+    /**
+     * Returns a reader like this one, that does not treat any character
+     * as a quote.
+     * @return a reader without quotes
+     */
+    public DelimitedReader<T> withoutQuotes() {
+        return new DelimitedReader<>(delimiter, NO_QUOTE, header, parsers);
+    }
+
+    /**
+     * Returns a reader like this one, that skips the first line of the
+     * text, as a header.
+     * @return a reader that skips the header line
+     */
+    public DelimitedReader<T> withHeader() {
+        return new DelimitedReader<>(delimiter, quote, true, parsers);
+    }
+
+    /**
+     * Reads all lines from the given reader, passing the resulting
+     * tuples to the given action, in order.
+     * The reader is not closed.
+     * @param reader the reader to read from
+     * @param action the action to perform for each tuple
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IOException if the reader fails
+     * @throws IllegalArgumentException if a line does not have the
+     *         expected number of columns, or a column cannot be parsed
+     */
+    public void forEach(Reader reader, Consumer<? super T> action)
+            throws IOException {
+        Objects.requireNonNull(action);
+        Session session = new Session(Objects.requireNonNull(reader));
+        if (header) {
+            session.nextLine();
+        }
+        while (session.nextLine()) {
+            action.accept(session.tuple());
+        }
+    }
+
+    /**
+     * Reads all lines of the given file, decoded as UTF-8, passing the
+     * resulting tuples to the given action, in order.
+     * The file is read from its start, regardless of the position of the
+     * channel, which is not changed.
+     * @param channel the file to read from
+     * @param action the action to perform for each tuple
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IOException if the file cannot be read, or is not valid
+     *         UTF-8
+     * @throws IllegalArgumentException if a line does not have the
+     *         expected number of columns, or a column cannot be parsed
+     */
+    public void forEach(FileChannel channel, Consumer<? super T> action)
+            throws IOException {
+        forEach(reader(channel, 0, channel.size()), action);
+    }
+
+    /**
+     * Reads all lines from the given reader into a list of tuples.
+     * The reader is not closed.
+     * @param reader the reader to read from
+     * @return a list with the tuples read, in order
+     * @throws NullPointerException if the reader is null
+     * @throws IOException if the reader fails
+     * @throws IllegalArgumentException if a line does not have the
+     *         expected number of columns, or a column cannot be parsed
+     */
+    public List<T> readAll(Reader reader) throws IOException {
+        List<T> tuples = new ArrayList<>();
+        forEach(reader, tuples::add);
+        return tuples;
+    }
+
+    /**
+     * Reads all lines of the given file, decoded as UTF-8, into a list of
+     * tuples, parsing parts of the file in parallel.
+     * The file is split into the given number of parts, of about the same
+     * size, at line boundaries; each part is read in the common
+     * {@code ForkJoinPool}.
+     * Since parts are split at any line break, quoted columns must not
+     * contain line breaks.
+     * The file is read from its start, regardless of the position of the
+     * channel, which is not changed.
+     * @param channel the file to read from
+     * @param parallelism the number of parts to split the file into
+     * @return a list with the tuples read, in the order of the file
+     * @throws NullPointerException if the channel is null
+     * @throws IllegalArgumentException if parallelism is not positive,
+     *         if a line does not have the expected number of columns,
+     *         or if a column cannot be parsed
+     * @throws IOException if the file cannot be read, or is not valid
+     *         UTF-8
+     */
+    public List<T> readAll(FileChannel channel, int parallelism)
+            throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Illegal parallelism: " + parallelism);
+        }
+        long size = channel.size();
+        long[] bounds = new long[parallelism + 1];
+        bounds[parallelism] = size;
+        for (int i = 1; i < parallelism; ++i) {
+            long start = Math.max(bounds[i - 1],
+                    Math.max(1, size / parallelism * i));
+            bounds[i] = lineStart(channel, start, size);
+        }
+        List<List<T>> parts;
+        try {
+            parts = IntStream.range(0, parallelism).parallel()
+                    .mapToObj(i -> readPart(channel, bounds[i],
+                            bounds[i + 1], i == 0))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int count = 0;
+        for (List<T> part : parts) {
+            count += part.size();
+        }
+        List<T> tuples = new ArrayList<>(count);
+        for (List<T> part : parts) {
+            tuples.addAll(part);
+        }
+        return tuples;
+    }
+
+
+    private List<T> readPart(FileChannel channel, long start, long end,
+            boolean first) {
+        List<T> tuples = new ArrayList<>();
+        if (start == end) {
+            return tuples;
+        }
+        try {
+            Session session = new Session(reader(channel, start, end));
+            if (header && first) {
+                session.nextLine();
+            }
+            while (session.nextLine()) {
+                tuples.add(session.tuple());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tuples;
+    }
+
+    /**
+     * Returns the index of the first line that starts at or after the
+     * given index of a file.
+     */
+    private static long lineStart(FileChannel channel, long index,
+            long size) throws IOException {
+        if (index == 0) {
+            return 0;
+        }
+        ByteBuffer bytes = ByteBuffer.allocate(8192);
+        long position = index - 1;
+        while (position < size) {
+            bytes.clear();
+            int n = channel.read(bytes, position);
+            if (n < 0) {
+                break;
+            }
+            for (int i = 0; i < n; ++i) {
+                if (bytes.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += n;
+        }
+        return size;
+    }
+
+    private static Reader reader(FileChannel channel, long start, long end) {
+        return Channels.newReader(new RangeChannel(channel, start, end),
+                StandardCharsets.UTF_8.newDecoder(), -1);
+    }
+
+
+    /**
+     * The state of a single read: the character buffer, reused from line
+     * to line, and the bounds of the columns of the current line.
+     */
+    private final class Session {
+        // states of scan(), following the rules of split()
+        private static final int COLUMN_START = 0;
+        private static final int UNQUOTED = 1;
+        private static final int QUOTED = 2;
+        private static final int QUOTE_END = 3;
+
+        private final Reader reader;
+        private char[] buffer = new char[BUFFER_SIZE];
+        private final int[] starts = new int[parsers.length];
+        private final int[] ends = new int[parsers.length];
+        private int position;
+        private int limit;
+        private boolean eof;
+        private int scanned;
+        private int state = COLUMN_START;
+
+        Session(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Moves to the next line that is not empty, and splits it into
+         * columns.
+         * Returns false if there are no more lines.
+         */
+        boolean nextLine() throws IOException {
+            for (;;) {
+                int start = position;
+                int end = scan();
+                if (end >= 0) {
+                    position = end + 1;
+                } else if (eof) {
+                    end = limit;
+                    position = limit;
+                } else {
+                    fill();
+                    continue;
+                }
+                if (end > start && buffer[end - 1] == '\r') {
+                    --end;
+                }
+                if (end > start) {
+                    split(start, end);
+                    return true;
+                }
+                if (eof && position == limit) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Returns the index of the line break that ends the current line,
+         * or -1 if the buffer does not hold all of the line.
+         * Scanning resumes where the previous call stopped.
+         */
+        private int scan() {
+            int i = scanned;
+            int s = state;
+            for (; i < limit; ++i) {
+                char c = buffer[i];
+                if (s == QUOTED) {
+                    if (c == quote) {
+                        s = QUOTE_END;
+                    }
+                } else if (c == '\n') {
+                    scanned = i + 1;
+                    state = COLUMN_START;
+                    return i;
+                } else if (c == delimiter) {
+                    s = COLUMN_START;
+                } else if (c == quote
+                        && (s == COLUMN_START || s == QUOTE_END)) {
+                    s = QUOTED;
+                } else {
+                    s = UNQUOTED;
+                }
+            }
+            scanned = i;
+            state = s;
+            return -1;
+        }
+
+        /**
+         * Moves the current line to the start of the buffer, growing it
+         * if the line fills it, and reads more characters after it.
+         */
+        private void fill() throws IOException {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0,
+                        limit - position);
+                limit -= position;
+                scanned -= position;
+                position = 0;
+            }
+            if (limit == buffer.length) {
+                char[] larger = new char[buffer.length * 2];
+                System.arraycopy(buffer, 0, larger, 0, limit);
+                buffer = larger;
+            }
+            int n = reader.read(buffer, limit, buffer.length - limit);
+            if (n < 0) {
+                eof = true;
+            } else {
+                limit += n;
+            }
+        }
+
+        /**
+         * Finds the bounds of each column of the line between the given
+         * indices, removing quotes in place.
+         */
+        private void split(int start, int end) {
+            int p = start;
+            for (int column = 0; column < parsers.length; ++column) {
+                if (p > end) {
+                    throw new IllegalArgumentException("Expected "
+                            + parsers.length + " columns, found " + column);
+                }
+                if (p < end && buffer[p] == quote) {
+                    int w = ++p;
+                    starts[column] = w;
+                    for (;;) {
+                        if (p >= end) {
+                            throw new IllegalArgumentException(
+                                    "Unterminated quoted column");
+                        }
+                        char c = buffer[p++];
+                        if (c == quote) {
+                            if (p < end && buffer[p] == quote) {
+                                ++p;
+                            } else {
+                                break;
+                            }
+                        }
+                        buffer[w++] = c;
+                    }
+                    ends[column] = w;
+                    if (p < end && buffer[p] != delimiter) {
+                        throw new IllegalArgumentException(
+                                "Unexpected character after quoted column");
+                    }
+                } else {
+                    starts[column] = p;
+                    while (p < end && buffer[p] != delimiter) {
+                        ++p;
+                    }
+                    ends[column] = p;
+                }
+                ++p;
+            }
+            if (p <= end) {
+                throw new IllegalArgumentException("Expected "
+                        + parsers.length + " columns, found more");
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T tuple() {
+            switch (parsers.length) {
+                case 2:
+                    return (T) new Pair<>(parse(0), parse(1));
+                case 3:
+                    return (T) new Triple<>(parse(0), parse(1), parse(2));
+                case 4:
+                    return (T) new Quadruple<>(parse(0), parse(1), parse(2),
+                            parse(3));
+                case 5:
+                    return (T) new Quintuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4));
+                case 6:
+                    return (T) new Sextuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4), parse(5));
+                case 7:
+                    return (T) new Septuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4), parse(5), parse(6));
+                case 8:
+                    return (T) new Octuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4), parse(5), parse(6), parse(7));
+                case 9:
+                    return (T) new Nonuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4), parse(5), parse(6), parse(7),
+                            parse(8));
+                case 10:
+                    return (T) new Decuple<>(parse(0), parse(1), parse(2),
+                            parse(3), parse(4), parse(5), parse(6), parse(7),
+                            parse(8), parse(9));
+                default:
+                    throw new AssertionError();
+            }
+        }
+
+        private Object parse(int column) {
+            int start = starts[column];
+            return parsers[column].parse(buffer, start, ends[column] - start);
+        }
+    }
+
+
+    /**
+     * A channel over a range of a file, read with positional reads, so
+     * that several ranges of the same file can be read concurrently.
+     */
+    private static final class RangeChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RangeChannel(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > end - position) {
+                dst.limit(dst.position() + (int) (end - position));
+            }
+            try {
+                int n = channel.read(dst, position);
+                if (n > 0) {
+                    position += n;
+                }
+                return n;
+            } finally {
+                dst.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
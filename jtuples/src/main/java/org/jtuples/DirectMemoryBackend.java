@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * A memory backend of direct byte buffers, that releases their memory
+ * as soon as they are freed.
+ *
+ * There is no public API to release a direct buffer before it is garbage
+ * collected, so the buffer's cleaner is invoked reflectively: through
+ * {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and later, or through
+ * the buffer's own {@code cleaner()} on Java 8.
+ * If neither is accessible, freeing does nothing, and the memory is
+ * released by the garbage collector.
+ *
+ * @author Andre Santos
+ */
+final class DirectMemoryBackend implements MemoryBackend {
+    private static final Cleaner CLEANER = cleaner();
+
+    @Override
+    public ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    @Override
+    public void free(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            try {
+                CLEANER.clean(buffer);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // leave the buffer to the garbage collector
+            }
+        }
+    }
+
+
+    private static Cleaner cleaner() {
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner =
+                    type.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not available before Java 9
+        }
+        try {
+            Method cleaner = ByteBuffer.allocateDirect(1).getClass()
+                    .getMethod("cleaner");
+            cleaner.setAccessible(true);
+            Method clean = Class.forName("sun.misc.Cleaner")
+                    .getMethod("clean");
+            clean.setAccessible(true);
+            return buffer -> {
+                Object c = cleaner.invoke(buffer);
+                if (c != null) {
+                    clean.invoke(c);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return buffer -> { };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Cleaner {
+        void clean(ByteBuffer buffer) throws ReflectiveOperationException;
+    }
+}
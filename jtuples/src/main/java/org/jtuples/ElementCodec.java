@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes values of a given type to and from a
+ * {@link ByteBuffer}.
+ *
+ * Element codecs are the building blocks of a {@link TupleCodec}, which
+ * uses one codec for each position of the tuples it encodes.
+ * Values are written at the current position of the buffer, and read
+ * from it, advancing the position past the encoded bytes, as the relative
+ * {@code get} and {@code put} methods of {@code ByteBuffer} do.
+ * Codecs work the same with heap and direct buffers.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the encoded values
+ * @see ElementCodecs
+ */
+public interface ElementCodec<T> {
+    /**
+     * Writes the given value at the current position of the buffer.
+     * @param buffer the buffer to write to
+     * @param value the value to write
+     * @throws java.nio.BufferOverflowException if the buffer does not have
+     *         {@link #encodedSize(Object)} bytes remaining
+     */
+    void write(ByteBuffer buffer, T value);
+
+    /**
+     * Reads a value from the current position of the buffer.
+     * @param buffer the buffer to read from
+     * @return the value read
+     * @throws java.nio.BufferUnderflowException if the buffer ends
+     *         before the encoded value
+     */
+    T read(ByteBuffer buffer);
+
+    /**
+     * Returns the number of bytes used to encode the given value.
+     * @param value the value to measure
+     * @return the number of bytes written by {@link #write} for the value
+     */
+    int encodedSize(T value);
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * This class consists exclusively of static fields and methods that
+ * provide common {@link ElementCodec}s.
+ *
+ * The numeric codecs use the fixed-size, big-endian encoding of
+ * {@code ByteBuffer}, unless the buffer has been set to another byte order.
+ * None of the codecs here accept {@code null} values, unless wrapped with
+ * {@link #nullable(ElementCodec)}.
+ *
+ * @author Andre Santos
+ * @see TupleCodec
+ */
+public final class ElementCodecs {
+    /**
+     * A codec for integers, using 4 bytes for each value.
+     */
+    public static final ElementCodec<Integer> INT =
+            new ElementCodec<Integer>() {
+                @Override
+                public void write(ByteBuffer buffer, Integer value) {
+                    buffer.putInt(value);
+                }
+
+                @Override
+                public Integer read(ByteBuffer buffer) {
+                    return buffer.getInt();
+                }
+
+                @Override
+                public int encodedSize(Integer value) {
+                    return Integer.BYTES;
+                }
+            };
+
+    /**
+     * A codec for longs, using 8 bytes for each value.
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public void write(ByteBuffer buffer, Long value) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+        @Override
+        public int encodedSize(Long value) {
+            return Long.BYTES;
+        }
+    };
+
+    /**
+     * A codec for doubles, using 8 bytes for each value.
+     */
+    public static final ElementCodec<Double> DOUBLE =
+            new ElementCodec<Double>() {
+                @Override
+                public void write(ByteBuffer buffer, Double value) {
+                    buffer.putDouble(value);
+                }
+
+                @Override
+                public Double read(ByteBuffer buffer) {
+                    return buffer.getDouble();
+                }
+
+                @Override
+                public int encodedSize(Double value) {
+                    return Double.BYTES;
+                }
+            };
+
+    /**
+     * A codec for strings, using their UTF-8 encoding preceded by its
+     * length in bytes, as an unsigned variable-length integer.
+     * Characters are encoded straight into the buffer, and decoded
+     * straight from it, without an intermediate byte array.
+     * Unpaired surrogates are written as {@code '?'}, as
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    public static final ElementCodec<String> UTF8 = new Utf8Codec();
+
+    private ElementCodecs() {
+        throw new AssertionError();
+    }
+
+
+    /**
+     * Returns a codec that accepts {@code null} values, in addition to
+     * the values accepted by the given codec.
+     * Each value is preceded by a byte that tells whether it is present.
+     * @param <T> the type of the encoded values
+     * @param codec the codec used for values that are not null
+     * @return a codec that also accepts null values
+     * @throws NullPointerException if the codec is null
+     */
+    public static <T> ElementCodec<T> nullable(ElementCodec<T> codec) {
+        Objects.requireNonNull(codec);
+        return new ElementCodec<T>() {
+            @Override
+            public void write(ByteBuffer buffer, T value) {
+                if (value == null) {
+                    buffer.put((byte) 0);
+                } else {
+                    buffer.put((byte) 1);
+                    codec.write(buffer, value);
+                }
+            }
+
+            @Override
+            public T read(ByteBuffer buffer) {
+                return buffer.get() == 0 ? null : codec.read(buffer);
+            }
+
+            @Override
+            public int encodedSize(T value) {
+                return value == null ? 1 : 1 + codec.encodedSize(value);
+            }
+        };
+    }
+
+
+    static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length int");
+    }
+
+    static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            ++size;
+        }
+        return size;
+    }
+
+
+    private static final class Utf8Codec implements ElementCodec<String> {
+        @Override
+        public void write(ByteBuffer buffer, String value) {
+            writeVarInt(buffer, utf8Length(value));
+            for (int i = 0, n = value.length(); i < n; ++i) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | (c >> 6)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < n
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (cp >> 18)));
+                    buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (cp & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xE0 | (c >> 12)));
+                    buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            int length = readVarInt(buffer);
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                int start = buffer.arrayOffset() + buffer.position();
+                buffer.position(buffer.position() + length);
+                return new String(buffer.array(), start, length,
+                        StandardCharsets.UTF_8);
+            }
+            String value = decode(buffer, buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        /**
+         * Decodes well-formed UTF-8 straight from a buffer, falling back
+         * to the standard decoder on malformed input, so that it is
+         * replaced as {@code new String(bytes, UTF_8)} does.
+         */
+        private static String decode(ByteBuffer buffer, int start,
+                int length) {
+            char[] chars = new char[length];
+            int count = 0;
+            int end = start + length;
+            for (int p = start; p < end;) {
+                int b = buffer.get(p) & 0xFF;
+                if (b < 0x80) {
+                    chars[count++] = (char) b;
+                    p += 1;
+                    continue;
+                }
+                if (b >= 0xC2 && b < 0xE0 && p + 1 < end) {
+                    int b1 = buffer.get(p + 1);
+                    if (isContinuation(b1)) {
+                        chars[count++] = (char) (((b & 0x1F) << 6)
+                                | (b1 & 0x3F));
+                        p += 2;
+                        continue;
+                    }
+                } else if (b >= 0xE0 && b < 0xF0 && p + 2 < end) {
+                    int b1 = buffer.get(p + 1);
+                    int b2 = buffer.get(p + 2);
+                    int c = ((b & 0x0F) << 12) | ((b1 & 0x3F) << 6)
+                            | (b2 & 0x3F);
+                    if (isContinuation(b1) && isContinuation(b2)
+                            && c >= 0x800 && !Character.isSurrogate((char) c)) {
+                        chars[count++] = (char) c;
+                        p += 3;
+                        continue;
+                    }
+                } else if (b >= 0xF0 && b < 0xF5 && p + 3 < end) {
+                    int b1 = buffer.get(p + 1);
+                    int b2 = buffer.get(p + 2);
+                    int b3 = buffer.get(p + 3);
+                    int cp = ((b & 0x07) << 18) | ((b1 & 0x3F) << 12)
+                            | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+                    if (isContinuation(b1) && isContinuation(b2)
+                            && isContinuation(b3) && cp >= 0x10000
+                            && cp <= Character.MAX_CODE_POINT) {
+                        chars[count++] = Character.highSurrogate(cp);
+                        chars[count++] = Character.lowSurrogate(cp);
+                        p += 4;
+                        continue;
+                    }
+                }
+                ByteBuffer bytes = buffer.duplicate();
+                bytes.limit(end).position(start);
+                return StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+            return new String(chars, 0, count);
+        }
+
+        private static boolean isContinuation(int b) {
+            return (b & 0xC0) == 0x80;
+        }
+
+        @Override
+        public int encodedSize(String value) {
+            int length = utf8Length(value);
+            return varIntSize(length) + length;
+        }
+
+        private static int utf8Length(String value) {
+            int length = 0;
+            for (int i = 0, n = value.length(); i < n; ++i) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    ++i;
+                } else if (Character.isSurrogate(c)) {
+                    length += 1;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Sorts sequences of values that may not fit in memory, such as large
+ * streams of tuples, with an external merge sort.
+ *
+ * Values are gathered into runs until the memory budget is used up.
+ * Each run is sorted in memory, in parallel, and spilled to a temporary
+ * file, encoded with an {@link ElementCodec}.
+ * The sorted values are then read back lazily, merging all runs with
+ * a priority queue that holds the next value of each run.
+ * If all values fit in a single run, nothing is written to disk.
+ * For instance, the following sorts triples by their first member,
+ * holding about 256MB of encoded triples in memory at a time:
+ * <pre>{@code
+ * ExternalSorter<Triple<Long, Integer, String>> sorter =
+ *         new ExternalSorter<>(Comparator.comparing(Triple::first),
+ *                 TupleCodec.of(ElementCodecs.LONG, ElementCodecs.INT,
+ *                         ElementCodecs.UTF8), 256L << 20);
+ * try (ExternalSorter<Triple<Long, Integer, String>>.SortedIterator it =
+ *         sorter.sort(triples)) {
+ *     while (it.hasNext()) {
+ *         process(it.next());
+ *     }
+ * }
+ * }</pre>
+ *
+ * The memory budget is measured in encoded bytes, as given by
+ * {@link ElementCodec#encodedSize(Object)}; the objects held in memory
+ * take more than that, so the budget should leave room for them.
+ * Sorters are immutable, and are thread-safe as long as their comparator
+ * and codec are.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the sorted values
+ */
+public final class ExternalSorter<T> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Comparator<? super T> comparator;
+    private final ElementCodec<T> codec;
+    private final long memoryBudget;
+    private final Path directory;
+
+    /**
+     * Returns a new sorter, that spills runs to the default temporary
+     * directory.
+     * @param comparator the order of the sorted values
+     * @param codec the codec used to spill values to disk
+     * @param memoryBudget the encoded size of the values held in memory
+     *        before they are spilled to disk, in bytes
+     * @throws NullPointerException if the comparator or the codec is null
+     * @throws IllegalArgumentException if the memory budget is not
+     *         positive
+     */
+    public ExternalSorter(Comparator<? super T> comparator,
+            ElementCodec<T> codec, long memoryBudget) {
+        this(comparator, codec, memoryBudget, null);
+    }
+
+    /**
+     * Returns a new sorter, that spills runs to the given directory.
+     * @param comparator the order of the sorted values
+     * @param codec the codec used to spill values to disk
+     * @param memoryBudget the encoded size of the values held in memory
+     *        before they are spilled to disk, in bytes
+     * @param directory the directory of the temporary files, or null for
+     *        the default temporary directory
+     * @throws NullPointerException if the comparator or the codec is null
+     * @throws IllegalArgumentException if the memory budget is not
+     *         positive
+     */
+    public ExternalSorter(Comparator<? super T> comparator,
+            ElementCodec<T> codec, long memoryBudget, Path directory) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException(
+                    "Illegal memory budget: " + memoryBudget);
+        }
+        this.comparator = Objects.requireNonNull(comparator);
+        this.codec = Objects.requireNonNull(codec);
+        this.memoryBudget = memoryBudget;
+        this.directory = directory;
+    }
+
+
+    /**
+     * Sorts the values of the given iterator.
+     * The iterator is consumed, and all runs but the last are spilled,
+     * before this method returns; the last run is kept in memory.
+     * Temporary files are deleted when the returned iterator is exhausted
+     * or closed.
+     * @param values the values to sort
+     * @return an iterator over the sorted values
+     * @throws NullPointerException if the iterator is null
+     * @throws IOException if a run cannot be spilled
+     */
+    public SortedIterator sort(Iterator<? extends T> values)
+            throws IOException {
+        List<RunReader> runs = new ArrayList<>();
+        try {
+            List<T> run = new ArrayList<>();
+            long used = 0;
+            while (values.hasNext()) {
+                T value = values.next();
+                run.add(value);
+                used += codec.encodedSize(value);
+                if (used >= memoryBudget) {
+                    runs.add(spill(sortRun(run)));
+                    run.clear();
+                    used = 0;
+                }
+            }
+            T[] last = sortRun(run);
+            return new SortedIterator(runs, last);
+        } catch (IOException | RuntimeException e) {
+            for (RunReader reader : runs) {
+                reader.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sorts the values of the given stream.
+     * @param values the values to sort
+     * @return an iterator over the sorted values
+     * @throws NullPointerException if the stream is null
+     * @throws IOException if a run cannot be spilled
+     * @see #sort(Iterator)
+     */
+    public SortedIterator sort(Stream<? extends T> values)
+            throws IOException {
+        return sort(values.iterator());
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private T[] sortRun(List<T> run) {
+        T[] array = (T[]) run.toArray();
+        Arrays.parallelSort(array, comparator);
+        return array;
+    }
+
+    /**
+     * Writes a sorted run to a new temporary file, each value preceded by
+     * its encoded size, and returns a reader of the file.
+     */
+    private RunReader spill(T[] run) throws IOException {
+        Path file = Files.createTempFile(directory, "jtuples-sort", ".run");
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            for (T value : run) {
+                int size = codec.encodedSize(value);
+                if (buffer.remaining() < Integer.BYTES + size) {
+                    writeFully(channel, buffer);
+                    if (buffer.capacity() < Integer.BYTES + size) {
+                        buffer = ByteBuffer.allocate(Integer.BYTES + size);
+                    }
+                }
+                buffer.putInt(size);
+                codec.write(buffer, value);
+            }
+            writeFully(channel, buffer);
+            return new RunReader(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer)
+            throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+
+    /**
+     * An iterator over the values sorted by an {@link ExternalSorter},
+     * which merges the spilled runs as it goes.
+     * Closing the iterator deletes its temporary files; they are also
+     * deleted once the iterator is exhausted.
+     * Failures to read the temporary files are thrown as
+     * {@code UncheckedIOException}.
+     */
+    public final class SortedIterator implements Iterator<T>, Closeable {
+        private final PriorityQueue<RunReader> queue;
+        private final List<RunReader> runs;
+
+        private SortedIterator(List<RunReader> runs, T[] last)
+                throws IOException {
+            this.runs = runs;
+            this.queue = new PriorityQueue<>(Math.max(1, runs.size() + 1),
+                    (a, b) -> comparator.compare(a.head, b.head));
+            RunReader memory = new RunReader(last);
+            runs.add(memory);
+            for (RunReader run : runs) {
+                if (run.advance()) {
+                    queue.add(run);
+                }
+            }
+            if (queue.isEmpty()) {
+                close();
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @throws UncheckedIOException if a temporary file cannot be read
+         */
+        @Override
+        public T next() {
+            RunReader run = queue.poll();
+            if (run == null) {
+                throw new NoSuchElementException();
+            }
+            T value = run.head;
+            try {
+                if (run.advance()) {
+                    queue.add(run);
+                } else {
+                    run.close();
+                    if (queue.isEmpty()) {
+                        close();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return value;
+        }
+
+        /**
+         * Deletes the temporary files of this iterator.
+         * Further calls to {@link #next()} throw
+         * {@code NoSuchElementException}.
+         * @throws IOException if a file cannot be deleted
+         */
+        @Override
+        public void close() throws IOException {
+            queue.clear();
+            IOException failure = null;
+            for (RunReader run : runs) {
+                try {
+                    run.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+
+    /**
+     * Reads a sorted run, either from a temporary file or from memory,
+     * one value at a time.
+     */
+    private final class RunReader implements Closeable {
+        private final Path file;
+        private final T[] values;
+        private FileChannel channel;
+        private ByteBuffer buffer;
+        private int index;
+        private T head;
+
+        RunReader(Path file) {
+            this.file = file;
+            this.values = null;
+        }
+
+        RunReader(T[] values) {
+            this.file = null;
+            this.values = values;
+        }
+
+        /**
+         * Moves to the next value of the run, returning false at its end.
+         */
+        boolean advance() throws IOException {
+            if (values != null) {
+                if (index == values.length) {
+                    return false;
+                }
+                head = values[index];
+                values[index++] = null;
+                return true;
+            }
+            if (channel == null) {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                buffer.flip();
+            }
+            if (!ensure(Integer.BYTES)) {
+                return false;
+            }
+            int size = buffer.getInt();
+            if (!ensure(size)) {
+                throw new IOException("Truncated run file: " + file);
+            }
+            int end = buffer.position() + size;
+            head = codec.read(buffer);
+            buffer.position(end);
+            return true;
+        }
+
+        /**
+         * Makes at least the given number of bytes available in the buffer,
+         * returning false if the file ends before.
+         */
+        private boolean ensure(int count) throws IOException {
+            if (buffer.remaining() >= count) {
+                return true;
+            }
+            if (buffer.capacity() < count) {
+                ByteBuffer larger = ByteBuffer.allocate(count);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < count) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    return false;
+                }
+            }
+            buffer.flip();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            head = null;
+            if (file != null) {
+                try {
+                    if (channel != null) {
+                        channel.close();
+                    }
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
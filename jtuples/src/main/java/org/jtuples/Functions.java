@@ -21,6 +21,7 @@
  */
 package org.jtuples;
 
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -44,15 +45,22 @@ public final class Functions {
      * individually.
      * That is, given a function {@code f: ((a, b)) -> c}, it becomes
      * {@code g: (a, b) -> f((a, b))} instead.
+     * Currying the result of {@link #uncurry(BiFunction)} gives back
+     * the original function.
      * @param <A> the type of the first component of the pair
      * @param <B> the type of the second component of the pair
      * @param <C> the return type
      * @param function the function to curry
      * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
      */
     public static <A, B, C> BiFunction<A, B, C> curry(
             Function<Pair<A, B>, C> function) {
-        return (A a, B b) -> function.apply(new Pair<>(a, b));
+        Objects.requireNonNull(function);
+        if (function instanceof UncurriedFunction) {
+            return ((UncurriedFunction<A, B, C>) function).function;
+        }
+        return new CurriedFunction<>(function);
     }
 
     /**
@@ -61,15 +69,406 @@ public final class Functions {
      * version accepts instead a pair consisting of the two parameters.
      * That is, given a function {@code f: (a, b) -> c}, it becomes
      * {@code g: ((a, b)) -> f(a, b)} instead.
+     * Uncurrying the result of {@link #curry(Function)} gives back
+     * the original function.
+     * When the uncurried function is composed after a product or a split,
+     * the two results are passed directly to the given function,
+     * without creating a pair.
      * @param <A> the type of the first parameter
      * @param <B> the type of the second parameter
      * @param <C> the return type
      * @param function the function to uncurry
      * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
      */
     public static <A, B, C> Function<Pair<A, B>, C> uncurry(
             BiFunction<A, B, C> function) {
-        return (Pair<A, B> pair) -> function.apply(pair.first(), pair.second());
+        Objects.requireNonNull(function);
+        if (function instanceof CurriedFunction) {
+            return ((CurriedFunction<A, B, C>) function).function;
+        }
+        return new UncurriedFunction<>(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a triple as its argument, its curried
+     * version is a function that accepts the three components of the triple
+     * individually.
+     * @param <A> the type of the first component of the triple
+     * @param <B> the type of the second component of the triple
+     * @param <C> the type of the third component of the triple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, R> TriFunction<A, B, C, R> curryTriple(
+            Function<Triple<A, B, C>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c) ->
+                function.apply(new Triple<>(a, b, c));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts three individual parameters, its uncurried
+     * version accepts instead a triple consisting of the three parameters.
+     * The members of the triple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, R> Function<Triple<A, B, C>, R> uncurry(
+            TriFunction<A, B, C, R> function) {
+        Objects.requireNonNull(function);
+        return triple -> triple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a quadruple as its argument, its curried
+     * version is a function that accepts the four components of the quadruple
+     * individually.
+     * @param <A> the type of the first component of the quadruple
+     * @param <B> the type of the second component of the quadruple
+     * @param <C> the type of the third component of the quadruple
+     * @param <D> the type of the fourth component of the quadruple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, R> TetraFunction<A, B, C, D, R> curryQuadruple(
+            Function<Quadruple<A, B, C, D>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d) ->
+                function.apply(new Quadruple<>(a, b, c, d));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts four individual parameters, its uncurried
+     * version accepts instead a quadruple consisting of the four parameters.
+     * The members of the quadruple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, R> Function<Quadruple<A, B, C, D>, R> uncurry(
+            TetraFunction<A, B, C, D, R> function) {
+        Objects.requireNonNull(function);
+        return quadruple -> quadruple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a quintuple as its argument, its curried
+     * version is a function that accepts the five components of the quintuple
+     * individually.
+     * @param <A> the type of the first component of the quintuple
+     * @param <B> the type of the second component of the quintuple
+     * @param <C> the type of the third component of the quintuple
+     * @param <D> the type of the fourth component of the quintuple
+     * @param <E> the type of the fifth component of the quintuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, R>
+            PentaFunction<A, B, C, D, E, R> curryQuintuple(
+                    Function<Quintuple<A, B, C, D, E>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e) ->
+                function.apply(new Quintuple<>(a, b, c, d, e));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts five individual parameters, its uncurried
+     * version accepts instead a quintuple consisting of the five parameters.
+     * The members of the quintuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, R>
+            Function<Quintuple<A, B, C, D, E>, R> uncurry(
+                    PentaFunction<A, B, C, D, E, R> function) {
+        Objects.requireNonNull(function);
+        return quintuple -> quintuple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a sextuple as its argument, its curried
+     * version is a function that accepts the six components of the sextuple
+     * individually.
+     * @param <A> the type of the first component of the sextuple
+     * @param <B> the type of the second component of the sextuple
+     * @param <C> the type of the third component of the sextuple
+     * @param <D> the type of the fourth component of the sextuple
+     * @param <E> the type of the fifth component of the sextuple
+     * @param <F> the type of the sixth component of the sextuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, R>
+            HexaFunction<A, B, C, D, E, F, R> currySextuple(
+                    Function<Sextuple<A, B, C, D, E, F>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e, F f) ->
+                function.apply(new Sextuple<>(a, b, c, d, e, f));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts six individual parameters, its uncurried
+     * version accepts instead a sextuple consisting of the six parameters.
+     * The members of the sextuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <F> the type of the sixth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, R>
+            Function<Sextuple<A, B, C, D, E, F>, R> uncurry(
+                    HexaFunction<A, B, C, D, E, F, R> function) {
+        Objects.requireNonNull(function);
+        return sextuple -> sextuple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a septuple as its argument, its curried
+     * version is a function that accepts the seven components of the septuple
+     * individually.
+     * @param <A> the type of the first component of the septuple
+     * @param <B> the type of the second component of the septuple
+     * @param <C> the type of the third component of the septuple
+     * @param <D> the type of the fourth component of the septuple
+     * @param <E> the type of the fifth component of the septuple
+     * @param <F> the type of the sixth component of the septuple
+     * @param <G> the type of the seventh component of the septuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, R>
+            HeptaFunction<A, B, C, D, E, F, G, R> currySeptuple(
+                    Function<Septuple<A, B, C, D, E, F, G>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e, F f, G g) ->
+                function.apply(new Septuple<>(a, b, c, d, e, f, g));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts seven individual parameters, its uncurried
+     * version accepts instead a septuple consisting of the seven parameters.
+     * The members of the septuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <F> the type of the sixth parameter
+     * @param <G> the type of the seventh parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, R>
+            Function<Septuple<A, B, C, D, E, F, G>, R> uncurry(
+                    HeptaFunction<A, B, C, D, E, F, G, R> function) {
+        Objects.requireNonNull(function);
+        return septuple -> septuple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts an octuple as its argument, its curried
+     * version is a function that accepts the eight components of the octuple
+     * individually.
+     * @param <A> the type of the first component of the octuple
+     * @param <B> the type of the second component of the octuple
+     * @param <C> the type of the third component of the octuple
+     * @param <D> the type of the fourth component of the octuple
+     * @param <E> the type of the fifth component of the octuple
+     * @param <F> the type of the sixth component of the octuple
+     * @param <G> the type of the seventh component of the octuple
+     * @param <H> the type of the eighth component of the octuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, R>
+            OctaFunction<A, B, C, D, E, F, G, H, R> curryOctuple(
+                    Function<Octuple<A, B, C, D, E, F, G, H>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e, F f, G g, H h) ->
+                function.apply(new Octuple<>(a, b, c, d, e, f, g, h));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts eight individual parameters, its uncurried
+     * version accepts instead an octuple consisting of the eight parameters.
+     * The members of the octuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <F> the type of the sixth parameter
+     * @param <G> the type of the seventh parameter
+     * @param <H> the type of the eighth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, R>
+            Function<Octuple<A, B, C, D, E, F, G, H>, R> uncurry(
+                    OctaFunction<A, B, C, D, E, F, G, H, R> function) {
+        Objects.requireNonNull(function);
+        return octuple -> octuple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a nonuple as its argument, its curried
+     * version is a function that accepts the nine components of the nonuple
+     * individually.
+     * @param <A> the type of the first component of the nonuple
+     * @param <B> the type of the second component of the nonuple
+     * @param <C> the type of the third component of the nonuple
+     * @param <D> the type of the fourth component of the nonuple
+     * @param <E> the type of the fifth component of the nonuple
+     * @param <F> the type of the sixth component of the nonuple
+     * @param <G> the type of the seventh component of the nonuple
+     * @param <H> the type of the eighth component of the nonuple
+     * @param <I> the type of the ninth component of the nonuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, R>
+            EnneaFunction<A, B, C, D, E, F, G, H, I, R> curryNonuple(
+                    Function<Nonuple<A, B, C, D, E, F, G, H, I>, R> function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e, F f, G g, H h, I i) ->
+                function.apply(new Nonuple<>(a, b, c, d, e, f, g, h, i));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts nine individual parameters, its uncurried
+     * version accepts instead a nonuple consisting of the nine parameters.
+     * The members of the nonuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <F> the type of the sixth parameter
+     * @param <G> the type of the seventh parameter
+     * @param <H> the type of the eighth parameter
+     * @param <I> the type of the ninth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, R>
+            Function<Nonuple<A, B, C, D, E, F, G, H, I>, R> uncurry(
+                    EnneaFunction<A, B, C, D, E, F, G, H, I, R> function) {
+        Objects.requireNonNull(function);
+        return nonuple -> nonuple.apply(function);
+    }
+
+    /**
+     * Returns a curried version of the given function.
+     * Given a function that accepts a decuple as its argument, its curried
+     * version is a function that accepts the ten components of the decuple
+     * individually.
+     * @param <A> the type of the first component of the decuple
+     * @param <B> the type of the second component of the decuple
+     * @param <C> the type of the third component of the decuple
+     * @param <D> the type of the fourth component of the decuple
+     * @param <E> the type of the fifth component of the decuple
+     * @param <F> the type of the sixth component of the decuple
+     * @param <G> the type of the seventh component of the decuple
+     * @param <H> the type of the eighth component of the decuple
+     * @param <I> the type of the ninth component of the decuple
+     * @param <J> the type of the tenth component of the decuple
+     * @param <R> the return type
+     * @param function the function to curry
+     * @return the curried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, R>
+            DecaFunction<A, B, C, D, E, F, G, H, I, J, R> curryDecuple(
+                    Function<Decuple<A, B, C, D, E, F, G, H, I, J>, R>
+                            function) {
+        Objects.requireNonNull(function);
+        return (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j) ->
+                function.apply(new Decuple<>(a, b, c, d, e, f, g, h, i, j));
+    }
+
+    /**
+     * Returns an uncurried version of the given function.
+     * Given a function that accepts ten individual parameters, its uncurried
+     * version accepts instead a decuple consisting of the ten parameters.
+     * The members of the decuple are passed directly to the given function.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <D> the type of the fourth parameter
+     * @param <E> the type of the fifth parameter
+     * @param <F> the type of the sixth parameter
+     * @param <G> the type of the seventh parameter
+     * @param <H> the type of the eighth parameter
+     * @param <I> the type of the ninth parameter
+     * @param <J> the type of the tenth parameter
+     * @param <R> the return type
+     * @param function the function to uncurry
+     * @return the uncurried version of the given function
+     * @throws NullPointerException if the function is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J, R>
+            Function<Decuple<A, B, C, D, E, F, G, H, I, J>, R> uncurry(
+                    DecaFunction<A, B, C, D, E, F, G, H, I, J, R> function) {
+        Objects.requireNonNull(function);
+        return decuple -> decuple.apply(function);
     }
 
     /**
@@ -80,16 +479,22 @@ public final class Functions {
      * functions to the arguments.
      * That is, given functions {@code f: (a) -> b} and {@code g: (a) -> c},
      * they become {@code h: (a) -> (f(a), g(a))} instead.
+     * Following the split with a product, through
+     * {@link Function#andThen(Function)}, yields a single split of the
+     * composed functions, so that no intermediate pair is created.
      * @param <A> the type of the parameter
      * @param <B> the return type of the first function
      * @param <C> the return type of the second function
      * @param f the first function of the split
      * @param g the second function of the split
      * @return the split of the given functions
+     * @throws NullPointerException if any of the functions is null
      */
     public static <A, B, C> Function<A, Pair<B, C>> split(
             Function<A, B> f, Function<? super A, C> g) {
-        return (A a) -> new Pair<>(f.apply(a), g.apply(a));
+        Objects.requireNonNull(f);
+        Objects.requireNonNull(g);
+        return new SplitFunction<>(f, g);
     }
 
     /**
@@ -144,6 +549,9 @@ public final class Functions {
      * functions to the respective arguments.
      * That is, given functions {@code f: (a) -> b} and {@code g: (c) -> d},
      * they become {@code h: ((a, c)) -> (f(a), g(c))} instead.
+     * Composing two products, through {@link Function#andThen(Function)}
+     * or {@link Function#compose(Function)}, yields a single product of the
+     * composed functions, so that no intermediate pair is created.
      * @param <A> the type of the parameter of the first function
      * @param <B> the return type of the first function
      * @param <C> the type of the parameter of the second function
@@ -151,11 +559,13 @@ public final class Functions {
      * @param f the first function of the product
      * @param g the second function of the product
      * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
      */
     public static <A, B, C, D> Function<Pair<A, C>, Pair<B, D>> product(
             Function<A, B> f, Function<C, D> g) {
-        return (Pair<A, C> pair) ->
-            new Pair<>(f.apply(pair.first()), g.apply(pair.second()));
+        Objects.requireNonNull(f);
+        Objects.requireNonNull(g);
+        return new ProductFunction<>(f, g);
     }
 
     /**
@@ -227,4 +637,1213 @@ public final class Functions {
             g.accept(pair.second());
         };
     }
+
+    /**
+     * Returns the product of the three given functions.
+     * The product is a single function that accepts a triple and returns
+     * a triple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f3: (a3) -> r3}, they become
+     * {@code h: ((a1, ..., a3)) -> (f1(a1), ..., f3(a3))} instead.
+     * The resulting triple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, R1, R2, R3>
+            Function<Triple<A1, A2, A3>, Triple<R1, R2, R3>> product(
+                    Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        return (Triple<A1, A2, A3> triple) -> new Triple<>(
+                f1.apply(triple.first()), f2.apply(triple.second()),
+                f3.apply(triple.third()));
+    }
+
+    /**
+     * Returns the product of the three given suppliers.
+     * The product is a single supplier of triples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f3: () -> a3}, they become
+     * {@code h: () -> (f1(), ..., f3())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3> Supplier<Triple<A1, A2, A3>> product(
+            Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        return () -> new Triple<>(f1.get(), f2.get(), f3.get());
+    }
+
+    /**
+     * Returns the product of the three given consumers.
+     * The product is a single consumer of triples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f3: (a3) -> void}, they become
+     * {@code h: ((a1, ..., a3)) -> (void) (f1(a1), ..., f3(a3))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3> Consumer<Triple<A1, A2, A3>> product(
+            Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        return (Triple<A1, A2, A3> triple) -> {
+            f1.accept(triple.first());
+            f2.accept(triple.second());
+            f3.accept(triple.third());
+        };
+    }
+
+    /**
+     * Returns the product of the four given functions.
+     * The product is a single function that accepts a quadruple and returns
+     * a quadruple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f4: (a4) -> r4}, they become
+     * {@code h: ((a1, ..., a4)) -> (f1(a1), ..., f4(a4))} instead.
+     * The resulting quadruple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, R1, R2, R3, R4>
+            Function<Quadruple<A1, A2, A3, A4>,
+                    Quadruple<R1, R2, R3, R4>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        return (Quadruple<A1, A2, A3, A4> quadruple) -> new Quadruple<>(
+                f1.apply(quadruple.first()), f2.apply(quadruple.second()),
+                f3.apply(quadruple.third()), f4.apply(quadruple.fourth()));
+    }
+
+    /**
+     * Returns the product of the four given suppliers.
+     * The product is a single supplier of quadruples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f4: () -> a4}, they become
+     * {@code h: () -> (f1(), ..., f4())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4> Supplier<Quadruple<A1, A2, A3, A4>> product(
+            Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+            Supplier<A4> f4) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        return () -> new Quadruple<>(f1.get(), f2.get(), f3.get(), f4.get());
+    }
+
+    /**
+     * Returns the product of the four given consumers.
+     * The product is a single consumer of quadruples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f4: (a4) -> void}, they become
+     * {@code h: ((a1, ..., a4)) -> (void) (f1(a1), ..., f4(a4))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4> Consumer<Quadruple<A1, A2, A3, A4>> product(
+            Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+            Consumer<A4> f4) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        return (Quadruple<A1, A2, A3, A4> quadruple) -> {
+            f1.accept(quadruple.first());
+            f2.accept(quadruple.second());
+            f3.accept(quadruple.third());
+            f4.accept(quadruple.fourth());
+        };
+    }
+
+    /**
+     * Returns the product of the five given functions.
+     * The product is a single function that accepts a quintuple and returns
+     * a quintuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f5: (a5) -> r5}, they become
+     * {@code h: ((a1, ..., a5)) -> (f1(a1), ..., f5(a5))} instead.
+     * The resulting quintuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, R1, R2, R3, R4, R5>
+            Function<Quintuple<A1, A2, A3, A4, A5>,
+                    Quintuple<R1, R2, R3, R4, R5>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        return (Quintuple<A1, A2, A3, A4, A5> quintuple) -> new Quintuple<>(
+                f1.apply(quintuple.first()), f2.apply(quintuple.second()),
+                f3.apply(quintuple.third()), f4.apply(quintuple.fourth()),
+                f5.apply(quintuple.fifth()));
+    }
+
+    /**
+     * Returns the product of the five given suppliers.
+     * The product is a single supplier of quintuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f5: () -> a5}, they become
+     * {@code h: () -> (f1(), ..., f5())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5>
+            Supplier<Quintuple<A1, A2, A3, A4, A5>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        return () -> new Quintuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get());
+    }
+
+    /**
+     * Returns the product of the five given consumers.
+     * The product is a single consumer of quintuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f5: (a5) -> void}, they become
+     * {@code h: ((a1, ..., a5)) -> (void) (f1(a1), ..., f5(a5))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5>
+            Consumer<Quintuple<A1, A2, A3, A4, A5>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        return (Quintuple<A1, A2, A3, A4, A5> quintuple) -> {
+            f1.accept(quintuple.first());
+            f2.accept(quintuple.second());
+            f3.accept(quintuple.third());
+            f4.accept(quintuple.fourth());
+            f5.accept(quintuple.fifth());
+        };
+    }
+
+    /**
+     * Returns the product of the six given functions.
+     * The product is a single function that accepts a sextuple and returns
+     * a sextuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f6: (a6) -> r6}, they become
+     * {@code h: ((a1, ..., a6)) -> (f1(a1), ..., f6(a6))} instead.
+     * The resulting sextuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <A6> the type of the parameter of the sixth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param <R6> the return type of the sixth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @param f6 the sixth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, R1, R2, R3, R4, R5, R6>
+            Function<Sextuple<A1, A2, A3, A4, A5, A6>,
+                    Sextuple<R1, R2, R3, R4, R5, R6>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5, Function<A6, R6> f6) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        return (Sextuple<A1, A2, A3, A4, A5, A6> sextuple) -> new Sextuple<>(
+                f1.apply(sextuple.first()), f2.apply(sextuple.second()),
+                f3.apply(sextuple.third()), f4.apply(sextuple.fourth()),
+                f5.apply(sextuple.fifth()), f6.apply(sextuple.sixth()));
+    }
+
+    /**
+     * Returns the product of the six given suppliers.
+     * The product is a single supplier of sextuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f6: () -> a6}, they become
+     * {@code h: () -> (f1(), ..., f6())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param <A6> the return type of the sixth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @param f6 the sixth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5, A6>
+            Supplier<Sextuple<A1, A2, A3, A4, A5, A6>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5, Supplier<A6> f6) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        return () -> new Sextuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get(), f6.get());
+    }
+
+    /**
+     * Returns the product of the six given consumers.
+     * The product is a single consumer of sextuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f6: (a6) -> void}, they become
+     * {@code h: ((a1, ..., a6)) -> (void) (f1(a1), ..., f6(a6))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param <A6> the type of the parameter of the sixth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @param f6 the sixth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6>
+            Consumer<Sextuple<A1, A2, A3, A4, A5, A6>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5, Consumer<A6> f6) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        return (Sextuple<A1, A2, A3, A4, A5, A6> sextuple) -> {
+            f1.accept(sextuple.first());
+            f2.accept(sextuple.second());
+            f3.accept(sextuple.third());
+            f4.accept(sextuple.fourth());
+            f5.accept(sextuple.fifth());
+            f6.accept(sextuple.sixth());
+        };
+    }
+
+    /**
+     * Returns the product of the seven given functions.
+     * The product is a single function that accepts a septuple and returns
+     * a septuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f7: (a7) -> r7}, they become
+     * {@code h: ((a1, ..., a7)) -> (f1(a1), ..., f7(a7))} instead.
+     * The resulting septuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <A6> the type of the parameter of the sixth function
+     * @param <A7> the type of the parameter of the seventh function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param <R6> the return type of the sixth function
+     * @param <R7> the return type of the seventh function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @param f6 the sixth function of the product
+     * @param f7 the seventh function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, R1, R2, R3, R4, R5, R6, R7>
+            Function<Septuple<A1, A2, A3, A4, A5, A6, A7>,
+                    Septuple<R1, R2, R3, R4, R5, R6, R7>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5, Function<A6, R6> f6,
+                    Function<A7, R7> f7) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        return septuple -> new Septuple<>(
+                f1.apply(septuple.first()), f2.apply(septuple.second()),
+                f3.apply(septuple.third()), f4.apply(septuple.fourth()),
+                f5.apply(septuple.fifth()), f6.apply(septuple.sixth()),
+                f7.apply(septuple.seventh()));
+    }
+
+    /**
+     * Returns the product of the seven given suppliers.
+     * The product is a single supplier of septuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f7: () -> a7}, they become
+     * {@code h: () -> (f1(), ..., f7())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param <A6> the return type of the sixth supplier
+     * @param <A7> the return type of the seventh supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @param f6 the sixth supplier of the product
+     * @param f7 the seventh supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7>
+            Supplier<Septuple<A1, A2, A3, A4, A5, A6, A7>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5, Supplier<A6> f6,
+                    Supplier<A7> f7) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        return () -> new Septuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get(), f6.get(), f7.get());
+    }
+
+    /**
+     * Returns the product of the seven given consumers.
+     * The product is a single consumer of septuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f7: (a7) -> void}, they become
+     * {@code h: ((a1, ..., a7)) -> (void) (f1(a1), ..., f7(a7))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param <A6> the type of the parameter of the sixth consumer
+     * @param <A7> the type of the parameter of the seventh consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @param f6 the sixth consumer of the product
+     * @param f7 the seventh consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7>
+            Consumer<Septuple<A1, A2, A3, A4, A5, A6, A7>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5, Consumer<A6> f6,
+                    Consumer<A7> f7) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        return (Septuple<A1, A2, A3, A4, A5, A6, A7> septuple) -> {
+            f1.accept(septuple.first());
+            f2.accept(septuple.second());
+            f3.accept(septuple.third());
+            f4.accept(septuple.fourth());
+            f5.accept(septuple.fifth());
+            f6.accept(septuple.sixth());
+            f7.accept(septuple.seventh());
+        };
+    }
+
+    /**
+     * Returns the product of the eight given functions.
+     * The product is a single function that accepts an octuple and returns
+     * an octuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f8: (a8) -> r8}, they become
+     * {@code h: ((a1, ..., a8)) -> (f1(a1), ..., f8(a8))} instead.
+     * The resulting octuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <A6> the type of the parameter of the sixth function
+     * @param <A7> the type of the parameter of the seventh function
+     * @param <A8> the type of the parameter of the eighth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param <R6> the return type of the sixth function
+     * @param <R7> the return type of the seventh function
+     * @param <R8> the return type of the eighth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @param f6 the sixth function of the product
+     * @param f7 the seventh function of the product
+     * @param f8 the eighth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, R1, R2, R3, R4, R5, R6, R7,
+            R8>
+            Function<Octuple<A1, A2, A3, A4, A5, A6, A7, A8>,
+                    Octuple<R1, R2, R3, R4, R5, R6, R7, R8>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5, Function<A6, R6> f6,
+                    Function<A7, R7> f7, Function<A8, R8> f8) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        return octuple -> new Octuple<>(
+                f1.apply(octuple.first()), f2.apply(octuple.second()),
+                f3.apply(octuple.third()), f4.apply(octuple.fourth()),
+                f5.apply(octuple.fifth()), f6.apply(octuple.sixth()),
+                f7.apply(octuple.seventh()), f8.apply(octuple.eighth()));
+    }
+
+    /**
+     * Returns the product of the eight given suppliers.
+     * The product is a single supplier of octuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f8: () -> a8}, they become
+     * {@code h: () -> (f1(), ..., f8())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param <A6> the return type of the sixth supplier
+     * @param <A7> the return type of the seventh supplier
+     * @param <A8> the return type of the eighth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @param f6 the sixth supplier of the product
+     * @param f7 the seventh supplier of the product
+     * @param f8 the eighth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8>
+            Supplier<Octuple<A1, A2, A3, A4, A5, A6, A7, A8>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5, Supplier<A6> f6,
+                    Supplier<A7> f7, Supplier<A8> f8) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        return () -> new Octuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get(), f6.get(), f7.get(), f8.get());
+    }
+
+    /**
+     * Returns the product of the eight given consumers.
+     * The product is a single consumer of octuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f8: (a8) -> void}, they become
+     * {@code h: ((a1, ..., a8)) -> (void) (f1(a1), ..., f8(a8))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param <A6> the type of the parameter of the sixth consumer
+     * @param <A7> the type of the parameter of the seventh consumer
+     * @param <A8> the type of the parameter of the eighth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @param f6 the sixth consumer of the product
+     * @param f7 the seventh consumer of the product
+     * @param f8 the eighth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8>
+            Consumer<Octuple<A1, A2, A3, A4, A5, A6, A7, A8>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5, Consumer<A6> f6,
+                    Consumer<A7> f7, Consumer<A8> f8) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        return (Octuple<A1, A2, A3, A4, A5, A6, A7, A8> octuple) -> {
+            f1.accept(octuple.first());
+            f2.accept(octuple.second());
+            f3.accept(octuple.third());
+            f4.accept(octuple.fourth());
+            f5.accept(octuple.fifth());
+            f6.accept(octuple.sixth());
+            f7.accept(octuple.seventh());
+            f8.accept(octuple.eighth());
+        };
+    }
+
+    /**
+     * Returns the product of the nine given functions.
+     * The product is a single function that accepts a nonuple and returns
+     * a nonuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f9: (a9) -> r9}, they become
+     * {@code h: ((a1, ..., a9)) -> (f1(a1), ..., f9(a9))} instead.
+     * The resulting nonuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <A6> the type of the parameter of the sixth function
+     * @param <A7> the type of the parameter of the seventh function
+     * @param <A8> the type of the parameter of the eighth function
+     * @param <A9> the type of the parameter of the ninth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param <R6> the return type of the sixth function
+     * @param <R7> the return type of the seventh function
+     * @param <R8> the return type of the eighth function
+     * @param <R9> the return type of the ninth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @param f6 the sixth function of the product
+     * @param f7 the seventh function of the product
+     * @param f8 the eighth function of the product
+     * @param f9 the ninth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, R1, R2, R3, R4, R5, R6,
+            R7, R8, R9>
+            Function<Nonuple<A1, A2, A3, A4, A5, A6, A7, A8, A9>,
+                    Nonuple<R1, R2, R3, R4, R5, R6, R7, R8, R9>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5, Function<A6, R6> f6,
+                    Function<A7, R7> f7, Function<A8, R8> f8,
+                    Function<A9, R9> f9) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        return nonuple -> new Nonuple<>(
+                f1.apply(nonuple.first()), f2.apply(nonuple.second()),
+                f3.apply(nonuple.third()), f4.apply(nonuple.fourth()),
+                f5.apply(nonuple.fifth()), f6.apply(nonuple.sixth()),
+                f7.apply(nonuple.seventh()), f8.apply(nonuple.eighth()),
+                f9.apply(nonuple.ninth()));
+    }
+
+    /**
+     * Returns the product of the nine given suppliers.
+     * The product is a single supplier of nonuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f9: () -> a9}, they become
+     * {@code h: () -> (f1(), ..., f9())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param <A6> the return type of the sixth supplier
+     * @param <A7> the return type of the seventh supplier
+     * @param <A8> the return type of the eighth supplier
+     * @param <A9> the return type of the ninth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @param f6 the sixth supplier of the product
+     * @param f7 the seventh supplier of the product
+     * @param f8 the eighth supplier of the product
+     * @param f9 the ninth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9>
+            Supplier<Nonuple<A1, A2, A3, A4, A5, A6, A7, A8, A9>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5, Supplier<A6> f6,
+                    Supplier<A7> f7, Supplier<A8> f8, Supplier<A9> f9) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        return () -> new Nonuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get(), f6.get(), f7.get(), f8.get(), f9.get());
+    }
+
+    /**
+     * Returns the product of the nine given consumers.
+     * The product is a single consumer of nonuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f9: (a9) -> void}, they become
+     * {@code h: ((a1, ..., a9)) -> (void) (f1(a1), ..., f9(a9))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param <A6> the type of the parameter of the sixth consumer
+     * @param <A7> the type of the parameter of the seventh consumer
+     * @param <A8> the type of the parameter of the eighth consumer
+     * @param <A9> the type of the parameter of the ninth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @param f6 the sixth consumer of the product
+     * @param f7 the seventh consumer of the product
+     * @param f8 the eighth consumer of the product
+     * @param f9 the ninth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9>
+            Consumer<Nonuple<A1, A2, A3, A4, A5, A6, A7, A8, A9>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5, Consumer<A6> f6,
+                    Consumer<A7> f7, Consumer<A8> f8, Consumer<A9> f9) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        return (Nonuple<A1, A2, A3, A4, A5, A6, A7, A8, A9> nonuple) -> {
+            f1.accept(nonuple.first());
+            f2.accept(nonuple.second());
+            f3.accept(nonuple.third());
+            f4.accept(nonuple.fourth());
+            f5.accept(nonuple.fifth());
+            f6.accept(nonuple.sixth());
+            f7.accept(nonuple.seventh());
+            f8.accept(nonuple.eighth());
+            f9.accept(nonuple.ninth());
+        };
+    }
+
+    /**
+     * Returns the product of the ten given functions.
+     * The product is a single function that accepts a decuple and returns
+     * a decuple whose members are the application of the original functions
+     * to the respective members of the argument.
+     * That is, given functions {@code f1: (a1) -> r1} through
+     * {@code f10: (a10) -> r10}, they become
+     * {@code h: ((a1, ..., a10)) -> (f1(a1), ..., f10(a10))} instead.
+     * The resulting decuple is created directly, without intermediate tuples.
+     * @param <A1> the type of the parameter of the first function
+     * @param <A2> the type of the parameter of the second function
+     * @param <A3> the type of the parameter of the third function
+     * @param <A4> the type of the parameter of the fourth function
+     * @param <A5> the type of the parameter of the fifth function
+     * @param <A6> the type of the parameter of the sixth function
+     * @param <A7> the type of the parameter of the seventh function
+     * @param <A8> the type of the parameter of the eighth function
+     * @param <A9> the type of the parameter of the ninth function
+     * @param <A10> the type of the parameter of the tenth function
+     * @param <R1> the return type of the first function
+     * @param <R2> the return type of the second function
+     * @param <R3> the return type of the third function
+     * @param <R4> the return type of the fourth function
+     * @param <R5> the return type of the fifth function
+     * @param <R6> the return type of the sixth function
+     * @param <R7> the return type of the seventh function
+     * @param <R8> the return type of the eighth function
+     * @param <R9> the return type of the ninth function
+     * @param <R10> the return type of the tenth function
+     * @param f1 the first function of the product
+     * @param f2 the second function of the product
+     * @param f3 the third function of the product
+     * @param f4 the fourth function of the product
+     * @param f5 the fifth function of the product
+     * @param f6 the sixth function of the product
+     * @param f7 the seventh function of the product
+     * @param f8 the eighth function of the product
+     * @param f9 the ninth function of the product
+     * @param f10 the tenth function of the product
+     * @return the product of the given functions
+     * @throws NullPointerException if any of the functions is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10, R1, R2, R3, R4, R5,
+            R6, R7, R8, R9, R10>
+            Function<Decuple<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>,
+                    Decuple<R1, R2, R3, R4, R5, R6, R7, R8, R9, R10>>
+            product(Function<A1, R1> f1, Function<A2, R2> f2,
+                    Function<A3, R3> f3, Function<A4, R4> f4,
+                    Function<A5, R5> f5, Function<A6, R6> f6,
+                    Function<A7, R7> f7, Function<A8, R8> f8,
+                    Function<A9, R9> f9, Function<A10, R10> f10) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        Objects.requireNonNull(f10);
+        return decuple -> new Decuple<>(
+                f1.apply(decuple.first()), f2.apply(decuple.second()),
+                f3.apply(decuple.third()), f4.apply(decuple.fourth()),
+                f5.apply(decuple.fifth()), f6.apply(decuple.sixth()),
+                f7.apply(decuple.seventh()), f8.apply(decuple.eighth()),
+                f9.apply(decuple.ninth()), f10.apply(decuple.tenth()));
+    }
+
+    /**
+     * Returns the product of the ten given suppliers.
+     * The product is a single supplier of decuples whose members are supplied
+     * by the original suppliers, in order.
+     * That is, given suppliers {@code f1: () -> a1} through
+     * {@code f10: () -> a10}, they become
+     * {@code h: () -> (f1(), ..., f10())} instead.
+     * @param <A1> the return type of the first supplier
+     * @param <A2> the return type of the second supplier
+     * @param <A3> the return type of the third supplier
+     * @param <A4> the return type of the fourth supplier
+     * @param <A5> the return type of the fifth supplier
+     * @param <A6> the return type of the sixth supplier
+     * @param <A7> the return type of the seventh supplier
+     * @param <A8> the return type of the eighth supplier
+     * @param <A9> the return type of the ninth supplier
+     * @param <A10> the return type of the tenth supplier
+     * @param f1 the first supplier of the product
+     * @param f2 the second supplier of the product
+     * @param f3 the third supplier of the product
+     * @param f4 the fourth supplier of the product
+     * @param f5 the fifth supplier of the product
+     * @param f6 the sixth supplier of the product
+     * @param f7 the seventh supplier of the product
+     * @param f8 the eighth supplier of the product
+     * @param f9 the ninth supplier of the product
+     * @param f10 the tenth supplier of the product
+     * @return the product of the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>
+            Supplier<Decuple<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>> product(
+                    Supplier<A1> f1, Supplier<A2> f2, Supplier<A3> f3,
+                    Supplier<A4> f4, Supplier<A5> f5, Supplier<A6> f6,
+                    Supplier<A7> f7, Supplier<A8> f8, Supplier<A9> f9,
+                    Supplier<A10> f10) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        Objects.requireNonNull(f10);
+        return () -> new Decuple<>(f1.get(), f2.get(), f3.get(), f4.get(),
+                f5.get(), f6.get(), f7.get(), f8.get(), f9.get(), f10.get());
+    }
+
+    /**
+     * Returns the product of the ten given consumers.
+     * The product is a single consumer of decuples that passes each member
+     * to the respective consumer, in order.
+     * That is, given consumers {@code f1: (a1) -> void} through
+     * {@code f10: (a10) -> void}, they become
+     * {@code h: ((a1, ..., a10)) -> (void) (f1(a1), ..., f10(a10))} instead.
+     * @param <A1> the type of the parameter of the first consumer
+     * @param <A2> the type of the parameter of the second consumer
+     * @param <A3> the type of the parameter of the third consumer
+     * @param <A4> the type of the parameter of the fourth consumer
+     * @param <A5> the type of the parameter of the fifth consumer
+     * @param <A6> the type of the parameter of the sixth consumer
+     * @param <A7> the type of the parameter of the seventh consumer
+     * @param <A8> the type of the parameter of the eighth consumer
+     * @param <A9> the type of the parameter of the ninth consumer
+     * @param <A10> the type of the parameter of the tenth consumer
+     * @param f1 the first consumer of the product
+     * @param f2 the second consumer of the product
+     * @param f3 the third consumer of the product
+     * @param f4 the fourth consumer of the product
+     * @param f5 the fifth consumer of the product
+     * @param f6 the sixth consumer of the product
+     * @param f7 the seventh consumer of the product
+     * @param f8 the eighth consumer of the product
+     * @param f9 the ninth consumer of the product
+     * @param f10 the tenth consumer of the product
+     * @return the product of the given consumers
+     * @throws NullPointerException if any of the consumers is null
+     */
+    @SuppressWarnings("overloads")
+    public static <A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>
+            Consumer<Decuple<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10>> product(
+                    Consumer<A1> f1, Consumer<A2> f2, Consumer<A3> f3,
+                    Consumer<A4> f4, Consumer<A5> f5, Consumer<A6> f6,
+                    Consumer<A7> f7, Consumer<A8> f8, Consumer<A9> f9,
+                    Consumer<A10> f10) {
+        Objects.requireNonNull(f1);
+        Objects.requireNonNull(f2);
+        Objects.requireNonNull(f3);
+        Objects.requireNonNull(f4);
+        Objects.requireNonNull(f5);
+        Objects.requireNonNull(f6);
+        Objects.requireNonNull(f7);
+        Objects.requireNonNull(f8);
+        Objects.requireNonNull(f9);
+        Objects.requireNonNull(f10);
+        return (Decuple<A1, A2, A3, A4, A5, A6, A7, A8, A9, A10> decuple) -> {
+            f1.accept(decuple.first());
+            f2.accept(decuple.second());
+            f3.accept(decuple.third());
+            f4.accept(decuple.fourth());
+            f5.accept(decuple.fifth());
+            f6.accept(decuple.sixth());
+            f7.accept(decuple.seventh());
+            f8.accept(decuple.eighth());
+            f9.accept(decuple.ninth());
+            f10.accept(decuple.tenth());
+        };
+    }
+
+    /**
+     * Returns a memoized version of the given function.
+     * The memoized function caches up to the given number of results,
+     * evicting the least recently used ones first, and computes each
+     * missing result only once, even when called concurrently.
+     * Functions that accept tuples, such as the ones returned by
+     * {@link #uncurry(BiFunction)}, are cached by tuple.
+     * The memoized function does not accept null arguments.
+     * @param <A> the type of the parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param maximumSize the maximum number of results to cache
+     * @return the memoized version of the given function
+     * @throws NullPointerException if the function is null; the memoized
+     *         function throws it when applied to null
+     * @throws IllegalArgumentException if the maximum size is not positive
+     * @see Memoizer
+     */
+    public static <A, R> Function<A, R> memoize(Function<A, R> function,
+            int maximumSize) {
+        return memoize(function, new Memoizer<>(maximumSize));
+    }
+
+    /**
+     * Returns a memoized version of the given function, that caches its
+     * results in the given memoizer.
+     * Keeping a reference to the memoizer allows inspecting its statistics.
+     * The memoized function does not accept null arguments.
+     * @param <A> the type of the parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param memoizer the cache of results, keyed by argument
+     * @return the memoized version of the given function
+     * @throws NullPointerException if any of the arguments is null; the
+     *         memoized function throws it when applied to null
+     * @see Memoizer
+     */
+    public static <A, R> Function<A, R> memoize(Function<A, R> function,
+            Memoizer<A, R> memoizer) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(memoizer);
+        return (A a) -> memoizer.get(a, function);
+    }
+
+    /**
+     * Returns a memoized version of the given function.
+     * The memoized function caches up to the given number of results,
+     * keyed by the pair of its arguments, evicting the least recently used
+     * ones first, and computes each missing result only once, even when
+     * called concurrently.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param maximumSize the maximum number of results to cache
+     * @return the memoized version of the given function
+     * @throws IllegalArgumentException if the maximum size is not positive
+     * @see Memoizer
+     */
+    public static <A, B, R> BiFunction<A, B, R> memoize(
+            BiFunction<A, B, R> function, int maximumSize) {
+        return memoize(function, new Memoizer<>(maximumSize));
+    }
+
+    /**
+     * Returns a memoized version of the given function, that caches its
+     * results in the given memoizer, keyed by the pair of its arguments.
+     * Keeping a reference to the memoizer allows inspecting its statistics.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param memoizer the cache of results, keyed by pairs of arguments
+     * @return the memoized version of the given function
+     * @throws NullPointerException if any of the arguments is null
+     * @see Memoizer
+     */
+    public static <A, B, R> BiFunction<A, B, R> memoize(
+            BiFunction<A, B, R> function, Memoizer<Pair<A, B>, R> memoizer) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(memoizer);
+        Function<Pair<A, B>, R> loader = uncurry(function);
+        return (A a, B b) -> memoizer.get(new Pair<>(a, b), loader);
+    }
+
+    /**
+     * Returns a memoized version of the given function.
+     * The memoized function caches up to the given number of results,
+     * keyed by the triple of its arguments, evicting the least recently used
+     * ones first, and computes each missing result only once, even when
+     * called concurrently.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param maximumSize the maximum number of results to cache
+     * @return the memoized version of the given function
+     * @throws IllegalArgumentException if the maximum size is not positive
+     * @see Memoizer
+     */
+    public static <A, B, C, R> TriFunction<A, B, C, R> memoize(
+            TriFunction<A, B, C, R> function, int maximumSize) {
+        return memoize(function, new Memoizer<>(maximumSize));
+    }
+
+    /**
+     * Returns a memoized version of the given function, that caches its
+     * results in the given memoizer, keyed by the triple of its arguments.
+     * Keeping a reference to the memoizer allows inspecting its statistics.
+     * @param <A> the type of the first parameter
+     * @param <B> the type of the second parameter
+     * @param <C> the type of the third parameter
+     * @param <R> the return type
+     * @param function the function to memoize
+     * @param memoizer the cache of results, keyed by triples of arguments
+     * @return the memoized version of the given function
+     * @throws NullPointerException if any of the arguments is null
+     * @see Memoizer
+     */
+    public static <A, B, C, R> TriFunction<A, B, C, R> memoize(
+            TriFunction<A, B, C, R> function,
+            Memoizer<Triple<A, B, C>, R> memoizer) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(memoizer);
+        Function<Triple<A, B, C>, R> loader = uncurry(function);
+        return (A a, B b, C c) -> memoizer.get(new Triple<>(a, b, c), loader);
+    }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements hash joins between two collections.
+ *
+ * One side of the join is loaded into a compact hash table, made of
+ * parallel arrays chained by index, so that no list is allocated per key.
+ * The other side is probed lazily, one element at a time, through a
+ * spliterator that splits along with the probed collection.
+ *
+ * @author Andre Santos
+ * @see Tuples#hashJoin(Collection, Collection, Function, Function)
+ */
+final class HashJoin {
+    static final int INNER = 0;
+    static final int LEFT = 1;
+    static final int SEMI = 2;
+    static final int ANTI = 3;
+
+    private HashJoin() {
+        throw new AssertionError("This class should not be instantiated.");
+    }
+
+    @SuppressWarnings("unchecked")
+    static <L, R, K, T> Stream<T> join(Collection<L> left,
+            Collection<R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey, int mode) {
+        Objects.requireNonNull(leftKey);
+        Objects.requireNonNull(rightKey);
+        Spliterator<?> spliterator;
+        if (mode == INNER && left.size() < right.size()) {
+            Table table = new Table(left, leftKey);
+            spliterator = new Probe<>(right.spliterator(), rightKey, table,
+                    mode, true);
+        }
+        else {
+            Table table = new Table(right, rightKey);
+            spliterator = new Probe<>(left.spliterator(), leftKey, table,
+                    mode, false);
+        }
+        return StreamSupport.stream((Spliterator<T>) spliterator, false);
+    }
+
+
+    /**
+     * A read-only hash table with chaining, laid out in parallel arrays.
+     * Entries with equal keys are chained one after the other.
+     */
+    static final class Table {
+        private final int[] heads;
+        private final int[] next;
+        private final int[] hashes;
+        private final Object[] keys;
+        private final Object[] values;
+
+        <V> Table(Collection<V> elements, Function<? super V, ?> key) {
+            int size = elements.size();
+            int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1);
+            this.heads = new int[Math.max(capacity, 2)];
+            this.next = new int[size];
+            this.hashes = new int[size];
+            this.keys = new Object[size];
+            this.values = new Object[size];
+            Arrays.fill(heads, -1);
+            int[] tails = new int[heads.length];
+            int i = 0;
+            for (V value : elements) {
+                if (i == size) {
+                    break;
+                }
+                Object k = key.apply(value);
+                int h = hash(k);
+                int bucket = h & (heads.length - 1);
+                keys[i] = k;
+                values[i] = value;
+                hashes[i] = h;
+                next[i] = -1;
+                // append, so that matches come out in insertion order
+                if (heads[bucket] < 0) {
+                    heads[bucket] = i;
+                }
+                else {
+                    next[tails[bucket]] = i;
+                }
+                tails[bucket] = i;
+                ++i;
+            }
+        }
+
+        int first(Object key) {
+            int h = hash(key);
+            return find(heads[h & (heads.length - 1)], h, key);
+        }
+
+        int next(int index, Object key) {
+            return find(next[index], hashes[index], key);
+        }
+
+        Object value(int index) {
+            return values[index];
+        }
+
+        private int find(int index, int hash, Object key) {
+            int i = index;
+            while (i >= 0 && (hashes[i] != hash
+                    || !Objects.equals(keys[i], key))) {
+                i = next[i];
+            }
+            return i;
+        }
+
+        private static int hash(Object key) {
+            int h = Objects.hashCode(key);
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * Probes a table with the elements of a spliterator.
+     * Depending on the mode, it emits pairs or probe elements.
+     */
+    static final class Probe<P, K> implements Spliterator<Object>,
+            Consumer<P> {
+        private final Spliterator<P> source;
+        private final Function<? super P, ? extends K> key;
+        private final Table table;
+        private final int mode;
+        private final boolean probeIsRight;
+        private P current;
+        private Object currentKey;
+        private int match;
+
+        Probe(Spliterator<P> source, Function<? super P, ? extends K> key,
+                Table table, int mode, boolean probeIsRight) {
+            this.source = source;
+            this.key = key;
+            this.table = table;
+            this.mode = mode;
+            this.probeIsRight = probeIsRight;
+            this.match = -1;
+        }
+
+        @Override
+        public void accept(P element) {
+            current = element;
+            currentKey = key.apply(element);
+            match = table.first(currentKey);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (match >= 0) {
+                emitMatch(action);
+                return true;
+            }
+            while (source.tryAdvance(this)) {
+                switch (mode) {
+                    case SEMI:
+                        if (match >= 0) {
+                            match = -1;
+                            action.accept(current);
+                            return true;
+                        }
+                        break;
+                    case ANTI:
+                        if (match < 0) {
+                            action.accept(current);
+                            return true;
+                        }
+                        match = -1;
+                        break;
+                    case LEFT:
+                        if (match < 0) {
+                            action.accept(new Pair<>(current, null));
+                            return true;
+                        }
+                        emitMatch(action);
+                        return true;
+                    default:
+                        if (match >= 0) {
+                            emitMatch(action);
+                            return true;
+                        }
+                        break;
+                }
+            }
+            current = null;
+            currentKey = null;
+            return false;
+        }
+
+        @Override
+        public Spliterator<Object> trySplit() {
+            if (match >= 0) {
+                return null;
+            }
+            Spliterator<P> split = source.trySplit();
+            if (split == null) {
+                return null;
+            }
+            return new Probe<>(split, key, table, mode, probeIsRight);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & ORDERED;
+        }
+
+        private void emitMatch(Consumer<? super Object> action) {
+            Object other = table.value(match);
+            match = table.next(match, currentKey);
+            action.accept(probeIsRight
+                    ? new Pair<>(other, current)
+                    : new Pair<>(current, other));
+        }
+    }
+}
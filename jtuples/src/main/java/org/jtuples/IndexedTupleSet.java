@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A set of tuples that maintains hash indexes on positions of its tuples.
+ *
+ * Indexes can be created for any position, or combination of positions,
+ * with {@link #index(int...)}.
+ * They are updated incrementally as tuples are added to or removed from
+ * the set, so that lookups by the indexed elements take constant time,
+ * instead of a scan over the whole set.
+ * For instance, for a set of quadruples, the following finds all the
+ * tuples with the given first and third members:
+ * <pre>{@code
+ *     TupleIndex<Quadruple<A, B, C, D>> index = set.index(1, 3);
+ *     Set<Quadruple<A, B, C, D>> matches = index.get(a, c);}
+ * </pre>
+ *
+ * Tuples must have at least as many members as the highest indexed
+ * position. The set iterates its tuples in insertion order.
+ * This set is not synchronized, and it does not permit null tuples.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the tuples in this set
+ * @see TupleIndex
+ */
+public final class IndexedTupleSet<T extends Tuple> extends AbstractSet<T> {
+    private static final int MAX_POSITION = 10;
+
+    private final Set<T> tuples;
+    private final List<TupleIndex<T>> indexes;
+
+    /**
+     * Returns a new, empty set, without indexes.
+     */
+    public IndexedTupleSet() {
+        this.tuples = new LinkedHashSet<>();
+        this.indexes = new ArrayList<>();
+    }
+
+    /**
+     * Returns a new set, without indexes, containing the given tuples.
+     * @param tuples the tuples to place in the set
+     * @throws NullPointerException if the collection or any of its tuples
+     *         is null
+     */
+    public IndexedTupleSet(Collection<? extends T> tuples) {
+        this();
+        this.addAll(tuples);
+    }
+
+
+    /**
+     * Returns an index over the given positions of the tuples in this set,
+     * creating it if it does not exist yet.
+     *
+     * Positions are numbered from 1, so that position 1 refers to the
+     * {@code first()} member of a tuple, position 2 to the
+     * {@code second()}, and so on.
+     * Creating an index takes time linear in the size of this set;
+     * afterwards, it is maintained as tuples are added and removed.
+     *
+     * @param positions the positions to index, in the order of the keys
+     * @return an index over the given positions
+     * @throws IllegalArgumentException if no positions are given,
+     *         if a position is out of range or repeated,
+     *         or if a tuple in this set does not have that many members
+     */
+    public TupleIndex<T> index(int... positions) {
+        checkPositions(positions);
+        for (TupleIndex<T> index : indexes) {
+            if (index.hasPositions(positions)) {
+                return index;
+            }
+        }
+        TupleIndex<T> index = new TupleIndex<>(positions.clone());
+        for (T tuple : tuples) {
+            checkCovered(index, tuple);
+        }
+        for (T tuple : tuples) {
+            index.add(tuple);
+        }
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Removes the given index from this set.
+     * The index is no longer maintained, and should not be used further.
+     * @param index the index to remove
+     * @return true if the index belonged to this set
+     */
+    public boolean dropIndex(TupleIndex<T> index) {
+        if (indexes.remove(index)) {
+            index.clear();
+            return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     * @throws NullPointerException if the tuple is null
+     * @throws IllegalArgumentException if the tuple does not have as many
+     *         members as the highest indexed position
+     */
+    @Override
+    public boolean add(T tuple) {
+        Objects.requireNonNull(tuple);
+        for (TupleIndex<T> index : indexes) {
+            checkCovered(index, tuple);
+        }
+        if (!tuples.add(tuple)) {
+            return false;
+        }
+        for (TupleIndex<T> index : indexes) {
+            index.add(tuple);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(Object o) {
+        if (!tuples.remove(o)) {
+            return false;
+        }
+        for (TupleIndex<T> index : indexes) {
+            index.remove((T) o);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return tuples.contains(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return tuples.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        tuples.clear();
+        for (TupleIndex<T> index : indexes) {
+            index.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new IndexedIterator(tuples.iterator());
+    }
+
+
+    private static void checkPositions(int[] positions) {
+        if (positions.length == 0) {
+            throw new IllegalArgumentException("No positions to index.");
+        }
+        boolean[] seen = new boolean[MAX_POSITION + 1];
+        for (int position : positions) {
+            if (position < 1 || position > MAX_POSITION) {
+                throw new IllegalArgumentException(
+                        "Illegal position: " + position);
+            }
+            if (seen[position]) {
+                throw new IllegalArgumentException(
+                        "Repeated position: " + position);
+            }
+            seen[position] = true;
+        }
+    }
+
+    private static void checkCovered(TupleIndex<?> index, Tuple tuple) {
+        if (!index.covers(tuple)) {
+            throw new IllegalArgumentException(
+                    "Tuple is too short for index: " + tuple);
+        }
+    }
+
+
+    private final class IndexedIterator implements Iterator<T> {
+        private final Iterator<T> iterator;
+        private T current;
+
+        IndexedIterator(Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            current = iterator.next();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            for (TupleIndex<T> index : indexes) {
+                index.remove(current);
+            }
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes values of a given type as JSON, and reads them back.
+ *
+ * JSON codecs are the building blocks of a {@link JsonTupleCodec}, which
+ * uses one codec for each position of the tuples it encodes.
+ * Values are written straight to a {@code Writer}, and read from
+ * a {@link JsonReader}, without building an intermediate tree of values.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the encoded values
+ * @see JsonCodecs
+ */
+public interface JsonCodec<T> {
+    /**
+     * Writes the given value as JSON.
+     * @param out the writer to write to
+     * @param value the value to write
+     * @throws IOException if the writer fails
+     */
+    void write(Writer out, T value) throws IOException;
+
+    /**
+     * Reads a value from the next JSON value of the given reader.
+     * @param in the reader to read from
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the JSON is malformed, or the
+     *         next value does not have the expected type
+     */
+    T read(JsonReader in) throws IOException;
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * This class consists exclusively of static fields and methods that
+ * provide common {@link JsonCodec}s.
+ *
+ * Numbers are written without creating a {@code String}, except for
+ * doubles, which are written as by {@code Double.toString}.
+ * None of the codecs here accept {@code null} values, unless wrapped with
+ * {@link #nullable(JsonCodec)}.
+ *
+ * @author Andre Santos
+ * @see JsonTupleCodec
+ */
+public final class JsonCodecs {
+    /**
+     * A codec for integers, as JSON numbers.
+     */
+    public static final JsonCodec<Integer> INT = new JsonCodec<Integer>() {
+        @Override
+        public void write(Writer out, Integer value) throws IOException {
+            writeLong(out, value);
+        }
+
+        @Override
+        public Integer read(JsonReader in) throws IOException {
+            return in.nextInt();
+        }
+    };
+
+    /**
+     * A codec for longs, as JSON numbers.
+     */
+    public static final JsonCodec<Long> LONG = new JsonCodec<Long>() {
+        @Override
+        public void write(Writer out, Long value) throws IOException {
+            writeLong(out, value);
+        }
+
+        @Override
+        public Long read(JsonReader in) throws IOException {
+            return in.nextLong();
+        }
+    };
+
+    /**
+     * A codec for doubles, as JSON numbers.
+     * Since JSON has no representation for them, infinite and NaN values
+     * are rejected with an {@code IllegalArgumentException}.
+     */
+    public static final JsonCodec<Double> DOUBLE = new JsonCodec<Double>() {
+        @Override
+        public void write(Writer out, Double value) throws IOException {
+            if (value.isNaN() || value.isInfinite()) {
+                throw new IllegalArgumentException(
+                        "Not a JSON number: " + value);
+            }
+            out.write(Double.toString(value));
+        }
+
+        @Override
+        public Double read(JsonReader in) throws IOException {
+            return in.nextDouble();
+        }
+    };
+
+    /**
+     * A codec for booleans, as JSON {@code true} and {@code false}.
+     */
+    public static final JsonCodec<Boolean> BOOLEAN =
+            new JsonCodec<Boolean>() {
+                @Override
+                public void write(Writer out, Boolean value)
+                        throws IOException {
+                    out.write(value ? "true" : "false");
+                }
+
+                @Override
+                public Boolean read(JsonReader in) throws IOException {
+                    return in.nextBoolean();
+                }
+            };
+
+    /**
+     * A codec for strings, as JSON strings.
+     * Quotes, backslashes and control characters are escaped; all other
+     * characters are written as they are.
+     */
+    public static final JsonCodec<String> STRING = new JsonCodec<String>() {
+        @Override
+        public void write(Writer out, String value) throws IOException {
+            writeString(out, value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return in.nextString();
+        }
+    };
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonCodecs() {
+        throw new AssertionError();
+    }
+
+
+    /**
+     * Returns a codec that accepts {@code null} values, as JSON
+     * {@code null}, in addition to the values accepted by the given codec.
+     * @param <T> the type of the encoded values
+     * @param codec the codec used for values that are not null
+     * @return a codec that also accepts null values
+     * @throws NullPointerException if the codec is null
+     */
+    public static <T> JsonCodec<T> nullable(JsonCodec<T> codec) {
+        Objects.requireNonNull(codec);
+        return new JsonCodec<T>() {
+            @Override
+            public void write(Writer out, T value) throws IOException {
+                if (value == null) {
+                    out.write("null");
+                } else {
+                    codec.write(out, value);
+                }
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                if (in.peekNull()) {
+                    in.nextNull();
+                    return null;
+                }
+                return codec.read(in);
+            }
+        };
+    }
+
+
+    /**
+     * Writes the decimal digits of a long, through a small local buffer.
+     */
+    static void writeLong(Writer out, long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            out.write("-9223372036854775808");
+            return;
+        }
+        char[] digits = new char[20];
+        int i = digits.length;
+        long v = Math.abs(value);
+        do {
+            digits[--i] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        if (value < 0) {
+            digits[--i] = '-';
+        }
+        out.write(digits, i, digits.length - i);
+    }
+
+    /**
+     * Writes a quoted, escaped string, copying runs of characters that need
+     * no escaping as they are.
+     */
+    static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        int run = 0;
+        for (int i = 0, n = value.length(); i < n; ++i) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(value, run, i - run);
+            run = i + 1;
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    out.write("\\u00");
+                    out.write(HEX[c >> 4]);
+                    out.write(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        out.write(value, run, value.length() - run);
+        out.write('"');
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Reads a stream of JSON arrays and scalar values, one token at a time.
+ *
+ * Values are read with methods such as {@link #nextLong()} and
+ * {@link #nextString()}, and arrays are traversed with
+ * {@link #beginArray()}, {@link #hasNext()} and {@link #endArray()};
+ * commas between elements are handled by the reader.
+ * Text is read through a character buffer that is reused as the reader
+ * moves on, and numbers are parsed straight from that buffer, without
+ * creating a {@code String}.
+ * JSON objects are not supported.
+ * For instance, the following reads the array {@code [1, 2, 3]}:
+ * <pre>{@code
+ * in.beginArray();
+ * while (in.hasNext()) {
+ *     sum += in.nextInt();
+ * }
+ * in.endArray();
+ * }</pre>
+ *
+ * Malformed JSON, or a value of an unexpected type, is reported with an
+ * {@code IllegalArgumentException}, whose message gives the offset of the
+ * offending character.
+ * Readers are not safe for use by multiple threads.
+ *
+ * @author Andre Santos
+ * @see JsonTupleCodec
+ */
+public final class JsonReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long discarded;
+    private boolean[] needsComma = new boolean[16];
+    private int depth;
+    private boolean ready;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Returns a new JSON reader over the given reader.
+     * @param reader the reader of the JSON text
+     * @throws NullPointerException if the reader is null
+     */
+    public JsonReader(Reader reader) {
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    /**
+     * Returns a new JSON reader over the given stream, decoded as UTF-8.
+     * @param in the stream of the JSON text
+     * @throws NullPointerException if the stream is null
+     */
+    public JsonReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Consumes the start of an array.
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not an array
+     */
+    public void beginArray() throws IOException {
+        beforeValue();
+        expect('[');
+        ready = false;
+        if (depth == needsComma.length) {
+            needsComma = Arrays.copyOf(needsComma, depth * 2);
+        }
+        needsComma[depth++] = false;
+    }
+
+    /**
+     * Consumes the end of the current array.
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the current array has more
+     *         elements
+     * @throws IllegalStateException if there is no current array
+     */
+    public void endArray() throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("Not in an array");
+        }
+        expect(']');
+        --depth;
+        ready = false;
+    }
+
+    /**
+     * Tells whether the current array has more elements.
+     * @return true if there is another element before the end of the
+     *         current array
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalStateException if there is no current array
+     */
+    public boolean hasNext() throws IOException {
+        if (depth == 0) {
+            throw new IllegalStateException("Not in an array");
+        }
+        int c = peek();
+        return c != ']' && c != -1;
+    }
+
+    /**
+     * Tells whether the next value is {@code null}, without consuming it.
+     * @return true if the next value is null
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the JSON is malformed
+     */
+    public boolean peekNull() throws IOException {
+        beforeValue();
+        return peek() == 'n';
+    }
+
+    /**
+     * Consumes a {@code null} value.
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not null
+     */
+    public void nextNull() throws IOException {
+        beforeValue();
+        literal("null");
+        ready = false;
+    }
+
+    /**
+     * Consumes a boolean value.
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not a boolean
+     */
+    public boolean nextBoolean() throws IOException {
+        beforeValue();
+        boolean value = peek() == 't';
+        literal(value ? "true" : "false");
+        ready = false;
+        return value;
+    }
+
+    /**
+     * Consumes a number that fits in an {@code int}.
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not an
+     *         integer in the range of {@code int}
+     */
+    public int nextInt() throws IOException {
+        int length = number();
+        int value = ColumnParsers.parseInt(buffer, position, length);
+        consume(length);
+        return value;
+    }
+
+    /**
+     * Consumes a number that fits in a {@code long}.
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not an
+     *         integer in the range of {@code long}
+     */
+    public long nextLong() throws IOException {
+        int length = number();
+        long value = ColumnParsers.parseLong(buffer, position, length);
+        consume(length);
+        return value;
+    }
+
+    /**
+     * Consumes a number.
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not a number
+     */
+    public double nextDouble() throws IOException {
+        int length = number();
+        double value = ColumnParsers.parseDouble(buffer, position, length);
+        consume(length);
+        return value;
+    }
+
+    /**
+     * Consumes a string, resolving its escape sequences.
+     * @return the value read
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not a string
+     */
+    public String nextString() throws IOException {
+        beforeValue();
+        expect('"');
+        text.setLength(0);
+        for (;;) {
+            int run = position;
+            while (position < limit && buffer[position] != '"'
+                    && buffer[position] != '\\') {
+                ++position;
+            }
+            text.append(buffer, run, position - run);
+            if (position == limit) {
+                if (!fill()) {
+                    throw syntax("Unterminated string");
+                }
+                continue;
+            }
+            if (buffer[position++] == '"') {
+                break;
+            }
+            text.append(escape());
+        }
+        ready = false;
+        return text.toString();
+    }
+
+    /**
+     * Closes the underlying reader.
+     * @throws IOException if the underlying reader fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+
+    /**
+     * Consumes the comma before an element of an array, if needed.
+     * Calling this again before the value is consumed has no effect.
+     */
+    private void beforeValue() throws IOException {
+        if (ready) {
+            return;
+        }
+        if (depth > 0) {
+            if (needsComma[depth - 1]) {
+                expect(',');
+            }
+            needsComma[depth - 1] = true;
+        }
+        ready = true;
+    }
+
+    /**
+     * Returns the next character that is not whitespace, without
+     * consuming it, or -1 at the end of the text.
+     */
+    private int peek() throws IOException {
+        for (;;) {
+            while (position < limit) {
+                char c = buffer[position];
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    return c;
+                }
+                ++position;
+            }
+            if (!fill()) {
+                return -1;
+            }
+        }
+    }
+
+    private void expect(char c) throws IOException {
+        if (peek() != c) {
+            throw syntax("Expected '" + c + "'");
+        }
+        ++position;
+    }
+
+    private void literal(String word) throws IOException {
+        peek();
+        for (int i = 0; i < word.length(); ++i) {
+            if (position == limit && !fill()
+                    || buffer[position] != word.charAt(i)) {
+                throw syntax("Expected " + word);
+            }
+            ++position;
+        }
+    }
+
+    /**
+     * Makes the next number token contiguous in the buffer, starting at
+     * the current position, and returns its length.
+     */
+    private int number() throws IOException {
+        beforeValue();
+        peek();
+        int i = position;
+        for (;;) {
+            while (i < limit && isNumberChar(buffer[i])) {
+                ++i;
+            }
+            if (i < limit) {
+                break;
+            }
+            int length = i - position;
+            if (!fill()) {
+                break;
+            }
+            i = position + length;
+        }
+        if (i == position) {
+            throw syntax("Expected number");
+        }
+        return i - position;
+    }
+
+    private void consume(int length) {
+        position += length;
+        ready = false;
+    }
+
+    private char escape() throws IOException {
+        if (position == limit && !fill()) {
+            throw syntax("Unterminated string");
+        }
+        char c = buffer[position++];
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; ++i) {
+                    if (position == limit && !fill()) {
+                        throw syntax("Unterminated string");
+                    }
+                    int digit = Character.digit(buffer[position++], 16);
+                    if (digit < 0) {
+                        throw syntax("Invalid unicode escape");
+                    }
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            default:
+                throw syntax("Invalid escape");
+        }
+    }
+
+    /**
+     * Moves the unread characters to the start of the buffer, growing it
+     * if they fill it, and reads more characters after them.
+     * Returns false at the end of the text.
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            discarded += position;
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n = reader.read(buffer, limit, buffer.length - limit);
+        if (n <= 0) {
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    private IllegalArgumentException syntax(String message) {
+        return new IllegalArgumentException(message + " at offset "
+                + (discarded + position));
+    }
+
+    private static boolean isNumberChar(char c) {
+        return c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.'
+                || c == 'e' || c == 'E';
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Writes tuples of a fixed arity as JSON arrays, and reads them back,
+ * using one {@link JsonCodec} for each position.
+ *
+ * A tuple {@code (a, b, c)} is written as the array {@code [a,b,c]},
+ * straight to a {@code Writer}: members are read directly from the
+ * tuple, with no intermediate list or string.
+ * Reading works the other way around, passing each decoded member
+ * directly to the constructor of the resulting tuple.
+ * Since a tuple codec is itself a JSON codec, it can be used for
+ * a position whose members are themselves tuples.
+ * Sequences of tuples, such as large responses, are streamed as an array
+ * of arrays with {@link #writeAll(Writer, Iterable)} and
+ * {@link #readAll(JsonReader, Consumer)}.
+ *
+ * JSON tuple codecs are immutable, and are thread-safe as long as their
+ * element codecs are.
+ * For instance, the following codec writes pairs of a string and a long:
+ * <pre>{@code
+ * JsonTupleCodec<Pair<String, Long>> codec =
+ *         JsonTupleCodec.of(JsonCodecs.STRING, JsonCodecs.LONG);
+ * }</pre>
+ *
+ * @author Andre Santos
+ * @param <T> the type of the encoded tuples
+ * @see JsonCodecs
+ * @see TupleCodec
+ */
+public final class JsonTupleCodec<T extends Tuple> implements JsonCodec<T> {
+    private final JsonCodec<?>[] codecs;
+
+    private JsonTupleCodec(JsonCodec<?>... codecs) {
+        for (JsonCodec<?> codec : codecs) {
+            Objects.requireNonNull(codec);
+        }
+        this.codecs = codecs;
+    }
+
+
+    /**
+     * Returns a JSON codec for pairs, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the pairs
+     * @param <B> the type of the second element of the pairs
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @return a JSON codec for pairs
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B> JsonTupleCodec<Pair<A, B>> of(JsonCodec<A> first,
+            JsonCodec<B> second) {
+        return new JsonTupleCodec<>(first, second);
+    }
+
+    /**
+     * Returns a JSON codec for triples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the triples
+     * @param <B> the type of the second element of the triples
+     * @param <C> the type of the third element of the triples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @return a JSON codec for triples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C> JsonTupleCodec<Triple<A, B, C>> of(
+            JsonCodec<A> first, JsonCodec<B> second, JsonCodec<C> third) {
+        return new JsonTupleCodec<>(first, second, third);
+    }
+
+    /**
+     * Returns a JSON codec for quadruples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the quadruples
+     * @param <B> the type of the second element of the quadruples
+     * @param <C> the type of the third element of the quadruples
+     * @param <D> the type of the fourth element of the quadruples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @return a JSON codec for quadruples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D> JsonTupleCodec<Quadruple<A, B, C, D>> of(
+            JsonCodec<A> first, JsonCodec<B> second, JsonCodec<C> third,
+            JsonCodec<D> fourth) {
+        return new JsonTupleCodec<>(first, second, third, fourth);
+    }
+
+    /**
+     * Returns a JSON codec for quintuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the quintuples
+     * @param <B> the type of the second element of the quintuples
+     * @param <C> the type of the third element of the quintuples
+     * @param <D> the type of the fourth element of the quintuples
+     * @param <E> the type of the fifth element of the quintuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @return a JSON codec for quintuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E>
+            JsonTupleCodec<Quintuple<A, B, C, D, E>> of(JsonCodec<A> first,
+                    JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Returns a JSON codec for sextuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the sextuples
+     * @param <B> the type of the second element of the sextuples
+     * @param <C> the type of the third element of the sextuples
+     * @param <D> the type of the fourth element of the sextuples
+     * @param <E> the type of the fifth element of the sextuples
+     * @param <F> the type of the sixth element of the sextuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @return a JSON codec for sextuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F>
+            JsonTupleCodec<Sextuple<A, B, C, D, E, F>> of(JsonCodec<A> first,
+                    JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth,
+                    JsonCodec<F> sixth) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Returns a JSON codec for septuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the septuples
+     * @param <B> the type of the second element of the septuples
+     * @param <C> the type of the third element of the septuples
+     * @param <D> the type of the fourth element of the septuples
+     * @param <E> the type of the fifth element of the septuples
+     * @param <F> the type of the sixth element of the septuples
+     * @param <G> the type of the seventh element of the septuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @return a JSON codec for septuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G>
+            JsonTupleCodec<Septuple<A, B, C, D, E, F, G>> of(JsonCodec<A> first,
+                    JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth, JsonCodec<F> sixth,
+                    JsonCodec<G> seventh) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh);
+    }
+
+    /**
+     * Returns a JSON codec for octuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the octuples
+     * @param <B> the type of the second element of the octuples
+     * @param <C> the type of the third element of the octuples
+     * @param <D> the type of the fourth element of the octuples
+     * @param <E> the type of the fifth element of the octuples
+     * @param <F> the type of the sixth element of the octuples
+     * @param <G> the type of the seventh element of the octuples
+     * @param <H> the type of the eighth element of the octuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @return a JSON codec for octuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            JsonTupleCodec<Octuple<A, B, C, D, E, F, G, H>> of(
+                    JsonCodec<A> first, JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth, JsonCodec<F> sixth,
+                    JsonCodec<G> seventh, JsonCodec<H> eighth) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth);
+    }
+
+    /**
+     * Returns a JSON codec for nonuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the nonuples
+     * @param <B> the type of the second element of the nonuples
+     * @param <C> the type of the third element of the nonuples
+     * @param <D> the type of the fourth element of the nonuples
+     * @param <E> the type of the fifth element of the nonuples
+     * @param <F> the type of the sixth element of the nonuples
+     * @param <G> the type of the seventh element of the nonuples
+     * @param <H> the type of the eighth element of the nonuples
+     * @param <I> the type of the ninth element of the nonuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @param ninth the codec of the ninth element
+     * @return a JSON codec for nonuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            JsonTupleCodec<Nonuple<A, B, C, D, E, F, G, H, I>> of(
+                    JsonCodec<A> first, JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth, JsonCodec<F> sixth,
+                    JsonCodec<G> seventh, JsonCodec<H> eighth,
+                    JsonCodec<I> ninth) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth);
+    }
+
+    /**
+     * Returns a JSON codec for decuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the decuples
+     * @param <B> the type of the second element of the decuples
+     * @param <C> the type of the third element of the decuples
+     * @param <D> the type of the fourth element of the decuples
+     * @param <E> the type of the fifth element of the decuples
+     * @param <F> the type of the sixth element of the decuples
+     * @param <G> the type of the seventh element of the decuples
+     * @param <H> the type of the eighth element of the decuples
+     * @param <I> the type of the ninth element of the decuples
+     * @param <J> the type of the tenth element of the decuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @param ninth the codec of the ninth element
+     * @param tenth the codec of the tenth element
+     * @return a JSON codec for decuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            JsonTupleCodec<Decuple<A, B, C, D, E, F, G, H, I, J>> of(
+                    JsonCodec<A> first, JsonCodec<B> second, JsonCodec<C> third,
+                    JsonCodec<D> fourth, JsonCodec<E> fifth, JsonCodec<F> sixth,
+                    JsonCodec<G> seventh, JsonCodec<H> eighth,
+                    JsonCodec<I> ninth, JsonCodec<J> tenth) {
+        return new JsonTupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth, tenth);
+    }
+
+
+    /**
+     * Returns the arity of the tuples encoded by this codec.
+     * @return the number of element codecs of this codec
+     */
+    public int arity() {
+        return codecs.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the arity of the tuple is not
+     *         the arity of this codec
+     */
+    @Override
+    public void write(Writer out, T value) throws IOException {
+        if (value.arity() != codecs.length) {
+            throw new IllegalArgumentException("Expected arity "
+                    + codecs.length + ", found " + value.arity());
+        }
+        out.write('[');
+        for (int i = 0; i < codecs.length; ++i) {
+            if (i > 0) {
+                out.write(',');
+            }
+            codec(i).write(out, AbstractTuple.elementOf(value, i));
+        }
+        out.write(']');
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the next value is not an array
+     *         with as many elements as the arity of this codec
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read(JsonReader in) throws IOException {
+        in.beginArray();
+        T tuple;
+        switch (codecs.length) {
+            case 2:
+                tuple = (T) new Pair<>(read(in, 0), read(in, 1));
+                break;
+            case 3:
+                tuple = (T) new Triple<>(read(in, 0), read(in, 1), read(in, 2));
+                break;
+            case 4:
+                tuple = (T) new Quadruple<>(read(in, 0), read(in, 1),
+                        read(in, 2), read(in, 3));
+                break;
+            case 5:
+                tuple = (T) new Quintuple<>(read(in, 0), read(in, 1),
+                        read(in, 2), read(in, 3), read(in, 4));
+                break;
+            case 6:
+                tuple = (T) new Sextuple<>(read(in, 0), read(in, 1),
+                        read(in, 2), read(in, 3), read(in, 4), read(in, 5));
+                break;
+            case 7:
+                tuple = (T) new Septuple<>(read(in, 0), read(in, 1),
+                        read(in, 2), read(in, 3), read(in, 4), read(in, 5),
+                        read(in, 6));
+                break;
+            case 8:
+                tuple = (T) new Octuple<>(read(in, 0), read(in, 1), read(in, 2),
+                        read(in, 3), read(in, 4), read(in, 5), read(in, 6),
+                        read(in, 7));
+                break;
+            case 9:
+                tuple = (T) new Nonuple<>(read(in, 0), read(in, 1), read(in, 2),
+                        read(in, 3), read(in, 4), read(in, 5), read(in, 6),
+                        read(in, 7), read(in, 8));
+                break;
+            case 10:
+                tuple = (T) new Decuple<>(read(in, 0), read(in, 1), read(in, 2),
+                        read(in, 3), read(in, 4), read(in, 5), read(in, 6),
+                        read(in, 7), read(in, 8), read(in, 9));
+                break;
+            default:
+                throw new AssertionError();
+        }
+        in.endArray();
+        return tuple;
+    }
+
+    /**
+     * Writes the given tuples as a JSON array of arrays.
+     * The writer is neither flushed nor closed.
+     * @param out the writer to write to
+     * @param tuples the tuples to write
+     * @throws IOException if the writer fails
+     * @throws NullPointerException if any of the tuples is null
+     * @throws IllegalArgumentException if the arity of any of the tuples
+     *         is not the arity of this codec
+     */
+    public void writeAll(Writer out, Iterable<? extends T> tuples)
+            throws IOException {
+        out.write('[');
+        boolean first = true;
+        for (T tuple : tuples) {
+            if (!first) {
+                out.write(',');
+            }
+            write(out, tuple);
+            first = false;
+        }
+        out.write(']');
+    }
+
+    /**
+     * Writes the given tuples as a JSON array of arrays, encoded as UTF-8.
+     * The stream is flushed, but not closed.
+     * @param out the stream to write to
+     * @param tuples the tuples to write
+     * @throws IOException if the stream fails
+     * @throws NullPointerException if any of the tuples is null
+     * @throws IllegalArgumentException if the arity of any of the tuples
+     *         is not the arity of this codec
+     */
+    public void writeAll(OutputStream out, Iterable<? extends T> tuples)
+            throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeAll(writer, tuples);
+        writer.flush();
+    }
+
+    /**
+     * Reads a JSON array of arrays, passing each of the resulting tuples
+     * to the given action, in order, as soon as it is read.
+     * @param in the reader to read from
+     * @param action the action to perform for each tuple
+     * @throws IOException if the underlying reader fails
+     * @throws IllegalArgumentException if the next value is not an array
+     *         of arrays with as many elements as the arity of this codec
+     */
+    public void readAll(JsonReader in, Consumer<? super T> action)
+            throws IOException {
+        Objects.requireNonNull(action);
+        in.beginArray();
+        while (in.hasNext()) {
+            action.accept(read(in));
+        }
+        in.endArray();
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private JsonCodec<Object> codec(int index) {
+        return (JsonCodec<Object>) codecs[index];
+    }
+
+    private Object read(JsonReader in, int index) throws IOException {
+        return codecs[index].read(in);
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a decuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy decuple is equal to any {@code Decuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the decuple
+ * @param <B> the type of the second element of the decuple
+ * @param <C> the type of the third element of the decuple
+ * @param <D> the type of the fourth element of the decuple
+ * @param <E> the type of the fifth element of the decuple
+ * @param <F> the type of the sixth element of the decuple
+ * @param <G> the type of the seventh element of the decuple
+ * @param <H> the type of the eighth element of the decuple
+ * @param <I> the type of the ninth element of the decuple
+ * @param <J> the type of the tenth element of the decuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyDecuple<A, B, C, D, E, F, G, H, I, J> extends LazyTuple {
+    /**
+     * Returns a new lazy decuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @param sixth the supplier of the sixth member
+     * @param seventh the supplier of the seventh member
+     * @param eighth the supplier of the eighth member
+     * @param ninth the supplier of the ninth member
+     * @param tenth the supplier of the tenth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyDecuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+            Supplier<? extends F> sixth, Supplier<? extends G> seventh,
+            Supplier<? extends H> eighth, Supplier<? extends I> ninth,
+            Supplier<? extends J> tenth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth), thunk(sixth), thunk(seventh),
+            thunk(eighth), thunk(ninth), thunk(tenth)});
+    }
+
+    /**
+     * Returns a new lazy decuple, with the members of the given decuple.
+     * All members of the new decuple are already evaluated.
+     * @param decuple the decuple with the members of the new decuple
+     * @throws NullPointerException if the decuple is null
+     */
+    public LazyDecuple(Decuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E, ? extends F, ? extends G, ? extends H,
+            ? extends I, ? extends J> decuple) {
+        this(values(decuple));
+    }
+
+    private LazyDecuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this decuple, computing it if needed.
+     * @return the first member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this decuple, computing it if needed.
+     * @return the second member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this decuple, computing it if needed.
+     * @return the third member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this decuple, computing it if needed.
+     * @return the fourth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this decuple, computing it if needed.
+     * @return the fifth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * Returns the sixth member of this decuple, computing it if needed.
+     * @return the sixth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public F sixth() {
+        return (F) valueOf(slots[5]);
+    }
+
+    /**
+     * Returns the seventh member of this decuple, computing it if needed.
+     * @return the seventh member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public G seventh() {
+        return (G) valueOf(slots[6]);
+    }
+
+    /**
+     * Returns the eighth member of this decuple, computing it if needed.
+     * @return the eighth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public H eighth() {
+        return (H) valueOf(slots[7]);
+    }
+
+    /**
+     * Returns the ninth member of this decuple, computing it if needed.
+     * @return the ninth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public I ninth() {
+        return (I) valueOf(slots[8]);
+    }
+
+    /**
+     * Returns the tenth member of this decuple, computing it if needed.
+     * @return the tenth member of the decuple
+     */
+    @SuppressWarnings("unchecked")
+    public J tenth() {
+        return (J) valueOf(slots[9]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyDecuple<J, I, H, G, F, E, D, C, B, A> invert() {
+        return new LazyDecuple<>(new Object[]{slots[9], slots[8], slots[7],
+            slots[6], slots[5], slots[4], slots[3], slots[2], slots[1],
+            slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyDecuple<B, C, D, E, F, G, H, I, J, A> shiftLeft() {
+        return new LazyDecuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], slots[8], slots[9],
+            slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyDecuple<B, C, D, E, F, G, H, I, J, V> shiftLeft(V value) {
+        return new LazyDecuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], slots[8], slots[9], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyDecuple<J, A, B, C, D, E, F, G, H, I> shiftRight() {
+        return new LazyDecuple<>(new Object[]{slots[9], slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6], slots[7],
+            slots[8]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyDecuple<V, A, B, C, D, E, F, G, H, I> shiftRight(V value) {
+        return new LazyDecuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6], slots[7],
+            slots[8]});
+    }
+
+
+    /**
+     * Returns an eager decuple with the members of this decuple,
+     * computing all of them.
+     * @return a decuple equal to this lazy decuple
+     */
+    public Decuple<A, B, C, D, E, F, G, H, I, J> evaluate() {
+        return new Decuple<>(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth(), ninth(), tenth());
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the first member of this
+     * decuple.
+     * The first member of the new decuple is the result of applying the
+     * given function to the first member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy decuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<R, B, C, D, E, F, G, H, I, J> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the second member of this
+     * decuple.
+     * The second member of the new decuple is the result of applying the
+     * given function to the second member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy decuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, R, C, D, E, F, G, H, I, J> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the third member of this
+     * decuple.
+     * The third member of the new decuple is the result of applying the
+     * given function to the third member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy decuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, R, D, E, F, G, H, I, J> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the fourth member of this
+     * decuple.
+     * The fourth member of the new decuple is the result of applying the
+     * given function to the fourth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy decuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, R, E, F, G, H, I, J> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the fifth member of this
+     * decuple.
+     * The fifth member of the new decuple is the result of applying the
+     * given function to the fifth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy decuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, R, F, G, H, I, J> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the sixth member of this
+     * decuple.
+     * The sixth member of the new decuple is the result of applying the
+     * given function to the sixth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the sixth member
+     * @return a lazy decuple with the result of the function as the sixth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, E, R, G, H, I, J> applySixth(
+            Function<F, R> function) {
+        Object[] copy = slots.clone();
+        copy[5] = mapped(copy[5], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the seventh member of this
+     * decuple.
+     * The seventh member of the new decuple is the result of applying the
+     * given function to the seventh member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the seventh member
+     * @return a lazy decuple with the result of the function as the seventh
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, E, F, R, H, I, J> applySeventh(
+            Function<G, R> function) {
+        Object[] copy = slots.clone();
+        copy[6] = mapped(copy[6], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the eighth member of this
+     * decuple.
+     * The eighth member of the new decuple is the result of applying the
+     * given function to the eighth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the eighth member
+     * @return a lazy decuple with the result of the function as the eighth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, E, F, G, R, I, J> applyEighth(
+            Function<H, R> function) {
+        Object[] copy = slots.clone();
+        copy[7] = mapped(copy[7], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the ninth member of this
+     * decuple.
+     * The ninth member of the new decuple is the result of applying the
+     * given function to the ninth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the ninth member
+     * @return a lazy decuple with the result of the function as the ninth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, E, F, G, H, R, J> applyNinth(
+            Function<I, R> function) {
+        Object[] copy = slots.clone();
+        copy[8] = mapped(copy[8], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy decuple, transforming the tenth member of this
+     * decuple.
+     * The tenth member of the new decuple is the result of applying the
+     * given function to the tenth member of this decuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this decuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the tenth member
+     * @return a lazy decuple with the result of the function as the tenth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyDecuple<A, B, C, D, E, F, G, H, I, R> applyTenth(
+            Function<J, R> function) {
+        Object[] copy = slots.clone();
+        copy[9] = mapped(copy[9], function);
+        return new LazyDecuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this decuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this decuple
+     * @return the function's result
+     */
+    public <R> R apply(DecaFunction<A, B, C, D, E, F, G, H, I, J, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth(), ninth(), tenth());
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a nonuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy nonuple is equal to any {@code Nonuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the nonuple
+ * @param <B> the type of the second element of the nonuple
+ * @param <C> the type of the third element of the nonuple
+ * @param <D> the type of the fourth element of the nonuple
+ * @param <E> the type of the fifth element of the nonuple
+ * @param <F> the type of the sixth element of the nonuple
+ * @param <G> the type of the seventh element of the nonuple
+ * @param <H> the type of the eighth element of the nonuple
+ * @param <I> the type of the ninth element of the nonuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyNonuple<A, B, C, D, E, F, G, H, I> extends LazyTuple {
+    /**
+     * Returns a new lazy nonuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @param sixth the supplier of the sixth member
+     * @param seventh the supplier of the seventh member
+     * @param eighth the supplier of the eighth member
+     * @param ninth the supplier of the ninth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyNonuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+            Supplier<? extends F> sixth, Supplier<? extends G> seventh,
+            Supplier<? extends H> eighth, Supplier<? extends I> ninth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth), thunk(sixth), thunk(seventh),
+            thunk(eighth), thunk(ninth)});
+    }
+
+    /**
+     * Returns a new lazy nonuple, with the members of the given nonuple.
+     * All members of the new nonuple are already evaluated.
+     * @param nonuple the nonuple with the members of the new nonuple
+     * @throws NullPointerException if the nonuple is null
+     */
+    public LazyNonuple(Nonuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E, ? extends F, ? extends G, ? extends H,
+            ? extends I> nonuple) {
+        this(values(nonuple));
+    }
+
+    private LazyNonuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this nonuple, computing it if needed.
+     * @return the first member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this nonuple, computing it if needed.
+     * @return the second member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this nonuple, computing it if needed.
+     * @return the third member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this nonuple, computing it if needed.
+     * @return the fourth member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this nonuple, computing it if needed.
+     * @return the fifth member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * Returns the sixth member of this nonuple, computing it if needed.
+     * @return the sixth member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public F sixth() {
+        return (F) valueOf(slots[5]);
+    }
+
+    /**
+     * Returns the seventh member of this nonuple, computing it if needed.
+     * @return the seventh member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public G seventh() {
+        return (G) valueOf(slots[6]);
+    }
+
+    /**
+     * Returns the eighth member of this nonuple, computing it if needed.
+     * @return the eighth member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public H eighth() {
+        return (H) valueOf(slots[7]);
+    }
+
+    /**
+     * Returns the ninth member of this nonuple, computing it if needed.
+     * @return the ninth member of the nonuple
+     */
+    @SuppressWarnings("unchecked")
+    public I ninth() {
+        return (I) valueOf(slots[8]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyNonuple<I, H, G, F, E, D, C, B, A> invert() {
+        return new LazyNonuple<>(new Object[]{slots[8], slots[7], slots[6],
+            slots[5], slots[4], slots[3], slots[2], slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyNonuple<B, C, D, E, F, G, H, I, A> shiftLeft() {
+        return new LazyNonuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], slots[8], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyNonuple<B, C, D, E, F, G, H, I, V> shiftLeft(V value) {
+        return new LazyNonuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], slots[8], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyNonuple<I, A, B, C, D, E, F, G, H> shiftRight() {
+        return new LazyNonuple<>(new Object[]{slots[8], slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6], slots[7]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyNonuple<V, A, B, C, D, E, F, G, H> shiftRight(V value) {
+        return new LazyNonuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6], slots[7]});
+    }
+
+
+    /**
+     * Returns an eager nonuple with the members of this nonuple,
+     * computing all of them.
+     * @return a nonuple equal to this lazy nonuple
+     */
+    public Nonuple<A, B, C, D, E, F, G, H, I> evaluate() {
+        return new Nonuple<>(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth(), ninth());
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the first member of this
+     * nonuple.
+     * The first member of the new nonuple is the result of applying the
+     * given function to the first member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy nonuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<R, B, C, D, E, F, G, H, I> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the second member of this
+     * nonuple.
+     * The second member of the new nonuple is the result of applying the
+     * given function to the second member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy nonuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, R, C, D, E, F, G, H, I> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the third member of this
+     * nonuple.
+     * The third member of the new nonuple is the result of applying the
+     * given function to the third member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy nonuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, R, D, E, F, G, H, I> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the fourth member of this
+     * nonuple.
+     * The fourth member of the new nonuple is the result of applying the
+     * given function to the fourth member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy nonuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, R, E, F, G, H, I> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the fifth member of this
+     * nonuple.
+     * The fifth member of the new nonuple is the result of applying the
+     * given function to the fifth member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy nonuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, D, R, F, G, H, I> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the sixth member of this
+     * nonuple.
+     * The sixth member of the new nonuple is the result of applying the
+     * given function to the sixth member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the sixth member
+     * @return a lazy nonuple with the result of the function as the sixth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, D, E, R, G, H, I> applySixth(
+            Function<F, R> function) {
+        Object[] copy = slots.clone();
+        copy[5] = mapped(copy[5], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the seventh member of this
+     * nonuple.
+     * The seventh member of the new nonuple is the result of applying the
+     * given function to the seventh member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the seventh member
+     * @return a lazy nonuple with the result of the function as the seventh
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, D, E, F, R, H, I> applySeventh(
+            Function<G, R> function) {
+        Object[] copy = slots.clone();
+        copy[6] = mapped(copy[6], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the eighth member of this
+     * nonuple.
+     * The eighth member of the new nonuple is the result of applying the
+     * given function to the eighth member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the eighth member
+     * @return a lazy nonuple with the result of the function as the eighth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, D, E, F, G, R, I> applyEighth(
+            Function<H, R> function) {
+        Object[] copy = slots.clone();
+        copy[7] = mapped(copy[7], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy nonuple, transforming the ninth member of this
+     * nonuple.
+     * The ninth member of the new nonuple is the result of applying the
+     * given function to the ninth member of this nonuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this nonuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the ninth member
+     * @return a lazy nonuple with the result of the function as the ninth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyNonuple<A, B, C, D, E, F, G, H, R> applyNinth(
+            Function<I, R> function) {
+        Object[] copy = slots.clone();
+        copy[8] = mapped(copy[8], function);
+        return new LazyNonuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this nonuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this nonuple
+     * @return the function's result
+     */
+    public <R> R apply(EnneaFunction<A, B, C, D, E, F, G, H, I, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth(), ninth());
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents an octuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy octuple is equal to any {@code Octuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the octuple
+ * @param <B> the type of the second element of the octuple
+ * @param <C> the type of the third element of the octuple
+ * @param <D> the type of the fourth element of the octuple
+ * @param <E> the type of the fifth element of the octuple
+ * @param <F> the type of the sixth element of the octuple
+ * @param <G> the type of the seventh element of the octuple
+ * @param <H> the type of the eighth element of the octuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyOctuple<A, B, C, D, E, F, G, H> extends LazyTuple {
+    /**
+     * Returns a new lazy octuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @param sixth the supplier of the sixth member
+     * @param seventh the supplier of the seventh member
+     * @param eighth the supplier of the eighth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyOctuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+            Supplier<? extends F> sixth, Supplier<? extends G> seventh,
+            Supplier<? extends H> eighth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth), thunk(sixth), thunk(seventh),
+            thunk(eighth)});
+    }
+
+    /**
+     * Returns a new lazy octuple, with the members of the given octuple.
+     * All members of the new octuple are already evaluated.
+     * @param octuple the octuple with the members of the new octuple
+     * @throws NullPointerException if the octuple is null
+     */
+    public LazyOctuple(Octuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E, ? extends F, ? extends G,
+            ? extends H> octuple) {
+        this(values(octuple));
+    }
+
+    private LazyOctuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this octuple, computing it if needed.
+     * @return the first member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this octuple, computing it if needed.
+     * @return the second member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this octuple, computing it if needed.
+     * @return the third member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this octuple, computing it if needed.
+     * @return the fourth member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this octuple, computing it if needed.
+     * @return the fifth member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * Returns the sixth member of this octuple, computing it if needed.
+     * @return the sixth member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public F sixth() {
+        return (F) valueOf(slots[5]);
+    }
+
+    /**
+     * Returns the seventh member of this octuple, computing it if needed.
+     * @return the seventh member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public G seventh() {
+        return (G) valueOf(slots[6]);
+    }
+
+    /**
+     * Returns the eighth member of this octuple, computing it if needed.
+     * @return the eighth member of the octuple
+     */
+    @SuppressWarnings("unchecked")
+    public H eighth() {
+        return (H) valueOf(slots[7]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyOctuple<H, G, F, E, D, C, B, A> invert() {
+        return new LazyOctuple<>(new Object[]{slots[7], slots[6], slots[5],
+            slots[4], slots[3], slots[2], slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyOctuple<B, C, D, E, F, G, H, A> shiftLeft() {
+        return new LazyOctuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyOctuple<B, C, D, E, F, G, H, V> shiftLeft(V value) {
+        return new LazyOctuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[7], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyOctuple<H, A, B, C, D, E, F, G> shiftRight() {
+        return new LazyOctuple<>(new Object[]{slots[7], slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyOctuple<V, A, B, C, D, E, F, G> shiftRight(V value) {
+        return new LazyOctuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5], slots[6]});
+    }
+
+
+    /**
+     * Returns an eager octuple with the members of this octuple,
+     * computing all of them.
+     * @return an octuple equal to this lazy octuple
+     */
+    public Octuple<A, B, C, D, E, F, G, H> evaluate() {
+        return new Octuple<>(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth());
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the first member of this
+     * octuple.
+     * The first member of the new octuple is the result of applying the
+     * given function to the first member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy octuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<R, B, C, D, E, F, G, H> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the second member of this
+     * octuple.
+     * The second member of the new octuple is the result of applying the
+     * given function to the second member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy octuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, R, C, D, E, F, G, H> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the third member of this
+     * octuple.
+     * The third member of the new octuple is the result of applying the
+     * given function to the third member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy octuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, R, D, E, F, G, H> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the fourth member of this
+     * octuple.
+     * The fourth member of the new octuple is the result of applying the
+     * given function to the fourth member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy octuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, C, R, E, F, G, H> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the fifth member of this
+     * octuple.
+     * The fifth member of the new octuple is the result of applying the
+     * given function to the fifth member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy octuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, C, D, R, F, G, H> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the sixth member of this
+     * octuple.
+     * The sixth member of the new octuple is the result of applying the
+     * given function to the sixth member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the sixth member
+     * @return a lazy octuple with the result of the function as the sixth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, C, D, E, R, G, H> applySixth(
+            Function<F, R> function) {
+        Object[] copy = slots.clone();
+        copy[5] = mapped(copy[5], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the seventh member of this
+     * octuple.
+     * The seventh member of the new octuple is the result of applying the
+     * given function to the seventh member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the seventh member
+     * @return a lazy octuple with the result of the function as the seventh
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, C, D, E, F, R, H> applySeventh(
+            Function<G, R> function) {
+        Object[] copy = slots.clone();
+        copy[6] = mapped(copy[6], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy octuple, transforming the eighth member of this
+     * octuple.
+     * The eighth member of the new octuple is the result of applying the
+     * given function to the eighth member of this octuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this octuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the eighth member
+     * @return a lazy octuple with the result of the function as the eighth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyOctuple<A, B, C, D, E, F, G, R> applyEighth(
+            Function<H, R> function) {
+        Object[] copy = slots.clone();
+        copy[7] = mapped(copy[7], function);
+        return new LazyOctuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this octuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this octuple
+     * @return the function's result
+     */
+    public <R> R apply(OctaFunction<A, B, C, D, E, F, G, H, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh(), eighth());
+    }
+}
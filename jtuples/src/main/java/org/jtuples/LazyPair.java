@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a pair whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy pair is equal to any {@code Pair} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the pair
+ * @param <B> the type of the second element of the pair
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyPair<A, B> extends LazyTuple {
+    /**
+     * Returns a new lazy pair, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyPair(Supplier<? extends A> first, Supplier<? extends B> second) {
+        this(new Object[]{thunk(first), thunk(second)});
+    }
+
+    /**
+     * Returns a new lazy pair, with the members of the given pair.
+     * All members of the new pair are already evaluated.
+     * @param pair the pair with the members of the new pair
+     * @throws NullPointerException if the pair is null
+     */
+    public LazyPair(Pair<? extends A, ? extends B> pair) {
+        this(values(pair));
+    }
+
+    private LazyPair(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this pair, computing it if needed.
+     * @return the first member of the pair
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this pair, computing it if needed.
+     * @return the second member of the pair
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyPair<B, A> invert() {
+        return new LazyPair<>(new Object[]{slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyPair<B, A> shiftLeft() {
+        return new LazyPair<>(new Object[]{slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyPair<B, V> shiftLeft(V value) {
+        return new LazyPair<>(new Object[]{slots[1], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyPair<B, A> shiftRight() {
+        return new LazyPair<>(new Object[]{slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyPair<V, A> shiftRight(V value) {
+        return new LazyPair<>(new Object[]{value, slots[0]});
+    }
+
+
+    /**
+     * Returns an eager pair with the members of this pair,
+     * computing all of them.
+     * @return a pair equal to this lazy pair
+     */
+    public Pair<A, B> evaluate() {
+        return new Pair<>(first(), second());
+    }
+
+    /**
+     * Returns a new lazy pair, transforming the first member of this
+     * pair.
+     * The first member of the new pair is the result of applying the
+     * given function to the first member of this pair, computed when
+     * it is first accessed.
+     * The remaining members are shared with this pair.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy pair with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyPair<R, B> applyFirst(Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyPair<>(copy);
+    }
+
+    /**
+     * Returns a new lazy pair, transforming the second member of this
+     * pair.
+     * The second member of the new pair is the result of applying the
+     * given function to the second member of this pair, computed when
+     * it is first accessed.
+     * The remaining members are shared with this pair.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy pair with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyPair<A, R> applySecond(Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyPair<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this pair,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this pair
+     * @return the function's result
+     */
+    public <R> R apply(BiFunction<A, B, R> function) {
+        return function.apply(first(), second());
+    }
+}
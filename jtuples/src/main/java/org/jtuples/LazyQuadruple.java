@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a quadruple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy quadruple is equal to any {@code Quadruple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the quadruple
+ * @param <B> the type of the second element of the quadruple
+ * @param <C> the type of the third element of the quadruple
+ * @param <D> the type of the fourth element of the quadruple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyQuadruple<A, B, C, D> extends LazyTuple {
+    /**
+     * Returns a new lazy quadruple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyQuadruple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth)});
+    }
+
+    /**
+     * Returns a new lazy quadruple, with the members of the given quadruple.
+     * All members of the new quadruple are already evaluated.
+     * @param quadruple the quadruple with the members of the new quadruple
+     * @throws NullPointerException if the quadruple is null
+     */
+    public LazyQuadruple(Quadruple<? extends A, ? extends B, ? extends C,
+            ? extends D> quadruple) {
+        this(values(quadruple));
+    }
+
+    private LazyQuadruple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this quadruple, computing it if needed.
+     * @return the first member of the quadruple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this quadruple, computing it if needed.
+     * @return the second member of the quadruple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this quadruple, computing it if needed.
+     * @return the third member of the quadruple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this quadruple, computing it if needed.
+     * @return the fourth member of the quadruple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuadruple<D, C, B, A> invert() {
+        return new LazyQuadruple<>(new Object[]{slots[3], slots[2], slots[1],
+            slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuadruple<B, C, D, A> shiftLeft() {
+        return new LazyQuadruple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyQuadruple<B, C, D, V> shiftLeft(V value) {
+        return new LazyQuadruple<>(new Object[]{slots[1], slots[2], slots[3],
+            value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuadruple<D, A, B, C> shiftRight() {
+        return new LazyQuadruple<>(new Object[]{slots[3], slots[0], slots[1],
+            slots[2]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyQuadruple<V, A, B, C> shiftRight(V value) {
+        return new LazyQuadruple<>(new Object[]{value, slots[0], slots[1],
+            slots[2]});
+    }
+
+
+    /**
+     * Returns an eager quadruple with the members of this quadruple,
+     * computing all of them.
+     * @return a quadruple equal to this lazy quadruple
+     */
+    public Quadruple<A, B, C, D> evaluate() {
+        return new Quadruple<>(first(), second(), third(), fourth());
+    }
+
+    /**
+     * Returns a new lazy quadruple, transforming the first member of this
+     * quadruple.
+     * The first member of the new quadruple is the result of applying the
+     * given function to the first member of this quadruple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quadruple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy quadruple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuadruple<R, B, C, D> applyFirst(Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyQuadruple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quadruple, transforming the second member of this
+     * quadruple.
+     * The second member of the new quadruple is the result of applying the
+     * given function to the second member of this quadruple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quadruple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy quadruple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuadruple<A, R, C, D> applySecond(Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyQuadruple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quadruple, transforming the third member of this
+     * quadruple.
+     * The third member of the new quadruple is the result of applying the
+     * given function to the third member of this quadruple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quadruple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy quadruple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuadruple<A, B, R, D> applyThird(Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyQuadruple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quadruple, transforming the fourth member of this
+     * quadruple.
+     * The fourth member of the new quadruple is the result of applying the
+     * given function to the fourth member of this quadruple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quadruple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy quadruple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuadruple<A, B, C, R> applyFourth(Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazyQuadruple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this quadruple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this quadruple
+     * @return the function's result
+     */
+    public <R> R apply(TetraFunction<A, B, C, D, R> function) {
+        return function.apply(first(), second(), third(), fourth());
+    }
+}
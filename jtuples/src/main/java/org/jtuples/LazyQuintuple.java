@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a quintuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy quintuple is equal to any {@code Quintuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the quintuple
+ * @param <B> the type of the second element of the quintuple
+ * @param <C> the type of the third element of the quintuple
+ * @param <D> the type of the fourth element of the quintuple
+ * @param <E> the type of the fifth element of the quintuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyQuintuple<A, B, C, D, E> extends LazyTuple {
+    /**
+     * Returns a new lazy quintuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyQuintuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth)});
+    }
+
+    /**
+     * Returns a new lazy quintuple, with the members of the given quintuple.
+     * All members of the new quintuple are already evaluated.
+     * @param quintuple the quintuple with the members of the new quintuple
+     * @throws NullPointerException if the quintuple is null
+     */
+    public LazyQuintuple(Quintuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E> quintuple) {
+        this(values(quintuple));
+    }
+
+    private LazyQuintuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this quintuple, computing it if needed.
+     * @return the first member of the quintuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this quintuple, computing it if needed.
+     * @return the second member of the quintuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this quintuple, computing it if needed.
+     * @return the third member of the quintuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this quintuple, computing it if needed.
+     * @return the fourth member of the quintuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this quintuple, computing it if needed.
+     * @return the fifth member of the quintuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuintuple<E, D, C, B, A> invert() {
+        return new LazyQuintuple<>(new Object[]{slots[4], slots[3], slots[2],
+            slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuintuple<B, C, D, E, A> shiftLeft() {
+        return new LazyQuintuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyQuintuple<B, C, D, E, V> shiftLeft(V value) {
+        return new LazyQuintuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyQuintuple<E, A, B, C, D> shiftRight() {
+        return new LazyQuintuple<>(new Object[]{slots[4], slots[0], slots[1],
+            slots[2], slots[3]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyQuintuple<V, A, B, C, D> shiftRight(V value) {
+        return new LazyQuintuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3]});
+    }
+
+
+    /**
+     * Returns an eager quintuple with the members of this quintuple,
+     * computing all of them.
+     * @return a quintuple equal to this lazy quintuple
+     */
+    public Quintuple<A, B, C, D, E> evaluate() {
+        return new Quintuple<>(first(), second(), third(), fourth(), fifth());
+    }
+
+    /**
+     * Returns a new lazy quintuple, transforming the first member of this
+     * quintuple.
+     * The first member of the new quintuple is the result of applying the
+     * given function to the first member of this quintuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quintuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy quintuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuintuple<R, B, C, D, E> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyQuintuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quintuple, transforming the second member of this
+     * quintuple.
+     * The second member of the new quintuple is the result of applying the
+     * given function to the second member of this quintuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quintuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy quintuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuintuple<A, R, C, D, E> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyQuintuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quintuple, transforming the third member of this
+     * quintuple.
+     * The third member of the new quintuple is the result of applying the
+     * given function to the third member of this quintuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quintuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy quintuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuintuple<A, B, R, D, E> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyQuintuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quintuple, transforming the fourth member of this
+     * quintuple.
+     * The fourth member of the new quintuple is the result of applying the
+     * given function to the fourth member of this quintuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quintuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy quintuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuintuple<A, B, C, R, E> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazyQuintuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy quintuple, transforming the fifth member of this
+     * quintuple.
+     * The fifth member of the new quintuple is the result of applying the
+     * given function to the fifth member of this quintuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this quintuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy quintuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyQuintuple<A, B, C, D, R> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazyQuintuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this quintuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this quintuple
+     * @return the function's result
+     */
+    public <R> R apply(PentaFunction<A, B, C, D, E, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth());
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a septuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy septuple is equal to any {@code Septuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the septuple
+ * @param <B> the type of the second element of the septuple
+ * @param <C> the type of the third element of the septuple
+ * @param <D> the type of the fourth element of the septuple
+ * @param <E> the type of the fifth element of the septuple
+ * @param <F> the type of the sixth element of the septuple
+ * @param <G> the type of the seventh element of the septuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazySeptuple<A, B, C, D, E, F, G> extends LazyTuple {
+    /**
+     * Returns a new lazy septuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @param sixth the supplier of the sixth member
+     * @param seventh the supplier of the seventh member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazySeptuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+            Supplier<? extends F> sixth, Supplier<? extends G> seventh) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth), thunk(sixth), thunk(seventh)});
+    }
+
+    /**
+     * Returns a new lazy septuple, with the members of the given septuple.
+     * All members of the new septuple are already evaluated.
+     * @param septuple the septuple with the members of the new septuple
+     * @throws NullPointerException if the septuple is null
+     */
+    public LazySeptuple(Septuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E, ? extends F, ? extends G> septuple) {
+        this(values(septuple));
+    }
+
+    private LazySeptuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this septuple, computing it if needed.
+     * @return the first member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this septuple, computing it if needed.
+     * @return the second member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this septuple, computing it if needed.
+     * @return the third member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this septuple, computing it if needed.
+     * @return the fourth member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this septuple, computing it if needed.
+     * @return the fifth member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * Returns the sixth member of this septuple, computing it if needed.
+     * @return the sixth member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public F sixth() {
+        return (F) valueOf(slots[5]);
+    }
+
+    /**
+     * Returns the seventh member of this septuple, computing it if needed.
+     * @return the seventh member of the septuple
+     */
+    @SuppressWarnings("unchecked")
+    public G seventh() {
+        return (G) valueOf(slots[6]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySeptuple<G, F, E, D, C, B, A> invert() {
+        return new LazySeptuple<>(new Object[]{slots[6], slots[5], slots[4],
+            slots[3], slots[2], slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySeptuple<B, C, D, E, F, G, A> shiftLeft() {
+        return new LazySeptuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazySeptuple<B, C, D, E, F, G, V> shiftLeft(V value) {
+        return new LazySeptuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[6], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySeptuple<G, A, B, C, D, E, F> shiftRight() {
+        return new LazySeptuple<>(new Object[]{slots[6], slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazySeptuple<V, A, B, C, D, E, F> shiftRight(V value) {
+        return new LazySeptuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3], slots[4], slots[5]});
+    }
+
+
+    /**
+     * Returns an eager septuple with the members of this septuple,
+     * computing all of them.
+     * @return a septuple equal to this lazy septuple
+     */
+    public Septuple<A, B, C, D, E, F, G> evaluate() {
+        return new Septuple<>(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh());
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the first member of this
+     * septuple.
+     * The first member of the new septuple is the result of applying the
+     * given function to the first member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy septuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<R, B, C, D, E, F, G> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the second member of this
+     * septuple.
+     * The second member of the new septuple is the result of applying the
+     * given function to the second member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy septuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, R, C, D, E, F, G> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the third member of this
+     * septuple.
+     * The third member of the new septuple is the result of applying the
+     * given function to the third member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy septuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, B, R, D, E, F, G> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the fourth member of this
+     * septuple.
+     * The fourth member of the new septuple is the result of applying the
+     * given function to the fourth member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy septuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, B, C, R, E, F, G> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the fifth member of this
+     * septuple.
+     * The fifth member of the new septuple is the result of applying the
+     * given function to the fifth member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy septuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, B, C, D, R, F, G> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the sixth member of this
+     * septuple.
+     * The sixth member of the new septuple is the result of applying the
+     * given function to the sixth member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the sixth member
+     * @return a lazy septuple with the result of the function as the sixth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, B, C, D, E, R, G> applySixth(
+            Function<F, R> function) {
+        Object[] copy = slots.clone();
+        copy[5] = mapped(copy[5], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy septuple, transforming the seventh member of this
+     * septuple.
+     * The seventh member of the new septuple is the result of applying the
+     * given function to the seventh member of this septuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this septuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the seventh member
+     * @return a lazy septuple with the result of the function as the seventh
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySeptuple<A, B, C, D, E, F, R> applySeventh(
+            Function<G, R> function) {
+        Object[] copy = slots.clone();
+        copy[6] = mapped(copy[6], function);
+        return new LazySeptuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this septuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this septuple
+     * @return the function's result
+     */
+    public <R> R apply(HeptaFunction<A, B, C, D, E, F, G, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth(),
+                sixth(), seventh());
+    }
+}
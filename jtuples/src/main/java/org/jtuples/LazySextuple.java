@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a sextuple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy sextuple is equal to any {@code Sextuple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the sextuple
+ * @param <B> the type of the second element of the sextuple
+ * @param <C> the type of the third element of the sextuple
+ * @param <D> the type of the fourth element of the sextuple
+ * @param <E> the type of the fifth element of the sextuple
+ * @param <F> the type of the sixth element of the sextuple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazySextuple<A, B, C, D, E, F> extends LazyTuple {
+    /**
+     * Returns a new lazy sextuple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @param fourth the supplier of the fourth member
+     * @param fifth the supplier of the fifth member
+     * @param sixth the supplier of the sixth member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazySextuple(Supplier<? extends A> first,
+            Supplier<? extends B> second, Supplier<? extends C> third,
+            Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+            Supplier<? extends F> sixth) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third),
+            thunk(fourth), thunk(fifth), thunk(sixth)});
+    }
+
+    /**
+     * Returns a new lazy sextuple, with the members of the given sextuple.
+     * All members of the new sextuple are already evaluated.
+     * @param sextuple the sextuple with the members of the new sextuple
+     * @throws NullPointerException if the sextuple is null
+     */
+    public LazySextuple(Sextuple<? extends A, ? extends B, ? extends C,
+            ? extends D, ? extends E, ? extends F> sextuple) {
+        this(values(sextuple));
+    }
+
+    private LazySextuple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this sextuple, computing it if needed.
+     * @return the first member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this sextuple, computing it if needed.
+     * @return the second member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this sextuple, computing it if needed.
+     * @return the third member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * Returns the fourth member of this sextuple, computing it if needed.
+     * @return the fourth member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public D fourth() {
+        return (D) valueOf(slots[3]);
+    }
+
+    /**
+     * Returns the fifth member of this sextuple, computing it if needed.
+     * @return the fifth member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public E fifth() {
+        return (E) valueOf(slots[4]);
+    }
+
+    /**
+     * Returns the sixth member of this sextuple, computing it if needed.
+     * @return the sixth member of the sextuple
+     */
+    @SuppressWarnings("unchecked")
+    public F sixth() {
+        return (F) valueOf(slots[5]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySextuple<F, E, D, C, B, A> invert() {
+        return new LazySextuple<>(new Object[]{slots[5], slots[4], slots[3],
+            slots[2], slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySextuple<B, C, D, E, F, A> shiftLeft() {
+        return new LazySextuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazySextuple<B, C, D, E, F, V> shiftLeft(V value) {
+        return new LazySextuple<>(new Object[]{slots[1], slots[2], slots[3],
+            slots[4], slots[5], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazySextuple<F, A, B, C, D, E> shiftRight() {
+        return new LazySextuple<>(new Object[]{slots[5], slots[0], slots[1],
+            slots[2], slots[3], slots[4]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazySextuple<V, A, B, C, D, E> shiftRight(V value) {
+        return new LazySextuple<>(new Object[]{value, slots[0], slots[1],
+            slots[2], slots[3], slots[4]});
+    }
+
+
+    /**
+     * Returns an eager sextuple with the members of this sextuple,
+     * computing all of them.
+     * @return a sextuple equal to this lazy sextuple
+     */
+    public Sextuple<A, B, C, D, E, F> evaluate() {
+        return new Sextuple<>(first(), second(), third(), fourth(), fifth(),
+                sixth());
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the first member of this
+     * sextuple.
+     * The first member of the new sextuple is the result of applying the
+     * given function to the first member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy sextuple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<R, B, C, D, E, F> applyFirst(
+            Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the second member of this
+     * sextuple.
+     * The second member of the new sextuple is the result of applying the
+     * given function to the second member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy sextuple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<A, R, C, D, E, F> applySecond(
+            Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the third member of this
+     * sextuple.
+     * The third member of the new sextuple is the result of applying the
+     * given function to the third member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy sextuple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<A, B, R, D, E, F> applyThird(
+            Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the fourth member of this
+     * sextuple.
+     * The fourth member of the new sextuple is the result of applying the
+     * given function to the fourth member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fourth member
+     * @return a lazy sextuple with the result of the function as the fourth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<A, B, C, R, E, F> applyFourth(
+            Function<D, R> function) {
+        Object[] copy = slots.clone();
+        copy[3] = mapped(copy[3], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the fifth member of this
+     * sextuple.
+     * The fifth member of the new sextuple is the result of applying the
+     * given function to the fifth member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the fifth member
+     * @return a lazy sextuple with the result of the function as the fifth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<A, B, C, D, R, F> applyFifth(
+            Function<E, R> function) {
+        Object[] copy = slots.clone();
+        copy[4] = mapped(copy[4], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy sextuple, transforming the sixth member of this
+     * sextuple.
+     * The sixth member of the new sextuple is the result of applying the
+     * given function to the sixth member of this sextuple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this sextuple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the sixth member
+     * @return a lazy sextuple with the result of the function as the sixth
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazySextuple<A, B, C, D, E, R> applySixth(
+            Function<F, R> function) {
+        Object[] copy = slots.clone();
+        copy[5] = mapped(copy[5], function);
+        return new LazySextuple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this sextuple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this sextuple
+     * @return the function's result
+     */
+    public <R> R apply(HexaFunction<A, B, C, D, E, F, R> function) {
+        return function.apply(first(), second(), third(), fourth(), fifth(),
+                sixth());
+    }
+}
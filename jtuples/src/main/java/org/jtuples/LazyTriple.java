@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents a triple whose members are computed on first access.
+ * Each member is given either as a {@code Supplier}, which is called at
+ * most once, or as a value that is already known.
+ * A lazy triple is equal to any {@code Triple} with the same members.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first element of the triple
+ * @param <B> the type of the second element of the triple
+ * @param <C> the type of the third element of the triple
+ * @see org.jtuples.LazyTuple
+ */
+public final class LazyTriple<A, B, C> extends LazyTuple {
+    /**
+     * Returns a new lazy triple, computing each member with the given
+     * supplier on first access.
+     * @param first the supplier of the first member
+     * @param second the supplier of the second member
+     * @param third the supplier of the third member
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public LazyTriple(Supplier<? extends A> first, Supplier<? extends B> second,
+            Supplier<? extends C> third) {
+        this(new Object[]{thunk(first), thunk(second), thunk(third)});
+    }
+
+    /**
+     * Returns a new lazy triple, with the members of the given triple.
+     * All members of the new triple are already evaluated.
+     * @param triple the triple with the members of the new triple
+     * @throws NullPointerException if the triple is null
+     */
+    public LazyTriple(Triple<? extends A, ? extends B, ? extends C> triple) {
+        this(values(triple));
+    }
+
+    private LazyTriple(Object[] slots) {
+        super(slots);
+    }
+
+
+    /**
+     * Returns the first member of this triple, computing it if needed.
+     * @return the first member of the triple
+     */
+    @SuppressWarnings("unchecked")
+    public A first() {
+        return (A) valueOf(slots[0]);
+    }
+
+    /**
+     * Returns the second member of this triple, computing it if needed.
+     * @return the second member of the triple
+     */
+    @SuppressWarnings("unchecked")
+    public B second() {
+        return (B) valueOf(slots[1]);
+    }
+
+    /**
+     * Returns the third member of this triple, computing it if needed.
+     * @return the third member of the triple
+     */
+    @SuppressWarnings("unchecked")
+    public C third() {
+        return (C) valueOf(slots[2]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyTriple<C, B, A> invert() {
+        return new LazyTriple<>(new Object[]{slots[2], slots[1], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyTriple<B, C, A> shiftLeft() {
+        return new LazyTriple<>(new Object[]{slots[1], slots[2], slots[0]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyTriple<B, C, V> shiftLeft(V value) {
+        return new LazyTriple<>(new Object[]{slots[1], slots[2], value});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public LazyTriple<C, A, B> shiftRight() {
+        return new LazyTriple<>(new Object[]{slots[2], slots[0], slots[1]});
+    }
+
+    /**
+     * {@inheritDoc}
+     * No member is computed.
+     */
+    @Override
+    public <V> LazyTriple<V, A, B> shiftRight(V value) {
+        return new LazyTriple<>(new Object[]{value, slots[0], slots[1]});
+    }
+
+
+    /**
+     * Returns an eager triple with the members of this triple,
+     * computing all of them.
+     * @return a triple equal to this lazy triple
+     */
+    public Triple<A, B, C> evaluate() {
+        return new Triple<>(first(), second(), third());
+    }
+
+    /**
+     * Returns a new lazy triple, transforming the first member of this
+     * triple.
+     * The first member of the new triple is the result of applying the
+     * given function to the first member of this triple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this triple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the first member
+     * @return a lazy triple with the result of the function as the first
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyTriple<R, B, C> applyFirst(Function<A, R> function) {
+        Object[] copy = slots.clone();
+        copy[0] = mapped(copy[0], function);
+        return new LazyTriple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy triple, transforming the second member of this
+     * triple.
+     * The second member of the new triple is the result of applying the
+     * given function to the second member of this triple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this triple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the second member
+     * @return a lazy triple with the result of the function as the second
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyTriple<A, R, C> applySecond(Function<B, R> function) {
+        Object[] copy = slots.clone();
+        copy[1] = mapped(copy[1], function);
+        return new LazyTriple<>(copy);
+    }
+
+    /**
+     * Returns a new lazy triple, transforming the third member of this
+     * triple.
+     * The third member of the new triple is the result of applying the
+     * given function to the third member of this triple, computed when
+     * it is first accessed.
+     * The remaining members are shared with this triple.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform the third member
+     * @return a lazy triple with the result of the function as the third
+     *         member
+     * @throws NullPointerException if the function is null
+     */
+    public <R> LazyTriple<A, B, R> applyThird(Function<C, R> function) {
+        Object[] copy = slots.clone();
+        copy[2] = mapped(copy[2], function);
+        return new LazyTriple<>(copy);
+    }
+
+    /**
+     * Returns the result of applying the given function to this triple,
+     * computing all of its members.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this triple
+     * @return the function's result
+     */
+    public <R> R apply(TriFunction<A, B, C, R> function) {
+        return function.apply(first(), second(), third());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This class provides the storage shared by lazily evaluated tuples.
+ *
+ * Each slot of a lazy tuple holds either an element that is already known,
+ * or a pending computation that is run at most once, on first access,
+ * even when several threads read the slot at the same time.
+ * Reading a slot that was given a value at construction costs a single
+ * array read, just like an eager field; reading a computed slot after its
+ * first access costs one more volatile read.
+ *
+ * Derived tuples (inverted, shifted or transformed) share the pending
+ * computations of the tuple they came from, so an element is computed
+ * once for the whole family, whichever tuple reads it first.
+ * Equality is checked element by element, and stops at the first
+ * mismatch, so comparing two lazy tuples only computes the elements
+ * it needs to.
+ *
+ * @author Andre Santos
+ */
+public abstract class LazyTuple extends AbstractTuple {
+    final Object[] slots;
+
+    LazyTuple(Object[] slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int arity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns whether the element at the given position of this tuple
+     * has already been computed.
+     * Elements given directly at construction are always evaluated.
+     * @param position the one-based position of the element
+     * @return true if the element at the given position is available
+     *         without computation
+     * @throws IndexOutOfBoundsException if the position is not between
+     *         {@code 1} and the arity of this tuple
+     */
+    public final boolean isEvaluated(int position) {
+        if (position < 1 || position > slots.length) {
+            throw new IndexOutOfBoundsException("Position: " + position);
+        }
+        Object slot = slots[position - 1];
+        return !(slot instanceof Thunk) || ((Thunk) slot).isDone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * All elements of this tuple are computed.
+     */
+    @Override
+    public final Object[] toArray() {
+        Object[] array = new Object[slots.length];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = valueOf(slots[i]);
+        }
+        return array;
+    }
+
+    @Override
+    final Object element(int index) {
+        return valueOf(slots[index]);
+    }
+
+
+    static Object valueOf(Object slot) {
+        return slot instanceof Thunk ? ((Thunk) slot).get() : slot;
+    }
+
+    static Object thunk(Supplier<?> supplier) {
+        return new Thunk(Objects.requireNonNull(supplier));
+    }
+
+    static <T, R> Object mapped(Object slot, Function<T, R> function) {
+        Objects.requireNonNull(function);
+        @SuppressWarnings("unchecked")
+        Supplier<R> supplier = () -> function.apply((T) valueOf(slot));
+        return new Thunk(supplier);
+    }
+
+    static Object[] values(Tuple tuple) {
+        Object[] slots = new Object[tuple.arity()];
+        for (int i = 0; i < slots.length; ++i) {
+            slots[i] = elementOf(tuple, i);
+        }
+        return slots;
+    }
+
+
+    /**
+     * A computation run at most once.
+     * The supplier is dropped once the value is known, so that whatever
+     * it captured can be collected.
+     * If the supplier fails, the failure is propagated and the next access
+     * tries again.
+     */
+    static final class Thunk {
+        private Supplier<?> supplier;
+        private Object value;
+        private volatile boolean done;
+
+        Thunk(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        Object get() {
+            if (!done) {
+                synchronized (this) {
+                    if (!done) {
+                        value = supplier.get();
+                        supplier = null;
+                        done = true;
+                    }
+                }
+            }
+            return value;
+        }
+
+        boolean isDone() {
+            return done;
+        }
+    }
+}
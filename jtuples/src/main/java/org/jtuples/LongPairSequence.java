@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, compressed sequence of pairs of longs, sorted by their
+ * first members, such as postings {@code (docId, position)} or time
+ * series {@code (timestamp, value)}.
+ *
+ * Pairs are stored in blocks of {@value #BLOCK_SIZE}.
+ * The header of each block holds the first member of its first pair,
+ * and where the block starts; within a block, first members are stored
+ * as the difference from the previous one, and second members as the
+ * zig-zag encoded difference from the previous one, all as
+ * variable-length integers.
+ * Sorted and clustered values thus take one or two bytes per member,
+ * instead of the dozens of bytes of a {@code Pair<Long, Long>}.
+ *
+ * Pairs are decoded in order with a {@link Cursor}, which can also skip
+ * ahead to a given first member, using the block headers to jump over
+ * whole blocks without decoding them.
+ * Sequences are built with a {@link Builder}, obtained from
+ * {@link #builder()}.
+ * Sequences are safe for use by multiple threads; cursors are not.
+ *
+ * @author Andre Santos
+ */
+public final class LongPairSequence {
+    /**
+     * The number of pairs in each block of a sequence.
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private final byte[] data;
+    private final long[] blockKeys;
+    private final int[] blockOffsets;
+    private final int size;
+
+    private LongPairSequence(byte[] data, long[] blockKeys,
+            int[] blockOffsets, int size) {
+        this.data = data;
+        this.blockKeys = blockKeys;
+        this.blockOffsets = blockOffsets;
+        this.size = size;
+    }
+
+
+    /**
+     * Returns a new builder of sequences.
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+
+    /**
+     * Returns the number of pairs in this sequence.
+     * @return the size of this sequence
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes used to store the pairs of this
+     * sequence, including the block headers.
+     * @return the size of the encoded pairs, in bytes
+     */
+    public long sizeInBytes() {
+        return data.length + (long) blockKeys.length
+                * (Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Returns a new cursor over the pairs of this sequence, positioned
+     * before the first pair.
+     * @return a cursor over this sequence
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "LongPairSequence[size=" + size + "]";
+    }
+
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+
+    /**
+     * A sequential decoder of the pairs of a {@link LongPairSequence},
+     * obtained from {@link LongPairSequence#cursor()}.
+     * A cursor starts before the first pair, and moves forward with
+     * {@link #next()} or {@link #advance(long)}; the members of the
+     * current pair are returned as primitives.
+     * Cursors are not safe for use by multiple threads.
+     */
+    public final class Cursor {
+        private int index = -1;
+        private int position;
+        private long first;
+        private long second;
+
+        private Cursor() {
+        }
+
+
+        /**
+         * Moves this cursor to the next pair.
+         * @return true if there is a next pair, false if the cursor has
+         *         moved past the last pair
+         */
+        public boolean next() {
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+            ++index;
+            if (index % BLOCK_SIZE == 0) {
+                int block = index / BLOCK_SIZE;
+                position = blockOffsets[block];
+                first = blockKeys[block];
+                second = unZigZag(readVarLong());
+            } else {
+                first += readVarLong();
+                second += unZigZag(readVarLong());
+            }
+            return true;
+        }
+
+        /**
+         * Moves this cursor forward to the first pair whose first member
+         * is greater than or equal to the given target.
+         * If the current pair already satisfies it, the cursor does not
+         * move.
+         * Whole blocks whose pairs are all less than the target are
+         * skipped without being decoded.
+         * @param target the least first member to move to
+         * @return true if such a pair exists, false if the cursor has
+         *         moved past the last pair
+         */
+        public boolean advance(long target) {
+            if (index >= size) {
+                return false;
+            }
+            if (index >= 0 && first >= target) {
+                return true;
+            }
+            int block = lastBlockBefore(target);
+            if (block >= 0 && block * BLOCK_SIZE > index) {
+                index = block * BLOCK_SIZE - 1;
+            }
+            while (next()) {
+                if (first >= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the index of the current pair.
+         * @return the index of the current pair, -1 before the first pair,
+         *         or the size of the sequence after the last pair
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the first member of the current pair.
+         * @return the first member of the current pair
+         * @throws IllegalStateException if there is no current pair
+         */
+        public long first() {
+            checkCurrent();
+            return first;
+        }
+
+        /**
+         * Returns the second member of the current pair.
+         * @return the second member of the current pair
+         * @throws IllegalStateException if there is no current pair
+         */
+        public long second() {
+            checkCurrent();
+            return second;
+        }
+
+        /**
+         * Returns a new pair with the members of the current pair.
+         * @return the current pair
+         * @throws IllegalStateException if there is no current pair
+         */
+        public Pair<Long, Long> get() {
+            checkCurrent();
+            return new Pair<>(first, second);
+        }
+
+
+        private void checkCurrent() {
+            if (index < 0 || index >= size) {
+                throw new IllegalStateException("No current pair");
+            }
+        }
+
+        /**
+         * Returns the last block whose first key is less than the target,
+         * or -1 if there is none.
+         */
+        private int lastBlockBefore(long target) {
+            int lo = 0;
+            int hi = blockKeys.length - 1;
+            int found = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (blockKeys[mid] < target) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        private long readVarLong() {
+            byte[] d = data;
+            int p = position;
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = d[p++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            position = p;
+            return value;
+        }
+    }
+
+
+    /**
+     * A builder of {@link LongPairSequence}s, obtained from
+     * {@link LongPairSequence#builder()}.
+     * Pairs must be added in ascending order of their first members.
+     * A builder can go on adding pairs after building a sequence, and
+     * build more sequences, each with all the pairs added so far.
+     * Builders are not safe for use by multiple threads.
+     */
+    public static final class Builder {
+        private byte[] data = new byte[256];
+        private long[] blockKeys = new long[4];
+        private int[] blockOffsets = new int[4];
+        private int length;
+        private int size;
+        private long first;
+        private long second;
+
+        private Builder() {
+        }
+
+
+        /**
+         * Adds a pair at the end of the sequence.
+         * @param first the first member of the pair
+         * @param second the second member of the pair
+         * @return this builder
+         * @throws IllegalArgumentException if the first member is less
+         *         than the first member of the last pair added
+         */
+        public Builder add(long first, long second) {
+            if (size > 0 && first < this.first) {
+                throw new IllegalArgumentException("Pairs must be sorted: "
+                        + first + " after " + this.first);
+            }
+            if (size % BLOCK_SIZE == 0) {
+                int block = size / BLOCK_SIZE;
+                if (block == blockKeys.length) {
+                    blockKeys = Arrays.copyOf(blockKeys, block * 2);
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+                }
+                blockKeys[block] = first;
+                blockOffsets[block] = length;
+                writeVarLong(zigZag(second));
+            } else {
+                writeVarLong(first - this.first);
+                writeVarLong(zigZag(second - this.second));
+            }
+            this.first = first;
+            this.second = second;
+            ++size;
+            return this;
+        }
+
+        /**
+         * Returns a new sequence with all the pairs added so far.
+         * @return a sequence of the pairs added to this builder
+         */
+        public LongPairSequence build() {
+            int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            return new LongPairSequence(Arrays.copyOf(data, length),
+                    Arrays.copyOf(blockKeys, blocks),
+                    Arrays.copyOf(blockOffsets, blocks), size);
+        }
+
+
+        private void writeVarLong(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
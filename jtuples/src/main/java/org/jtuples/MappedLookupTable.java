@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, memory-mapped hash table, stored in a file written from
+ * a sequence of key-value pairs.
+ *
+ * Opening a table maps its file into memory instead of loading it, so it
+ * takes about the same time regardless of the size of the table, and
+ * the pages of the file are shared by every process that opens it.
+ * Keys and values are stored encoded with an {@link ElementCodec}.
+ * A lookup encodes the key once and compares its bytes with the stored
+ * keys that have the same hash; only the value of the matching entry,
+ * if any, is decoded.
+ * For instance:
+ * <pre>{@code
+ * MappedLookupTable.write(path, ElementCodecs.UTF8, ElementCodecs.LONG,
+ *         pairs.stream());
+ * try (MappedLookupTable<String, Long> table = MappedLookupTable.open(
+ *         path, ElementCodecs.UTF8, ElementCodecs.LONG)) {
+ *     Long id = table.get("key");
+ * }
+ * }</pre>
+ *
+ * A file is made of a 16 byte header, followed by the entries, back to
+ * back, and then by an open addressing table of slots, each holding the
+ * hash of a key and the offset of its entry.
+ * Keys are hashed from their encoded bytes, so a file can be read by
+ * other processes as long as they use the same codecs.
+ * Files are limited to 2GB.
+ *
+ * Tables are safe for use by multiple threads, as long as their codecs
+ * are.
+ *
+ * @author Andre Santos
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class MappedLookupTable<K, V> implements Closeable {
+    private static final int HEADER_SIZE = 16;
+    private static final int MAGIC = 0x4A54554C;
+    private static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ElementCodec<K> keyCodec;
+    private final ElementCodec<V> valueCodec;
+    private final int size;
+    private final int slotsOffset;
+    private final int mask;
+    private ByteBuffer buffer;
+
+    private MappedLookupTable(ElementCodec<K> keyCodec,
+            ElementCodec<V> valueCodec, ByteBuffer buffer) {
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.size = buffer.getInt(8);
+        int slots = buffer.getInt(12);
+        this.slotsOffset = buffer.capacity() - slots * 8;
+        this.mask = slots - 1;
+        this.buffer = buffer;
+    }
+
+
+    /**
+     * Writes a table with the given entries to the file at the given
+     * path, replacing any existing file.
+     * The table is written to a temporary file in the same directory,
+     * which is then moved over the given path atomically; tables opened
+     * from the old file keep reading it, and the old file is left as is
+     * if writing fails.
+     * The new file keeps the permissions of the file it replaces, or
+     * gets the default permissions of new files.
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param path the path of the file
+     * @param keyCodec the codec of the keys
+     * @param valueCodec the codec of the values
+     * @param entries the entries of the table, as pairs of a key and
+     *        a value
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if a key appears more than once,
+     *         or if the table does not fit in 2GB
+     * @throws IOException if the file cannot be written, or cannot be
+     *         moved atomically over the given path
+     */
+    public static <K, V> void write(Path path, ElementCodec<K> keyCodec,
+            ElementCodec<V> valueCodec,
+            Iterator<? extends Pair<? extends K, ? extends V>> entries)
+            throws IOException {
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+        Objects.requireNonNull(entries);
+        Path target = path.toAbsolutePath();
+        Path temp;
+        FileChannel channel;
+        for (;;) {
+            temp = target.resolveSibling("." + target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong())
+                    + ".tmp");
+            try {
+                channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // pick another name
+            }
+        }
+        try {
+            try (FileChannel c = channel) {
+                new Writer<>(c, keyCodec, valueCodec).write(entries);
+            }
+            copyPermissions(target, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Gives a new file the permissions of the file it replaces, if any;
+     * otherwise it keeps the default permissions of new files.
+     */
+    private static void copyPermissions(Path from, Path to)
+            throws IOException {
+        try {
+            Files.setPosixFilePermissions(to,
+                    Files.getPosixFilePermissions(from));
+        } catch (NoSuchFileException | UnsupportedOperationException e) {
+            // no file to replace, or no POSIX permissions
+        }
+    }
+
+    /**
+     * Writes a table with the entries of the given stream to the file at
+     * the given path, replacing any existing file.
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param path the path of the file
+     * @param keyCodec the codec of the keys
+     * @param valueCodec the codec of the values
+     * @param entries the entries of the table, as pairs of a key and
+     *        a value
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if a key appears more than once,
+     *         or if the table does not fit in 2GB
+     * @throws IOException if the file cannot be written
+     * @see #write(Path, ElementCodec, ElementCodec, Iterator)
+     */
+    public static <K, V> void write(Path path, ElementCodec<K> keyCodec,
+            ElementCodec<V> valueCodec,
+            Stream<? extends Pair<? extends K, ? extends V>> entries)
+            throws IOException {
+        write(path, keyCodec, valueCodec, entries.iterator());
+    }
+
+    /**
+     * Maps the table file at the given path into memory.
+     * The codecs must be the ones the file was written with.
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @param path the path of the file
+     * @param keyCodec the codec of the keys
+     * @param valueCodec the codec of the values
+     * @return a view of the table in the file
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IOException if the file cannot be read, or is not a table
+     *         file
+     */
+    public static <K, V> MappedLookupTable<K, V> open(Path path,
+            ElementCodec<K> keyCodec, ElementCodec<V> valueCodec)
+            throws IOException {
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+        try (FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException("Not a table file: invalid size");
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, length);
+            int slots = buffer.getInt(12);
+            if (buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION
+                    || slots <= 0 || Integer.bitCount(slots) != 1
+                    || buffer.getInt(8) < 0 || buffer.getInt(8) >= slots
+                    || (length - HEADER_SIZE) / 8 < slots) {
+                throw new IOException("Not a table file: invalid header");
+            }
+            return new MappedLookupTable<>(keyCodec, valueCodec, buffer);
+        }
+    }
+
+
+    /**
+     * Returns the number of entries in this table.
+     * @return the number of keys in this table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of the given key, or null if the key is not in
+     * this table.
+     * @param key the key to look up
+     * @return the value of the key, or null if there is none
+     * @throws IllegalStateException if this table has been closed
+     */
+    public V get(K key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns the value of the given key, or the given default value if
+     * the key is not in this table.
+     * @param key the key to look up
+     * @param defaultValue the value returned when the key is missing
+     * @return the value of the key, or the default value if there is none
+     * @throws IllegalStateException if this table has been closed
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        ByteBuffer b = buffer();
+        int entry = find(b, key);
+        if (entry == 0) {
+            return defaultValue;
+        }
+        ByteBuffer view = b.duplicate();
+        view.position(entry + Integer.BYTES + b.getInt(entry));
+        return valueCodec.read(view);
+    }
+
+    /**
+     * Returns whether the given key is in this table.
+     * No value is decoded.
+     * @param key the key to look up
+     * @return true if the table has an entry for the key
+     * @throws IllegalStateException if this table has been closed
+     */
+    public boolean containsKey(K key) {
+        return find(buffer(), key) != 0;
+    }
+
+    /**
+     * Closes this table.
+     * Further lookups throw {@code IllegalStateException}.
+     * The mapped memory is released once it is no longer referenced.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+
+    private ByteBuffer buffer() {
+        ByteBuffer b = buffer;
+        if (b == null) {
+            throw new IllegalStateException("Table is closed");
+        }
+        return b;
+    }
+
+    /**
+     * Returns the offset of the entry of the given key, or 0 if there is
+     * none.
+     */
+    private int find(ByteBuffer b, K key) {
+        byte[] bytes = encode(keyCodec, key);
+        int hash = hash(bytes, bytes.length);
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int slot = slotsOffset + i * 8;
+            int entry = b.getInt(slot + 4);
+            if (entry == 0) {
+                return 0;
+            }
+            if (b.getInt(slot) == hash && keyEquals(b, entry, bytes)) {
+                return entry;
+            }
+        }
+    }
+
+    private static boolean keyEquals(ByteBuffer b, int entry, byte[] key) {
+        if (b.getInt(entry) != key.length) {
+            return false;
+        }
+        int start = entry + Integer.BYTES;
+        for (int i = 0; i < key.length; ++i) {
+            if (b.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> byte[] encode(ElementCodec<T> codec, T value) {
+        byte[] bytes = new byte[codec.encodedSize(value)];
+        codec.write(ByteBuffer.wrap(bytes), value);
+        return bytes;
+    }
+
+    /**
+     * Hashes encoded keys with FNV-1a, followed by the MurmurHash3
+     * finalizer to spread the low bits used to pick a slot.
+     */
+    private static int hash(byte[] bytes, int length) {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; ++i) {
+            h = (h ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Writes the entries of a table, remembering the hash and offset of
+     * each, and then the slots.
+     */
+    private static final class Writer<K, V> {
+        private final FileChannel channel;
+        private final ElementCodec<K> keyCodec;
+        private final ElementCodec<V> valueCodec;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private byte[] key = new byte[64];
+        private int[] hashes = new int[64];
+        private int[] offsets = new int[64];
+        private int size;
+        private long position = HEADER_SIZE;
+
+        Writer(FileChannel channel, ElementCodec<K> keyCodec,
+                ElementCodec<V> valueCodec) {
+            this.channel = channel;
+            this.keyCodec = keyCodec;
+            this.valueCodec = valueCodec;
+        }
+
+        void write(Iterator<? extends Pair<? extends K, ? extends V>> entries)
+                throws IOException {
+            while (entries.hasNext()) {
+                Pair<? extends K, ? extends V> entry = entries.next();
+                add(entry.first(), entry.second());
+            }
+            flush();
+            int slots = Integer.highestOneBit(Math.max(1, size) * 2 - 1) * 2;
+            if (position + slots * 8L > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Table exceeds 2GB");
+            }
+            ByteBuffer entriesView = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, position);
+            ByteBuffer table = ByteBuffer.allocate(slots * 8);
+            int mask = slots - 1;
+            for (int k = 0; k < size; ++k) {
+                int i = hashes[k] & mask;
+                while (table.getInt(i * 8 + 4) != 0) {
+                    if (table.getInt(i * 8) == hashes[k]
+                            && sameKey(entriesView, table.getInt(i * 8 + 4),
+                                    offsets[k])) {
+                        throw new IllegalArgumentException("Duplicate key");
+                    }
+                    i = (i + 1) & mask;
+                }
+                table.putInt(i * 8, hashes[k]).putInt(i * 8 + 4, offsets[k]);
+            }
+            writeFully(table, position);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).put(VERSION).position(8);
+            header.putInt(size).putInt(slots).clear();
+            writeFully(header, 0);
+        }
+
+        private void add(K k, V v) throws IOException {
+            int keySize = keyCodec.encodedSize(k);
+            if (key.length < keySize) {
+                key = new byte[Math.max(keySize, key.length * 2)];
+            }
+            keyCodec.write(ByteBuffer.wrap(key), k);
+            int length = Integer.BYTES + keySize + valueCodec.encodedSize(v);
+            if (position + buffer.position() + length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Table exceeds 2GB");
+            }
+            if (buffer.remaining() < length) {
+                flush();
+                if (buffer.capacity() < length) {
+                    buffer = ByteBuffer.allocate(length);
+                }
+            }
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            hashes[size] = hash(key, keySize);
+            offsets[size++] = (int) position + buffer.position();
+            buffer.putInt(keySize).put(key, 0, keySize);
+            valueCodec.write(buffer, v);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            position += writeFully(buffer, position);
+            buffer.clear();
+        }
+
+        private int writeFully(ByteBuffer b, long at) throws IOException {
+            int count = b.remaining();
+            while (b.hasRemaining()) {
+                at += channel.write(b, at);
+            }
+            return count;
+        }
+
+        private static boolean sameKey(ByteBuffer b, int first, int second) {
+            int length = b.getInt(first);
+            if (b.getInt(second) != length) {
+                return false;
+            }
+            for (int i = Integer.BYTES; i < Integer.BYTES + length; ++i) {
+                if (b.get(first + i) != b.get(second + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A read-only, memory-mapped view of a file of fixed-width tuples,
+ * written by a {@link TupleFileAppender}.
+ *
+ * Opening a file maps it into memory instead of parsing it, so it takes
+ * about the same time regardless of the size of the file.
+ * Members are read straight from the mapped memory, either by row index,
+ * with methods such as {@link #getLong(long, int)}, or sequentially,
+ * with a {@link Cursor}.
+ * Tuple objects are only created on request, with {@link #get(long)}.
+ * Rows are numbered from 0, and positions within a row from 1, as
+ * in {@link PrimitiveSchema}.
+ *
+ * A file is made of a 16 byte header, holding the schema of its tuples,
+ * followed by the rows, back to back.
+ * Files larger than 2GB are mapped in several segments, each holding
+ * a whole number of rows.
+ * The view covers the rows present when the file is opened; rows
+ * appended later are not visible, and a partially written last row is
+ * ignored.
+ *
+ * Reading members by row index is safe for use by multiple threads;
+ * cursors are not.
+ *
+ * @author Andre Santos
+ * @see TupleFileAppender
+ */
+public final class MappedTupleFile implements Closeable {
+    static final int HEADER_SIZE = 16;
+
+    private static final int MAGIC = 0x4A545550;
+    private static final byte VERSION = 1;
+
+    private final PrimitiveSchema schema;
+    private final int rowSize;
+    private final long rowCount;
+    private final int rowsPerSegment;
+    private ByteBuffer[] segments;
+
+    private MappedTupleFile(PrimitiveSchema schema, long rowCount,
+            int rowsPerSegment, ByteBuffer[] segments) {
+        this.schema = schema;
+        this.rowSize = schema.rowSize();
+        this.rowCount = rowCount;
+        this.rowsPerSegment = rowsPerSegment;
+        this.segments = segments;
+    }
+
+
+    /**
+     * Maps the tuple file at the given path into memory.
+     * @param path the path of the file
+     * @return a view of the tuples in the file
+     * @throws NullPointerException if the path is null
+     * @throws IOException if the file cannot be read, or is not a tuple
+     *         file
+     */
+    public static MappedTupleFile open(Path path) throws IOException {
+        return open(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps a tuple file with segments of at most the given size.
+     */
+    static MappedTupleFile open(Path path, int maxSegmentSize)
+            throws IOException {
+        Objects.requireNonNull(path);
+        try (FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.READ)) {
+            PrimitiveSchema schema = readHeader(channel);
+            int rowSize = schema.rowSize();
+            long rowCount = (channel.size() - HEADER_SIZE) / rowSize;
+            int rowsPerSegment = Math.max(1, maxSegmentSize / rowSize);
+            int count = (int) ((rowCount + rowsPerSegment - 1)
+                    / rowsPerSegment);
+            ByteBuffer[] segments = new ByteBuffer[count];
+            for (int i = 0; i < count; ++i) {
+                long first = (long) i * rowsPerSegment;
+                long rows = Math.min(rowsPerSegment, rowCount - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * rowSize, rows * rowSize);
+            }
+            return new MappedTupleFile(schema, rowCount, rowsPerSegment,
+                    segments);
+        }
+    }
+
+
+    /**
+     * Returns the schema of the tuples in this file.
+     * @return the schema of this file
+     */
+    public PrimitiveSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of rows in this file.
+     * @return the number of tuples in this file
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code byte}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code byte}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public byte getByte(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.BYTE);
+        return segment(row).get(index(row) + offset);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code short}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code short}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public short getShort(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.SHORT);
+        return segment(row).getShort(index(row) + offset);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * an {@code int}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         an {@code int}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public int getInt(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.INT);
+        return segment(row).getInt(index(row) + offset);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code long}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code long}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public long getLong(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.LONG);
+        return segment(row).getLong(index(row) + offset);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code float}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code float}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public float getFloat(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.FLOAT);
+        return segment(row).getFloat(index(row) + offset);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code double}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code double}
+     * @throws IllegalStateException if this file has been closed
+     */
+    public double getDouble(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.DOUBLE);
+        return segment(row).getDouble(index(row) + offset);
+    }
+
+    /**
+     * Returns a new tuple with the members of the given row.
+     * The type of the result is determined by the arity of the schema:
+     * a {@code Pair} for 2 positions, a {@code Triple} for 3, and so on,
+     * up to a {@code Decuple}; the result can be cast to it.
+     * @param row the index of the row, starting at 0
+     * @return a tuple with the members of the row
+     * @throws IndexOutOfBoundsException if the row is out of range
+     * @throws IllegalStateException if this file has been closed
+     */
+    public Tuple get(long row) {
+        return schema.read(segment(row), index(row));
+    }
+
+    /**
+     * Returns a new cursor over the rows of this file, positioned before
+     * the first row.
+     * @return a cursor over this file
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Closes this file.
+     * Further attempts to read from it throw
+     * {@code IllegalStateException}.
+     * The mapped memory is released once it is no longer referenced,
+     * including by cursors obtained before closing.
+     */
+    @Override
+    public void close() {
+        segments = null;
+    }
+
+
+    static PrimitiveSchema readHeader(FileChannel channel)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Not a tuple file: truncated header");
+            }
+        }
+        int arity = header.get(5);
+        if (header.getInt(0) != MAGIC || header.get(4) != VERSION
+                || arity < 0 || arity > HEADER_SIZE - 6) {
+            throw new IOException("Not a tuple file: invalid header");
+        }
+        byte[] types = new byte[arity];
+        header.position(6);
+        header.get(types);
+        PrimitiveSchema schema = PrimitiveSchema.decode(types);
+        if (schema == null) {
+            throw new IOException("Not a tuple file: invalid schema");
+        }
+        return schema;
+    }
+
+    static void writeHeader(FileChannel channel, PrimitiveSchema schema)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(VERSION).put((byte) schema.arity());
+        header.put(schema.encode());
+        header.clear();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+
+    private void checkOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("File is closed");
+        }
+    }
+
+    private ByteBuffer segment(long row) {
+        ByteBuffer[] s = segments;
+        if (s == null) {
+            throw new IllegalStateException("File is closed");
+        }
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Invalid row: " + row);
+        }
+        return s[(int) (row / rowsPerSegment)];
+    }
+
+    private int index(long row) {
+        return (int) (row % rowsPerSegment) * rowSize;
+    }
+
+
+    /**
+     * A sequential reader of the rows of a {@link MappedTupleFile},
+     * obtained from {@link MappedTupleFile#cursor()}.
+     * A cursor starts before the first row, and moves to the next row with
+     * each call to {@link #next()}; members of the current row are read
+     * straight from the mapped memory.
+     * Cursors are not safe for use by multiple threads.
+     */
+    public final class Cursor {
+        private long row = -1;
+        private ByteBuffer segment;
+        private int index;
+
+        private Cursor() {
+        }
+
+
+        /**
+         * Moves this cursor to the next row.
+         * @return true if there is a next row, false if the cursor has
+         *         moved past the last row
+         * @throws IllegalStateException if the file has been closed
+         */
+        public boolean next() {
+            checkOpen();
+            if (row + 1 >= rowCount) {
+                row = rowCount;
+                return false;
+            }
+            ++row;
+            index += rowSize;
+            if (segment == null || index >= segment.limit()) {
+                segment = segment(row);
+                index = index(row);
+            }
+            return true;
+        }
+
+        /**
+         * Moves this cursor to the given row.
+         * @param row the index of the row, starting at 0
+         * @throws IndexOutOfBoundsException if the row is out of range
+         * @throws IllegalStateException if the file has been closed
+         */
+        public void seek(long row) {
+            segment = segment(row);
+            index = index(row);
+            this.row = row;
+        }
+
+        /**
+         * Returns the index of the current row.
+         * @return the index of the current row, -1 before the first row,
+         *         or the number of rows after the last row
+         */
+        public long row() {
+            return row;
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code byte}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code byte}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public byte getByte(int position) {
+            int offset = schema.offset(position, PrimitiveType.BYTE);
+            return current().get(index + offset);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code short}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code short}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public short getShort(int position) {
+            int offset = schema.offset(position, PrimitiveType.SHORT);
+            return current().getShort(index + offset);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold an {@code int}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         an {@code int}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public int getInt(int position) {
+            int offset = schema.offset(position, PrimitiveType.INT);
+            return current().getInt(index + offset);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code long}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code long}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public long getLong(int position) {
+            int offset = schema.offset(position, PrimitiveType.LONG);
+            return current().getLong(index + offset);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code float}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code float}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public float getFloat(int position) {
+            int offset = schema.offset(position, PrimitiveType.FLOAT);
+            return current().getFloat(index + offset);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code double}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code double}
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         */
+        public double getDouble(int position) {
+            int offset = schema.offset(position, PrimitiveType.DOUBLE);
+            return current().getDouble(index + offset);
+        }
+
+        /**
+         * Returns a new tuple with the members of the current row.
+         * @return a tuple with the members of the current row
+         * @throws IllegalStateException if there is no current row, or if
+         *         the file has been closed
+         * @see MappedTupleFile#get(long)
+         */
+        public Tuple get() {
+            return schema.read(current(), index);
+        }
+
+
+        private ByteBuffer current() {
+            checkOpen();
+            if (row < 0 || row >= rowCount) {
+                throw new IllegalStateException("No current row");
+            }
+            return segment;
+        }
+    }
+}
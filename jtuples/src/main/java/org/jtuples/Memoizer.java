@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A concurrent, size-bounded cache of computed values.
+ *
+ * Values are computed on demand by {@link #get(Object, Function)}.
+ * Loading is single-flight: if several threads ask for the same missing
+ * key at once, one of them computes the value, and the others wait for it.
+ * If the computation throws an exception, nothing is cached, and the
+ * exception is rethrown to every waiting caller.
+ *
+ * When the number of cached values exceeds the maximum size, entries are
+ * evicted in approximately least recently used order, using the
+ * <i>clock</i> (second chance) algorithm: recently read entries are
+ * skipped once before they become candidates for eviction.
+ *
+ * Hits, misses and evictions are counted, to help tune the maximum size.
+ * Keys must provide proper {@code equals} and {@code hashCode} methods,
+ * which is the case for all tuples.
+ *
+ * @author Andre Santos
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @see Functions#memoize(Function, Memoizer)
+ */
+public final class Memoizer<K, V> {
+    private final int maximumSize;
+    private final ConcurrentMap<K, Node<K, V>> nodes;
+    private final Queue<Node<K, V>> clock;
+    private final AtomicInteger size;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * Returns a new, empty cache that holds up to the given number
+     * of values.
+     * @param maximumSize the maximum number of cached values
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public Memoizer(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Illegal maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.nodes = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+
+    /**
+     * Returns the value cached for the given key, computing it with the
+     * given function if it is missing.
+     * If another thread is already computing the value for the same key,
+     * this waits for that computation instead of starting a new one.
+     * @param key the key of the value
+     * @param loader the function used to compute a missing value
+     * @return the cached or computed value
+     * @throws NullPointerException if the key or the loader is null
+     * @throws IllegalStateException if the loader tries to compute,
+     *         directly or indirectly, the value it is computing
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Objects.requireNonNull(loader);
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            Node<K, V> created = new Node<>(key);
+            node = nodes.putIfAbsent(key, created);
+            if (node == null) {
+                return load(key, created, loader);
+            }
+        }
+        hits.increment();
+        node.referenced = true;
+        return node.await();
+    }
+
+    /**
+     * Returns the maximum number of values held by this cache.
+     * @return the maximum size of this cache
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of values currently held by this cache,
+     * including those still being computed.
+     * @return the size of this cache
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the number of times a value was found in this cache,
+     * or was being computed by another thread.
+     * @return the number of cache hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times a value had to be computed.
+     * @return the number of cache misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of values removed to keep this cache within
+     * its maximum size.
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes all values from this cache.
+     * Statistics are kept.
+     */
+    public void clear() {
+        nodes.clear();
+        while (clock.poll() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+
+    private V load(K key, Node<K, V> node,
+            Function<? super K, ? extends V> loader) {
+        misses.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            nodes.remove(key, node);
+            node.fail(e);
+            throw e;
+        }
+        node.complete(value);
+        clock.add(node);
+        if (size.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Evicts entries until the cache is within its maximum size.
+     * The size counts the nodes in the clock, so that a node dropped from
+     * it is always discounted, even if it was already removed from the map
+     * by {@link #clear()} while it was being loaded.
+     */
+    private void evict() {
+        while (size.get() > maximumSize) {
+            Node<K, V> node = clock.poll();
+            if (node == null) {
+                return;
+            }
+            if (node.referenced && nodes.get(node.key) == node) {
+                node.referenced = false;
+                clock.add(node);
+            }
+            else {
+                if (nodes.remove(node.key, node)) {
+                    evictions.increment();
+                }
+                size.decrementAndGet();
+            }
+        }
+    }
+
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final Thread owner;
+        private volatile boolean done;
+        private V value;
+        private Throwable failure;
+        volatile boolean referenced;
+
+        Node(K key) {
+            this.key = key;
+            this.owner = Thread.currentThread();
+        }
+
+        synchronized void complete(V value) {
+            this.value = value;
+            this.done = true;
+            notifyAll();
+        }
+
+        synchronized void fail(Throwable failure) {
+            this.failure = failure;
+            this.done = true;
+            notifyAll();
+        }
+
+        V await() {
+            if (!done) {
+                if (owner == Thread.currentThread()) {
+                    throw new IllegalStateException("Recursive load.");
+                }
+                waitUntilDone();
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return value;
+        }
+
+        private synchronized void waitUntilDone() {
+            boolean interrupted = false;
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocates and frees the memory that holds the rows of an
+ * {@link OffHeapTupleList}.
+ *
+ * The default backend, {@link #DIRECT}, uses direct byte buffers, which
+ * live outside of the Java heap.
+ * Other backends can pool buffers, or use memory obtained elsewhere,
+ * such as memory-mapped files.
+ *
+ * @author Andre Santos
+ */
+public interface MemoryBackend {
+    /**
+     * A backend of direct byte buffers.
+     * Freeing a buffer releases its memory immediately, where the running
+     * Java version allows it; otherwise, the memory is released when the
+     * buffer is garbage collected.
+     */
+    MemoryBackend DIRECT = new DirectMemoryBackend();
+
+    /**
+     * Allocates a buffer with the given capacity.
+     * The contents of the buffer need not be zero.
+     * @param capacity the capacity of the buffer, in bytes
+     * @return a buffer with the given capacity
+     */
+    ByteBuffer allocate(int capacity);
+
+    /**
+     * Frees a buffer allocated by this backend.
+     * The buffer must not be used after being freed.
+     * @param buffer the buffer to free
+     */
+    void free(ByteBuffer buffer);
+}
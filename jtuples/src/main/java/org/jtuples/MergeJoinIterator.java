@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * An iterator that performs an inner merge join over two iterators
+ * sorted by key.
+ *
+ * Both iterators are walked once, in step.
+ * The only elements kept in memory are the current run of right elements
+ * sharing the same key, which is replayed for each left element with
+ * that key.
+ *
+ * @author Andre Santos
+ * @param <L> the type of the left elements
+ * @param <R> the type of the right elements
+ * @param <K> the type of the join keys
+ * @see Tuples#mergeJoin(Iterator, Iterator, Function, Function, Comparator)
+ */
+final class MergeJoinIterator<L, R, K> implements Iterator<Pair<L, R>> {
+    private final Iterator<L> lefts;
+    private final Iterator<R> rights;
+    private final Function<? super L, ? extends K> leftKey;
+    private final Function<? super R, ? extends K> rightKey;
+    private final Comparator<? super K> comparator;
+    private final List<R> run;
+    private K runKey;
+    private int runIndex;
+    private L left;
+    private K leftKeyValue;
+    private boolean hasLeft;
+    private R right;
+    private K rightKeyValue;
+    private boolean hasRight;
+    private Pair<L, R> next;
+
+    MergeJoinIterator(Iterator<L> lefts, Iterator<R> rights,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey,
+            Comparator<? super K> comparator) {
+        this.lefts = lefts;
+        this.rights = rights;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        this.run = new ArrayList<>();
+        advanceRight();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Pair<L, R> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Pair<L, R> result = next;
+        next = null;
+        return result;
+    }
+
+    private Pair<L, R> advance() {
+        while (true) {
+            if (hasLeft && runIndex < run.size()) {
+                return new Pair<>(left, run.get(runIndex++));
+            }
+            if (!lefts.hasNext() || (run.isEmpty() && !hasRight)) {
+                hasLeft = false;
+                run.clear();
+                return null;
+            }
+            K previous = leftKeyValue;
+            left = lefts.next();
+            leftKeyValue = leftKey.apply(left);
+            if (hasLeft && comparator.compare(leftKeyValue, previous) < 0) {
+                throw new IllegalStateException(
+                        "Left elements are not sorted by key.");
+            }
+            hasLeft = true;
+            runIndex = 0;
+            if (!run.isEmpty()
+                    && comparator.compare(leftKeyValue, runKey) == 0) {
+                continue;
+            }
+            run.clear();
+            while (hasRight
+                    && comparator.compare(rightKeyValue, leftKeyValue) < 0) {
+                advanceRight();
+            }
+            while (hasRight
+                    && comparator.compare(rightKeyValue, leftKeyValue) == 0) {
+                run.add(right);
+                advanceRight();
+            }
+            runKey = leftKeyValue;
+        }
+    }
+
+    private void advanceRight() {
+        if (!rights.hasNext()) {
+            hasRight = false;
+            right = null;
+            return;
+        }
+        K previous = rightKeyValue;
+        right = rights.next();
+        rightKeyValue = rightKey.apply(right);
+        if (hasRight && comparator.compare(rightKeyValue, previous) < 0) {
+            throw new IllegalStateException(
+                    "Right elements are not sorted by key.");
+        }
+        hasRight = true;
+    }
+}
@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -41,7 +44,9 @@ import java.util.function.Function;
  * @param <H> the type of the eighth element of the nonuple
  * @param <I> the type of the ninth element of the nonuple
  */
-public final class Nonuple<A, B, C, D, E, F, G, H, I> extends AbstractTuple {
+public final class Nonuple<A, B, C, D, E, F, G, H, I> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 9;
 
     private final A first;
@@ -224,6 +229,32 @@ public final class Nonuple<A, B, C, D, E, F, G, H, I> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            case 4:
+                return fifth;
+            case 5:
+                return sixth;
+            case 6:
+                return seventh;
+            case 7:
+                return eighth;
+            case 8:
+                return ninth;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new nonuple, transforming the first member of this
@@ -368,4 +399,311 @@ public final class Nonuple<A, B, C, D, E, F, G, H, I> extends AbstractTuple {
         return new Nonuple<>(first, second, third, fourth, fifth, sixth,
                 seventh, eighth, function.apply(ninth));
     }
+
+    /**
+     * Returns the result of applying the given function to this nonuple.
+     * The members of this nonuple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this nonuple
+     * @return the function's result
+     */
+    public <R> R apply(EnneaFunction<A, B, C, D, E, F, G, H, I, R> function) {
+        return function.apply(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth);
+    }
+
+    /**
+     * Returns a builder that creates a new nonuple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new nonuple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this nonuple
+     */
+    public Builder<A, B, C, D, E, F, G, H, I> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this nonuple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this nonuple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of nonuples, obtained from {@link Nonuple#toBuilder()}.
+     * It starts with the members of the original nonuple, and allows
+     * replacing or transforming any of them before the new nonuple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the nonuple
+     * @param <B> the type of the second element of the nonuple
+     * @param <C> the type of the third element of the nonuple
+     * @param <D> the type of the fourth element of the nonuple
+     * @param <E> the type of the fifth element of the nonuple
+     * @param <F> the type of the sixth element of the nonuple
+     * @param <G> the type of the seventh element of the nonuple
+     * @param <H> the type of the eighth element of the nonuple
+     * @param <I> the type of the ninth element of the nonuple
+     */
+    public static final class Builder<A, B, C, D, E, F, G, H, I> {
+        private final Nonuple<A, B, C, D, E, F, G, H, I> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+        private E fifth;
+        private F sixth;
+        private G seventh;
+        private H eighth;
+        private I ninth;
+
+        private Builder(Nonuple<A, B, C, D, E, F, G, H, I> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+            this.fifth = source.fifth;
+            this.sixth = source.sixth;
+            this.seventh = source.seventh;
+            this.eighth = source.eighth;
+            this.ninth = source.ninth;
+        }
+
+        /**
+         * Replaces the first member of the nonuple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the nonuple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the nonuple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the nonuple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fifth member of the nonuple being built.
+         * @param value the new fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> fifth(E value) {
+            this.fifth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the sixth member of the nonuple being built.
+         * @param value the new sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> sixth(F value) {
+            this.sixth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the seventh member of the nonuple being built.
+         * @param value the new seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> seventh(G value) {
+            this.seventh = value;
+            return this;
+        }
+
+        /**
+         * Replaces the eighth member of the nonuple being built.
+         * @param value the new eighth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> eighth(H value) {
+            this.eighth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the ninth member of the nonuple being built.
+         * @param value the new ninth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> ninth(I value) {
+            this.ninth = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the nonuple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the nonuple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the nonuple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the nonuple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Transforms the fifth member of the nonuple being built.
+         * The new fifth member is the result of applying the given function
+         * to the current fifth member of this builder.
+         * @param function the function used to transform the fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyFifth(
+                Function<? super E, ? extends E> function) {
+            this.fifth = function.apply(fifth);
+            return this;
+        }
+
+        /**
+         * Transforms the sixth member of the nonuple being built.
+         * The new sixth member is the result of applying the given function
+         * to the current sixth member of this builder.
+         * @param function the function used to transform the sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applySixth(
+                Function<? super F, ? extends F> function) {
+            this.sixth = function.apply(sixth);
+            return this;
+        }
+
+        /**
+         * Transforms the seventh member of the nonuple being built.
+         * The new seventh member is the result of applying the given function
+         * to the current seventh member of this builder.
+         * @param function the function used to transform the seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applySeventh(
+                Function<? super G, ? extends G> function) {
+            this.seventh = function.apply(seventh);
+            return this;
+        }
+
+        /**
+         * Transforms the eighth member of the nonuple being built.
+         * The new eighth member is the result of applying the given function
+         * to the current eighth member of this builder.
+         * @param function the function used to transform the eighth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyEighth(
+                Function<? super H, ? extends H> function) {
+            this.eighth = function.apply(eighth);
+            return this;
+        }
+
+        /**
+         * Transforms the ninth member of the nonuple being built.
+         * The new ninth member is the result of applying the given function
+         * to the current ninth member of this builder.
+         * @param function the function used to transform the ninth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G, H, I> applyNinth(
+                Function<? super I, ? extends I> function) {
+            this.ninth = function.apply(ninth);
+            return this;
+        }
+
+        /**
+         * Returns a nonuple with the members of this builder.
+         * If every member is the same object as in the original nonuple,
+         * the original nonuple is returned instead of a new one.
+         * @return a nonuple with the members of this builder
+         */
+        public Nonuple<A, B, C, D, E, F, G, H, I> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth &&
+                    fifth == source.fifth && sixth == source.sixth &&
+                    seventh == source.seventh && eighth == source.eighth &&
+                    ninth == source.ninth) {
+                return source;
+            }
+            return new Nonuple<>(first, second, third, fourth, fifth, sixth,
+                    seventh, eighth, ninth);
+        }
+    }
 }
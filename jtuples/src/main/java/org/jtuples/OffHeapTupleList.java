@@ -0,0 +1,905 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A list of tuples whose members are all of primitive types, stored
+ * outside of the Java heap.
+ *
+ * Rows are laid out as described by a {@link PrimitiveSchema}, in pages
+ * of memory obtained from a {@link MemoryBackend}, direct byte buffers
+ * by default.
+ * The garbage collector only sees the few objects that reference those
+ * pages, not the rows themselves, however many there are.
+ * Rows are numbered from 0, and positions within a row from 1, as
+ * in {@link PrimitiveSchema}.
+ *
+ * Rows can be added from tuples, with {@link #add(Tuple)}, or as zeroed
+ * rows, with {@link #addRow()}, whose members are then set one by one.
+ * Members are read and written in place, either by row index, or through
+ * a {@link Cursor}, a single object that moves from row to row.
+ * Tuple objects are only created on request, with {@link #get(long)}.
+ * For instance:
+ * <pre>{@code
+ * try (OffHeapTupleList list = new OffHeapTupleList(
+ *         PrimitiveSchema.of(PrimitiveType.LONG, PrimitiveType.LONG))) {
+ *     long row = list.addRow();
+ *     list.setLong(row, 1, key);
+ *     list.setLong(row, 2, value);
+ *     list.sort(1);
+ * }
+ * }</pre>
+ *
+ * The memory of a list is freed when it is closed.
+ * Lists are not safe for use by multiple threads.
+ *
+ * @author Andre Santos
+ * @see MappedTupleFile
+ */
+public final class OffHeapTupleList implements Closeable {
+    private static final int PAGE_SIZE = 1 << 20;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final PrimitiveSchema schema;
+    private final MemoryBackend backend;
+    private final int rowSize;
+    private final int rowsPerPage;
+    private ByteBuffer[] pages;
+    private int pageCount;
+    private long size;
+
+    /**
+     * Returns a new, empty list of tuples with the given schema, stored
+     * in direct byte buffers.
+     * @param schema the schema of the tuples
+     * @throws NullPointerException if the schema is null
+     */
+    public OffHeapTupleList(PrimitiveSchema schema) {
+        this(schema, MemoryBackend.DIRECT);
+    }
+
+    /**
+     * Returns a new, empty list of tuples with the given schema, stored
+     * in memory from the given backend.
+     * @param schema the schema of the tuples
+     * @param backend the backend that allocates and frees memory
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public OffHeapTupleList(PrimitiveSchema schema, MemoryBackend backend) {
+        this(schema, backend, PAGE_SIZE);
+    }
+
+    /**
+     * Returns a new list with pages of at most the given size.
+     */
+    OffHeapTupleList(PrimitiveSchema schema, MemoryBackend backend,
+            int pageSize) {
+        this.schema = Objects.requireNonNull(schema);
+        this.backend = Objects.requireNonNull(backend);
+        this.rowSize = schema.rowSize();
+        this.rowsPerPage = Math.max(1, pageSize / rowSize);
+        this.pages = new ByteBuffer[4];
+    }
+
+
+    /**
+     * Returns the schema of the tuples in this list.
+     * @return the schema of this list
+     */
+    public PrimitiveSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of rows in this list.
+     * @return the number of tuples in this list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Adds a row at the end of this list, with all members zero.
+     * @return the index of the new row
+     * @throws IllegalStateException if this list has been closed
+     */
+    public long addRow() {
+        checkOpen();
+        long row = size;
+        int index = index(row);
+        if (index == 0) {
+            addPage();
+        }
+        ByteBuffer page = pages[pageCount - 1];
+        for (int i = 0; i < rowSize; ++i) {
+            page.put(index + i, (byte) 0);
+        }
+        ++size;
+        return row;
+    }
+
+    /**
+     * Adds a row at the end of this list, with the members of the given
+     * tuple.
+     * Members must be boxed values of the types given by the schema,
+     * such as {@code Long} for {@link PrimitiveType#LONG}.
+     * @param tuple the tuple to add
+     * @return the index of the new row
+     * @throws NullPointerException if the tuple or any of its members is
+     *         null
+     * @throws ClassCastException if any of the members does not have the
+     *         type given by the schema
+     * @throws IllegalArgumentException if the arity of the tuple is not
+     *         the arity of the schema
+     * @throws IllegalStateException if this list has been closed
+     */
+    public long add(Tuple tuple) {
+        if (tuple.arity() != schema.arity()) {
+            throw new IllegalArgumentException("Expected arity "
+                    + schema.arity() + ", found " + tuple.arity());
+        }
+        long row = addRow();
+        try {
+            schema.write(page(row), index(row), tuple);
+        } catch (RuntimeException e) {
+            --size;
+            if (index(row) == 0) {
+                backend.free(pages[--pageCount]);
+                pages[pageCount] = null;
+            }
+            throw e;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code byte}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code byte}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public byte getByte(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.BYTE);
+        return page(row).get(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * a {@code byte}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code byte}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setByte(long row, int position, byte value) {
+        int offset = schema.offset(position, PrimitiveType.BYTE);
+        page(row).put(index(row) + offset, value);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code short}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code short}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public short getShort(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.SHORT);
+        return page(row).getShort(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * a {@code short}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code short}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setShort(long row, int position, short value) {
+        int offset = schema.offset(position, PrimitiveType.SHORT);
+        page(row).putShort(index(row) + offset, value);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * an {@code int}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         an {@code int}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public int getInt(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.INT);
+        return page(row).getInt(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * an {@code int}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         an {@code int}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setInt(long row, int position, int value) {
+        int offset = schema.offset(position, PrimitiveType.INT);
+        page(row).putInt(index(row) + offset, value);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code long}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code long}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public long getLong(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.LONG);
+        return page(row).getLong(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * a {@code long}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code long}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setLong(long row, int position, long value) {
+        int offset = schema.offset(position, PrimitiveType.LONG);
+        page(row).putLong(index(row) + offset, value);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code float}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code float}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public float getFloat(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.FLOAT);
+        return page(row).getFloat(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * a {@code float}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code float}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setFloat(long row, int position, float value) {
+        int offset = schema.offset(position, PrimitiveType.FLOAT);
+        page(row).putFloat(index(row) + offset, value);
+    }
+
+    /**
+     * Returns the member at the given row and position, which must hold
+     * a {@code double}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @return the member at the given row and position
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code double}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public double getDouble(long row, int position) {
+        int offset = schema.offset(position, PrimitiveType.DOUBLE);
+        return page(row).getDouble(index(row) + offset);
+    }
+
+    /**
+     * Sets the member at the given row and position, which must hold
+     * a {@code double}.
+     * @param row the index of the row, starting at 0
+     * @param position the position within the row, starting at 1
+     * @param value the new value of the member
+     * @throws IndexOutOfBoundsException if the row or the position are
+     *         out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code double}
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void setDouble(long row, int position, double value) {
+        int offset = schema.offset(position, PrimitiveType.DOUBLE);
+        page(row).putDouble(index(row) + offset, value);
+    }
+
+    /**
+     * Returns a new tuple with the members of the given row.
+     * The type of the result is determined by the arity of the schema:
+     * a {@code Pair} for 2 positions, a {@code Triple} for 3, and so on,
+     * up to a {@code Decuple}; the result can be cast to it.
+     * @param row the index of the row, starting at 0
+     * @return a tuple with the members of the row
+     * @throws IndexOutOfBoundsException if the row is out of range
+     * @throws IllegalStateException if this list has been closed
+     */
+    public Tuple get(long row) {
+        return schema.read(page(row), index(row));
+    }
+
+    /**
+     * Sorts the rows of this list in place, in ascending order of the
+     * members at the given positions.
+     * Rows are compared by the members at the first position; rows with
+     * equal members there are compared by the second position, and so on.
+     * Members are compared numerically, as by the {@code compare} methods
+     * of their boxed types.
+     * The sort is not stable.
+     * @param positions the positions to sort by, starting at 1
+     * @throws IllegalArgumentException if no positions are given
+     * @throws IndexOutOfBoundsException if a position is out of range
+     * @throws IllegalStateException if this list has been closed
+     */
+    public void sort(int... positions) {
+        checkOpen();
+        if (positions.length == 0) {
+            throw new IllegalArgumentException("No positions to sort by");
+        }
+        new Sorter(positions).sort();
+    }
+
+    /**
+     * Returns a new cursor over the rows of this list, positioned before
+     * the first row.
+     * @return a cursor over this list
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Frees the memory of this list.
+     * Further attempts to use it throw {@code IllegalStateException}.
+     * Closing a list that is already closed has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] p = pages;
+        if (p != null) {
+            pages = null;
+            for (int i = 0; i < pageCount; ++i) {
+                backend.free(p[i]);
+                p[i] = null;
+            }
+            pageCount = 0;
+            size = 0;
+        }
+    }
+
+
+    private void checkOpen() {
+        if (pages == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void addPage() {
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        ByteBuffer page = backend.allocate(rowsPerPage * rowSize);
+        pages[pageCount++] = page.order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer page(long row) {
+        checkOpen();
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Invalid row: " + row);
+        }
+        return pages[(int) (row / rowsPerPage)];
+    }
+
+    private int index(long row) {
+        return (int) (row % rowsPerPage) * rowSize;
+    }
+
+
+    /**
+     * An in-place introsort of the rows of the list: quicksort, with
+     * a median of three pivot, that falls back to heapsort when the
+     * recursion gets too deep, and to insertion sort for short ranges.
+     * Rows are swapped byte by byte, through a scratch row.
+     */
+    private final class Sorter {
+        private final PrimitiveType[] types;
+        private final int[] offsets;
+        private final ByteBuffer pivot;
+        private final ByteBuffer scratch;
+
+        Sorter(int[] positions) {
+            types = new PrimitiveType[positions.length];
+            offsets = new int[positions.length];
+            for (int i = 0; i < positions.length; ++i) {
+                types[i] = schema.type(positions[i]);
+                offsets[i] = schema.offset(positions[i]);
+            }
+            ByteOrder order = ByteOrder.nativeOrder();
+            pivot = ByteBuffer.allocate(rowSize).order(order);
+            scratch = ByteBuffer.allocate(rowSize).order(order);
+        }
+
+        void sort() {
+            int depth = 2 * (64 - Long.numberOfLeadingZeros(size));
+            sort(0, size, depth);
+        }
+
+        /**
+         * Sorts the rows from lo, inclusive, to hi, exclusive.
+         */
+        private void sort(long lo, long hi, int depth) {
+            while (hi - lo > INSERTION_SORT_THRESHOLD) {
+                if (depth-- == 0) {
+                    heapSort(lo, hi);
+                    return;
+                }
+                long mid = lo + (hi - lo) / 2;
+                if (compare(mid, lo) < 0) {
+                    swap(mid, lo);
+                }
+                if (compare(hi - 1, mid) < 0) {
+                    swap(hi - 1, mid);
+                    if (compare(mid, lo) < 0) {
+                        swap(mid, lo);
+                    }
+                }
+                copy(pages[page(mid)], index(mid), pivot, 0);
+                long i = lo;
+                long j = hi - 1;
+                while (i <= j) {
+                    while (compareToPivot(i) < 0) {
+                        ++i;
+                    }
+                    while (compareToPivot(j) > 0) {
+                        --j;
+                    }
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+                if (j - lo < hi - i) {
+                    sort(lo, j + 1, depth);
+                    lo = i;
+                } else {
+                    sort(i, hi, depth);
+                    hi = j + 1;
+                }
+            }
+            insertionSort(lo, hi);
+        }
+
+        private void insertionSort(long lo, long hi) {
+            for (long i = lo + 1; i < hi; ++i) {
+                for (long j = i; j > lo && compare(j, j - 1) < 0; --j) {
+                    swap(j, j - 1);
+                }
+            }
+        }
+
+        private void heapSort(long lo, long hi) {
+            long n = hi - lo;
+            for (long i = n / 2 - 1; i >= 0; --i) {
+                siftDown(lo, i, n);
+            }
+            for (long end = n - 1; end > 0; --end) {
+                swap(lo, lo + end);
+                siftDown(lo, 0, end);
+            }
+        }
+
+        private void siftDown(long lo, long i, long n) {
+            for (long child = 2 * i + 1; child < n; child = 2 * i + 1) {
+                if (child + 1 < n && compare(lo + child, lo + child + 1) < 0) {
+                    ++child;
+                }
+                if (compare(lo + i, lo + child) >= 0) {
+                    return;
+                }
+                swap(lo + i, lo + child);
+                i = child;
+            }
+        }
+
+        private int compare(long a, long b) {
+            return compare(pages[page(a)], index(a), pages[page(b)],
+                    index(b));
+        }
+
+        private int compareToPivot(long a) {
+            return compare(pages[page(a)], index(a), pivot, 0);
+        }
+
+        private int compare(ByteBuffer a, int ai, ByteBuffer b, int bi) {
+            for (int k = 0; k < types.length; ++k) {
+                int x = ai + offsets[k];
+                int y = bi + offsets[k];
+                int c;
+                switch (types[k]) {
+                    case BYTE:
+                        c = Byte.compare(a.get(x), b.get(y));
+                        break;
+                    case SHORT:
+                        c = Short.compare(a.getShort(x), b.getShort(y));
+                        break;
+                    case INT:
+                        c = Integer.compare(a.getInt(x), b.getInt(y));
+                        break;
+                    case LONG:
+                        c = Long.compare(a.getLong(x), b.getLong(y));
+                        break;
+                    case FLOAT:
+                        c = Float.compare(a.getFloat(x), b.getFloat(y));
+                        break;
+                    default:
+                        c = Double.compare(a.getDouble(x), b.getDouble(y));
+                        break;
+                }
+                if (c != 0) {
+                    return c;
+                }
+            }
+            return 0;
+        }
+
+        private void swap(long a, long b) {
+            ByteBuffer pa = pages[page(a)];
+            ByteBuffer pb = pages[page(b)];
+            int ia = index(a);
+            int ib = index(b);
+            copy(pa, ia, scratch, 0);
+            copy(pb, ib, pa, ia);
+            copy(scratch, 0, pb, ib);
+        }
+
+        private void copy(ByteBuffer from, int i, ByteBuffer to, int j) {
+            int n = 0;
+            for (; n + Long.BYTES <= rowSize; n += Long.BYTES) {
+                to.putLong(j + n, from.getLong(i + n));
+            }
+            for (; n < rowSize; ++n) {
+                to.put(j + n, from.get(i + n));
+            }
+        }
+
+        private int page(long row) {
+            return (int) (row / rowsPerPage);
+        }
+    }
+
+
+    /**
+     * A flyweight over the rows of an {@link OffHeapTupleList}, obtained
+     * from {@link OffHeapTupleList#cursor()}.
+     * A cursor starts before the first row, and moves to the next row with
+     * each call to {@link #next()}; members of the current row are read
+     * and written in place.
+     * Cursors are not safe for use by multiple threads.
+     */
+    public final class Cursor {
+        private long row = -1;
+        private ByteBuffer page;
+        private int index;
+
+        private Cursor() {
+        }
+
+
+        /**
+         * Moves this cursor to the next row.
+         * @return true if there is a next row, false if the cursor has
+         *         moved past the last row
+         * @throws IllegalStateException if the list has been closed
+         */
+        public boolean next() {
+            if (row + 1 >= size) {
+                checkOpen();
+                row = size;
+                return false;
+            }
+            ++row;
+            index += rowSize;
+            if (page == null || index >= rowsPerPage * rowSize) {
+                page = page(row);
+                index = index(row);
+            }
+            return true;
+        }
+
+        /**
+         * Moves this cursor to the given row.
+         * @param row the index of the row, starting at 0
+         * @throws IndexOutOfBoundsException if the row is out of range
+         * @throws IllegalStateException if the list has been closed
+         */
+        public void seek(long row) {
+            page = page(row);
+            index = index(row);
+            this.row = row;
+        }
+
+        /**
+         * Returns the index of the current row.
+         * @return the index of the current row, -1 before the first row,
+         *         or the size of the list after the last row
+         */
+        public long row() {
+            return row;
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code byte}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code byte}
+         * @throws IllegalStateException if there is no current row
+         */
+        public byte getByte(int position) {
+            int offset = schema.offset(position, PrimitiveType.BYTE);
+            return current().get(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold a {@code byte}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code byte}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setByte(int position, byte value) {
+            int offset = schema.offset(position, PrimitiveType.BYTE);
+            current().put(index + offset, value);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code short}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code short}
+         * @throws IllegalStateException if there is no current row
+         */
+        public short getShort(int position) {
+            int offset = schema.offset(position, PrimitiveType.SHORT);
+            return current().getShort(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold a {@code short}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code short}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setShort(int position, short value) {
+            int offset = schema.offset(position, PrimitiveType.SHORT);
+            current().putShort(index + offset, value);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold an {@code int}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         an {@code int}
+         * @throws IllegalStateException if there is no current row
+         */
+        public int getInt(int position) {
+            int offset = schema.offset(position, PrimitiveType.INT);
+            return current().getInt(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold an {@code int}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         an {@code int}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setInt(int position, int value) {
+            int offset = schema.offset(position, PrimitiveType.INT);
+            current().putInt(index + offset, value);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code long}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code long}
+         * @throws IllegalStateException if there is no current row
+         */
+        public long getLong(int position) {
+            int offset = schema.offset(position, PrimitiveType.LONG);
+            return current().getLong(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold a {@code long}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code long}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setLong(int position, long value) {
+            int offset = schema.offset(position, PrimitiveType.LONG);
+            current().putLong(index + offset, value);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code float}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code float}
+         * @throws IllegalStateException if there is no current row
+         */
+        public float getFloat(int position) {
+            int offset = schema.offset(position, PrimitiveType.FLOAT);
+            return current().getFloat(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold a {@code float}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code float}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setFloat(int position, float value) {
+            int offset = schema.offset(position, PrimitiveType.FLOAT);
+            current().putFloat(index + offset, value);
+        }
+
+        /**
+         * Returns the member at the given position of the current row,
+         * which must hold a {@code double}.
+         * @param position the position within the row, starting at 1
+         * @return the member at the given position
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code double}
+         * @throws IllegalStateException if there is no current row
+         */
+        public double getDouble(int position) {
+            int offset = schema.offset(position, PrimitiveType.DOUBLE);
+            return current().getDouble(index + offset);
+        }
+
+        /**
+         * Sets the member at the given position of the current row,
+         * which must hold a {@code double}.
+         * @param position the position within the row, starting at 1
+         * @param value the new value of the member
+         * @throws IndexOutOfBoundsException if the position is out of range
+         * @throws IllegalArgumentException if the position does not hold
+         *         a {@code double}
+         * @throws IllegalStateException if there is no current row
+         */
+        public void setDouble(int position, double value) {
+            int offset = schema.offset(position, PrimitiveType.DOUBLE);
+            current().putDouble(index + offset, value);
+        }
+
+        /**
+         * Returns a new tuple with the members of the current row.
+         * @return a tuple with the members of the current row
+         * @throws IllegalStateException if there is no current row
+         * @see OffHeapTupleList#get(long)
+         */
+        public Tuple get() {
+            return schema.read(current(), index);
+        }
+
+
+        private ByteBuffer current() {
+            checkOpen();
+            if (row < 0 || row >= size) {
+                throw new IllegalStateException("No current row");
+            }
+            return page;
+        }
+    }
+}
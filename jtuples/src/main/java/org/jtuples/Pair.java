@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -34,7 +37,8 @@ import java.util.function.Function;
  * @param <A> the type of the first element of the pair
  * @param <B> the type of the second element of the pair
  */
-public final class Pair<A, B> extends AbstractTuple {
+public final class Pair<A, B> extends AbstractTuple implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 2;
 
     private final A first;
@@ -135,6 +139,18 @@ public final class Pair<A, B> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new pair, transforming the first member of this pair.
@@ -171,4 +187,111 @@ public final class Pair<A, B> extends AbstractTuple {
     public <R> R apply(BiFunction<A, B, R> function) {
         return function.apply(first, second);
     }
+
+    /**
+     * Returns a builder that creates a new pair from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new pair is only created once, when the builder is built.
+     * @return a builder initialized with the members of this pair
+     */
+    public Builder<A, B> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this pair with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this pair
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of pairs, obtained from {@link Pair#toBuilder()}.
+     * It starts with the members of the original pair, and allows
+     * replacing or transforming any of them before the new pair is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     */
+    public static final class Builder<A, B> {
+        private final Pair<A, B> source;
+        private A first;
+        private B second;
+
+        private Builder(Pair<A, B> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+        }
+
+        /**
+         * Replaces the first member of the pair being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the pair being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the pair being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the pair being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Returns a pair with the members of this builder.
+         * If every member is the same object as in the original pair,
+         * the original pair is returned instead of a new one.
+         * @return a pair with the members of this builder
+         */
+        public Pair<A, B> build() {
+            if (first == source.first && second == source.second) {
+                return source;
+            }
+            return new Pair<>(first, second);
+        }
+    }
 }
@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A hash map whose keys are pairs, stored as individual components.
+ *
+ * Lookups and updates through the component methods, such as
+ * {@link #get(Object, Object)} or
+ * {@link #put(Object, Object, Object)}, hash and compare the
+ * components in place, without allocating a pair to probe the map.
+ * Entries store the components inline; pairs are only created when
+ * iterating over the keys or the entries of the map.
+ *
+ * The hash of a key is consistent with {@link Pair#hashCode()}, and
+ * this map behaves as any other {@code Map<Pair<A, B>, V>} when
+ * accessed through the standard {@link Map} methods.
+ * Null components and null values are permitted, but null keys are not.
+ *
+ * This map is not synchronized.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first component of the keys
+ * @param <B> the type of the second component of the keys
+ * @param <V> the type of the mapped values
+ * @see java.util.HashMap
+ */
+public final class PairKeyMap<A, B, V>
+        extends AbstractMap<Pair<A, B>, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Node<A, B, V>[] table;
+    private int size;
+    private int threshold;
+    private int modCount;
+    private Set<Map.Entry<Pair<A, B>, V>> entrySet;
+
+    /**
+     * Returns a new, empty map with the default initial capacity.
+     */
+    public PairKeyMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns a new, empty map able to hold the given number of
+     * mappings without resizing.
+     * @param expectedSize the expected number of mappings
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    public PairKeyMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(
+                    "Illegal expected size: " + expectedSize);
+        }
+        int capacity = 1;
+        while (capacity < MAXIMUM_CAPACITY
+                && capacity * 3L < expectedSize * 4L) {
+            capacity <<= 1;
+        }
+        allocate(Math.max(capacity, 2));
+    }
+
+
+    /**
+     * Returns the value to which the key with the given components is
+     * mapped, or {@code null} if this map contains no mapping for it.
+     * @param first the first component of the key
+     * @param second the second component of the key
+     * @return the mapped value, or {@code null} if there is none
+     */
+    public V get(A first, B second) {
+        Node<A, B, V> e = find(first, second);
+        return e == null ? null : e.value;
+    }
+
+    /**
+     * Returns {@code true} if this map contains a mapping for the key
+     * with the given components.
+     * @param first the first component of the key
+     * @param second the second component of the key
+     * @return true if this map contains a mapping for the key
+     */
+    public boolean containsKey(A first, B second) {
+        return find(first, second) != null;
+    }
+
+    /**
+     * Associates the given value with the key with the given components.
+     * If the map previously contained a mapping for the key,
+     * the old value is replaced.
+     * @param first the first component of the key
+     * @param second the second component of the key
+     * @param value the value to be associated with the key
+     * @return the previous value associated with the key,
+     *         or {@code null} if there was none
+     */
+    public V put(A first, B second, V value) {
+        int h = hash(first, second);
+        Node<A, B, V>[] tab = table;
+        int i = index(h, tab.length);
+        for (Node<A, B, V> e = tab[i]; e != null; e = e.next) {
+            if (e.matches(h, first, second)) {
+                V old = e.value;
+                e.value = value;
+                return old;
+            }
+        }
+        insert(h, i, first, second, value);
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the key with the given components,
+     * if present.
+     * @param first the first component of the key
+     * @param second the second component of the key
+     * @return the previous value associated with the key,
+     *         or {@code null} if there was none
+     */
+    public V removeKey(A first, B second) {
+        int h = hash(first, second);
+        Node<A, B, V>[] tab = table;
+        int i = index(h, tab.length);
+        Node<A, B, V> previous = null;
+        for (Node<A, B, V> e = tab[i]; e != null; e = e.next) {
+            if (e.matches(h, first, second)) {
+                unlink(i, previous, e);
+                return e.value;
+            }
+            previous = e;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to the key with the given components,
+     * computing it with the given function if there is none.
+     * If the function returns {@code null}, no mapping is recorded.
+     * The function receives the components of the key, so no pair
+     * is allocated to compute the value either.
+     * @param first the first component of the key
+     * @param second the second component of the key
+     * @param function the function to compute a value from the components
+     * @return the current (existing or computed) value associated with
+     *         the key, or {@code null} if the computed value is null
+     * @throws NullPointerException if the function is null
+     */
+    public V computeIfAbsent(A first, B second,
+            BiFunction<? super A, ? super B, ? extends V> function) {
+        Objects.requireNonNull(function);
+        int h = hash(first, second);
+        Node<A, B, V>[] tab = table;
+        int i = index(h, tab.length);
+        for (Node<A, B, V> e = tab[i]; e != null; e = e.next) {
+            if (e.matches(h, first, second)) {
+                if (e.value != null) {
+                    return e.value;
+                }
+                V value = function.apply(first, second);
+                e.value = value;
+                return value;
+            }
+        }
+        int expected = modCount;
+        V value = function.apply(first, second);
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+        if (value != null) {
+            insert(h, i, first, second, value);
+        }
+        return value;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object key) {
+        Node<A, B, V> e = find(key);
+        return e == null ? null : e.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    public V put(Pair<A, B> key, V value) {
+        return put(key.first(), key.second(), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!isKey(key)) {
+            return null;
+        }
+        Tuple k = (Tuple) key;
+        return removeKey((A) AbstractTuple.elementOf(k, 0),
+                (B) AbstractTuple.elementOf(k, 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Node<A, B, V>[] tab = table;
+            for (int i = 0; i < tab.length; ++i) {
+                tab[i] = null;
+            }
+            size = 0;
+            ++modCount;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The keys of the returned entries are new pairs, created on demand.
+     */
+    @Override
+    public Set<Map.Entry<Pair<A, B>, V>> entrySet() {
+        Set<Map.Entry<Pair<A, B>, V>> es = entrySet;
+        if (es == null) {
+            es = new EntrySet();
+            entrySet = es;
+        }
+        return es;
+    }
+
+
+    private static int hash(Object first, Object second) {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(first);
+        h = 31 * h + Objects.hashCode(second);
+        return h;
+    }
+
+    private static int index(int hash, int length) {
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    private Node<A, B, V> find(Object first, Object second) {
+        int h = hash(first, second);
+        Node<A, B, V>[] tab = table;
+        for (Node<A, B, V> e = tab[index(h, tab.length)]; e != null;
+                e = e.next) {
+            if (e.matches(h, first, second)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private Node<A, B, V> find(Object key) {
+        if (!isKey(key)) {
+            return null;
+        }
+        Tuple k = (Tuple) key;
+        return find(AbstractTuple.elementOf(k, 0),
+                AbstractTuple.elementOf(k, 1));
+    }
+
+    /**
+     * Keys are looked up by their members, so any tuple of the same arity
+     * may be equal to a key of this map, as {@link Tuple#equals} allows.
+     */
+    private static boolean isKey(Object key) {
+        return key instanceof Tuple && ((Tuple) key).arity() == 2;
+    }
+
+    private void insert(int hash, int index, A first, B second,
+            V value) {
+        Node<A, B, V>[] tab = table;
+        tab[index] = new Node<>(hash, first, second, value, tab[index]);
+        ++modCount;
+        if (++size > threshold) {
+            resize();
+        }
+    }
+
+    private void unlink(int index, Node<A, B, V> previous,
+            Node<A, B, V> e) {
+        if (previous == null) {
+            table[index] = e.next;
+        }
+        else {
+            previous.next = e.next;
+        }
+        --size;
+        ++modCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        table = (Node<A, B, V>[]) new Node<?, ?, ?>[capacity];
+        threshold = capacity >= MAXIMUM_CAPACITY
+                ? Integer.MAX_VALUE : capacity - (capacity >>> 2);
+    }
+
+    private void resize() {
+        Node<A, B, V>[] old = table;
+        if (old.length >= MAXIMUM_CAPACITY) {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+        allocate(old.length << 1);
+        Node<A, B, V>[] tab = table;
+        for (Node<A, B, V> head : old) {
+            Node<A, B, V> e = head;
+            while (e != null) {
+                Node<A, B, V> next = e.next;
+                int i = index(e.hash, tab.length);
+                e.next = tab[i];
+                tab[i] = e;
+                e = next;
+            }
+        }
+    }
+
+
+    private static final class Node<A, B, V>
+            implements Map.Entry<Pair<A, B>, V> {
+        final int hash;
+        final A first;
+        final B second;
+        V value;
+        Node<A, B, V> next;
+
+        Node(int hash, A first, B second, V value,
+                Node<A, B, V> next) {
+            this.hash = hash;
+            this.first = first;
+            this.second = second;
+            this.value = value;
+            this.next = next;
+        }
+
+        boolean matches(int hash, Object first, Object second) {
+            return this.hash == hash
+                    && Objects.equals(this.first, first)
+                    && Objects.equals(this.second, second);
+        }
+
+        @Override
+        public Pair<A, B> getKey() {
+            return new Pair<>(first, second);
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return Objects.equals(getKey(), other.getKey())
+                    && Objects.equals(value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + value;
+        }
+    }
+
+    private final class EntrySet
+            extends AbstractSet<Map.Entry<Pair<A, B>, V>> {
+        @Override
+        public Iterator<Map.Entry<Pair<A, B>, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            PairKeyMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator
+            implements Iterator<Map.Entry<Pair<A, B>, V>> {
+        private int index;
+        private Node<A, B, V> next;
+        private Node<A, B, V> current;
+        private int expectedModCount;
+
+        EntryIterator() {
+            expectedModCount = modCount;
+            advance(null);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<Pair<A, B>, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            advance(next.next);
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            PairKeyMap.this.removeKey(current.first,
+                    current.second);
+            current = null;
+            expectedModCount = modCount;
+        }
+
+        private void advance(Node<A, B, V> candidate) {
+            Node<A, B, V>[] tab = table;
+            Node<A, B, V> e = candidate;
+            while (e == null && index < tab.length) {
+                e = tab[index++];
+            }
+            next = e;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The layout of tuples whose members are all of primitive types, stored
+ * as fixed-width rows of bytes.
+ *
+ * A schema gives the {@link PrimitiveType} of each position of the tuples.
+ * Members are laid out in order, with no padding, so each row takes
+ * {@link #rowSize()} bytes and each member is found at a fixed
+ * {@link #offset(int) offset} from the start of its row.
+ * For instance, {@code PrimitiveSchema.of(LONG, INT, DOUBLE)} describes
+ * triples of a {@code Long}, an {@code Integer} and a {@code Double},
+ * stored in rows of 20 bytes.
+ *
+ * Positions are numbered from 1, as in {@link Projection}.
+ *
+ * @author Andre Santos
+ * @see MappedTupleFile
+ */
+public final class PrimitiveSchema {
+    private static final int MIN_ARITY = 2;
+    private static final int MAX_ARITY = 10;
+
+    private final PrimitiveType[] types;
+    private final int[] offsets;
+    private final int rowSize;
+
+    private PrimitiveSchema(PrimitiveType[] types) {
+        this.types = types;
+        this.offsets = new int[types.length];
+        int size = 0;
+        for (int i = 0; i < types.length; ++i) {
+            offsets[i] = size;
+            size += types[i].size();
+        }
+        this.rowSize = size;
+    }
+
+
+    /**
+     * Returns a schema with the given types, one for each position.
+     * @param types the types of the members of the tuples, in order
+     * @return a schema with the given types
+     * @throws NullPointerException if types or any of its elements is null
+     * @throws IllegalArgumentException if there are less than 2 or more
+     *         than 10 types
+     */
+    public static PrimitiveSchema of(PrimitiveType... types) {
+        if (types.length < MIN_ARITY || types.length > MAX_ARITY) {
+            throw new IllegalArgumentException(
+                    "Schemas must have between 2 and 10 types");
+        }
+        for (PrimitiveType type : types) {
+            Objects.requireNonNull(type);
+        }
+        return new PrimitiveSchema(types.clone());
+    }
+
+
+    /**
+     * Returns the arity of the tuples described by this schema.
+     * @return the number of types of this schema
+     */
+    public int arity() {
+        return types.length;
+    }
+
+    /**
+     * Returns the type of the members at the given position.
+     * @param position the position, starting at 1
+     * @return the type of the members at the position
+     * @throws IndexOutOfBoundsException if the position is not between
+     *         1 and the arity of this schema
+     */
+    public PrimitiveType type(int position) {
+        return types[index(position)];
+    }
+
+    /**
+     * Returns the offset, in bytes, of the members at the given position,
+     * from the start of their row.
+     * @param position the position, starting at 1
+     * @return the offset of the members at the position
+     * @throws IndexOutOfBoundsException if the position is not between
+     *         1 and the arity of this schema
+     */
+    public int offset(int position) {
+        return offsets[index(position)];
+    }
+
+    /**
+     * Returns the number of bytes taken by each row of this schema.
+     * @return the sum of the sizes of the types of this schema
+     */
+    public int rowSize() {
+        return rowSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PrimitiveSchema
+                && Arrays.equals(types, ((PrimitiveSchema) obj).types);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(types);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "PrimitiveSchema" + Arrays.toString(types);
+    }
+
+
+    /**
+     * Returns the zero-based index of a position, checking its range.
+     */
+    int index(int position) {
+        if (position < 1 || position > types.length) {
+            throw new IndexOutOfBoundsException(
+                    "Invalid position: " + position);
+        }
+        return position - 1;
+    }
+
+    /**
+     * Returns the offset of the members at the given position, checking
+     * that they have the expected type.
+     */
+    int offset(int position, PrimitiveType expected) {
+        int i = index(position);
+        if (types[i] != expected) {
+            throw new IllegalArgumentException("Position " + position
+                    + " holds " + types[i] + ", not " + expected);
+        }
+        return offsets[i];
+    }
+
+    /**
+     * Reads the row that starts at the given index of a buffer into
+     * a new tuple.
+     */
+    Tuple read(ByteBuffer buffer, int index) {
+        Object[] members = new Object[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            members[i] = types[i].get(buffer, index + offsets[i]);
+        }
+        return Tuples.fromArray(members);
+    }
+
+    /**
+     * Writes the members of a tuple as a row that starts at the given
+     * index of a buffer.
+     */
+    void write(ByteBuffer buffer, int index, Tuple tuple) {
+        if (tuple.arity() != types.length) {
+            throw new IllegalArgumentException("Expected arity "
+                    + types.length + ", found " + tuple.arity());
+        }
+        for (int i = 0; i < types.length; ++i) {
+            types[i].put(buffer, index + offsets[i],
+                    AbstractTuple.elementOf(tuple, i));
+        }
+    }
+
+    /**
+     * Returns the ordinals of the types of this schema, in order.
+     */
+    byte[] encode() {
+        byte[] bytes = new byte[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            bytes[i] = (byte) types[i].ordinal();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the schema encoded by {@link #encode()}, or null if the
+     * encoding is not valid.
+     */
+    static PrimitiveSchema decode(byte[] bytes) {
+        PrimitiveType[] all = PrimitiveType.values();
+        PrimitiveType[] types = new PrimitiveType[bytes.length];
+        for (int i = 0; i < bytes.length; ++i) {
+            if (bytes[i] < 0 || bytes[i] >= all.length) {
+                return null;
+            }
+            types[i] = all[bytes[i]];
+        }
+        if (types.length < MIN_ARITY || types.length > MAX_ARITY) {
+            return null;
+        }
+        return new PrimitiveSchema(types);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The primitive types that can be stored in the fixed-width columns of
+ * a {@link PrimitiveSchema}.
+ * Each type takes a fixed number of bytes, and is stored with the byte
+ * order of the buffer that holds it.
+ * Members of these types are boxed, as {@code Integer}, {@code Long} and
+ * so on, when read into tuples.
+ *
+ * @author Andre Santos
+ */
+public enum PrimitiveType {
+    /**
+     * A {@code byte}, stored in 1 byte.
+     */
+    BYTE(Byte.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.put(index, (Byte) value);
+        }
+    },
+
+    /**
+     * A {@code short}, stored in 2 bytes.
+     */
+    SHORT(Short.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.getShort(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.putShort(index, (Short) value);
+        }
+    },
+
+    /**
+     * An {@code int}, stored in 4 bytes.
+     */
+    INT(Integer.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.getInt(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.putInt(index, (Integer) value);
+        }
+    },
+
+    /**
+     * A {@code long}, stored in 8 bytes.
+     */
+    LONG(Long.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.getLong(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.putLong(index, (Long) value);
+        }
+    },
+
+    /**
+     * A {@code float}, stored in 4 bytes.
+     */
+    FLOAT(Float.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.getFloat(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.putFloat(index, (Float) value);
+        }
+    },
+
+    /**
+     * A {@code double}, stored in 8 bytes.
+     */
+    DOUBLE(Double.BYTES) {
+        @Override
+        Object get(ByteBuffer buffer, int index) {
+            return buffer.getDouble(index);
+        }
+
+        @Override
+        void put(ByteBuffer buffer, int index, Object value) {
+            buffer.putDouble(index, (Double) value);
+        }
+    };
+
+    private final int size;
+
+    private PrimitiveType(int size) {
+        this.size = size;
+    }
+
+
+    /**
+     * Returns the number of bytes taken by a value of this type.
+     * @return the size of this type, in bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads a value of this type, boxed, at the given index of a buffer.
+     */
+    abstract Object get(ByteBuffer buffer, int index);
+
+    /**
+     * Writes a boxed value of this type at the given index of a buffer.
+     * Throws {@code ClassCastException} if the value has another type,
+     * and {@code NullPointerException} if it is null.
+     */
+    abstract void put(ByteBuffer buffer, int index, Object value);
+}
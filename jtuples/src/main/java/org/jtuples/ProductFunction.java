@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+
+/**
+ * The product of two functions, as returned by
+ * {@link Functions#product(Function, Function)}.
+ *
+ * Composing a product with another product, or with the uncurried version
+ * of a two-argument function, fuses both stages into a single function,
+ * so that no intermediate pair is created on each call.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the parameter of the first function
+ * @param <B> the return type of the first function
+ * @param <C> the type of the parameter of the second function
+ * @param <D> the return type of the second function
+ */
+final class ProductFunction<A, B, C, D>
+        implements Function<Pair<A, C>, Pair<B, D>> {
+    final Function<A, B> f;
+    final Function<C, D> g;
+
+    ProductFunction(Function<A, B> f, Function<C, D> g) {
+        this.f = f;
+        this.g = g;
+    }
+
+    @Override
+    public Pair<B, D> apply(Pair<A, C> pair) {
+        return new Pair<>(f.apply(pair.first()), g.apply(pair.second()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Function<Pair<A, C>, V> andThen(
+            Function<? super Pair<B, D>, ? extends V> after) {
+        Function<?, ?> next = after;
+        if (after instanceof ProductFunction) {
+            ProductFunction<B, Object, D, Object> product =
+                    (ProductFunction<B, Object, D, Object>) next;
+            return (Function<Pair<A, C>, V>) (Function<?, ?>)
+                    new ProductFunction<>(f.andThen(product.f),
+                            g.andThen(product.g));
+        }
+        if (after instanceof UncurriedFunction) {
+            UncurriedFunction<B, D, V> uncurried =
+                    (UncurriedFunction<B, D, V>) next;
+            return (Pair<A, C> pair) -> uncurried.function.apply(
+                    f.apply(pair.first()), g.apply(pair.second()));
+        }
+        return Function.super.andThen(after);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Function<V, Pair<B, D>> compose(
+            Function<? super V, ? extends Pair<A, C>> before) {
+        if (before instanceof ProductFunction
+                || before instanceof SplitFunction) {
+            return ((Function<V, Pair<A, C>>) before).andThen(this);
+        }
+        return Function.super.compose(before);
+    }
+}
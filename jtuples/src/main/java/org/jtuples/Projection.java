@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable selection of positions of a tuple, used to build new tuples
+ * out of some of the members of existing ones.
+ *
+ * A projection is created once, with {@link #of(int...)}, and can then be
+ * applied to any number of tuples.
+ * Each application reads the selected members directly from the source
+ * tuple and creates the resulting tuple in a single allocation.
+ * Positions may be given in any order, and may be repeated, so projections
+ * can drop, reorder or duplicate members.
+ *
+ * Positions are numbered from 1, so that position 1 refers to the
+ * {@code first()} member of a tuple, position 2 to the {@code second()},
+ * and so on.
+ * For instance, {@code Projection.of(1, 4, 9)} turns a decuple
+ * {@code (a, b, c, d, e, f, g, h, i, j)} into the triple {@code (a, d, i)}.
+ *
+ * @author Andre Santos
+ */
+public final class Projection {
+    private static final int MIN_ARITY = 2;
+    private static final int MAX_ARITY = 10;
+
+    private final int[] indices;
+    private final int maxPosition;
+
+    private Projection(int[] indices, int maxPosition) {
+        this.indices = indices;
+        this.maxPosition = maxPosition;
+    }
+
+
+    /**
+     * Returns a projection of the given positions.
+     * The arity of the tuples created by the projection is the number
+     * of positions given.
+     * @param positions the positions to select, in the order in which
+     *        they appear in the resulting tuples
+     * @return a projection of the given positions
+     * @throws NullPointerException if positions is null
+     * @throws IllegalArgumentException if there are less than 2 or more
+     *         than 10 positions, or if any position is not between
+     *         1 and 10
+     */
+    public static Projection of(int... positions) {
+        Objects.requireNonNull(positions);
+        if (positions.length < MIN_ARITY || positions.length > MAX_ARITY) {
+            throw new IllegalArgumentException(
+                    "Projections must have between 2 and 10 positions");
+        }
+        int[] indices = new int[positions.length];
+        int maxPosition = 0;
+        for (int i = 0; i < positions.length; ++i) {
+            int position = positions[i];
+            if (position < 1 || position > MAX_ARITY) {
+                throw new IllegalArgumentException(
+                        "Invalid position: " + position);
+            }
+            indices[i] = position - 1;
+            maxPosition = Math.max(maxPosition, position);
+        }
+        return new Projection(indices, maxPosition);
+    }
+
+
+    /**
+     * Returns the arity of the tuples created by this projection.
+     * @return the number of positions of this projection
+     */
+    public int arity() {
+        return indices.length;
+    }
+
+    /**
+     * Returns the positions selected by this projection, in order.
+     * @return an array with the positions of this projection
+     */
+    public int[] positions() {
+        int[] positions = new int[indices.length];
+        for (int i = 0; i < indices.length; ++i) {
+            positions[i] = indices[i] + 1;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns a new tuple with the members of the given tuple found at
+     * the positions of this projection.
+     * The type of the result is determined by the arity of this
+     * projection: a {@code Pair} for 2 positions, a {@code Triple} for 3,
+     * and so on, up to a {@code Decuple}; the result can be cast to it.
+     * @param tuple the tuple to project
+     * @return a tuple with the selected members of the given tuple
+     * @throws NullPointerException if the tuple is null
+     * @throws IllegalArgumentException if the tuple does not have
+     *         all the positions of this projection
+     */
+    public Tuple apply(Tuple tuple) {
+        if (tuple.arity() < maxPosition) {
+            throw new IllegalArgumentException("Tuple of arity "
+                    + tuple.arity() + " has no position " + maxPosition);
+        }
+        int[] x = indices;
+        switch (x.length) {
+            case 2:
+                return new Pair<>(at(tuple, x[0]), at(tuple, x[1]));
+            case 3:
+                return new Triple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]));
+            case 4:
+                return new Quadruple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]));
+            case 5:
+                return new Quintuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]));
+            case 6:
+                return new Sextuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]),
+                        at(tuple, x[5]));
+            case 7:
+                return new Septuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]),
+                        at(tuple, x[5]), at(tuple, x[6]));
+            case 8:
+                return new Octuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]),
+                        at(tuple, x[5]), at(tuple, x[6]), at(tuple, x[7]));
+            case 9:
+                return new Nonuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]),
+                        at(tuple, x[5]), at(tuple, x[6]), at(tuple, x[7]),
+                        at(tuple, x[8]));
+            default:
+                return new Decuple<>(at(tuple, x[0]), at(tuple, x[1]),
+                        at(tuple, x[2]), at(tuple, x[3]), at(tuple, x[4]),
+                        at(tuple, x[5]), at(tuple, x[6]), at(tuple, x[7]),
+                        at(tuple, x[8]), at(tuple, x[9]));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Projection
+                && Arrays.equals(indices, ((Projection) obj).indices);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(indices);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Projection" + Arrays.toString(positions());
+    }
+
+
+    private static Object at(Tuple tuple, int index) {
+        return AbstractTuple.elementOf(tuple, index);
+    }
+}
@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -35,7 +38,9 @@ import java.util.function.Function;
  * @param <C> the type of the third element of the quadruple
  * @param <D> the type of the fourth element of the quadruple
  */
-public class Quadruple<A, B, C, D> extends AbstractTuple {
+public class Quadruple<A, B, C, D> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 4;
 
     private final A first;
@@ -158,6 +163,22 @@ public class Quadruple<A, B, C, D> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new quadruple, transforming the first member of this quadruple.
@@ -212,4 +233,179 @@ public class Quadruple<A, B, C, D> extends AbstractTuple {
         return new Quadruple<>(first, second, third, function.apply(fourth));
     }
     
+
+    /**
+     * Returns the result of applying the given function to this quadruple.
+     * The members of this quadruple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this quadruple
+     * @return the function's result
+     */
+    public <R> R apply(TetraFunction<A, B, C, D, R> function) {
+        return function.apply(first, second, third, fourth);
+    }
+
+    /**
+     * Returns a builder that creates a new quadruple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new quadruple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this quadruple
+     */
+    public Builder<A, B, C, D> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this quadruple with a serialization proxy, which is written
+     * in its place.
+     * The method is inherited by subclasses, so that they are serialized
+     * through the proxy as well; they are deserialized as plain
+     * quadruples, and any state they add is not written.
+     * @return a serialization proxy for this quadruple
+     */
+    protected Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of quadruples, obtained from {@link Quadruple#toBuilder()}.
+     * It starts with the members of the original quadruple, and allows
+     * replacing or transforming any of them before the new quadruple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     */
+    public static final class Builder<A, B, C, D> {
+        private final Quadruple<A, B, C, D> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+
+        private Builder(Quadruple<A, B, C, D> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+        }
+
+        /**
+         * Replaces the first member of the quadruple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the quadruple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the quadruple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the quadruple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the quadruple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the quadruple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the quadruple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the quadruple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Returns a quadruple with the members of this builder.
+         * If every member is the same object as in the original quadruple,
+         * the original quadruple is returned instead of a new one.
+         * @return a quadruple with the members of this builder
+         */
+        public Quadruple<A, B, C, D> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth) {
+                return source;
+            }
+            return new Quadruple<>(first, second, third, fourth);
+        }
+    }
 }
@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -36,7 +39,9 @@ import java.util.function.Function;
  * @param <D> the type of the fourth element of the quintuple
  * @param <E> the type of the fifth element of the quintuple
  */
-public final class Quintuple<A, B, C, D, E> extends AbstractTuple {
+public final class Quintuple<A, B, C, D, E> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 5;
 
     private final A first;
@@ -170,6 +175,24 @@ public final class Quintuple<A, B, C, D, E> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            case 4:
+                return fifth;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new quintuple, transforming the first member of this
@@ -245,4 +268,203 @@ public final class Quintuple<A, B, C, D, E> extends AbstractTuple {
         return new Quintuple<>(first(), second(), third(), fourth(),
                 function.apply(fifth()));
     }
+
+    /**
+     * Returns the result of applying the given function to this quintuple.
+     * The members of this quintuple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this quintuple
+     * @return the function's result
+     */
+    public <R> R apply(PentaFunction<A, B, C, D, E, R> function) {
+        return function.apply(first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Returns a builder that creates a new quintuple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new quintuple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this quintuple
+     */
+    public Builder<A, B, C, D, E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this quintuple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this quintuple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of quintuples, obtained from {@link Quintuple#toBuilder()}.
+     * It starts with the members of the original quintuple, and allows
+     * replacing or transforming any of them before the new quintuple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     */
+    public static final class Builder<A, B, C, D, E> {
+        private final Quintuple<A, B, C, D, E> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+        private E fifth;
+
+        private Builder(Quintuple<A, B, C, D, E> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+            this.fifth = source.fifth;
+        }
+
+        /**
+         * Replaces the first member of the quintuple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the quintuple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the quintuple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the quintuple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fifth member of the quintuple being built.
+         * @param value the new fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> fifth(E value) {
+            this.fifth = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the quintuple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the quintuple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the quintuple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the quintuple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Transforms the fifth member of the quintuple being built.
+         * The new fifth member is the result of applying the given function
+         * to the current fifth member of this builder.
+         * @param function the function used to transform the fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E> applyFifth(
+                Function<? super E, ? extends E> function) {
+            this.fifth = function.apply(fifth);
+            return this;
+        }
+
+        /**
+         * Returns a quintuple with the members of this builder.
+         * If every member is the same object as in the original quintuple,
+         * the original quintuple is returned instead of a new one.
+         * @return a quintuple with the members of this builder
+         */
+        public Quintuple<A, B, C, D, E> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth &&
+                    fifth == source.fifth) {
+                return source;
+            }
+            return new Quintuple<>(first, second, third, fourth, fifth);
+        }
+    }
 }
@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -39,7 +42,9 @@ import java.util.function.Function;
  * @param <F> the type of the sixth element of the septuple
  * @param <G> the type of the seventh element of the septuple
  */
-public final class Septuple<A, B, C, D, E, F, G> extends AbstractTuple {
+public final class Septuple<A, B, C, D, E, F, G> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 7;
 
     private final A first;
@@ -200,6 +205,28 @@ public final class Septuple<A, B, C, D, E, F, G> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            case 4:
+                return fifth;
+            case 5:
+                return sixth;
+            case 6:
+                return seventh;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new septuple, transforming the first member of this
@@ -312,4 +339,258 @@ public final class Septuple<A, B, C, D, E, F, G> extends AbstractTuple {
         return new Septuple<>(first, second, third, fourth, fifth, sixth,
                 function.apply(seventh));
     }
+
+    /**
+     * Returns the result of applying the given function to this septuple.
+     * The members of this septuple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this septuple
+     * @return the function's result
+     */
+    public <R> R apply(HeptaFunction<A, B, C, D, E, F, G, R> function) {
+        return function.apply(first, second, third, fourth, fifth, sixth,
+                seventh);
+    }
+
+    /**
+     * Returns a builder that creates a new septuple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new septuple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this septuple
+     */
+    public Builder<A, B, C, D, E, F, G> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this septuple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this septuple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of septuples, obtained from {@link Septuple#toBuilder()}.
+     * It starts with the members of the original septuple, and allows
+     * replacing or transforming any of them before the new septuple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     */
+    public static final class Builder<A, B, C, D, E, F, G> {
+        private final Septuple<A, B, C, D, E, F, G> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+        private E fifth;
+        private F sixth;
+        private G seventh;
+
+        private Builder(Septuple<A, B, C, D, E, F, G> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+            this.fifth = source.fifth;
+            this.sixth = source.sixth;
+            this.seventh = source.seventh;
+        }
+
+        /**
+         * Replaces the first member of the septuple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the septuple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the septuple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the septuple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fifth member of the septuple being built.
+         * @param value the new fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> fifth(E value) {
+            this.fifth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the sixth member of the septuple being built.
+         * @param value the new sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> sixth(F value) {
+            this.sixth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the seventh member of the septuple being built.
+         * @param value the new seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> seventh(G value) {
+            this.seventh = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the septuple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the septuple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the septuple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the septuple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Transforms the fifth member of the septuple being built.
+         * The new fifth member is the result of applying the given function
+         * to the current fifth member of this builder.
+         * @param function the function used to transform the fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applyFifth(
+                Function<? super E, ? extends E> function) {
+            this.fifth = function.apply(fifth);
+            return this;
+        }
+
+        /**
+         * Transforms the sixth member of the septuple being built.
+         * The new sixth member is the result of applying the given function
+         * to the current sixth member of this builder.
+         * @param function the function used to transform the sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applySixth(
+                Function<? super F, ? extends F> function) {
+            this.sixth = function.apply(sixth);
+            return this;
+        }
+
+        /**
+         * Transforms the seventh member of the septuple being built.
+         * The new seventh member is the result of applying the given function
+         * to the current seventh member of this builder.
+         * @param function the function used to transform the seventh member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F, G> applySeventh(
+                Function<? super G, ? extends G> function) {
+            this.seventh = function.apply(seventh);
+            return this;
+        }
+
+        /**
+         * Returns a septuple with the members of this builder.
+         * If every member is the same object as in the original septuple,
+         * the original septuple is returned instead of a new one.
+         * @return a septuple with the members of this builder
+         */
+        public Septuple<A, B, C, D, E, F, G> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth &&
+                    fifth == source.fifth && sixth == source.sixth &&
+                    seventh == source.seventh) {
+                return source;
+            }
+            return new Septuple<>(first, second, third, fourth, fifth, sixth,
+                    seventh);
+        }
+    }
 }
@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -37,7 +40,9 @@ import java.util.function.Function;
  * @param <E> the type of the fifth element of the sextuple
  * @param <F> the type of the sixth element of the sextuple
  */
-public final class Sextuple<A, B, C, D, E, F> extends AbstractTuple {
+public final class Sextuple<A, B, C, D, E, F> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 6;
 
     private final A first;
@@ -185,6 +190,26 @@ public final class Sextuple<A, B, C, D, E, F> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            case 3:
+                return fourth;
+            case 4:
+                return fifth;
+            case 5:
+                return sixth;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new sextuple, transforming the first member of this
@@ -275,4 +300,229 @@ public final class Sextuple<A, B, C, D, E, F> extends AbstractTuple {
         return new Sextuple<>(first(), second(), third(), fourth(), fifth(),
                 function.apply(sixth()));
     }
+
+    /**
+     * Returns the result of applying the given function to this sextuple.
+     * The members of this sextuple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this sextuple
+     * @return the function's result
+     */
+    public <R> R apply(HexaFunction<A, B, C, D, E, F, R> function) {
+        return function.apply(first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Returns a builder that creates a new sextuple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new sextuple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this sextuple
+     */
+    public Builder<A, B, C, D, E, F> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this sextuple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this sextuple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of sextuples, obtained from {@link Sextuple#toBuilder()}.
+     * It starts with the members of the original sextuple, and allows
+     * replacing or transforming any of them before the new sextuple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     */
+    public static final class Builder<A, B, C, D, E, F> {
+        private final Sextuple<A, B, C, D, E, F> source;
+        private A first;
+        private B second;
+        private C third;
+        private D fourth;
+        private E fifth;
+        private F sixth;
+
+        private Builder(Sextuple<A, B, C, D, E, F> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+            this.fourth = source.fourth;
+            this.fifth = source.fifth;
+            this.sixth = source.sixth;
+        }
+
+        /**
+         * Replaces the first member of the sextuple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the sextuple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the sextuple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fourth member of the sextuple being built.
+         * @param value the new fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> fourth(D value) {
+            this.fourth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the fifth member of the sextuple being built.
+         * @param value the new fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> fifth(E value) {
+            this.fifth = value;
+            return this;
+        }
+
+        /**
+         * Replaces the sixth member of the sextuple being built.
+         * @param value the new sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> sixth(F value) {
+            this.sixth = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the sextuple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the sextuple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the sextuple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Transforms the fourth member of the sextuple being built.
+         * The new fourth member is the result of applying the given function
+         * to the current fourth member of this builder.
+         * @param function the function used to transform the fourth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applyFourth(
+                Function<? super D, ? extends D> function) {
+            this.fourth = function.apply(fourth);
+            return this;
+        }
+
+        /**
+         * Transforms the fifth member of the sextuple being built.
+         * The new fifth member is the result of applying the given function
+         * to the current fifth member of this builder.
+         * @param function the function used to transform the fifth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applyFifth(
+                Function<? super E, ? extends E> function) {
+            this.fifth = function.apply(fifth);
+            return this;
+        }
+
+        /**
+         * Transforms the sixth member of the sextuple being built.
+         * The new sixth member is the result of applying the given function
+         * to the current sixth member of this builder.
+         * @param function the function used to transform the sixth member
+         * @return this builder
+         */
+        public Builder<A, B, C, D, E, F> applySixth(
+                Function<? super F, ? extends F> function) {
+            this.sixth = function.apply(sixth);
+            return this;
+        }
+
+        /**
+         * Returns a sextuple with the members of this builder.
+         * If every member is the same object as in the original sextuple,
+         * the original sextuple is returned instead of a new one.
+         * @return a sextuple with the members of this builder
+         */
+        public Sextuple<A, B, C, D, E, F> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third && fourth == source.fourth &&
+                    fifth == source.fifth && sixth == source.sixth) {
+                return source;
+            }
+            return new Sextuple<>(first, second, third, fourth, fifth, sixth);
+        }
+    }
 }
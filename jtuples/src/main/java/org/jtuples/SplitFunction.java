@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.Function;
+
+/**
+ * The split of two functions, as returned by
+ * {@link Functions#split(Function, Function)}.
+ *
+ * Following a split with a product, or with the uncurried version
+ * of a two-argument function, fuses both stages into a single function,
+ * so that no intermediate pair is created on each call.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the parameter
+ * @param <B> the return type of the first function
+ * @param <C> the return type of the second function
+ */
+final class SplitFunction<A, B, C> implements Function<A, Pair<B, C>> {
+    final Function<A, B> f;
+    final Function<? super A, C> g;
+
+    SplitFunction(Function<A, B> f, Function<? super A, C> g) {
+        this.f = f;
+        this.g = g;
+    }
+
+    @Override
+    public Pair<B, C> apply(A a) {
+        return new Pair<>(f.apply(a), g.apply(a));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Function<A, V> andThen(
+            Function<? super Pair<B, C>, ? extends V> after) {
+        Function<?, ?> next = after;
+        if (after instanceof ProductFunction) {
+            ProductFunction<B, Object, C, Object> product =
+                    (ProductFunction<B, Object, C, Object>) next;
+            Function<? super A, Object> second = g.andThen(product.g);
+            return (Function<A, V>) (Function<?, ?>)
+                    new SplitFunction<>(f.andThen(product.f), second);
+        }
+        if (after instanceof UncurriedFunction) {
+            UncurriedFunction<B, C, V> uncurried =
+                    (UncurriedFunction<B, C, V>) next;
+            return (A a) -> uncurried.function.apply(f.apply(a), g.apply(a));
+        }
+        return Function.super.andThen(after);
+    }
+}
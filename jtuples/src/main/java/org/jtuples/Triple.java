@@ -21,6 +21,9 @@
  */
 package org.jtuples;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -34,7 +37,9 @@ import java.util.function.Function;
  * @param <B> the type of the second element of the triple
  * @param <C> the type of the third element of the triple
  */
-public final class Triple<A, B, C> extends AbstractTuple {
+public final class Triple<A, B, C> extends AbstractTuple
+        implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int ARITY = 3;
 
     private final A first;
@@ -146,6 +151,20 @@ public final class Triple<A, B, C> extends AbstractTuple {
         };
     }
 
+    @Override
+    Object element(int index) {
+        switch (index) {
+            case 0:
+                return first;
+            case 1:
+                return second;
+            case 2:
+                return third;
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index);
+        }
+    }
+
 
     /**
      * Returns a new triple, transforming the first member of this triple.
@@ -185,4 +204,150 @@ public final class Triple<A, B, C> extends AbstractTuple {
     public <R> Triple<A, B, R> applyThird(Function<C, R> function) {
         return new Triple<>(first, second, function.apply(third));
     }
+
+    /**
+     * Returns the result of applying the given function to this triple.
+     * The members of this triple are passed, in order, as the arguments
+     * of the function.
+     * @param <R> the type of the function's result
+     * @param function the function used to transform this triple
+     * @return the function's result
+     */
+    public <R> R apply(TriFunction<A, B, C, R> function) {
+        return function.apply(first, second, third);
+    }
+
+    /**
+     * Returns a builder that creates a new triple from this one, replacing
+     * some of its members.
+     * Several members can be replaced or transformed in sequence,
+     * and the new triple is only created once, when the builder is built.
+     * @return a builder initialized with the members of this triple
+     */
+    public Builder<A, B, C> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Replaces this triple with a serialization proxy, which is written
+     * in its place.
+     * @return a serialization proxy for this triple
+     */
+    private Object writeReplace() {
+        return new TupleSerializationProxy(this);
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws InvalidObjectException {
+        throw new InvalidObjectException("Serialization proxy required");
+    }
+
+
+    /**
+     * A builder of triples, obtained from {@link Triple#toBuilder()}.
+     * It starts with the members of the original triple, and allows
+     * replacing or transforming any of them before the new triple is created.
+     * Replacements keep the types of the members.
+     * Builders are not safe for use by multiple threads.
+     *
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     */
+    public static final class Builder<A, B, C> {
+        private final Triple<A, B, C> source;
+        private A first;
+        private B second;
+        private C third;
+
+        private Builder(Triple<A, B, C> source) {
+            this.source = source;
+            this.first = source.first;
+            this.second = source.second;
+            this.third = source.third;
+        }
+
+        /**
+         * Replaces the first member of the triple being built.
+         * @param value the new first member
+         * @return this builder
+         */
+        public Builder<A, B, C> first(A value) {
+            this.first = value;
+            return this;
+        }
+
+        /**
+         * Replaces the second member of the triple being built.
+         * @param value the new second member
+         * @return this builder
+         */
+        public Builder<A, B, C> second(B value) {
+            this.second = value;
+            return this;
+        }
+
+        /**
+         * Replaces the third member of the triple being built.
+         * @param value the new third member
+         * @return this builder
+         */
+        public Builder<A, B, C> third(C value) {
+            this.third = value;
+            return this;
+        }
+
+        /**
+         * Transforms the first member of the triple being built.
+         * The new first member is the result of applying the given function
+         * to the current first member of this builder.
+         * @param function the function used to transform the first member
+         * @return this builder
+         */
+        public Builder<A, B, C> applyFirst(
+                Function<? super A, ? extends A> function) {
+            this.first = function.apply(first);
+            return this;
+        }
+
+        /**
+         * Transforms the second member of the triple being built.
+         * The new second member is the result of applying the given function
+         * to the current second member of this builder.
+         * @param function the function used to transform the second member
+         * @return this builder
+         */
+        public Builder<A, B, C> applySecond(
+                Function<? super B, ? extends B> function) {
+            this.second = function.apply(second);
+            return this;
+        }
+
+        /**
+         * Transforms the third member of the triple being built.
+         * The new third member is the result of applying the given function
+         * to the current third member of this builder.
+         * @param function the function used to transform the third member
+         * @return this builder
+         */
+        public Builder<A, B, C> applyThird(
+                Function<? super C, ? extends C> function) {
+            this.third = function.apply(third);
+            return this;
+        }
+
+        /**
+         * Returns a triple with the members of this builder.
+         * If every member is the same object as in the original triple,
+         * the original triple is returned instead of a new one.
+         * @return a triple with the members of this builder
+         */
+        public Triple<A, B, C> build() {
+            if (first == source.first && second == source.second &&
+                    third == source.third) {
+                return source;
+            }
+            return new Triple<>(first, second, third);
+        }
+    }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Encodes and decodes tuples of a fixed arity to and from a
+ * {@link ByteBuffer}, using one {@link ElementCodec} for each position.
+ *
+ * A tuple is encoded as a single header byte, holding its arity, followed
+ * by the encoding of each of its members, in order.
+ * Members are read directly from the encoded tuple, and decoded members
+ * are passed directly to the constructor of the resulting tuple, so
+ * neither direction goes through an intermediate array.
+ * Since a tuple codec is itself an element codec, it can be used for a
+ * position whose members are themselves tuples.
+ *
+ * Tuple codecs are immutable, and are thread-safe as long as their
+ * element codecs are.
+ * For instance, the following codec encodes pairs of an integer and
+ * a string:
+ * <pre>{@code
+ * TupleCodec<Pair<Integer, String>> codec =
+ *         TupleCodec.of(ElementCodecs.INT, ElementCodecs.UTF8);
+ * }</pre>
+ *
+ * @author Andre Santos
+ * @param <T> the type of the encoded tuples
+ * @see ElementCodecs
+ */
+public final class TupleCodec<T extends Tuple> implements ElementCodec<T> {
+    private final ElementCodec<?>[] codecs;
+
+    private TupleCodec(ElementCodec<?>... codecs) {
+        for (ElementCodec<?> codec : codecs) {
+            Objects.requireNonNull(codec);
+        }
+        this.codecs = codecs;
+    }
+
+
+    /**
+     * Returns a codec for pairs, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the pairs
+     * @param <B> the type of the second element of the pairs
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @return a codec for pairs
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B> TupleCodec<Pair<A, B>> of(ElementCodec<A> first,
+            ElementCodec<B> second) {
+        return new TupleCodec<>(first, second);
+    }
+
+    /**
+     * Returns a codec for triples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the triples
+     * @param <B> the type of the second element of the triples
+     * @param <C> the type of the third element of the triples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @return a codec for triples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C> TupleCodec<Triple<A, B, C>> of(
+            ElementCodec<A> first, ElementCodec<B> second,
+            ElementCodec<C> third) {
+        return new TupleCodec<>(first, second, third);
+    }
+
+    /**
+     * Returns a codec for quadruples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the quadruples
+     * @param <B> the type of the second element of the quadruples
+     * @param <C> the type of the third element of the quadruples
+     * @param <D> the type of the fourth element of the quadruples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @return a codec for quadruples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D> TupleCodec<Quadruple<A, B, C, D>> of(
+            ElementCodec<A> first, ElementCodec<B> second,
+            ElementCodec<C> third, ElementCodec<D> fourth) {
+        return new TupleCodec<>(first, second, third, fourth);
+    }
+
+    /**
+     * Returns a codec for quintuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the quintuples
+     * @param <B> the type of the second element of the quintuples
+     * @param <C> the type of the third element of the quintuples
+     * @param <D> the type of the fourth element of the quintuples
+     * @param <E> the type of the fifth element of the quintuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @return a codec for quintuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E>
+            TupleCodec<Quintuple<A, B, C, D, E>> of(ElementCodec<A> first,
+                    ElementCodec<B> second, ElementCodec<C> third,
+                    ElementCodec<D> fourth, ElementCodec<E> fifth) {
+        return new TupleCodec<>(first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Returns a codec for sextuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the sextuples
+     * @param <B> the type of the second element of the sextuples
+     * @param <C> the type of the third element of the sextuples
+     * @param <D> the type of the fourth element of the sextuples
+     * @param <E> the type of the fifth element of the sextuples
+     * @param <F> the type of the sixth element of the sextuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @return a codec for sextuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F>
+            TupleCodec<Sextuple<A, B, C, D, E, F>> of(ElementCodec<A> first,
+                    ElementCodec<B> second, ElementCodec<C> third,
+                    ElementCodec<D> fourth, ElementCodec<E> fifth,
+                    ElementCodec<F> sixth) {
+        return new TupleCodec<>(first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Returns a codec for septuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the septuples
+     * @param <B> the type of the second element of the septuples
+     * @param <C> the type of the third element of the septuples
+     * @param <D> the type of the fourth element of the septuples
+     * @param <E> the type of the fifth element of the septuples
+     * @param <F> the type of the sixth element of the septuples
+     * @param <G> the type of the seventh element of the septuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @return a codec for septuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G>
+            TupleCodec<Septuple<A, B, C, D, E, F, G>> of(ElementCodec<A> first,
+                    ElementCodec<B> second, ElementCodec<C> third,
+                    ElementCodec<D> fourth, ElementCodec<E> fifth,
+                    ElementCodec<F> sixth, ElementCodec<G> seventh) {
+        return new TupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh);
+    }
+
+    /**
+     * Returns a codec for octuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the octuples
+     * @param <B> the type of the second element of the octuples
+     * @param <C> the type of the third element of the octuples
+     * @param <D> the type of the fourth element of the octuples
+     * @param <E> the type of the fifth element of the octuples
+     * @param <F> the type of the sixth element of the octuples
+     * @param <G> the type of the seventh element of the octuples
+     * @param <H> the type of the eighth element of the octuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @return a codec for octuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            TupleCodec<Octuple<A, B, C, D, E, F, G, H>> of(
+                    ElementCodec<A> first, ElementCodec<B> second,
+                    ElementCodec<C> third, ElementCodec<D> fourth,
+                    ElementCodec<E> fifth, ElementCodec<F> sixth,
+                    ElementCodec<G> seventh, ElementCodec<H> eighth) {
+        return new TupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth);
+    }
+
+    /**
+     * Returns a codec for nonuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the nonuples
+     * @param <B> the type of the second element of the nonuples
+     * @param <C> the type of the third element of the nonuples
+     * @param <D> the type of the fourth element of the nonuples
+     * @param <E> the type of the fifth element of the nonuples
+     * @param <F> the type of the sixth element of the nonuples
+     * @param <G> the type of the seventh element of the nonuples
+     * @param <H> the type of the eighth element of the nonuples
+     * @param <I> the type of the ninth element of the nonuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @param ninth the codec of the ninth element
+     * @return a codec for nonuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            TupleCodec<Nonuple<A, B, C, D, E, F, G, H, I>> of(
+                    ElementCodec<A> first, ElementCodec<B> second,
+                    ElementCodec<C> third, ElementCodec<D> fourth,
+                    ElementCodec<E> fifth, ElementCodec<F> sixth,
+                    ElementCodec<G> seventh, ElementCodec<H> eighth,
+                    ElementCodec<I> ninth) {
+        return new TupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth);
+    }
+
+    /**
+     * Returns a codec for decuples, using the given codecs for each
+     * position.
+     * @param <A> the type of the first element of the decuples
+     * @param <B> the type of the second element of the decuples
+     * @param <C> the type of the third element of the decuples
+     * @param <D> the type of the fourth element of the decuples
+     * @param <E> the type of the fifth element of the decuples
+     * @param <F> the type of the sixth element of the decuples
+     * @param <G> the type of the seventh element of the decuples
+     * @param <H> the type of the eighth element of the decuples
+     * @param <I> the type of the ninth element of the decuples
+     * @param <J> the type of the tenth element of the decuples
+     * @param first the codec of the first element
+     * @param second the codec of the second element
+     * @param third the codec of the third element
+     * @param fourth the codec of the fourth element
+     * @param fifth the codec of the fifth element
+     * @param sixth the codec of the sixth element
+     * @param seventh the codec of the seventh element
+     * @param eighth the codec of the eighth element
+     * @param ninth the codec of the ninth element
+     * @param tenth the codec of the tenth element
+     * @return a codec for decuples
+     * @throws NullPointerException if any of the codecs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            TupleCodec<Decuple<A, B, C, D, E, F, G, H, I, J>> of(
+                    ElementCodec<A> first, ElementCodec<B> second,
+                    ElementCodec<C> third, ElementCodec<D> fourth,
+                    ElementCodec<E> fifth, ElementCodec<F> sixth,
+                    ElementCodec<G> seventh, ElementCodec<H> eighth,
+                    ElementCodec<I> ninth, ElementCodec<J> tenth) {
+        return new TupleCodec<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth, tenth);
+    }
+
+
+    /**
+     * Returns the arity of the tuples encoded by this codec.
+     * @return the number of element codecs of this codec
+     */
+    public int arity() {
+        return codecs.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the arity of the tuple is not
+     *         the arity of this codec
+     */
+    @Override
+    public void write(ByteBuffer buffer, T value) {
+        checkArity(value.arity());
+        buffer.put((byte) codecs.length);
+        for (int i = 0; i < codecs.length; ++i) {
+            codec(i).write(buffer, AbstractTuple.elementOf(value, i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the encoded arity is not the
+     *         arity of this codec
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read(ByteBuffer buffer) {
+        checkArity(buffer.get());
+        switch (codecs.length) {
+            case 2:
+                return (T) new Pair<>(read(buffer, 0), read(buffer, 1));
+            case 3:
+                return (T) new Triple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2));
+            case 4:
+                return (T) new Quadruple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3));
+            case 5:
+                return (T) new Quintuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4));
+            case 6:
+                return (T) new Sextuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4),
+                        read(buffer, 5));
+            case 7:
+                return (T) new Septuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4),
+                        read(buffer, 5), read(buffer, 6));
+            case 8:
+                return (T) new Octuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4),
+                        read(buffer, 5), read(buffer, 6), read(buffer, 7));
+            case 9:
+                return (T) new Nonuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4),
+                        read(buffer, 5), read(buffer, 6), read(buffer, 7),
+                        read(buffer, 8));
+            case 10:
+                return (T) new Decuple<>(read(buffer, 0), read(buffer, 1),
+                        read(buffer, 2), read(buffer, 3), read(buffer, 4),
+                        read(buffer, 5), read(buffer, 6), read(buffer, 7),
+                        read(buffer, 8), read(buffer, 9));
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the arity of the tuple is not
+     *         the arity of this codec
+     */
+    @Override
+    public int encodedSize(T value) {
+        checkArity(value.arity());
+        int size = 1;
+        for (int i = 0; i < codecs.length; ++i) {
+            size += codec(i).encodedSize(AbstractTuple.elementOf(value, i));
+        }
+        return size;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private ElementCodec<Object> codec(int index) {
+        return (ElementCodec<Object>) codecs[index];
+    }
+
+    private Object read(ByteBuffer buffer, int index) {
+        return codecs[index].read(buffer);
+    }
+
+    private void checkArity(int arity) {
+        if (arity != codecs.length) {
+            throw new IllegalArgumentException("Expected arity "
+                    + codecs.length + ", found " + arity);
+        }
+    }
+}
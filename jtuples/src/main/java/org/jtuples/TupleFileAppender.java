@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Appends fixed-width tuples to a file, to be read back with
+ * a {@link MappedTupleFile}.
+ *
+ * Each row holds the members of one tuple, laid out as described by
+ * a {@link PrimitiveSchema}.
+ * Rows can be appended from tuples, with {@link #append(Tuple)}, or built
+ * member by member, with setters such as {@link #setLong(int, long)},
+ * followed by {@link #endRow()}, without creating any objects.
+ * Members of a row that are not set are zero.
+ * For instance:
+ * <pre>{@code
+ * try (TupleFileAppender appender = TupleFileAppender.open(path,
+ *         PrimitiveSchema.of(PrimitiveType.LONG, PrimitiveType.INT,
+ *                 PrimitiveType.DOUBLE))) {
+ *     appender.setLong(1, timestamp).setInt(2, id).setDouble(3, value)
+ *             .endRow();
+ * }
+ * }</pre>
+ *
+ * Rows are buffered, and written to the file when the buffer fills up,
+ * when the appender is flushed, and when it is closed.
+ * Appenders are not safe for use by multiple threads.
+ *
+ * @author Andre Santos
+ * @see MappedTupleFile
+ */
+public final class TupleFileAppender implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final PrimitiveSchema schema;
+    private final int rowSize;
+    private final ByteBuffer buffer;
+    private int rowStart;
+    private long rowCount;
+
+    private TupleFileAppender(FileChannel channel, PrimitiveSchema schema,
+            long rowCount) {
+        this.channel = channel;
+        this.schema = schema;
+        this.rowSize = schema.rowSize();
+        this.buffer = ByteBuffer.allocateDirect(
+                Math.max(1, BUFFER_SIZE / rowSize) * rowSize);
+        this.rowCount = rowCount;
+    }
+
+
+    /**
+     * Opens a tuple file for appending, creating it if it does not exist.
+     * If the file exists, it must have the given schema; a partially
+     * written last row, left by an appender that was not closed, is
+     * discarded.
+     * @param path the path of the file
+     * @param schema the schema of the tuples in the file
+     * @return an appender positioned after the last row of the file
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if the file exists and has
+     *         another schema
+     * @throws IOException if the file cannot be opened, or exists and is
+     *         not a tuple file
+     */
+    public static TupleFileAppender open(Path path, PrimitiveSchema schema)
+            throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(schema);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size == 0) {
+                MappedTupleFile.writeHeader(channel, schema);
+                size = MappedTupleFile.HEADER_SIZE;
+            } else {
+                PrimitiveSchema existing = MappedTupleFile.readHeader(channel);
+                if (!existing.equals(schema)) {
+                    throw new IllegalArgumentException("File has schema "
+                            + existing + ", not " + schema);
+                }
+            }
+            long rows = (size - MappedTupleFile.HEADER_SIZE)
+                    / schema.rowSize();
+            long end = MappedTupleFile.HEADER_SIZE + rows * schema.rowSize();
+            channel.truncate(end);
+            channel.position(end);
+            return new TupleFileAppender(channel, schema, rows);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the schema of the tuples in the file.
+     * @return the schema of the file
+     */
+    public PrimitiveSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of complete rows in the file, including those
+     * that are still buffered.
+     * @return the number of rows appended to the file
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold a {@code byte}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code byte}
+     */
+    public TupleFileAppender setByte(int position, byte value) {
+        int offset = schema.offset(position, PrimitiveType.BYTE);
+        buffer.put(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold a {@code short}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code short}
+     */
+    public TupleFileAppender setShort(int position, short value) {
+        int offset = schema.offset(position, PrimitiveType.SHORT);
+        buffer.putShort(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold an {@code int}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         an {@code int}
+     */
+    public TupleFileAppender setInt(int position, int value) {
+        int offset = schema.offset(position, PrimitiveType.INT);
+        buffer.putInt(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold a {@code long}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code long}
+     */
+    public TupleFileAppender setLong(int position, long value) {
+        int offset = schema.offset(position, PrimitiveType.LONG);
+        buffer.putLong(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold a {@code float}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code float}
+     */
+    public TupleFileAppender setFloat(int position, float value) {
+        int offset = schema.offset(position, PrimitiveType.FLOAT);
+        buffer.putFloat(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Sets the member at the given position of the current row, which
+     * must hold a {@code double}.
+     * @param position the position within the row, starting at 1
+     * @param value the value of the member
+     * @return this appender
+     * @throws IndexOutOfBoundsException if the position is out of range
+     * @throws IllegalArgumentException if the position does not hold
+     *         a {@code double}
+     */
+    public TupleFileAppender setDouble(int position, double value) {
+        int offset = schema.offset(position, PrimitiveType.DOUBLE);
+        buffer.putDouble(rowStart + offset, value);
+        return this;
+    }
+
+    /**
+     * Ends the current row, and starts a new one, with all members zero.
+     * @return this appender
+     * @throws IOException if the buffered rows cannot be written
+     */
+    public TupleFileAppender endRow() throws IOException {
+        rowStart += rowSize;
+        ++rowCount;
+        if (rowStart == buffer.capacity()) {
+            writeRows();
+        }
+        clearRow();
+        return this;
+    }
+
+    /**
+     * Appends a row with the members of the given tuple.
+     * Members must be boxed values of the types given by the schema,
+     * such as {@code Long} for {@link PrimitiveType#LONG}.
+     * Members already set in the current row are overwritten.
+     * @param tuple the tuple to append
+     * @throws NullPointerException if the tuple or any of its members is
+     *         null
+     * @throws ClassCastException if any of the members does not have the
+     *         type given by the schema
+     * @throws IllegalArgumentException if the arity of the tuple is not
+     *         the arity of the schema
+     * @throws IOException if the buffered rows cannot be written
+     */
+    public void append(Tuple tuple) throws IOException {
+        try {
+            schema.write(buffer, rowStart, tuple);
+        } catch (RuntimeException e) {
+            clearRow();
+            throw e;
+        }
+        endRow();
+    }
+
+    /**
+     * Writes all complete rows to the file.
+     * The current row, if any of its members is set, is kept in the
+     * buffer until it is ended.
+     * @throws IOException if the rows cannot be written
+     */
+    @Override
+    public void flush() throws IOException {
+        writeRows();
+    }
+
+    /**
+     * Writes all complete rows to the file, and closes it.
+     * The current row is discarded, unless it has been ended.
+     * @throws IOException if the rows cannot be written, or the file
+     *         cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeRows();
+        } finally {
+            channel.close();
+        }
+    }
+
+
+    private void writeRows() throws IOException {
+        buffer.limit(rowStart);
+        buffer.position(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        if (rowStart < buffer.capacity()) {
+            buffer.position(rowStart);
+            buffer.limit(rowStart + rowSize);
+            buffer.compact();
+            buffer.clear();
+        }
+        rowStart = 0;
+    }
+
+    private void clearRow() {
+        for (int i = 0; i < rowSize; ++i) {
+            buffer.put(rowStart + i, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hash index over some positions of the tuples of an
+ * {@link IndexedTupleSet}.
+ *
+ * An index maps the elements found at its positions to the tuples that
+ * contain them, so that point queries take constant time.
+ * Indexes are created with {@link IndexedTupleSet#index(int...)} and are
+ * kept up to date by their set as tuples are added and removed.
+ *
+ * Positions are numbered from 1, so that position 1 refers to the
+ * {@code first()} member of a tuple, position 2 to the {@code second()},
+ * and so on.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the indexed tuples
+ * @see IndexedTupleSet
+ */
+public final class TupleIndex<T extends Tuple> {
+    private final int[] positions;
+    private final int maxPosition;
+    private final Map<Object, Set<T>> buckets;
+
+    TupleIndex(int[] positions) {
+        this.positions = positions;
+        this.maxPosition = Arrays.stream(positions).max().getAsInt();
+        this.buckets = new HashMap<>();
+    }
+
+
+    /**
+     * Returns the positions covered by this index, in order.
+     * @return an array with the positions of this index
+     */
+    public int[] positions() {
+        return positions.clone();
+    }
+
+    /**
+     * Returns a view of the tuples whose elements at the positions of
+     * this index are equal to the given values, in the same order.
+     *
+     * The returned set is read-only and reflects later changes to the
+     * indexed set; no tuples are copied to build it.
+     *
+     * @param values the elements to look up, one for each position
+     * @return a view of the matching tuples
+     * @throws IllegalArgumentException if the number of values does not
+     *         match the number of positions of this index
+     */
+    public Set<T> get(Object... values) {
+        if (values.length != positions.length) {
+            throw new IllegalArgumentException("Expected "
+                    + positions.length + " values, got " + values.length);
+        }
+        Object key = positions.length == 1
+                ? values[0] : new Key(values.clone());
+        return new Bucket(key);
+    }
+
+    /**
+     * Returns the number of distinct keys in this index.
+     * @return the number of distinct keys
+     */
+    public int keys() {
+        return buckets.size();
+    }
+
+
+    boolean covers(Tuple tuple) {
+        return tuple.arity() >= maxPosition;
+    }
+
+    boolean hasPositions(int[] positions) {
+        return Arrays.equals(this.positions, positions);
+    }
+
+    void add(T tuple) {
+        buckets.computeIfAbsent(keyOf(tuple), k -> new LinkedHashSet<>())
+                .add(tuple);
+    }
+
+    void remove(T tuple) {
+        Object key = keyOf(tuple);
+        Set<T> bucket = buckets.get(key);
+        if (bucket != null && bucket.remove(tuple) && bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    private Object keyOf(Tuple tuple) {
+        if (positions.length == 1) {
+            return AbstractTuple.elementOf(tuple, positions[0] - 1);
+        }
+        Object[] values = new Object[positions.length];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = AbstractTuple.elementOf(tuple, positions[i] - 1);
+        }
+        return new Key(values);
+    }
+
+
+    private static final class Key {
+        private final Object[] values;
+        private final int hash;
+
+        Key(Object[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key
+                    && Arrays.equals(values, ((Key) obj).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Bucket extends AbstractSet<T> {
+        private final Object key;
+
+        Bucket(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Set<T> bucket = buckets.get(key);
+            if (bucket == null) {
+                return Collections.emptyIterator();
+            }
+            return Collections.unmodifiableSet(bucket).iterator();
+        }
+
+        @Override
+        public int size() {
+            Set<T> bucket = buckets.get(key);
+            return bucket == null ? 0 : bucket.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Set<T> bucket = buckets.get(key);
+            return bucket != null && bucket.contains(o);
+        }
+    }
+}
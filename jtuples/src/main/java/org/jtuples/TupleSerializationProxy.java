@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The serialized form of all tuple classes.
+ *
+ * Tuples are written as this proxy, instead of their own class, so that
+ * a stream holding tuples of several arities carries a single class
+ * descriptor, with no field descriptions.
+ * The proxy writes the arity of the tuple as a single byte, followed by
+ * each of its members, in order.
+ * When read back, the proxy resolves to a new tuple of the same arity.
+ *
+ * @author Andre Santos
+ */
+final class TupleSerializationProxy implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_ARITY = 2;
+    private static final int MAX_ARITY = 10;
+
+    private Tuple tuple;
+
+    /**
+     * Returns an empty proxy, to be filled by {@link #readExternal}.
+     * This constructor is required by {@code Externalizable}.
+     */
+    public TupleSerializationProxy() {
+    }
+
+    TupleSerializationProxy(Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        int arity = tuple.arity();
+        out.writeByte(arity);
+        for (int i = 0; i < arity; ++i) {
+            out.writeObject(AbstractTuple.elementOf(tuple, i));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in)
+            throws IOException, ClassNotFoundException {
+        int arity = in.readByte();
+        if (arity < MIN_ARITY || arity > MAX_ARITY) {
+            throw new InvalidObjectException("Illegal arity: " + arity);
+        }
+        Object[] elements = new Object[arity];
+        for (int i = 0; i < arity; ++i) {
+            elements[i] = in.readObject();
+        }
+        tuple = Tuples.fromArray(elements);
+    }
+
+    /**
+     * Returns the tuple read into this proxy, in place of the proxy.
+     * @return the deserialized tuple
+     */
+    private Object readResolve() {
+        return tuple;
+    }
+}
@@ -23,8 +23,15 @@ package org.jtuples;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class consists exclusively of static methods that return or
@@ -32,10 +39,17 @@ import java.util.function.Function;
  * It contains some factory methods as well as methods for
  * the following operations:
  * <ul>
+ * <li>{@code lazy}
+ * <li>{@code fromArray} and {@code fromRows}
  * <li>{@code flatRight} and {@code flatLeft}
+ * <li>{@code nestFirst} and {@code nestSecond}
  * <li>{@code associateRight} and {@code associateLeft}
  * <li>{@code map}
+ * <li>{@code concat}
  * <li>{@code zip}
+ * <li>{@code pairwise}, {@code triples}, up to {@code decuples}
+ * <li>{@code hashJoin} and its variants
+ * <li>{@code mergeJoin} and {@code asOfJoin}
  * </ul>
  *
  * @author Andre Santos
@@ -239,6 +253,378 @@ public final class Tuples {
                 fifth, sixth, seventh, eighth, ninth, tenth);
     }
 
+    /**
+     * Creates a lazy pair, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @return a lazy pair with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B> LazyPair<A, B> lazy(Supplier<? extends A> first,
+            Supplier<? extends B> second) {
+        return new LazyPair<>(first, second);
+    }
+
+    /**
+     * Creates a lazy triple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @return a lazy triple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C> LazyTriple<A, B, C> lazy(
+            Supplier<? extends A> first, Supplier<? extends B> second,
+            Supplier<? extends C> third) {
+        return new LazyTriple<>(first, second, third);
+    }
+
+    /**
+     * Creates a lazy quadruple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @return a lazy quadruple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D>
+            LazyQuadruple<A, B, C, D> lazy(Supplier<? extends A> first,
+                    Supplier<? extends B> second, Supplier<? extends C> third,
+                    Supplier<? extends D> fourth) {
+        return new LazyQuadruple<>(first, second, third, fourth);
+    }
+
+    /**
+     * Creates a lazy quintuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @return a lazy quintuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E>
+            LazyQuintuple<A, B, C, D, E> lazy(Supplier<? extends A> first,
+                    Supplier<? extends B> second, Supplier<? extends C> third,
+                    Supplier<? extends D> fourth, Supplier<? extends E> fifth) {
+        return new LazyQuintuple<>(first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Creates a lazy sextuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @param sixth the supplier of the sixth element
+     * @return a lazy sextuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E, F>
+            LazySextuple<A, B, C, D, E, F> lazy(Supplier<? extends A> first,
+                    Supplier<? extends B> second, Supplier<? extends C> third,
+                    Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+                    Supplier<? extends F> sixth) {
+        return new LazySextuple<>(first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Creates a lazy septuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @param sixth the supplier of the sixth element
+     * @param seventh the supplier of the seventh element
+     * @return a lazy septuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E, F, G>
+            LazySeptuple<A, B, C, D, E, F, G> lazy(Supplier<? extends A> first,
+                    Supplier<? extends B> second, Supplier<? extends C> third,
+                    Supplier<? extends D> fourth, Supplier<? extends E> fifth,
+                    Supplier<? extends F> sixth,
+                    Supplier<? extends G> seventh) {
+        return new LazySeptuple<>(first, second, third, fourth, fifth, sixth,
+                seventh);
+    }
+
+    /**
+     * Creates a lazy octuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the octuple
+     * @param <B> the type of the second element of the octuple
+     * @param <C> the type of the third element of the octuple
+     * @param <D> the type of the fourth element of the octuple
+     * @param <E> the type of the fifth element of the octuple
+     * @param <F> the type of the sixth element of the octuple
+     * @param <G> the type of the seventh element of the octuple
+     * @param <H> the type of the eighth element of the octuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @param sixth the supplier of the sixth element
+     * @param seventh the supplier of the seventh element
+     * @param eighth the supplier of the eighth element
+     * @return a lazy octuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            LazyOctuple<A, B, C, D, E, F, G, H> lazy(
+                    Supplier<? extends A> first, Supplier<? extends B> second,
+                    Supplier<? extends C> third, Supplier<? extends D> fourth,
+                    Supplier<? extends E> fifth, Supplier<? extends F> sixth,
+                    Supplier<? extends G> seventh,
+                    Supplier<? extends H> eighth) {
+        return new LazyOctuple<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth);
+    }
+
+    /**
+     * Creates a lazy nonuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the nonuple
+     * @param <B> the type of the second element of the nonuple
+     * @param <C> the type of the third element of the nonuple
+     * @param <D> the type of the fourth element of the nonuple
+     * @param <E> the type of the fifth element of the nonuple
+     * @param <F> the type of the sixth element of the nonuple
+     * @param <G> the type of the seventh element of the nonuple
+     * @param <H> the type of the eighth element of the nonuple
+     * @param <I> the type of the ninth element of the nonuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @param sixth the supplier of the sixth element
+     * @param seventh the supplier of the seventh element
+     * @param eighth the supplier of the eighth element
+     * @param ninth the supplier of the ninth element
+     * @return a lazy nonuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            LazyNonuple<A, B, C, D, E, F, G, H, I> lazy(
+                    Supplier<? extends A> first, Supplier<? extends B> second,
+                    Supplier<? extends C> third, Supplier<? extends D> fourth,
+                    Supplier<? extends E> fifth, Supplier<? extends F> sixth,
+                    Supplier<? extends G> seventh, Supplier<? extends H> eighth,
+                    Supplier<? extends I> ninth) {
+        return new LazyNonuple<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth);
+    }
+
+    /**
+     * Creates a lazy decuple, computing each element with the given
+     * supplier on first access.
+     * @param <A> the type of the first element of the decuple
+     * @param <B> the type of the second element of the decuple
+     * @param <C> the type of the third element of the decuple
+     * @param <D> the type of the fourth element of the decuple
+     * @param <E> the type of the fifth element of the decuple
+     * @param <F> the type of the sixth element of the decuple
+     * @param <G> the type of the seventh element of the decuple
+     * @param <H> the type of the eighth element of the decuple
+     * @param <I> the type of the ninth element of the decuple
+     * @param <J> the type of the tenth element of the decuple
+     * @param first the supplier of the first element
+     * @param second the supplier of the second element
+     * @param third the supplier of the third element
+     * @param fourth the supplier of the fourth element
+     * @param fifth the supplier of the fifth element
+     * @param sixth the supplier of the sixth element
+     * @param seventh the supplier of the seventh element
+     * @param eighth the supplier of the eighth element
+     * @param ninth the supplier of the ninth element
+     * @param tenth the supplier of the tenth element
+     * @return a lazy decuple with the given suppliers
+     * @throws NullPointerException if any of the suppliers is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            LazyDecuple<A, B, C, D, E, F, G, H, I, J> lazy(
+                    Supplier<? extends A> first, Supplier<? extends B> second,
+                    Supplier<? extends C> third, Supplier<? extends D> fourth,
+                    Supplier<? extends E> fifth, Supplier<? extends F> sixth,
+                    Supplier<? extends G> seventh, Supplier<? extends H> eighth,
+                    Supplier<? extends I> ninth, Supplier<? extends J> tenth) {
+        return new LazyDecuple<>(first, second, third, fourth, fifth, sixth,
+                seventh, eighth, ninth, tenth);
+    }
+
+    /**
+     * Creates a tuple with the elements of the given array, in order.
+     * The type of the result is determined by the length of the array:
+     * a {@code Pair} for 2 elements, a {@code Triple} for 3, and so on,
+     * up to a {@code Decuple}; the result can be cast to it.
+     * @param array the elements of the tuple
+     * @return a tuple with the elements of the given array
+     * @throws NullPointerException if the array is null
+     * @throws IllegalArgumentException if the length of the array is not
+     *         between 2 and 10
+     */
+    public static Tuple fromArray(Object[] array) {
+        return fromArray(array, 0, array.length);
+    }
+
+    /**
+     * Creates a tuple with a range of the elements of the given array,
+     * in order, without copying the range.
+     * The type of the result is determined by the given arity:
+     * a {@code Pair} for 2 elements, a {@code Triple} for 3, and so on,
+     * up to a {@code Decuple}; the result can be cast to it.
+     * @param array the array that contains the elements of the tuple
+     * @param offset the index of the first element of the tuple
+     * @param arity the number of elements of the tuple
+     * @return a tuple with the elements of the given range
+     * @throws NullPointerException if the array is null
+     * @throws IllegalArgumentException if the arity is not
+     *         between 2 and 10
+     * @throws IndexOutOfBoundsException if the range does not fit
+     *         in the array
+     */
+    public static Tuple fromArray(Object[] array, int offset, int arity) {
+        checkArity(arity);
+        checkRange(array.length, offset, arity);
+        return tupleAt(array, offset, arity);
+    }
+
+    /**
+     * Creates a list of tuples, one for each of the given rows.
+     * Each row is converted as by {@link #fromArray(Object[])};
+     * all rows must have the same length, so that all tuples have the
+     * same type.
+     * All rows are checked before any tuple is created.
+     * @param rows the elements of each tuple
+     * @return a list with a tuple for each row, in the same order
+     * @throws NullPointerException if the rows, or any of them, are null
+     * @throws IllegalArgumentException if the length of the rows is not
+     *         between 2 and 10, or if the rows have different lengths
+     */
+    public static List<Tuple> fromRows(Object[][] rows) {
+        if (rows.length == 0) {
+            return new ArrayList<>(0);
+        }
+        int arity = rows[0].length;
+        checkArity(arity);
+        for (Object[] row : rows) {
+            if (row.length != arity) {
+                throw new IllegalArgumentException("Expected arity "
+                        + arity + ", found " + row.length);
+            }
+        }
+        List<Tuple> tuples = new ArrayList<>(rows.length);
+        for (Object[] row : rows) {
+            tuples.add(tupleAt(row, 0, arity));
+        }
+        return tuples;
+    }
+
+    /**
+     * Creates a list of tuples from consecutive rows of a flat array.
+     * The first row starts at the given offset, and each row has as many
+     * elements as the given arity.
+     * This is equivalent to {@code fromRows(data, offset, count, arity,
+     * arity)}.
+     * @param data the array that contains the rows
+     * @param offset the index of the first element of the first row
+     * @param count the number of rows
+     * @param arity the number of elements of each row
+     * @return a list with a tuple for each row, in the same order
+     * @throws NullPointerException if the array is null
+     * @throws IllegalArgumentException if the arity is not
+     *         between 2 and 10, or if the count is negative
+     * @throws IndexOutOfBoundsException if the rows do not fit
+     *         in the array
+     */
+    public static List<Tuple> fromRows(Object[] data, int offset,
+            int count, int arity) {
+        return fromRows(data, offset, count, arity, arity);
+    }
+
+    /**
+     * Creates a list of tuples from evenly spaced rows of a flat array.
+     * The first row starts at the given offset, and each following row
+     * starts {@code stride} elements after the previous one.
+     * Only the first {@code arity} elements of each row are used, so
+     * trailing columns can be skipped by using a larger stride.
+     * The array is read in place; no rows are copied.
+     * @param data the array that contains the rows
+     * @param offset the index of the first element of the first row
+     * @param count the number of rows
+     * @param arity the number of elements of each tuple
+     * @param stride the distance between the starts of consecutive rows
+     * @return a list with a tuple for each row, in the same order
+     * @throws NullPointerException if the array is null
+     * @throws IllegalArgumentException if the arity is not
+     *         between 2 and 10, if the count is negative, or if the stride
+     *         is less than the arity
+     * @throws IndexOutOfBoundsException if the rows do not fit
+     *         in the array
+     */
+    public static List<Tuple> fromRows(Object[] data, int offset,
+            int count, int arity, int stride) {
+        checkArity(arity);
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        if (stride < arity) {
+            throw new IllegalArgumentException("Stride " + stride
+                    + " is less than the arity " + arity);
+        }
+        if (count > 0) {
+            long end = offset + (long) (count - 1) * stride + arity;
+            if (offset < 0 || end > data.length) {
+                throw new IndexOutOfBoundsException("Rows from " + offset
+                        + " to " + end + " do not fit in " + data.length);
+            }
+        }
+        List<Tuple> tuples = new ArrayList<>(count);
+        for (int i = 0, start = offset; i < count; ++i, start += stride) {
+            tuples.add(tupleAt(data, start, arity));
+        }
+        return tuples;
+    }
+
 
     /**
      * Flattens a nested tuple.
@@ -292,350 +678,2194 @@ public final class Tuples {
         );
     }
 
-
     /**
-     * Associates a nested tuple on the first position.
+     * Flattens a chain of pairs nested in the first position.
      *
-     * This takes a pair with a nesting in the second member
-     * and returns a tuple that contains all the previous elements
-     * in the same order, but with the nesting in the first position.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * For example, for a pair {@code (a, (b, c))} the result
-     * is the pair {@code ((a, b), c)}.
+     * For example, for the pair
+     * {@code (((a, b), c), d)}
+     * the result is the quadruple {@code (a, b, c, d)}.
      *
-     * @param <A> the type of the first element of the outer pair
-     * @param <B> the type of the first element of the inner pair
-     * @param <C> the type of the second element of the inner pair
-     * @param pair a pair that has another pair in the second position
-     * @return a pair that has another pair on the first position
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a quadruple
      * @throws NullPointerException if the given pair is null
-     *         or if the inner pair is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B, C>
-            Pair<Pair<A, B>, C> associateFirst(Pair<A, Pair<B, C>> pair) {
-        return new Pair<>(
-                new Pair<>(pair.first(), pair.second().first()),
-                pair.second().second()
-        );
+    public static <A, B, C, D>
+            Quadruple<A, B, C, D> flatFirstQuadruple(
+                    Pair<Pair<Pair<A, B>, C>, D> pair) {
+        Pair<Pair<A, B>, C> p3 = pair.first();
+        Pair<A, B> p2 = p3.first();
+        return new Quadruple<>(p2.first(), p2.second(), p3.second(),
+                pair.second());
     }
 
     /**
-     * Associates a nested tuple on the second position.
+     * Flattens a chain of pairs nested in the second position.
      *
-     * This takes a pair with a nesting in the first member
-     * and returns a tuple that contains all the previous elements
-     * in the same order, but with the nesting in the second position.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * For example, for a pair {@code ((a, b), c)} the result
-     * is the pair {@code (a, (b, c))}.
+     * For example, for the pair
+     * {@code (a, (b, (c, d)))}
+     * the result is the quadruple {@code (a, b, c, d)}.
      *
-     * @param <A> the type of the first element of the inner pair
-     * @param <B> the type of the second element of the inner pair
-     * @param <C> the type of the second element of the outer pair
-     * @param pair a pair that has another pair in the first position
-     * @return a pair that has another pair on the second position
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a quadruple
      * @throws NullPointerException if the given pair is null
-     *         or if the inner pair is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B, C>
-            Pair<A, Pair<B, C>> associateSecond(Pair<Pair<A, B>, C> pair) {
-        return new Pair<>(
-                pair.first().first(),
-                new Pair<>(pair.first().second(), pair.second())
-        );
+    public static <A, B, C, D>
+            Quadruple<A, B, C, D> flatSecondQuadruple(
+                    Pair<A, Pair<B, Pair<C, D>>> pair) {
+        Pair<B, Pair<C, D>> p1 = pair.second();
+        Pair<C, D> p2 = p1.second();
+        return new Quadruple<>(pair.first(), p1.first(), p2.first(),
+                p2.second());
     }
 
-
     /**
-     * Creates a pair by applying a function to each element
-     * of the given pair.
+     * Flattens a chain of pairs nested in the first position.
      *
-     * The resulting pair's elements will be the result of applying
-     * the function to each element of the given pair, in order.
-     * That is, for a function {@code fn} and a pair {@code (a, b)}
-     * the result is the pair {@code (fn(a), fn(b))}.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * @param <A> the type of the elements of the given pair
-     * @param <B> the type of the elements of the resulting pair
-     * @param pair a pair whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code pair}
-     * @return a pair whose elements are the result of applying {@code f}
-     *         to all elements of the given pair
+     * For example, for the pair
+     * {@code ((((a, b), c), d), e)}
+     * the result is the quintuple {@code (a, b, c, d, e)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a quintuple
      * @throws NullPointerException if the given pair is null
-     *         or if the given function is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B> Pair<B, B> map(Pair<? extends A, ? extends A> pair,
-            Function<A, B> f) {
-        return new Pair<>(
-                f.apply(pair.first()),
-                f.apply(pair.second())
-        );
+    public static <A, B, C, D, E>
+            Quintuple<A, B, C, D, E> flatFirstQuintuple(
+                    Pair<Pair<Pair<Pair<A, B>, C>, D>, E> pair) {
+        Pair<Pair<Pair<A, B>, C>, D> p4 = pair.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Quintuple<>(p2.first(), p2.second(), p3.second(),
+                p4.second(), pair.second());
     }
 
     /**
-     * Creates a triple by applying a function to each element
-     * of the given triple.
+     * Flattens a chain of pairs nested in the second position.
      *
-     * The resulting triple's elements will be the result of applying
-     * the function to each element of the given triple, in order.
-     * That is, for a function {@code fn} and a triple {@code (a, b, c)}
-     * the result is the triple {@code (fn(a), fn(b), fn(c))}.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * @param <A> the type of the elements of the given triple
-     * @param <B> the type of the elements of the resulting triple
-     * @param triple a triple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code triple}
-     * @return a triple whose elements are the result of applying {@code f}
-     *         to all elements of the given triple
-     * @throws NullPointerException if the given triple is null
-     *         or if the given function is null
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, e))))}
+     * the result is the quintuple {@code (a, b, c, d, e)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a quintuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B> Triple<B, B, B> map(
-            Triple<? extends A, ? extends A, ? extends A> triple,
-            Function<A, B> f) {
-        return new Triple<>(
-                f.apply(triple.first()),
-                f.apply(triple.second()),
-                f.apply(triple.third())
-        );
+    public static <A, B, C, D, E>
+            Quintuple<A, B, C, D, E> flatSecondQuintuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, E>>>> pair) {
+        Pair<B, Pair<C, Pair<D, E>>> p1 = pair.second();
+        Pair<C, Pair<D, E>> p2 = p1.second();
+        Pair<D, E> p3 = p2.second();
+        return new Quintuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p3.second());
     }
 
     /**
-     * Creates a quadruple by applying a function to each element
-     * of the given quadruple.
+     * Flattens a chain of pairs nested in the first position.
      *
-     * The resulting quadruple's elements will be the result of applying
-     * the function to each element of the given quadruple, in order.
-     * That is, for a function {@code fn} and a quadruple {@code (a, b, c, d)}
-     * the result is the quadruple {@code (fn(a), fn(b), fn(c), fn(d))}.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * @param <A> the type of the elements of the given quadruple
-     * @param <B> the type of the elements of the resulting quadruple
-     * @param quadruple a quadruple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code quadruple}
-     * @return a quadruple whose elements are the result of applying {@code f}
-     *         to all elements of the given quadruple
-     * @throws NullPointerException if the given quadruple is null
-     *         or if the given function is null
+     * For example, for the pair
+     * {@code (((((a, b), c), d), e), f)}
+     * the result is the sextuple {@code (a, b, c, d, e, f)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a sextuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B> Quadruple<B, B, B, B> map(
-            Quadruple<? extends A, ? extends A, ? extends A, ? extends A> quadruple,
-            Function<A, B> f) {
-        return new Quadruple<>(
-                f.apply(quadruple.first()),
-                f.apply(quadruple.second()),
-                f.apply(quadruple.third()),
-                f.apply(quadruple.fourth())
-        );
+    public static <A, B, C, D, E, F>
+            Sextuple<A, B, C, D, E, F> flatFirstSextuple(
+                    Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> pair) {
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 = pair.first();
+        Pair<Pair<Pair<A, B>, C>, D> p4 = p5.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Sextuple<>(p2.first(), p2.second(), p3.second(), p4.second(),
+                p5.second(), pair.second());
     }
 
     /**
-     * Creates a quintuple by applying a function to each element
-     * of the given quintuple.
+     * Flattens a chain of pairs nested in the second position.
      *
-     * The resulting quintuple's elements will be the result of applying
-     * the function to each element of the given quintuple, in order.
-     * That is, for a function {@code fn} and a quintuple {@code (a, b, c, d, e)}
-     * the result is the quintuple {@code (fn(a), fn(b), fn(c), fn(d), fn(e))}.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * @param <A> the type of the elements of the given quintuple
-     * @param <B> the type of the elements of the resulting quintuple
-     * @param quintuple a quintuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code quintuple}
-     * @return a quintuple whose elements are the result of applying {@code f}
-     *         to all elements of the given quintuple
-     * @throws NullPointerException if the given quintuple is null
-     *         or if the given function is null
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, (e, f)))))}
+     * the result is the sextuple {@code (a, b, c, d, e, f)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a sextuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
      */
-    public static <A, B> Quintuple<B, B, B, B, B> map(
-            Quintuple<? extends A, ? extends A, ? extends A, ? extends A, ? extends A> quintuple,
-            Function<A, B> f) {
-        return new Quintuple<>(
-                f.apply(quintuple.first()),
-                f.apply(quintuple.second()),
-                f.apply(quintuple.third()),
-                f.apply(quintuple.fourth()),
-                f.apply(quintuple.fifth())
-        );
+    public static <A, B, C, D, E, F>
+            Sextuple<A, B, C, D, E, F> flatSecondSextuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, F>>>>> pair) {
+        Pair<B, Pair<C, Pair<D, Pair<E, F>>>> p1 = pair.second();
+        Pair<C, Pair<D, Pair<E, F>>> p2 = p1.second();
+        Pair<D, Pair<E, F>> p3 = p2.second();
+        Pair<E, F> p4 = p3.second();
+        return new Sextuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p4.first(), p4.second());
     }
 
     /**
-     * Creates a sextuple by applying a function to each element
-     * of the given sextuple.
+     * Flattens a chain of pairs nested in the first position.
      *
-     * The resulting sextuple's elements will be the result of applying
-     * the function to each element of the given sextuple, in order.
-     * That is, for a function {@code fn} and a sextuple {@code (a, b, c, d, e, f)}
-     * the result is the sextuple {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f))}.
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
      *
-     * @param <A> the type of the elements of the given sextuple
-     * @param <B> the type of the elements of the resulting sextuple
-     * @param sextuple a sextuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code sextuple}
-     * @return a sextuple whose elements are the result of applying {@code f}
-     *         to all elements of the given sextuple
+     * For example, for the pair
+     * {@code ((((((a, b), c), d), e), f), g)}
+     * the result is the septuple {@code (a, b, c, d, e, f, g)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a septuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> flatFirstSeptuple(
+                    Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> pair) {
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 = pair.first();
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 = p6.first();
+        Pair<Pair<Pair<A, B>, C>, D> p4 = p5.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Septuple<>(p2.first(), p2.second(), p3.second(), p4.second(),
+                p5.second(), p6.second(), pair.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the second position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, (e, (f, g))))))}
+     * the result is the septuple {@code (a, b, c, d, e, f, g)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a septuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> flatSecondSeptuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, G>>>>>> pair) {
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, G>>>>> p1 = pair.second();
+        Pair<C, Pair<D, Pair<E, Pair<F, G>>>> p2 = p1.second();
+        Pair<D, Pair<E, Pair<F, G>>> p3 = p2.second();
+        Pair<E, Pair<F, G>> p4 = p3.second();
+        Pair<F, G> p5 = p4.second();
+        return new Septuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p4.first(), p5.first(), p5.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the first position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (((((((a, b), c), d), e), f), g), h)}
+     * the result is the octuple {@code (a, b, c, d, e, f, g, h)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return an octuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> flatFirstOctuple(
+                    Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> pair) {
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 =
+                pair.first();
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 = p7.first();
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 = p6.first();
+        Pair<Pair<Pair<A, B>, C>, D> p4 = p5.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Octuple<>(p2.first(), p2.second(), p3.second(), p4.second(),
+                p5.second(), p6.second(), p7.second(), pair.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the second position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, h)))))))}
+     * the result is the octuple {@code (a, b, c, d, e, f, g, h)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return an octuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> flatSecondOctuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>>>> pair) {
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>>> p1 =
+                pair.second();
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>> p2 = p1.second();
+        Pair<D, Pair<E, Pair<F, Pair<G, H>>>> p3 = p2.second();
+        Pair<E, Pair<F, Pair<G, H>>> p4 = p3.second();
+        Pair<F, Pair<G, H>> p5 = p4.second();
+        Pair<G, H> p6 = p5.second();
+        return new Octuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p4.first(), p5.first(), p6.first(), p6.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the first position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code ((((((((a, b), c), d), e), f), g), h), i)}
+     * the result is the nonuple {@code (a, b, c, d, e, f, g, h, i)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param <I> the type of the ninth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a nonuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> flatFirstNonuple(
+                    Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I> pair) {
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> p8 =
+                pair.first();
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 = p8.first();
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 = p7.first();
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 = p6.first();
+        Pair<Pair<Pair<A, B>, C>, D> p4 = p5.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Nonuple<>(p2.first(), p2.second(), p3.second(), p4.second(),
+                p5.second(), p6.second(), p7.second(), p8.second(),
+                pair.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the second position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, (h, i))))))))}
+     * the result is the nonuple {@code (a, b, c, d, e, f, g, h, i)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param <I> the type of the ninth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a nonuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> flatSecondNonuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>>>> pair) {
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>>> p1 =
+                pair.second();
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>> p2 =
+                p1.second();
+        Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>> p3 = p2.second();
+        Pair<E, Pair<F, Pair<G, Pair<H, I>>>> p4 = p3.second();
+        Pair<F, Pair<G, Pair<H, I>>> p5 = p4.second();
+        Pair<G, Pair<H, I>> p6 = p5.second();
+        Pair<H, I> p7 = p6.second();
+        return new Nonuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p4.first(), p5.first(), p6.first(), p7.first(), p7.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the first position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (((((((((a, b), c), d), e), f), g), h), i), j)}
+     * the result is the decuple {@code (a, b, c, d, e, f, g, h, i, j)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param <I> the type of the ninth element of the chain
+     * @param <J> the type of the tenth element of the chain
+     * @param pair a chain of pairs nested in the first position
+     * @return a decuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> flatFirstDecuple(
+                    Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I>, J> pair) {
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I>
+                p9 = pair.first();
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> p8 =
+                p9.first();
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 = p8.first();
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 = p7.first();
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 = p6.first();
+        Pair<Pair<Pair<A, B>, C>, D> p4 = p5.first();
+        Pair<Pair<A, B>, C> p3 = p4.first();
+        Pair<A, B> p2 = p3.first();
+        return new Decuple<>(p2.first(), p2.second(), p3.second(), p4.second(),
+                p5.second(), p6.second(), p7.second(), p8.second(), p9.second(),
+                pair.second());
+    }
+
+    /**
+     * Flattens a chain of pairs nested in the second position.
+     *
+     * The resulting tuple will contain all the elements of the chain
+     * in the same order, so that each of them can be read directly,
+     * instead of through one pair per level of nesting.
+     *
+     * For example, for the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, (h, (i, j)))))))))}
+     * the result is the decuple {@code (a, b, c, d, e, f, g, h, i, j)}.
+     *
+     * @param <A> the type of the first element of the chain
+     * @param <B> the type of the second element of the chain
+     * @param <C> the type of the third element of the chain
+     * @param <D> the type of the fourth element of the chain
+     * @param <E> the type of the fifth element of the chain
+     * @param <F> the type of the sixth element of the chain
+     * @param <G> the type of the seventh element of the chain
+     * @param <H> the type of the eighth element of the chain
+     * @param <I> the type of the ninth element of the chain
+     * @param <J> the type of the tenth element of the chain
+     * @param pair a chain of pairs nested in the second position
+     * @return a decuple
+     * @throws NullPointerException if the given pair is null
+     *         or if any of the inner pairs is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> flatSecondDecuple(
+                    Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>>>> pair) {
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>>>
+                p1 = pair.second();
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>> p2 =
+                p1.second();
+        Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>> p3 =
+                p2.second();
+        Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>> p4 = p3.second();
+        Pair<F, Pair<G, Pair<H, Pair<I, J>>>> p5 = p4.second();
+        Pair<G, Pair<H, Pair<I, J>>> p6 = p5.second();
+        Pair<H, Pair<I, J>> p7 = p6.second();
+        Pair<I, J> p8 = p7.second();
+        return new Decuple<>(pair.first(), p1.first(), p2.first(), p3.first(),
+                p4.first(), p5.first(), p6.first(), p7.first(), p8.first(),
+                p8.second());
+    }
+
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the triple {@code (a, b, c)}
+     * the result is the pair
+     * {@code ((a, b), c)}.
+     *
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param triple the triple whose elements are nested
+     * @return a chain of pairs nested in the first position
+     * @throws NullPointerException if the given triple is null
+     */
+    public static <A, B, C>
+            Pair<Pair<A, B>, C> nestFirst(Triple<A, B, C> triple) {
+        Pair<A, B> p2 = new Pair<>(triple.first(), triple.second());
+        return new Pair<>(p2, triple.third());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the triple {@code (a, b, c)}
+     * the result is the pair
+     * {@code (a, (b, c))}.
+     *
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param triple the triple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given triple is null
+     */
+    public static <A, B, C>
+            Pair<A, Pair<B, C>> nestSecond(Triple<A, B, C> triple) {
+        Pair<B, C> p1 = new Pair<>(triple.second(), triple.third());
+        return new Pair<>(triple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the quadruple {@code (a, b, c, d)}
+     * the result is the pair
+     * {@code (((a, b), c), d)}.
+     *
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param quadruple the quadruple whose elements are nested
+     * @return a chain of pairs nested in the first position
+     * @throws NullPointerException if the given quadruple is null
+     */
+    public static <A, B, C, D>
+            Pair<Pair<Pair<A, B>, C>, D> nestFirst(
+                    Quadruple<A, B, C, D> quadruple) {
+        Pair<A, B> p2 = new Pair<>(quadruple.first(), quadruple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, quadruple.third());
+        return new Pair<>(p3, quadruple.fourth());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the quadruple {@code (a, b, c, d)}
+     * the result is the pair
+     * {@code (a, (b, (c, d)))}.
+     *
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param quadruple the quadruple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given quadruple is null
+     */
+    public static <A, B, C, D>
+            Pair<A, Pair<B, Pair<C, D>>> nestSecond(
+                    Quadruple<A, B, C, D> quadruple) {
+        Pair<C, D> p2 = new Pair<>(quadruple.third(), quadruple.fourth());
+        Pair<B, Pair<C, D>> p1 = new Pair<>(quadruple.second(), p2);
+        return new Pair<>(quadruple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the quintuple {@code (a, b, c, d, e)}
+     * the result is the pair
+     * {@code ((((a, b), c), d), e)}.
+     *
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param quintuple the quintuple whose elements are nested
+     * @return a chain of pairs nested in the first position
+     * @throws NullPointerException if the given quintuple is null
+     */
+    public static <A, B, C, D, E>
+            Pair<Pair<Pair<Pair<A, B>, C>, D>, E> nestFirst(
+                    Quintuple<A, B, C, D, E> quintuple) {
+        Pair<A, B> p2 = new Pair<>(quintuple.first(), quintuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, quintuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, quintuple.fourth());
+        return new Pair<>(p4, quintuple.fifth());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the quintuple {@code (a, b, c, d, e)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, e))))}.
+     *
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param quintuple the quintuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given quintuple is null
+     */
+    public static <A, B, C, D, E>
+            Pair<A, Pair<B, Pair<C, Pair<D, E>>>> nestSecond(
+                    Quintuple<A, B, C, D, E> quintuple) {
+        Pair<D, E> p3 = new Pair<>(quintuple.fourth(), quintuple.fifth());
+        Pair<C, Pair<D, E>> p2 = new Pair<>(quintuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, E>>> p1 = new Pair<>(quintuple.second(), p2);
+        return new Pair<>(quintuple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the sextuple {@code (a, b, c, d, e, f)}
+     * the result is the pair
+     * {@code (((((a, b), c), d), e), f)}.
+     *
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param sextuple the sextuple whose elements are nested
+     * @return a chain of pairs nested in the first position
      * @throws NullPointerException if the given sextuple is null
-     *         or if the given function is null
      */
-    public static <A, B> Sextuple<B, B, B, B, B, B> map(
-            Sextuple<? extends A, ? extends A, ? extends A, ? extends A, ? extends A, ? extends A> sextuple,
-            Function<A, B> f) {
-        return new Sextuple<>(
-                f.apply(sextuple.first()),
-                f.apply(sextuple.second()),
-                f.apply(sextuple.third()),
-                f.apply(sextuple.fourth()),
-                f.apply(sextuple.fifth()),
-                f.apply(sextuple.sixth())
-        );
+    public static <A, B, C, D, E, F>
+            Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> nestFirst(
+                    Sextuple<A, B, C, D, E, F> sextuple) {
+        Pair<A, B> p2 = new Pair<>(sextuple.first(), sextuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, sextuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, sextuple.fourth());
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 =
+                new Pair<>(p4, sextuple.fifth());
+        return new Pair<>(p5, sextuple.sixth());
     }
 
     /**
-     * Creates a septuple by applying a function to each element
-     * of the given septuple.
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
      *
-     * The resulting septuple's elements will be the result of applying
-     * the function to each element of the given septuple, in order.
-     * That is, for a function {@code fn} and a septuple
-     * {@code (a, b, c, d, e, f, g)}
-     * the result is the septuple
-     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g))}.
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
      *
-     * @param <A> the type of the elements of the given septuple
-     * @param <B> the type of the elements of the resulting septuple
-     * @param septuple a septuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code septuple}
-     * @return a septuple whose elements are the result of applying {@code f}
-     *         to all elements of the given septuple
+     * For example, for the sextuple {@code (a, b, c, d, e, f)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, (e, f)))))}.
+     *
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param sextuple the sextuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given sextuple is null
+     */
+    public static <A, B, C, D, E, F>
+            Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, F>>>>> nestSecond(
+                    Sextuple<A, B, C, D, E, F> sextuple) {
+        Pair<E, F> p4 = new Pair<>(sextuple.fifth(), sextuple.sixth());
+        Pair<D, Pair<E, F>> p3 = new Pair<>(sextuple.fourth(), p4);
+        Pair<C, Pair<D, Pair<E, F>>> p2 = new Pair<>(sextuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, Pair<E, F>>>> p1 =
+                new Pair<>(sextuple.second(), p2);
+        return new Pair<>(sextuple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the septuple {@code (a, b, c, d, e, f, g)}
+     * the result is the pair
+     * {@code ((((((a, b), c), d), e), f), g)}.
+     *
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     * @param septuple the septuple whose elements are nested
+     * @return a chain of pairs nested in the first position
      * @throws NullPointerException if the given septuple is null
-     *         or if the given function is null
      */
-    public static <A, B> Septuple<B, B, B, B, B, B, B> map(
-            Septuple<? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A, ? extends A, ? extends A> septuple,
-            Function<A, B> f) {
-        return new Septuple<>(
-                f.apply(septuple.first()),
-                f.apply(septuple.second()),
-                f.apply(septuple.third()),
-                f.apply(septuple.fourth()),
-                f.apply(septuple.fifth()),
-                f.apply(septuple.sixth()),
-                f.apply(septuple.seventh())
-        );
+    public static <A, B, C, D, E, F, G>
+            Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> nestFirst(
+                    Septuple<A, B, C, D, E, F, G> septuple) {
+        Pair<A, B> p2 = new Pair<>(septuple.first(), septuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, septuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, septuple.fourth());
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 =
+                new Pair<>(p4, septuple.fifth());
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 =
+                new Pair<>(p5, septuple.sixth());
+        return new Pair<>(p6, septuple.seventh());
     }
 
     /**
-     * Creates a octuple by applying a function to each element
-     * of the given octuple.
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
      *
-     * The resulting octuple's elements will be the result of applying
-     * the function to each element of the given octuple, in order.
-     * That is, for a function {@code fn} and a octuple
-     * {@code (a, b, c, d, e, f, g, h)}
-     * the result is the octuple
-     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h))}.
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
      *
-     * @param <A> the type of the elements of the given octuple
-     * @param <B> the type of the elements of the resulting octuple
-     * @param octuple a octuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code octuple}
-     * @return a octuple whose elements are the result of applying {@code f}
-     *         to all elements of the given octuple
+     * For example, for the septuple {@code (a, b, c, d, e, f, g)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, (e, (f, g))))))}.
+     *
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     * @param septuple the septuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given septuple is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, G>>>>>> nestSecond(
+                    Septuple<A, B, C, D, E, F, G> septuple) {
+        Pair<F, G> p5 = new Pair<>(septuple.sixth(), septuple.seventh());
+        Pair<E, Pair<F, G>> p4 = new Pair<>(septuple.fifth(), p5);
+        Pair<D, Pair<E, Pair<F, G>>> p3 = new Pair<>(septuple.fourth(), p4);
+        Pair<C, Pair<D, Pair<E, Pair<F, G>>>> p2 =
+                new Pair<>(septuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, G>>>>> p1 =
+                new Pair<>(septuple.second(), p2);
+        return new Pair<>(septuple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the octuple {@code (a, b, c, d, e, f, g, h)}
+     * the result is the pair
+     * {@code (((((((a, b), c), d), e), f), g), h)}.
+     *
+     * @param <A> the type of the first element of the octuple
+     * @param <B> the type of the second element of the octuple
+     * @param <C> the type of the third element of the octuple
+     * @param <D> the type of the fourth element of the octuple
+     * @param <E> the type of the fifth element of the octuple
+     * @param <F> the type of the sixth element of the octuple
+     * @param <G> the type of the seventh element of the octuple
+     * @param <H> the type of the eighth element of the octuple
+     * @param octuple the octuple whose elements are nested
+     * @return a chain of pairs nested in the first position
      * @throws NullPointerException if the given octuple is null
-     *         or if the given function is null
      */
-    public static <A, B> Octuple<B, B, B, B, B, B, B, B> map(
-            Octuple<? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A, ? extends A, ? extends A, ? extends A> octuple,
-            Function<A, B> f) {
-        return new Octuple<>(
-                f.apply(octuple.first()),
-                f.apply(octuple.second()),
-                f.apply(octuple.third()),
-                f.apply(octuple.fourth()),
-                f.apply(octuple.fifth()),
-                f.apply(octuple.sixth()),
-                f.apply(octuple.seventh()),
-                f.apply(octuple.eighth())
-        );
+    public static <A, B, C, D, E, F, G, H>
+            Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> nestFirst(
+                    Octuple<A, B, C, D, E, F, G, H> octuple) {
+        Pair<A, B> p2 = new Pair<>(octuple.first(), octuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, octuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, octuple.fourth());
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 =
+                new Pair<>(p4, octuple.fifth());
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 =
+                new Pair<>(p5, octuple.sixth());
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 =
+                new Pair<>(p6, octuple.seventh());
+        return new Pair<>(p7, octuple.eighth());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the octuple {@code (a, b, c, d, e, f, g, h)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, h)))))))}.
+     *
+     * @param <A> the type of the first element of the octuple
+     * @param <B> the type of the second element of the octuple
+     * @param <C> the type of the third element of the octuple
+     * @param <D> the type of the fourth element of the octuple
+     * @param <E> the type of the fifth element of the octuple
+     * @param <F> the type of the sixth element of the octuple
+     * @param <G> the type of the seventh element of the octuple
+     * @param <H> the type of the eighth element of the octuple
+     * @param octuple the octuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given octuple is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>>>> nestSecond(
+                    Octuple<A, B, C, D, E, F, G, H> octuple) {
+        Pair<G, H> p6 = new Pair<>(octuple.seventh(), octuple.eighth());
+        Pair<F, Pair<G, H>> p5 = new Pair<>(octuple.sixth(), p6);
+        Pair<E, Pair<F, Pair<G, H>>> p4 = new Pair<>(octuple.fifth(), p5);
+        Pair<D, Pair<E, Pair<F, Pair<G, H>>>> p3 =
+                new Pair<>(octuple.fourth(), p4);
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>> p2 =
+                new Pair<>(octuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, H>>>>>> p1 =
+                new Pair<>(octuple.second(), p2);
+        return new Pair<>(octuple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the nonuple {@code (a, b, c, d, e, f, g, h, i)}
+     * the result is the pair
+     * {@code ((((((((a, b), c), d), e), f), g), h), i)}.
+     *
+     * @param <A> the type of the first element of the nonuple
+     * @param <B> the type of the second element of the nonuple
+     * @param <C> the type of the third element of the nonuple
+     * @param <D> the type of the fourth element of the nonuple
+     * @param <E> the type of the fifth element of the nonuple
+     * @param <F> the type of the sixth element of the nonuple
+     * @param <G> the type of the seventh element of the nonuple
+     * @param <H> the type of the eighth element of the nonuple
+     * @param <I> the type of the ninth element of the nonuple
+     * @param nonuple the nonuple whose elements are nested
+     * @return a chain of pairs nested in the first position
+     * @throws NullPointerException if the given nonuple is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I> nestFirst(
+                    Nonuple<A, B, C, D, E, F, G, H, I> nonuple) {
+        Pair<A, B> p2 = new Pair<>(nonuple.first(), nonuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, nonuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, nonuple.fourth());
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 =
+                new Pair<>(p4, nonuple.fifth());
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 =
+                new Pair<>(p5, nonuple.sixth());
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 =
+                new Pair<>(p6, nonuple.seventh());
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> p8 =
+                new Pair<>(p7, nonuple.eighth());
+        return new Pair<>(p8, nonuple.ninth());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the nonuple {@code (a, b, c, d, e, f, g, h, i)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, (h, i))))))))}.
+     *
+     * @param <A> the type of the first element of the nonuple
+     * @param <B> the type of the second element of the nonuple
+     * @param <C> the type of the third element of the nonuple
+     * @param <D> the type of the fourth element of the nonuple
+     * @param <E> the type of the fifth element of the nonuple
+     * @param <F> the type of the sixth element of the nonuple
+     * @param <G> the type of the seventh element of the nonuple
+     * @param <H> the type of the eighth element of the nonuple
+     * @param <I> the type of the ninth element of the nonuple
+     * @param nonuple the nonuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given nonuple is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>>>> nestSecond(
+                    Nonuple<A, B, C, D, E, F, G, H, I> nonuple) {
+        Pair<H, I> p7 = new Pair<>(nonuple.eighth(), nonuple.ninth());
+        Pair<G, Pair<H, I>> p6 = new Pair<>(nonuple.seventh(), p7);
+        Pair<F, Pair<G, Pair<H, I>>> p5 = new Pair<>(nonuple.sixth(), p6);
+        Pair<E, Pair<F, Pair<G, Pair<H, I>>>> p4 =
+                new Pair<>(nonuple.fifth(), p5);
+        Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>> p3 =
+                new Pair<>(nonuple.fourth(), p4);
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>> p2 =
+                new Pair<>(nonuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, I>>>>>>> p1 =
+                new Pair<>(nonuple.second(), p2);
+        return new Pair<>(nonuple.first(), p1);
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the first
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the previous pair
+     * of the chain as its first member.
+     *
+     * For example, for the decuple {@code (a, b, c, d, e, f, g, h, i, j)}
+     * the result is the pair
+     * {@code (((((((((a, b), c), d), e), f), g), h), i), j)}.
+     *
+     * @param <A> the type of the first element of the decuple
+     * @param <B> the type of the second element of the decuple
+     * @param <C> the type of the third element of the decuple
+     * @param <D> the type of the fourth element of the decuple
+     * @param <E> the type of the fifth element of the decuple
+     * @param <F> the type of the sixth element of the decuple
+     * @param <G> the type of the seventh element of the decuple
+     * @param <H> the type of the eighth element of the decuple
+     * @param <I> the type of the ninth element of the decuple
+     * @param <J> the type of the tenth element of the decuple
+     * @param decuple the decuple whose elements are nested
+     * @return a chain of pairs nested in the first position
+     * @throws NullPointerException if the given decuple is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I>, J> nestFirst(
+                    Decuple<A, B, C, D, E, F, G, H, I, J> decuple) {
+        Pair<A, B> p2 = new Pair<>(decuple.first(), decuple.second());
+        Pair<Pair<A, B>, C> p3 = new Pair<>(p2, decuple.third());
+        Pair<Pair<Pair<A, B>, C>, D> p4 = new Pair<>(p3, decuple.fourth());
+        Pair<Pair<Pair<Pair<A, B>, C>, D>, E> p5 =
+                new Pair<>(p4, decuple.fifth());
+        Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F> p6 =
+                new Pair<>(p5, decuple.sixth());
+        Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G> p7 =
+                new Pair<>(p6, decuple.seventh());
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H> p8 =
+                new Pair<>(p7, decuple.eighth());
+        Pair<Pair<Pair<Pair<Pair<Pair<Pair<Pair<A, B>, C>, D>, E>, F>, G>, H>, I>
+                p9 = new Pair<>(p8, decuple.ninth());
+        return new Pair<>(p9, decuple.tenth());
+    }
+
+    /**
+     * Nests the elements of a tuple in a chain of pairs, in the second
+     * position.
+     *
+     * This is the inverse of flattening a chain of pairs: the elements
+     * remain in the same order, and each pair holds the next pair
+     * of the chain as its second member.
+     *
+     * For example, for the decuple {@code (a, b, c, d, e, f, g, h, i, j)}
+     * the result is the pair
+     * {@code (a, (b, (c, (d, (e, (f, (g, (h, (i, j)))))))))}.
+     *
+     * @param <A> the type of the first element of the decuple
+     * @param <B> the type of the second element of the decuple
+     * @param <C> the type of the third element of the decuple
+     * @param <D> the type of the fourth element of the decuple
+     * @param <E> the type of the fifth element of the decuple
+     * @param <F> the type of the sixth element of the decuple
+     * @param <G> the type of the seventh element of the decuple
+     * @param <H> the type of the eighth element of the decuple
+     * @param <I> the type of the ninth element of the decuple
+     * @param <J> the type of the tenth element of the decuple
+     * @param decuple the decuple whose elements are nested
+     * @return a chain of pairs nested in the second position
+     * @throws NullPointerException if the given decuple is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Pair<A, Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>>>> nestSecond(
+                    Decuple<A, B, C, D, E, F, G, H, I, J> decuple) {
+        Pair<I, J> p8 = new Pair<>(decuple.ninth(), decuple.tenth());
+        Pair<H, Pair<I, J>> p7 = new Pair<>(decuple.eighth(), p8);
+        Pair<G, Pair<H, Pair<I, J>>> p6 = new Pair<>(decuple.seventh(), p7);
+        Pair<F, Pair<G, Pair<H, Pair<I, J>>>> p5 =
+                new Pair<>(decuple.sixth(), p6);
+        Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>> p4 =
+                new Pair<>(decuple.fifth(), p5);
+        Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>> p3 =
+                new Pair<>(decuple.fourth(), p4);
+        Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>> p2 =
+                new Pair<>(decuple.third(), p3);
+        Pair<B, Pair<C, Pair<D, Pair<E, Pair<F, Pair<G, Pair<H, Pair<I, J>>>>>>>>
+                p1 = new Pair<>(decuple.second(), p2);
+        return new Pair<>(decuple.first(), p1);
+    }
+
+
+    /**
+     * Associates a nested tuple on the first position.
+     *
+     * This takes a pair with a nesting in the second member
+     * and returns a tuple that contains all the previous elements
+     * in the same order, but with the nesting in the first position.
+     *
+     * For example, for a pair {@code (a, (b, c))} the result
+     * is the pair {@code ((a, b), c)}.
+     *
+     * @param <A> the type of the first element of the outer pair
+     * @param <B> the type of the first element of the inner pair
+     * @param <C> the type of the second element of the inner pair
+     * @param pair a pair that has another pair in the second position
+     * @return a pair that has another pair on the first position
+     * @throws NullPointerException if the given pair is null
+     *         or if the inner pair is null
+     */
+    public static <A, B, C>
+            Pair<Pair<A, B>, C> associateFirst(Pair<A, Pair<B, C>> pair) {
+        Pair<B, C> inner = pair.second();
+        return new Pair<>(
+                new Pair<>(pair.first(), inner.first()),
+                inner.second()
+        );
+    }
+
+    /**
+     * Associates a nested tuple on the second position.
+     *
+     * This takes a pair with a nesting in the first member
+     * and returns a tuple that contains all the previous elements
+     * in the same order, but with the nesting in the second position.
+     *
+     * For example, for a pair {@code ((a, b), c)} the result
+     * is the pair {@code (a, (b, c))}.
+     *
+     * @param <A> the type of the first element of the inner pair
+     * @param <B> the type of the second element of the inner pair
+     * @param <C> the type of the second element of the outer pair
+     * @param pair a pair that has another pair in the first position
+     * @return a pair that has another pair on the second position
+     * @throws NullPointerException if the given pair is null
+     *         or if the inner pair is null
+     */
+    public static <A, B, C>
+            Pair<A, Pair<B, C>> associateSecond(Pair<Pair<A, B>, C> pair) {
+        Pair<A, B> inner = pair.first();
+        return new Pair<>(
+                inner.first(),
+                new Pair<>(inner.second(), pair.second())
+        );
+    }
+
+    /**
+     * Associates each of the given nested tuples on the first position.
+     *
+     * The resulting iterator applies {@link #associateFirst(Pair)} to each
+     * pair of the given iterator as it is traversed, so that no collection
+     * is created and only the resulting pairs are allocated.
+     * Removing through the resulting iterator removes from the given one.
+     *
+     * @param <A> the type of the first element of the outer pairs
+     * @param <B> the type of the first element of the inner pairs
+     * @param <C> the type of the second element of the inner pairs
+     * @param pairs pairs that have another pair in the second position
+     * @return an iterator of pairs that have another pair on the first
+     *         position
+     * @throws NullPointerException if the given iterator is null
+     */
+    public static <A, B, C> Iterator<Pair<Pair<A, B>, C>> associateFirst(
+            Iterator<Pair<A, Pair<B, C>>> pairs) {
+        Objects.requireNonNull(pairs);
+        return new MappedIterator<>(pairs,
+                (Pair<A, Pair<B, C>> pair) -> associateFirst(pair));
+    }
+
+    /**
+     * Associates each of the given nested tuples on the first position.
+     *
+     * The resulting iterable is a view of the given one: each of its
+     * iterators applies {@link #associateFirst(Pair)} to the pairs of the
+     * given iterable as they are traversed.
+     *
+     * @param <A> the type of the first element of the outer pairs
+     * @param <B> the type of the first element of the inner pairs
+     * @param <C> the type of the second element of the inner pairs
+     * @param pairs pairs that have another pair in the second position
+     * @return an iterable of pairs that have another pair on the first
+     *         position
+     * @throws NullPointerException if the given iterable is null
+     */
+    public static <A, B, C> Iterable<Pair<Pair<A, B>, C>> associateFirst(
+            Iterable<Pair<A, Pair<B, C>>> pairs) {
+        Objects.requireNonNull(pairs);
+        return () -> associateFirst(pairs.iterator());
+    }
+
+    /**
+     * Associates each of the given nested tuples on the second position.
+     *
+     * The resulting iterator applies {@link #associateSecond(Pair)} to each
+     * pair of the given iterator as it is traversed, so that no collection
+     * is created and only the resulting pairs are allocated.
+     * Removing through the resulting iterator removes from the given one.
+     *
+     * @param <A> the type of the first element of the inner pairs
+     * @param <B> the type of the second element of the inner pairs
+     * @param <C> the type of the second element of the outer pairs
+     * @param pairs pairs that have another pair in the first position
+     * @return an iterator of pairs that have another pair on the second
+     *         position
+     * @throws NullPointerException if the given iterator is null
+     */
+    public static <A, B, C> Iterator<Pair<A, Pair<B, C>>> associateSecond(
+            Iterator<Pair<Pair<A, B>, C>> pairs) {
+        Objects.requireNonNull(pairs);
+        return new MappedIterator<>(pairs,
+                (Pair<Pair<A, B>, C> pair) -> associateSecond(pair));
+    }
+
+    /**
+     * Associates each of the given nested tuples on the second position.
+     *
+     * The resulting iterable is a view of the given one: each of its
+     * iterators applies {@link #associateSecond(Pair)} to the pairs of the
+     * given iterable as they are traversed.
+     *
+     * @param <A> the type of the first element of the inner pairs
+     * @param <B> the type of the second element of the inner pairs
+     * @param <C> the type of the second element of the outer pairs
+     * @param pairs pairs that have another pair in the first position
+     * @return an iterable of pairs that have another pair on the second
+     *         position
+     * @throws NullPointerException if the given iterable is null
+     */
+    public static <A, B, C> Iterable<Pair<A, Pair<B, C>>> associateSecond(
+            Iterable<Pair<Pair<A, B>, C>> pairs) {
+        Objects.requireNonNull(pairs);
+        return () -> associateSecond(pairs.iterator());
+    }
+
+
+    /**
+     * Creates a pair by applying a function to each element
+     * of the given pair.
+     *
+     * The resulting pair's elements will be the result of applying
+     * the function to each element of the given pair, in order.
+     * That is, for a function {@code fn} and a pair {@code (a, b)}
+     * the result is the pair {@code (fn(a), fn(b))}.
+     *
+     * @param <A> the type of the elements of the given pair
+     * @param <B> the type of the elements of the resulting pair
+     * @param pair a pair whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code pair}
+     * @return a pair whose elements are the result of applying {@code f}
+     *         to all elements of the given pair
+     * @throws NullPointerException if the given pair is null
+     *         or if the given function is null
+     */
+    public static <A, B> Pair<B, B> map(Pair<? extends A, ? extends A> pair,
+            Function<A, B> f) {
+        return new Pair<>(
+                f.apply(pair.first()),
+                f.apply(pair.second())
+        );
+    }
+
+    /**
+     * Creates a triple by applying a function to each element
+     * of the given triple.
+     *
+     * The resulting triple's elements will be the result of applying
+     * the function to each element of the given triple, in order.
+     * That is, for a function {@code fn} and a triple {@code (a, b, c)}
+     * the result is the triple {@code (fn(a), fn(b), fn(c))}.
+     *
+     * @param <A> the type of the elements of the given triple
+     * @param <B> the type of the elements of the resulting triple
+     * @param triple a triple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code triple}
+     * @return a triple whose elements are the result of applying {@code f}
+     *         to all elements of the given triple
+     * @throws NullPointerException if the given triple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Triple<B, B, B> map(
+            Triple<? extends A, ? extends A, ? extends A> triple,
+            Function<A, B> f) {
+        return new Triple<>(
+                f.apply(triple.first()),
+                f.apply(triple.second()),
+                f.apply(triple.third())
+        );
+    }
+
+    /**
+     * Creates a quadruple by applying a function to each element
+     * of the given quadruple.
+     *
+     * The resulting quadruple's elements will be the result of applying
+     * the function to each element of the given quadruple, in order.
+     * That is, for a function {@code fn} and a quadruple {@code (a, b, c, d)}
+     * the result is the quadruple {@code (fn(a), fn(b), fn(c), fn(d))}.
+     *
+     * @param <A> the type of the elements of the given quadruple
+     * @param <B> the type of the elements of the resulting quadruple
+     * @param quadruple a quadruple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code quadruple}
+     * @return a quadruple whose elements are the result of applying {@code f}
+     *         to all elements of the given quadruple
+     * @throws NullPointerException if the given quadruple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Quadruple<B, B, B, B> map(
+            Quadruple<? extends A, ? extends A, ? extends A, ? extends A> quadruple,
+            Function<A, B> f) {
+        return new Quadruple<>(
+                f.apply(quadruple.first()),
+                f.apply(quadruple.second()),
+                f.apply(quadruple.third()),
+                f.apply(quadruple.fourth())
+        );
+    }
+
+    /**
+     * Creates a quintuple by applying a function to each element
+     * of the given quintuple.
+     *
+     * The resulting quintuple's elements will be the result of applying
+     * the function to each element of the given quintuple, in order.
+     * That is, for a function {@code fn} and a quintuple {@code (a, b, c, d, e)}
+     * the result is the quintuple {@code (fn(a), fn(b), fn(c), fn(d), fn(e))}.
+     *
+     * @param <A> the type of the elements of the given quintuple
+     * @param <B> the type of the elements of the resulting quintuple
+     * @param quintuple a quintuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code quintuple}
+     * @return a quintuple whose elements are the result of applying {@code f}
+     *         to all elements of the given quintuple
+     * @throws NullPointerException if the given quintuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Quintuple<B, B, B, B, B> map(
+            Quintuple<? extends A, ? extends A, ? extends A, ? extends A, ? extends A> quintuple,
+            Function<A, B> f) {
+        return new Quintuple<>(
+                f.apply(quintuple.first()),
+                f.apply(quintuple.second()),
+                f.apply(quintuple.third()),
+                f.apply(quintuple.fourth()),
+                f.apply(quintuple.fifth())
+        );
+    }
+
+    /**
+     * Creates a sextuple by applying a function to each element
+     * of the given sextuple.
+     *
+     * The resulting sextuple's elements will be the result of applying
+     * the function to each element of the given sextuple, in order.
+     * That is, for a function {@code fn} and a sextuple {@code (a, b, c, d, e, f)}
+     * the result is the sextuple {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f))}.
+     *
+     * @param <A> the type of the elements of the given sextuple
+     * @param <B> the type of the elements of the resulting sextuple
+     * @param sextuple a sextuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code sextuple}
+     * @return a sextuple whose elements are the result of applying {@code f}
+     *         to all elements of the given sextuple
+     * @throws NullPointerException if the given sextuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Sextuple<B, B, B, B, B, B> map(
+            Sextuple<? extends A, ? extends A, ? extends A, ? extends A, ? extends A, ? extends A> sextuple,
+            Function<A, B> f) {
+        return new Sextuple<>(
+                f.apply(sextuple.first()),
+                f.apply(sextuple.second()),
+                f.apply(sextuple.third()),
+                f.apply(sextuple.fourth()),
+                f.apply(sextuple.fifth()),
+                f.apply(sextuple.sixth())
+        );
+    }
+
+    /**
+     * Creates a septuple by applying a function to each element
+     * of the given septuple.
+     *
+     * The resulting septuple's elements will be the result of applying
+     * the function to each element of the given septuple, in order.
+     * That is, for a function {@code fn} and a septuple
+     * {@code (a, b, c, d, e, f, g)}
+     * the result is the septuple
+     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g))}.
+     *
+     * @param <A> the type of the elements of the given septuple
+     * @param <B> the type of the elements of the resulting septuple
+     * @param septuple a septuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code septuple}
+     * @return a septuple whose elements are the result of applying {@code f}
+     *         to all elements of the given septuple
+     * @throws NullPointerException if the given septuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Septuple<B, B, B, B, B, B, B> map(
+            Septuple<? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A, ? extends A, ? extends A> septuple,
+            Function<A, B> f) {
+        return new Septuple<>(
+                f.apply(septuple.first()),
+                f.apply(septuple.second()),
+                f.apply(septuple.third()),
+                f.apply(septuple.fourth()),
+                f.apply(septuple.fifth()),
+                f.apply(septuple.sixth()),
+                f.apply(septuple.seventh())
+        );
+    }
+
+    /**
+     * Creates a octuple by applying a function to each element
+     * of the given octuple.
+     *
+     * The resulting octuple's elements will be the result of applying
+     * the function to each element of the given octuple, in order.
+     * That is, for a function {@code fn} and a octuple
+     * {@code (a, b, c, d, e, f, g, h)}
+     * the result is the octuple
+     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h))}.
+     *
+     * @param <A> the type of the elements of the given octuple
+     * @param <B> the type of the elements of the resulting octuple
+     * @param octuple a octuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code octuple}
+     * @return a octuple whose elements are the result of applying {@code f}
+     *         to all elements of the given octuple
+     * @throws NullPointerException if the given octuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Octuple<B, B, B, B, B, B, B, B> map(
+            Octuple<? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A, ? extends A, ? extends A, ? extends A> octuple,
+            Function<A, B> f) {
+        return new Octuple<>(
+                f.apply(octuple.first()),
+                f.apply(octuple.second()),
+                f.apply(octuple.third()),
+                f.apply(octuple.fourth()),
+                f.apply(octuple.fifth()),
+                f.apply(octuple.sixth()),
+                f.apply(octuple.seventh()),
+                f.apply(octuple.eighth())
+        );
+    }
+
+    /**
+     * Creates a nonuple by applying a function to each element
+     * of the given nonuple.
+     *
+     * The resulting nonuple's elements will be the result of applying
+     * the function to each element of the given nonuple, in order.
+     * That is, for a function {@code fn} and a nonuple
+     * {@code (a, b, c, d, e, f, g, h, i)}
+     * the result is the nonuple
+     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h), fn(i))}.
+     *
+     * @param <A> the type of the elements of the given nonuple
+     * @param <B> the type of the elements of the resulting nonuple
+     * @param nonuple a nonuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code nonuple}
+     * @return a nonuple whose elements are the result of applying {@code f}
+     *         to all elements of the given nonuple
+     * @throws NullPointerException if the given nonuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Nonuple<B, B, B, B, B, B, B, B, B> map(
+            Nonuple<? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A> nonuple,
+            Function<A, B> f) {
+        return new Nonuple<>(
+                f.apply(nonuple.first()),
+                f.apply(nonuple.second()),
+                f.apply(nonuple.third()),
+                f.apply(nonuple.fourth()),
+                f.apply(nonuple.fifth()),
+                f.apply(nonuple.sixth()),
+                f.apply(nonuple.seventh()),
+                f.apply(nonuple.eighth()),
+                f.apply(nonuple.ninth())
+        );
+    }
+
+    /**
+     * Creates a decuple by applying a function to each element
+     * of the given decuple.
+     *
+     * The resulting decuple's elements will be the result of applying
+     * the function to each element of the given decuple, in order.
+     * That is, for a function {@code fn} and a decuple
+     * {@code (a, b, c, d, e, f, g, h, i, j)}
+     * the result is the decuple
+     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h), fn(i), fn(j))}.
+     *
+     * @param <A> the type of the elements of the given decuple
+     * @param <B> the type of the elements of the resulting decuple
+     * @param decuple a decuple whose elements have a common superclass
+     * @param f a function to be applied to all elements of {@code decuple}
+     * @return a decuple whose elements are the result of applying {@code f}
+     *         to all elements of the given decuple
+     * @throws NullPointerException if the given decuple is null
+     *         or if the given function is null
+     */
+    public static <A, B> Decuple<B, B, B, B, B, B, B, B, B, B> map(
+            Decuple<? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A, ? extends A, ? extends A, ? extends A,
+                    ? extends A, ? extends A> decuple,
+            Function<A, B> f) {
+        return new Decuple<>(
+                f.apply(decuple.first()),
+                f.apply(decuple.second()),
+                f.apply(decuple.third()),
+                f.apply(decuple.fourth()),
+                f.apply(decuple.fifth()),
+                f.apply(decuple.sixth()),
+                f.apply(decuple.seventh()),
+                f.apply(decuple.eighth()),
+                f.apply(decuple.ninth()),
+                f.apply(decuple.tenth())
+        );
+    }
+
+    /**
+     * Concatenates a pair and a pair into a quadruple.
+     * The members of the first pair come first, followed by the members
+     * of the second pair, in order.
+     * @param <A> the type of the first element of the first pair
+     * @param <B> the type of the second element of the first pair
+     * @param <C> the type of the first element of the second pair
+     * @param <D> the type of the second element of the second pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a quadruple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D>
+            Quadruple<A, B, C, D> concat(Pair<A, B> left, Pair<C, D> right) {
+        return new Quadruple<>(left.first(), left.second(), right.first(),
+                right.second());
+    }
+
+    /**
+     * Concatenates a pair and a triple into a quintuple.
+     * The members of the pair come first, followed by the members
+     * of the triple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the triple
+     * @param <D> the type of the second element of the triple
+     * @param <E> the type of the third element of the triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a quintuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E>
+            Quintuple<A, B, C, D, E> concat(
+                    Pair<A, B> left, Triple<C, D, E> right) {
+        return new Quintuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third());
+    }
+
+    /**
+     * Concatenates a pair and a quadruple into a sextuple.
+     * The members of the pair come first, followed by the members
+     * of the quadruple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the quadruple
+     * @param <D> the type of the second element of the quadruple
+     * @param <E> the type of the third element of the quadruple
+     * @param <F> the type of the fourth element of the quadruple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a sextuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F>
+            Sextuple<A, B, C, D, E, F> concat(
+                    Pair<A, B> left, Quadruple<C, D, E, F> right) {
+        return new Sextuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third(), right.fourth());
+    }
+
+    /**
+     * Concatenates a pair and a quintuple into a septuple.
+     * The members of the pair come first, followed by the members
+     * of the quintuple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the quintuple
+     * @param <D> the type of the second element of the quintuple
+     * @param <E> the type of the third element of the quintuple
+     * @param <F> the type of the fourth element of the quintuple
+     * @param <G> the type of the fifth element of the quintuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a septuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> concat(
+                    Pair<A, B> left, Quintuple<C, D, E, F, G> right) {
+        return new Septuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third(), right.fourth(), right.fifth());
+    }
+
+    /**
+     * Concatenates a pair and a sextuple into an octuple.
+     * The members of the pair come first, followed by the members
+     * of the sextuple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the sextuple
+     * @param <D> the type of the second element of the sextuple
+     * @param <E> the type of the third element of the sextuple
+     * @param <F> the type of the fourth element of the sextuple
+     * @param <G> the type of the fifth element of the sextuple
+     * @param <H> the type of the sixth element of the sextuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return an octuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> concat(
+                    Pair<A, B> left, Sextuple<C, D, E, F, G, H> right) {
+        return new Octuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third(), right.fourth(), right.fifth(),
+                right.sixth());
+    }
+
+    /**
+     * Concatenates a pair and a septuple into a nonuple.
+     * The members of the pair come first, followed by the members
+     * of the septuple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the septuple
+     * @param <D> the type of the second element of the septuple
+     * @param <E> the type of the third element of the septuple
+     * @param <F> the type of the fourth element of the septuple
+     * @param <G> the type of the fifth element of the septuple
+     * @param <H> the type of the sixth element of the septuple
+     * @param <I> the type of the seventh element of the septuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Pair<A, B> left, Septuple<C, D, E, F, G, H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third(), right.fourth(), right.fifth(),
+                right.sixth(), right.seventh());
+    }
+
+    /**
+     * Concatenates a pair and an octuple into a decuple.
+     * The members of the pair come first, followed by the members
+     * of the octuple, in order.
+     * @param <A> the type of the first element of the pair
+     * @param <B> the type of the second element of the pair
+     * @param <C> the type of the first element of the octuple
+     * @param <D> the type of the second element of the octuple
+     * @param <E> the type of the third element of the octuple
+     * @param <F> the type of the fourth element of the octuple
+     * @param <G> the type of the fifth element of the octuple
+     * @param <H> the type of the sixth element of the octuple
+     * @param <I> the type of the seventh element of the octuple
+     * @param <J> the type of the eighth element of the octuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Pair<A, B> left, Octuple<C, D, E, F, G, H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), right.first(),
+                right.second(), right.third(), right.fourth(), right.fifth(),
+                right.sixth(), right.seventh(), right.eighth());
+    }
+
+    /**
+     * Concatenates a triple and a pair into a quintuple.
+     * The members of the triple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param <D> the type of the first element of the pair
+     * @param <E> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a quintuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E>
+            Quintuple<A, B, C, D, E> concat(
+                    Triple<A, B, C> left, Pair<D, E> right) {
+        return new Quintuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second());
+    }
+
+    /**
+     * Concatenates a triple and a triple into a sextuple.
+     * The members of the first triple come first, followed by the members
+     * of the second triple, in order.
+     * @param <A> the type of the first element of the first triple
+     * @param <B> the type of the second element of the first triple
+     * @param <C> the type of the third element of the first triple
+     * @param <D> the type of the first element of the second triple
+     * @param <E> the type of the second element of the second triple
+     * @param <F> the type of the third element of the second triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a sextuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F>
+            Sextuple<A, B, C, D, E, F> concat(
+                    Triple<A, B, C> left, Triple<D, E, F> right) {
+        return new Sextuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second(), right.third());
+    }
+
+    /**
+     * Concatenates a triple and a quadruple into a septuple.
+     * The members of the triple come first, followed by the members
+     * of the quadruple, in order.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param <D> the type of the first element of the quadruple
+     * @param <E> the type of the second element of the quadruple
+     * @param <F> the type of the third element of the quadruple
+     * @param <G> the type of the fourth element of the quadruple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a septuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> concat(
+                    Triple<A, B, C> left, Quadruple<D, E, F, G> right) {
+        return new Septuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second(), right.third(), right.fourth());
+    }
+
+    /**
+     * Concatenates a triple and a quintuple into an octuple.
+     * The members of the triple come first, followed by the members
+     * of the quintuple, in order.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param <D> the type of the first element of the quintuple
+     * @param <E> the type of the second element of the quintuple
+     * @param <F> the type of the third element of the quintuple
+     * @param <G> the type of the fourth element of the quintuple
+     * @param <H> the type of the fifth element of the quintuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return an octuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> concat(
+                    Triple<A, B, C> left, Quintuple<D, E, F, G, H> right) {
+        return new Octuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second(), right.third(), right.fourth(),
+                right.fifth());
+    }
+
+    /**
+     * Concatenates a triple and a sextuple into a nonuple.
+     * The members of the triple come first, followed by the members
+     * of the sextuple, in order.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param <D> the type of the first element of the sextuple
+     * @param <E> the type of the second element of the sextuple
+     * @param <F> the type of the third element of the sextuple
+     * @param <G> the type of the fourth element of the sextuple
+     * @param <H> the type of the fifth element of the sextuple
+     * @param <I> the type of the sixth element of the sextuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Triple<A, B, C> left, Sextuple<D, E, F, G, H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second(), right.third(), right.fourth(),
+                right.fifth(), right.sixth());
+    }
+
+    /**
+     * Concatenates a triple and a septuple into a decuple.
+     * The members of the triple come first, followed by the members
+     * of the septuple, in order.
+     * @param <A> the type of the first element of the triple
+     * @param <B> the type of the second element of the triple
+     * @param <C> the type of the third element of the triple
+     * @param <D> the type of the first element of the septuple
+     * @param <E> the type of the second element of the septuple
+     * @param <F> the type of the third element of the septuple
+     * @param <G> the type of the fourth element of the septuple
+     * @param <H> the type of the fifth element of the septuple
+     * @param <I> the type of the sixth element of the septuple
+     * @param <J> the type of the seventh element of the septuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Triple<A, B, C> left, Septuple<D, E, F, G, H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                right.first(), right.second(), right.third(), right.fourth(),
+                right.fifth(), right.sixth(), right.seventh());
+    }
+
+    /**
+     * Concatenates a quadruple and a pair into a sextuple.
+     * The members of the quadruple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param <E> the type of the first element of the pair
+     * @param <F> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a sextuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F>
+            Sextuple<A, B, C, D, E, F> concat(
+                    Quadruple<A, B, C, D> left, Pair<E, F> right) {
+        return new Sextuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), right.first(), right.second());
+    }
+
+    /**
+     * Concatenates a quadruple and a triple into a septuple.
+     * The members of the quadruple come first, followed by the members
+     * of the triple, in order.
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param <E> the type of the first element of the triple
+     * @param <F> the type of the second element of the triple
+     * @param <G> the type of the third element of the triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a septuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> concat(
+                    Quadruple<A, B, C, D> left, Triple<E, F, G> right) {
+        return new Septuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), right.first(), right.second(), right.third());
+    }
+
+    /**
+     * Concatenates a quadruple and a quadruple into an octuple.
+     * The members of the first quadruple come first, followed by the members
+     * of the second quadruple, in order.
+     * @param <A> the type of the first element of the first quadruple
+     * @param <B> the type of the second element of the first quadruple
+     * @param <C> the type of the third element of the first quadruple
+     * @param <D> the type of the fourth element of the first quadruple
+     * @param <E> the type of the first element of the second quadruple
+     * @param <F> the type of the second element of the second quadruple
+     * @param <G> the type of the third element of the second quadruple
+     * @param <H> the type of the fourth element of the second quadruple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return an octuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> concat(
+                    Quadruple<A, B, C, D> left, Quadruple<E, F, G, H> right) {
+        return new Octuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), right.first(), right.second(), right.third(),
+                right.fourth());
+    }
+
+    /**
+     * Concatenates a quadruple and a quintuple into a nonuple.
+     * The members of the quadruple come first, followed by the members
+     * of the quintuple, in order.
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param <E> the type of the first element of the quintuple
+     * @param <F> the type of the second element of the quintuple
+     * @param <G> the type of the third element of the quintuple
+     * @param <H> the type of the fourth element of the quintuple
+     * @param <I> the type of the fifth element of the quintuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Quadruple<A, B, C, D> left,
+                    Quintuple<E, F, G, H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), right.first(), right.second(), right.third(),
+                right.fourth(), right.fifth());
+    }
+
+    /**
+     * Concatenates a quadruple and a sextuple into a decuple.
+     * The members of the quadruple come first, followed by the members
+     * of the sextuple, in order.
+     * @param <A> the type of the first element of the quadruple
+     * @param <B> the type of the second element of the quadruple
+     * @param <C> the type of the third element of the quadruple
+     * @param <D> the type of the fourth element of the quadruple
+     * @param <E> the type of the first element of the sextuple
+     * @param <F> the type of the second element of the sextuple
+     * @param <G> the type of the third element of the sextuple
+     * @param <H> the type of the fourth element of the sextuple
+     * @param <I> the type of the fifth element of the sextuple
+     * @param <J> the type of the sixth element of the sextuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Quadruple<A, B, C, D> left,
+                    Sextuple<E, F, G, H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), right.first(), right.second(), right.third(),
+                right.fourth(), right.fifth(), right.sixth());
+    }
+
+    /**
+     * Concatenates a quintuple and a pair into a septuple.
+     * The members of the quintuple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param <F> the type of the first element of the pair
+     * @param <G> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a septuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G>
+            Septuple<A, B, C, D, E, F, G> concat(
+                    Quintuple<A, B, C, D, E> left, Pair<F, G> right) {
+        return new Septuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), right.first(), right.second());
+    }
+
+    /**
+     * Concatenates a quintuple and a triple into an octuple.
+     * The members of the quintuple come first, followed by the members
+     * of the triple, in order.
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param <F> the type of the first element of the triple
+     * @param <G> the type of the second element of the triple
+     * @param <H> the type of the third element of the triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return an octuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> concat(
+                    Quintuple<A, B, C, D, E> left, Triple<F, G, H> right) {
+        return new Octuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), right.first(), right.second(),
+                right.third());
+    }
+
+    /**
+     * Concatenates a quintuple and a quadruple into a nonuple.
+     * The members of the quintuple come first, followed by the members
+     * of the quadruple, in order.
+     * @param <A> the type of the first element of the quintuple
+     * @param <B> the type of the second element of the quintuple
+     * @param <C> the type of the third element of the quintuple
+     * @param <D> the type of the fourth element of the quintuple
+     * @param <E> the type of the fifth element of the quintuple
+     * @param <F> the type of the first element of the quadruple
+     * @param <G> the type of the second element of the quadruple
+     * @param <H> the type of the third element of the quadruple
+     * @param <I> the type of the fourth element of the quadruple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Quintuple<A, B, C, D, E> left,
+                    Quadruple<F, G, H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), right.first(), right.second(),
+                right.third(), right.fourth());
+    }
+
+    /**
+     * Concatenates a quintuple and a quintuple into a decuple.
+     * The members of the first quintuple come first, followed by the members
+     * of the second quintuple, in order.
+     * @param <A> the type of the first element of the first quintuple
+     * @param <B> the type of the second element of the first quintuple
+     * @param <C> the type of the third element of the first quintuple
+     * @param <D> the type of the fourth element of the first quintuple
+     * @param <E> the type of the fifth element of the first quintuple
+     * @param <F> the type of the first element of the second quintuple
+     * @param <G> the type of the second element of the second quintuple
+     * @param <H> the type of the third element of the second quintuple
+     * @param <I> the type of the fourth element of the second quintuple
+     * @param <J> the type of the fifth element of the second quintuple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Quintuple<A, B, C, D, E> left,
+                    Quintuple<F, G, H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), right.first(), right.second(),
+                right.third(), right.fourth(), right.fifth());
+    }
+
+    /**
+     * Concatenates a sextuple and a pair into an octuple.
+     * The members of the sextuple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param <G> the type of the first element of the pair
+     * @param <H> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return an octuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H>
+            Octuple<A, B, C, D, E, F, G, H> concat(
+                    Sextuple<A, B, C, D, E, F> left, Pair<G, H> right) {
+        return new Octuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), right.first(),
+                right.second());
+    }
+
+    /**
+     * Concatenates a sextuple and a triple into a nonuple.
+     * The members of the sextuple come first, followed by the members
+     * of the triple, in order.
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param <G> the type of the first element of the triple
+     * @param <H> the type of the second element of the triple
+     * @param <I> the type of the third element of the triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Sextuple<A, B, C, D, E, F> left, Triple<G, H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), right.first(),
+                right.second(), right.third());
+    }
+
+    /**
+     * Concatenates a sextuple and a quadruple into a decuple.
+     * The members of the sextuple come first, followed by the members
+     * of the quadruple, in order.
+     * @param <A> the type of the first element of the sextuple
+     * @param <B> the type of the second element of the sextuple
+     * @param <C> the type of the third element of the sextuple
+     * @param <D> the type of the fourth element of the sextuple
+     * @param <E> the type of the fifth element of the sextuple
+     * @param <F> the type of the sixth element of the sextuple
+     * @param <G> the type of the first element of the quadruple
+     * @param <H> the type of the second element of the quadruple
+     * @param <I> the type of the third element of the quadruple
+     * @param <J> the type of the fourth element of the quadruple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Sextuple<A, B, C, D, E, F> left,
+                    Quadruple<G, H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), right.first(),
+                right.second(), right.third(), right.fourth());
     }
 
     /**
-     * Creates a nonuple by applying a function to each element
-     * of the given nonuple.
-     *
-     * The resulting nonuple's elements will be the result of applying
-     * the function to each element of the given nonuple, in order.
-     * That is, for a function {@code fn} and a nonuple
-     * {@code (a, b, c, d, e, f, g, h, i)}
-     * the result is the nonuple
-     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h), fn(i))}.
-     *
-     * @param <A> the type of the elements of the given nonuple
-     * @param <B> the type of the elements of the resulting nonuple
-     * @param nonuple a nonuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code nonuple}
-     * @return a nonuple whose elements are the result of applying {@code f}
-     *         to all elements of the given nonuple
-     * @throws NullPointerException if the given nonuple is null
-     *         or if the given function is null
+     * Concatenates a septuple and a pair into a nonuple.
+     * The members of the septuple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     * @param <H> the type of the first element of the pair
+     * @param <I> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a nonuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
      */
-    public static <A, B> Nonuple<B, B, B, B, B, B, B, B, B> map(
-            Nonuple<? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A> nonuple,
-            Function<A, B> f) {
-        return new Nonuple<>(
-                f.apply(nonuple.first()),
-                f.apply(nonuple.second()),
-                f.apply(nonuple.third()),
-                f.apply(nonuple.fourth()),
-                f.apply(nonuple.fifth()),
-                f.apply(nonuple.sixth()),
-                f.apply(nonuple.seventh()),
-                f.apply(nonuple.eighth()),
-                f.apply(nonuple.ninth())
-        );
+    public static <A, B, C, D, E, F, G, H, I>
+            Nonuple<A, B, C, D, E, F, G, H, I> concat(
+                    Septuple<A, B, C, D, E, F, G> left, Pair<H, I> right) {
+        return new Nonuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), left.seventh(),
+                right.first(), right.second());
     }
 
     /**
-     * Creates a decuple by applying a function to each element
-     * of the given decuple.
-     *
-     * The resulting decuple's elements will be the result of applying
-     * the function to each element of the given decuple, in order.
-     * That is, for a function {@code fn} and a decuple
-     * {@code (a, b, c, d, e, f, g, h, i, j)}
-     * the result is the decuple
-     * {@code (fn(a), fn(b), fn(c), fn(d), fn(e), fn(f), fn(g), fn(h), fn(i), fn(j))}.
-     *
-     * @param <A> the type of the elements of the given decuple
-     * @param <B> the type of the elements of the resulting decuple
-     * @param decuple a decuple whose elements have a common superclass
-     * @param f a function to be applied to all elements of {@code decuple}
-     * @return a decuple whose elements are the result of applying {@code f}
-     *         to all elements of the given decuple
-     * @throws NullPointerException if the given decuple is null
-     *         or if the given function is null
+     * Concatenates a septuple and a triple into a decuple.
+     * The members of the septuple come first, followed by the members
+     * of the triple, in order.
+     * @param <A> the type of the first element of the septuple
+     * @param <B> the type of the second element of the septuple
+     * @param <C> the type of the third element of the septuple
+     * @param <D> the type of the fourth element of the septuple
+     * @param <E> the type of the fifth element of the septuple
+     * @param <F> the type of the sixth element of the septuple
+     * @param <G> the type of the seventh element of the septuple
+     * @param <H> the type of the first element of the triple
+     * @param <I> the type of the second element of the triple
+     * @param <J> the type of the third element of the triple
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
      */
-    public static <A, B> Decuple<B, B, B, B, B, B, B, B, B, B> map(
-            Decuple<? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A, ? extends A, ? extends A, ? extends A,
-                    ? extends A, ? extends A> decuple,
-            Function<A, B> f) {
-        return new Decuple<>(
-                f.apply(decuple.first()),
-                f.apply(decuple.second()),
-                f.apply(decuple.third()),
-                f.apply(decuple.fourth()),
-                f.apply(decuple.fifth()),
-                f.apply(decuple.sixth()),
-                f.apply(decuple.seventh()),
-                f.apply(decuple.eighth()),
-                f.apply(decuple.ninth()),
-                f.apply(decuple.tenth())
-        );
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Septuple<A, B, C, D, E, F, G> left, Triple<H, I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), left.seventh(),
+                right.first(), right.second(), right.third());
+    }
+
+    /**
+     * Concatenates an octuple and a pair into a decuple.
+     * The members of the octuple come first, followed by the members
+     * of the pair, in order.
+     * @param <A> the type of the first element of the octuple
+     * @param <B> the type of the second element of the octuple
+     * @param <C> the type of the third element of the octuple
+     * @param <D> the type of the fourth element of the octuple
+     * @param <E> the type of the fifth element of the octuple
+     * @param <F> the type of the sixth element of the octuple
+     * @param <G> the type of the seventh element of the octuple
+     * @param <H> the type of the eighth element of the octuple
+     * @param <I> the type of the first element of the pair
+     * @param <J> the type of the second element of the pair
+     * @param left the tuple with the first members of the result
+     * @param right the tuple with the last members of the result
+     * @return a decuple with the members of both tuples
+     * @throws NullPointerException if any of the tuples is null
+     */
+    public static <A, B, C, D, E, F, G, H, I, J>
+            Decuple<A, B, C, D, E, F, G, H, I, J> concat(
+                    Octuple<A, B, C, D, E, F, G, H> left, Pair<I, J> right) {
+        return new Decuple<>(left.first(), left.second(), left.third(),
+                left.fourth(), left.fifth(), left.sixth(), left.seventh(),
+                left.eighth(), right.first(), right.second());
     }
 
     /**
@@ -682,10 +2912,517 @@ public final class Tuples {
     }
 
 
+    /**
+     * Groups each element of the given stream with the element that
+     * follows it.
+     *
+     * The resulting stream contains one pair for each two consecutive
+     * elements, preserving order.
+     * That is, for a stream {@code [a, b, c, d]} the result is the stream
+     * of pairs {@code [(a, b), (b, c), (c, d)]}.
+     * Streams with less than two elements yield an empty stream.
+     *
+     * Only the resulting pairs are allocated for each step.
+     * If the given stream is parallel and ordered, the resulting stream
+     * is parallel as well.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to pair up
+     * @return a stream of pairs of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T> Stream<Pair<T, T>> pairwise(Stream<T> stream) {
+        return windows(stream, 2);
+    }
+
+    /**
+     * Groups each run of 3 consecutive elements of the given stream
+     * into a triple.
+     *
+     * The resulting windows overlap, preserving order.
+     * That is, for a stream {@code [a, b, c, d]} the result is the stream
+     * of triples {@code [(a, b, c), (b, c, d)]}.
+     * Streams with less than three elements yield an empty stream.
+     * Only the resulting triples are allocated for each step, and
+     * parallel streams are handled as by {@link #pairwise(Stream)}.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of triples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T> Stream<Triple<T, T, T>> triples(Stream<T> stream) {
+        return windows(stream, 3);
+    }
+
+    /**
+     * Groups each run of 4 consecutive elements of the given stream
+     * into a quadruple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 4 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of quadruples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Quadruple<T, T, T, T>> quadruples(Stream<T> stream) {
+        return windows(stream, 4);
+    }
+
+    /**
+     * Groups each run of 5 consecutive elements of the given stream
+     * into a quintuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 5 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of quintuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Quintuple<T, T, T, T, T>> quintuples(Stream<T> stream) {
+        return windows(stream, 5);
+    }
+
+    /**
+     * Groups each run of 6 consecutive elements of the given stream
+     * into a sextuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 6 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of sextuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Sextuple<T, T, T, T, T, T>> sextuples(Stream<T> stream) {
+        return windows(stream, 6);
+    }
+
+    /**
+     * Groups each run of 7 consecutive elements of the given stream
+     * into a septuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 7 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of septuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Septuple<T, T, T, T, T, T, T>> septuples(Stream<T> stream) {
+        return windows(stream, 7);
+    }
+
+    /**
+     * Groups each run of 8 consecutive elements of the given stream
+     * into an octuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 8 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of octuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Octuple<T, T, T, T, T, T, T, T>> octuples(Stream<T> stream) {
+        return windows(stream, 8);
+    }
+
+    /**
+     * Groups each run of 9 consecutive elements of the given stream
+     * into a nonuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 9 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of nonuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Nonuple<T, T, T, T, T, T, T, T, T>> nonuples(
+            Stream<T> stream) {
+        return windows(stream, 9);
+    }
+
+    /**
+     * Groups each run of 10 consecutive elements of the given stream
+     * into a decuple.
+     *
+     * This is the same as {@link #triples(Stream)}, for windows of
+     * 10 elements.
+     *
+     * @param <T> the type of the elements of the stream
+     * @param stream the stream of elements to group
+     * @return a stream of decuples of consecutive elements
+     * @throws NullPointerException if the given stream is null
+     */
+    public static <T>
+            Stream<Decuple<T, T, T, T, T, T, T, T, T, T>> decuples(
+            Stream<T> stream) {
+        return windows(stream, 10);
+    }
+
+    /**
+     * Groups consecutive elements of the given stream into
+     * overlapping windows of the given arity, whose type is determined
+     * by the arity; it is up to the caller to pick a matching type.
+     */
+    @SuppressWarnings("unchecked")
+    static <T, W extends Tuple> Stream<W> windows(Stream<T> stream,
+            int arity) {
+        checkArity(arity);
+        Stream<Tuple> windows = StreamSupport.stream(
+                new WindowSpliterator<>(stream.spliterator(), arity),
+                stream.isParallel());
+        return (Stream<W>) windows.onClose(stream::close);
+    }
+
+
+    /**
+     * Joins two collections on equal keys.
+     *
+     * The resulting stream contains a pair {@code (l, r)} for each element
+     * {@code l} of the left collection and each element {@code r} of the
+     * right collection such that their keys are equal.
+     * That is, for collections {@code [a, b]} and {@code [c, d]}
+     * where only {@code a} and {@code d} have the same key, the result is
+     * the stream {@code [(a, d)]}.
+     * Keys are compared as by {@link java.util.Objects#equals}.
+     *
+     * The smaller collection is loaded into a hash table when the stream
+     * is created; the other one is probed lazily, and can be probed in
+     * parallel if the returned stream is made parallel.
+     * Matches are grouped by the probed element; their order is otherwise
+     * unspecified.
+     *
+     * @param <L> the type of the elements of the left collection
+     * @param <R> the type of the elements of the right collection
+     * @param <K> the type of the join keys
+     * @param left the elements to place on the first position of each pair
+     * @param right the elements to place on the second position of each pair
+     * @param leftKey the function that extracts keys from left elements
+     * @param rightKey the function that extracts keys from right elements
+     * @return a stream of pairs of elements with equal keys
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <L, R, K> Stream<Pair<L, R>> hashJoin(Collection<L> left,
+            Collection<R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return HashJoin.join(left, right, leftKey, rightKey, HashJoin.INNER);
+    }
+
+    /**
+     * Joins two collections on equal keys, keeping all left elements.
+     *
+     * The resulting stream contains the same pairs as
+     * {@link #hashJoin(Collection, Collection, Function, Function)},
+     * plus a pair {@code (l, null)} for each element {@code l} of the left
+     * collection whose key matches no element of the right collection.
+     * The pairs follow the order of the left collection.
+     *
+     * The right collection is loaded into a hash table when the stream
+     * is created; the left one is probed lazily, and can be probed in
+     * parallel if the returned stream is made parallel.
+     *
+     * @param <L> the type of the elements of the left collection
+     * @param <R> the type of the elements of the right collection
+     * @param <K> the type of the join keys
+     * @param left the elements to place on the first position of each pair
+     * @param right the elements to place on the second position of each pair
+     * @param leftKey the function that extracts keys from left elements
+     * @param rightKey the function that extracts keys from right elements
+     * @return a stream of pairs of elements with equal keys, and pairs of
+     *         unmatched left elements with null
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <L, R, K> Stream<Pair<L, R>> leftHashJoin(
+            Collection<L> left, Collection<R> right,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return HashJoin.join(left, right, leftKey, rightKey, HashJoin.LEFT);
+    }
+
+    /**
+     * Returns the elements of the left collection whose key matches the key
+     * of some element of the right collection.
+     *
+     * Each left element appears at most once, in the order of the left
+     * collection, regardless of how many right elements it matches.
+     * The right collection is loaded into a hash table when the stream
+     * is created; the left one is probed lazily.
+     *
+     * @param <L> the type of the elements of the left collection
+     * @param <R> the type of the elements of the right collection
+     * @param <K> the type of the join keys
+     * @param left the elements to filter
+     * @param right the elements whose keys must be matched
+     * @param leftKey the function that extracts keys from left elements
+     * @param rightKey the function that extracts keys from right elements
+     * @return a stream of the left elements with a matching key
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <L, R, K> Stream<L> semiHashJoin(Collection<L> left,
+            Collection<R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return HashJoin.join(left, right, leftKey, rightKey, HashJoin.SEMI);
+    }
+
+    /**
+     * Returns the elements of the left collection whose key matches the key
+     * of no element of the right collection.
+     *
+     * The elements keep the order of the left collection.
+     * The right collection is loaded into a hash table when the stream
+     * is created; the left one is probed lazily.
+     *
+     * @param <L> the type of the elements of the left collection
+     * @param <R> the type of the elements of the right collection
+     * @param <K> the type of the join keys
+     * @param left the elements to filter
+     * @param right the elements whose keys must not be matched
+     * @param leftKey the function that extracts keys from left elements
+     * @param rightKey the function that extracts keys from right elements
+     * @return a stream of the left elements without a matching key
+     * @throws NullPointerException if any of the arguments is null
+     */
+    public static <L, R, K> Stream<L> antiHashJoin(Collection<L> left,
+            Collection<R> right, Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey) {
+        return HashJoin.join(left, right, leftKey, rightKey, HashJoin.ANTI);
+    }
+
+
+    /**
+     * Joins two iterators sorted by key.
+     *
+     * The resulting iterator contains a pair {@code (l, r)} for each element
+     * {@code l} of the left iterator and each element {@code r} of the
+     * right iterator such that their keys compare as equal.
+     * Pairs are produced in key order, and, within each key, in the order
+     * of the left and then of the right elements.
+     * That is, for iterators with keys {@code [1, 2, 2, 4]} and
+     * {@code [2, 2, 3, 4]}, the result contains four pairs for key 2,
+     * followed by one pair for key 4.
+     *
+     * Both iterators must be sorted by key, according to the given
+     * comparator, and are walked only once, as the resulting iterator is
+     * consumed.
+     * Apart from the right elements that share the current key, which are
+     * buffered to be paired with each left element with that key,
+     * this takes constant memory.
+     *
+     * @param <L> the type of the elements of the left iterator
+     * @param <R> the type of the elements of the right iterator
+     * @param <K> the type of the join keys
+     * @param sortedLeft the elements to place on the first position of
+     *        each pair, sorted by key
+     * @param sortedRight the elements to place on the second position of
+     *        each pair, sorted by key
+     * @param leftKey the function that extracts keys from left elements
+     * @param rightKey the function that extracts keys from right elements
+     * @param comparator the comparator that orders the keys
+     * @return an iterator of pairs of elements with equal keys
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalStateException (when iterating) if the elements of
+     *         either iterator are found not to be sorted
+     */
+    public static <L, R, K> Iterator<Pair<L, R>> mergeJoin(
+            Iterator<L> sortedLeft, Iterator<R> sortedRight,
+            Function<? super L, ? extends K> leftKey,
+            Function<? super R, ? extends K> rightKey,
+            Comparator<? super K> comparator) {
+        Objects.requireNonNull(sortedLeft);
+        Objects.requireNonNull(leftKey);
+        Objects.requireNonNull(rightKey);
+        Objects.requireNonNull(comparator);
+        return new MergeJoinIterator<>(sortedLeft, sortedRight,
+                leftKey, rightKey, comparator);
+    }
+
+
+    /**
+     * Pairs each event with the most recent reference at or before
+     * the time of the event.
+     *
+     * The resulting iterator contains a pair {@code (e, r)} for each event
+     * {@code e}, in order, where {@code r} is the last reference whose
+     * time is less than or equal to the time of {@code e}, or
+     * {@code null} if there is no such reference.
+     * That is, for references at times {@code [1, 5]} and events at times
+     * {@code [0, 3, 5, 9]}, the events are paired with the references at
+     * times {@code [none, 1, 5, 5]}, respectively.
+     *
+     * Both iterators must be sorted by time, and are walked only once,
+     * as the resulting iterator is consumed.
+     * Only the latest reference is kept in memory.
+     *
+     * @param <E> the type of the events
+     * @param <R> the type of the references
+     * @param events the events, sorted by time
+     * @param references the references, sorted by time
+     * @param eventTime the function that extracts the time of an event
+     * @param referenceTime the function that extracts the time of
+     *        a reference
+     * @return an iterator of events paired with their latest reference
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalStateException (when iterating) if the elements of
+     *         either iterator are found not to be sorted
+     */
+    public static <E, R> Iterator<Pair<E, R>> asOfJoin(Iterator<E> events,
+            Iterator<R> references, ToLongFunction<? super E> eventTime,
+            ToLongFunction<? super R> referenceTime) {
+        return asOfJoin(events, references, eventTime, referenceTime,
+                Long.MAX_VALUE);
+    }
+
+    /**
+     * Pairs each event with the most recent reference at or before
+     * the time of the event, within the given tolerance.
+     *
+     * This behaves as
+     * {@link #asOfJoin(Iterator, Iterator, ToLongFunction, ToLongFunction)},
+     * except that an event is paired with {@code null} if its latest
+     * reference is older than the event by more than the given tolerance.
+     *
+     * @param <E> the type of the events
+     * @param <R> the type of the references
+     * @param events the events, sorted by time
+     * @param references the references, sorted by time
+     * @param eventTime the function that extracts the time of an event
+     * @param referenceTime the function that extracts the time of
+     *        a reference
+     * @param tolerance the maximum difference between the time of an event
+     *        and the time of its reference
+     * @return an iterator of events paired with their latest reference
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if the tolerance is negative
+     * @throws IllegalStateException (when iterating) if the elements of
+     *         either iterator are found not to be sorted
+     */
+    public static <E, R> Iterator<Pair<E, R>> asOfJoin(Iterator<E> events,
+            Iterator<R> references, ToLongFunction<? super E> eventTime,
+            ToLongFunction<? super R> referenceTime, long tolerance) {
+        Objects.requireNonNull(events);
+        Objects.requireNonNull(eventTime);
+        Objects.requireNonNull(referenceTime);
+        checkTolerance(tolerance);
+        return new AsOfJoinIterator<E, R, Object>(events, references,
+                eventTime, referenceTime, null, null, tolerance);
+    }
+
+    /**
+     * Pairs each event with the most recent reference with the same key,
+     * at or before the time of the event, within the given tolerance.
+     *
+     * This behaves as
+     * {@link #asOfJoin(Iterator, Iterator, ToLongFunction, ToLongFunction, long)},
+     * except that events are only paired with references with the same key,
+     * as compared by {@link java.util.Objects#equals}.
+     * The latest reference of each key is kept in memory.
+     *
+     * @param <E> the type of the events
+     * @param <R> the type of the references
+     * @param <K> the type of the keys
+     * @param events the events, sorted by time
+     * @param references the references, sorted by time
+     * @param eventTime the function that extracts the time of an event
+     * @param referenceTime the function that extracts the time of
+     *        a reference
+     * @param eventKey the function that extracts the key of an event
+     * @param referenceKey the function that extracts the key of
+     *        a reference
+     * @param tolerance the maximum difference between the time of an event
+     *        and the time of its reference
+     * @return an iterator of events paired with their latest reference
+     * @throws NullPointerException if any of the arguments is null
+     * @throws IllegalArgumentException if the tolerance is negative
+     * @throws IllegalStateException (when iterating) if the elements of
+     *         either iterator are found not to be sorted
+     */
+    public static <E, R, K> Iterator<Pair<E, R>> asOfJoin(Iterator<E> events,
+            Iterator<R> references, ToLongFunction<? super E> eventTime,
+            ToLongFunction<? super R> referenceTime,
+            Function<? super E, ? extends K> eventKey,
+            Function<? super R, ? extends K> referenceKey, long tolerance) {
+        Objects.requireNonNull(events);
+        Objects.requireNonNull(eventTime);
+        Objects.requireNonNull(referenceTime);
+        Objects.requireNonNull(eventKey);
+        Objects.requireNonNull(referenceKey);
+        checkTolerance(tolerance);
+        return new AsOfJoinIterator<>(events, references,
+                eventTime, referenceTime, eventKey, referenceKey, tolerance);
+    }
+
+
     private Tuples() {
         throw new AssertionError("This class should not be instantiated.");
     }
 
+    private static void checkTolerance(long tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException(
+                    "Negative tolerance: " + tolerance);
+        }
+    }
+
+    private static void checkArity(int arity) {
+        if (arity < 2 || arity > 10) {
+            throw new IllegalArgumentException("Illegal arity: " + arity);
+        }
+    }
+
+    private static void checkRange(int length, int offset, int count) {
+        if (offset < 0 || offset > length - count) {
+            throw new IndexOutOfBoundsException("Range from " + offset
+                    + " of length " + count + " does not fit in " + length);
+        }
+    }
+
+    private static Tuple tupleAt(Object[] a, int i, int arity) {
+        switch (arity) {
+            case 2:
+                return new Pair<>(a[i], a[i + 1]);
+            case 3:
+                return new Triple<>(a[i], a[i + 1], a[i + 2]);
+            case 4:
+                return new Quadruple<>(a[i], a[i + 1], a[i + 2], a[i + 3]);
+            case 5:
+                return new Quintuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4]);
+            case 6:
+                return new Sextuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4], a[i + 5]);
+            case 7:
+                return new Septuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4], a[i + 5], a[i + 6]);
+            case 8:
+                return new Octuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4], a[i + 5], a[i + 6], a[i + 7]);
+            case 9:
+                return new Nonuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4], a[i + 5], a[i + 6], a[i + 7], a[i + 8]);
+            default:
+                return new Decuple<>(a[i], a[i + 1], a[i + 2], a[i + 3],
+                        a[i + 4], a[i + 5], a[i + 6], a[i + 7], a[i + 8],
+                        a[i + 9]);
+        }
+    }
+
 
     private static final class ZippedIterator<A, B>
             implements Iterator<Pair<A, B>> {
@@ -711,4 +3448,30 @@ public final class Tuples {
             );
         }
     }
+
+
+    private static final class MappedIterator<T, R> implements Iterator<R> {
+        private final Iterator<T> source;
+        private final Function<T, R> function;
+
+        MappedIterator(Iterator<T> source, Function<T, R> function) {
+            this.source = source;
+            this.function = function;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return function.apply(source.next());
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
 }
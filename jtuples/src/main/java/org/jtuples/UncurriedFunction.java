@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The uncurried version of a two-argument function, as returned by
+ * {@link Functions#uncurry(BiFunction)}.
+ *
+ * Composing it after a product or a split passes the two results
+ * directly to the original function, without creating a pair,
+ * and currying it again gives back the original function.
+ *
+ * @author Andre Santos
+ * @param <A> the type of the first parameter
+ * @param <B> the type of the second parameter
+ * @param <C> the return type
+ */
+final class UncurriedFunction<A, B, C> implements Function<Pair<A, B>, C> {
+    final BiFunction<A, B, C> function;
+
+    UncurriedFunction(BiFunction<A, B, C> function) {
+        this.function = function;
+    }
+
+    @Override
+    public C apply(Pair<A, B> pair) {
+        return function.apply(pair.first(), pair.second());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Function<V, C> compose(
+            Function<? super V, ? extends Pair<A, B>> before) {
+        if (before instanceof ProductFunction
+                || before instanceof SplitFunction) {
+            return ((Function<V, Pair<A, B>>) before).andThen(this);
+        }
+        return Function.super.compose(before);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator that groups consecutive elements of a source spliterator
+ * into overlapping tuples of a fixed arity.
+ *
+ * The last {@code arity} elements seen are kept in a ring buffer, so each
+ * step allocates nothing but the resulting tuple.
+ * Splitting is supported for ordered sources: the prefix receives a copy of
+ * the first {@code arity - 1} elements of the suffix, so that the windows
+ * crossing the split boundary are produced exactly once.
+ *
+ * @author Andre Santos
+ * @param <T> the type of the elements of the source
+ */
+final class WindowSpliterator<T> implements Spliterator<Tuple> {
+    private final Spliterator<T> source;
+    private final int arity;
+    private final Object[] ring;
+    private final Consumer<T> store;
+    private int head;
+    private int count;
+    private final Object[] tail;
+    private int tailIndex;
+
+    WindowSpliterator(Spliterator<T> source, int arity) {
+        this(source, arity, new Object[arity], 0, 0, new Object[0]);
+    }
+
+    private WindowSpliterator(Spliterator<T> source, int arity, Object[] ring,
+            int head, int count, Object[] tail) {
+        this.source = source;
+        this.arity = arity;
+        this.ring = ring;
+        this.store = e -> this.ring[slot(this.count)] = e;
+        this.head = head;
+        this.count = count;
+        this.tail = tail;
+        this.tailIndex = 0;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple> action) {
+        while (count < arity) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        action.accept(window());
+        head = slot(1);
+        --count;
+        return true;
+    }
+
+    @Override
+    public Spliterator<Tuple> trySplit() {
+        if (!source.hasCharacteristics(ORDERED)) {
+            return null;
+        }
+        Spliterator<T> prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+        // The prefix keeps the elements buffered so far, and needs
+        // the first arity - 1 elements of this suffix to close the windows
+        // that cross the split boundary.
+        Object[] buffered = ring.clone();
+        int bufferedHead = head;
+        int bufferedCount = count;
+        head = 0;
+        count = 0;
+        while (count < arity - 1 && source.tryAdvance(store)) {
+            ++count;
+        }
+        int fromTail = Math.min(arity - 1 - count, tail.length - tailIndex);
+        Object[] boundary = new Object[count + fromTail];
+        System.arraycopy(ring, 0, boundary, 0, count);
+        System.arraycopy(tail, tailIndex, boundary, count, fromTail);
+        return new WindowSpliterator<>(prefix, arity,
+                buffered, bufferedHead, bufferedCount, boundary);
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = source.estimateSize();
+        if (size == Long.MAX_VALUE) {
+            return size;
+        }
+        return Math.max(0, size + (tail.length - tailIndex) + count - arity + 1);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    private int slot(int offset) {
+        int index = head + offset;
+        return index < arity ? index : index - arity;
+    }
+
+    private boolean fill() {
+        if (source.tryAdvance(store)) {
+            ++count;
+            return true;
+        }
+        if (tailIndex < tail.length) {
+            ring[slot(count)] = tail[tailIndex++];
+            ++count;
+            return true;
+        }
+        return false;
+    }
+
+    private Object at(int offset) {
+        return ring[slot(offset)];
+    }
+
+    private Tuple window() {
+        switch (arity) {
+            case 2:
+                return new Pair<>(at(0), at(1));
+            case 3:
+                return new Triple<>(at(0), at(1), at(2));
+            case 4:
+                return new Quadruple<>(at(0), at(1), at(2), at(3));
+            case 5:
+                return new Quintuple<>(at(0), at(1), at(2), at(3), at(4));
+            case 6:
+                return new Sextuple<>(at(0), at(1), at(2), at(3), at(4),
+                        at(5));
+            case 7:
+                return new Septuple<>(at(0), at(1), at(2), at(3), at(4),
+                        at(5), at(6));
+            case 8:
+                return new Octuple<>(at(0), at(1), at(2), at(3), at(4),
+                        at(5), at(6), at(7));
+            case 9:
+                return new Nonuple<>(at(0), at(1), at(2), at(3), at(4),
+                        at(5), at(6), at(7), at(8));
+            default:
+                return new Decuple<>(at(0), at(1), at(2), at(3), at(4),
+                        at(5), at(6), at(7), at(8), at(9));
+        }
+    }
+}
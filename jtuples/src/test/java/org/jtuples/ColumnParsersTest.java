@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class ColumnParsersTest {
+    private static <T> T parse(ColumnParser<T> parser, String text) {
+        char[] buffer = ("##" + text + "##").toCharArray();
+        return parser.parse(buffer, 2, text.length());
+    }
+
+    @Test
+    public void testString() {
+        assertEquals("abc", parse(ColumnParsers.STRING, "abc"));
+        assertEquals("", parse(ColumnParsers.STRING, ""));
+    }
+
+    @Test
+    public void testInt() {
+        assertEquals(Integer.valueOf(42), parse(ColumnParsers.INT, "42"));
+        assertEquals(Integer.valueOf(-7), parse(ColumnParsers.INT, "-7"));
+        assertEquals(Integer.valueOf(5), parse(ColumnParsers.INT, "+5"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE),
+                parse(ColumnParsers.INT, "-2147483648"));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE),
+                parse(ColumnParsers.INT, "2147483647"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testIntFailsOnOverflow() {
+        parse(ColumnParsers.INT, "2147483648");
+    }
+
+    @Test
+    public void testLong() {
+        assertEquals(Long.valueOf(Long.MIN_VALUE),
+                parse(ColumnParsers.LONG, "-9223372036854775808"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE),
+                parse(ColumnParsers.LONG, "9223372036854775807"));
+        assertEquals(Long.valueOf(0), parse(ColumnParsers.LONG, "000"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLongFailsOnOverflow() {
+        parse(ColumnParsers.LONG, "9223372036854775808");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLongFailsOnEmpty() {
+        parse(ColumnParsers.LONG, "");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLongFailsOnSignOnly() {
+        parse(ColumnParsers.LONG, "-");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLongFailsOnInvalidDigit() {
+        parse(ColumnParsers.LONG, "12a");
+    }
+
+    @Test
+    public void testDoubleMatchesParseDouble() {
+        String[] texts = {"0", "-0", "1", "1.", ".5", "-2.5", "3.14159",
+            "0.1", "0.0001", "1e10", "1E-5", "-1.5e+3", "123456789012345678",
+            "1234567890123456789012", "9007199254740993", "1e23", "1e-300",
+            "4.9e-324", "1.7976931348623157e308", "NaN", "-Infinity",
+            "0.30000000000000004", "2.2250738585072014E-308"};
+        for (String text : texts) {
+            assertEquals(text, Double.valueOf(Double.parseDouble(text)),
+                    parse(ColumnParsers.DOUBLE, text));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testDoubleFailsOnInvalidText() {
+        parse(ColumnParsers.DOUBLE, "1.2.3");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testDoubleFailsOnEmpty() {
+        parse(ColumnParsers.DOUBLE, "");
+    }
+}
@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -308,6 +312,47 @@ public class DecupleTest {
         assertEquals("(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)", decuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = decuple.apply((a, b, c, d, e, f, g, h, i, j) ->
+                a + b + c + d + e + f + g + h + i + j);
+
+        assertEquals("12345678910", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = decuple.toBuilder()
+                .first("a")
+                .applyTenth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("1010", result.tenth());
+        assertEquals("1", decuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(decuple, decuple.toBuilder().build());
+        assertSame(decuple, decuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(decuple);
+            out.writeObject(nullDecuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(decuple, in.readObject());
+        assertEquals(nullDecuple(), in.readObject());
+    }
+
     private Decuple<Object, Object, Object, Object, Object,
     		Object, Object, Object, Object, Object> nullDecuple() {
         return new Decuple<>();
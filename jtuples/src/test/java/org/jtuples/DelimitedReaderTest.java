@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class DelimitedReaderTest {
+    private final DelimitedReader<Triple<Long, Integer, Double>> csv =
+            DelimitedReader.of(',', ColumnParsers.LONG, ColumnParsers.INT,
+                    ColumnParsers.DOUBLE);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadAll() throws IOException {
+        List<Triple<Long, Integer, Double>> result =
+                csv.readAll(new StringReader("1,2,0.5\n3,4,1.5\n"));
+
+        assertEquals(Arrays.asList(new Triple<>(1L, 2, 0.5),
+                new Triple<>(3L, 4, 1.5)), result);
+    }
+
+    @Test
+    public void testLastLineWithoutBreakAndEmptyLines() throws IOException {
+        List<Triple<Long, Integer, Double>> result =
+                csv.readAll(new StringReader("\n1,2,0.5\r\n\r\n3,4,1.5"));
+
+        assertEquals(Arrays.asList(new Triple<>(1L, 2, 0.5),
+                new Triple<>(3L, 4, 1.5)), result);
+    }
+
+    @Test
+    public void testWithHeader() throws IOException {
+        List<Triple<Long, Integer, Double>> result = csv.withHeader()
+                .readAll(new StringReader("time,id,value\n1,2,0.5\n"));
+
+        assertEquals(Arrays.asList(new Triple<>(1L, 2, 0.5)), result);
+    }
+
+    @Test
+    public void testQuotedColumns() throws IOException {
+        DelimitedReader<Pair<String, String>> reader = DelimitedReader.of(
+                ',', ColumnParsers.STRING, ColumnParsers.STRING);
+
+        List<Pair<String, String>> result = reader.readAll(new StringReader(
+                "\"a,b\",\"say \"\"hi\"\"\"\n\"line\nbreak\",\"\"\n"));
+
+        assertEquals(Arrays.asList(new Pair<>("a,b", "say \"hi\""),
+                new Pair<>("line\nbreak", "")), result);
+    }
+
+    @Test
+    public void testWithoutQuotes() throws IOException {
+        DelimitedReader<Pair<String, Integer>> tsv = DelimitedReader.of(
+                '\t', ColumnParsers.STRING, ColumnParsers.INT).withoutQuotes();
+
+        List<Pair<String, Integer>> result =
+                tsv.readAll(new StringReader("\"a\"\t1\n\"c\t2\n"));
+
+        assertEquals(Arrays.asList(new Pair<>("\"a\"", 1),
+                new Pair<>("\"c", 2)), result);
+    }
+
+    @Test
+    public void testStrayQuoteInsideColumn() throws IOException {
+        DelimitedReader<Pair<String, Integer>> tsv = DelimitedReader.of(
+                '\t', ColumnParsers.STRING, ColumnParsers.INT);
+
+        List<Pair<String, Integer>> result = tsv.readAll(
+                new StringReader("5\"\t1\nb\t2\n\"x\"\"y\"\t3\n"));
+
+        assertEquals(Arrays.asList(new Pair<>("5\"", 1), new Pair<>("b", 2),
+                new Pair<>("x\"y", 3)), result);
+    }
+
+    @Test
+    public void testWithQuote() throws IOException {
+        DelimitedReader<Pair<String, Integer>> reader = DelimitedReader.of(
+                ';', ColumnParsers.STRING, ColumnParsers.INT).withQuote('\'');
+
+        List<Pair<String, Integer>> result =
+                reader.readAll(new StringReader("'a;b';1\n"));
+
+        assertEquals(Arrays.asList(new Pair<>("a;b", 1)), result);
+    }
+
+    @Test
+    public void testLinesLongerThanBuffer() throws IOException {
+        StringBuilder text = new StringBuilder();
+        StringBuilder column = new StringBuilder();
+        for (int i = 0; i < 100000; ++i) {
+            column.append((char) ('a' + i % 26));
+        }
+        for (int i = 0; i < 3; ++i) {
+            text.append(i).append(',').append(column).append('\n');
+        }
+        DelimitedReader<Pair<Integer, String>> reader = DelimitedReader.of(
+                ',', ColumnParsers.INT, ColumnParsers.STRING);
+
+        List<Pair<Integer, String>> result =
+                reader.readAll(new StringReader(text.toString()));
+
+        assertEquals(3, result.size());
+        assertEquals(new Pair<>(2, column.toString()), result.get(2));
+    }
+
+    @Test
+    public void testForEachOverChannel() throws IOException {
+        Path path = write(lines(1000));
+        List<Triple<Long, Integer, Double>> result = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            csv.forEach(channel, result::add);
+        }
+
+        assertEquals(expected(1000), result);
+    }
+
+    @Test
+    public void testParallelReadAll() throws IOException {
+        Path path = write("time,id,value\n" + lines(10000));
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            for (int parallelism = 1; parallelism <= 8; ++parallelism) {
+                assertEquals(expected(10000),
+                        csv.withHeader().readAll(channel, parallelism));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelReadAllWithMorePartsThanLines()
+            throws IOException {
+        Path path = write("time,id,value\n1,2,0.5\n");
+
+        try (FileChannel channel = FileChannel.open(path)) {
+            assertEquals(Arrays.asList(new Triple<>(1L, 2, 0.5)),
+                    csv.withHeader().readAll(channel, 100));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailsWithTooFewColumns() throws IOException {
+        csv.readAll(new StringReader("1,2\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailsWithTooManyColumns() throws IOException {
+        csv.readAll(new StringReader("1,2,3,4\n"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testFailsWithInvalidNumber() throws IOException {
+        csv.readAll(new StringReader("1,x,3\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelFailsWithZeroParts() throws IOException {
+        try (FileChannel channel = FileChannel.open(write(""))) {
+            csv.readAll(channel, 0);
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfFailsWhenParserIsNull() {
+        DelimitedReader.of(',', ColumnParsers.INT, null);
+    }
+
+    private Path write(String text) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static String lines(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; ++i) {
+            sb.append(i * 1000L).append(',').append(i).append(',')
+                    .append(i / 4.0).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static List<Triple<Long, Integer, Double>> expected(int count) {
+        List<Triple<Long, Integer, Double>> list = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            list.add(new Triple<>(i * 1000L, i, i / 4.0));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class ElementCodecsTest {
+    private static <T> T roundTrip(ElementCodec<T> codec, T value,
+            ByteBuffer buffer) {
+        codec.write(buffer, value);
+        assertEquals(codec.encodedSize(value), buffer.position());
+        buffer.flip();
+        T result = codec.read(buffer);
+        assertFalse(buffer.hasRemaining());
+        return result;
+    }
+
+    @Test
+    public void testInt() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+
+        assertEquals(Integer.valueOf(-42),
+                roundTrip(ElementCodecs.INT, -42, buffer));
+    }
+
+    @Test
+    public void testLong() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertEquals(Long.valueOf(Long.MIN_VALUE),
+                roundTrip(ElementCodecs.LONG, Long.MIN_VALUE, buffer));
+    }
+
+    @Test
+    public void testDouble() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertEquals(Double.valueOf(Math.PI),
+                roundTrip(ElementCodecs.DOUBLE, Math.PI, buffer));
+    }
+
+    @Test
+    public void testUtf8OnHeapBuffer() {
+        String value = "ascii, été, €, 😀";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        assertEquals(value, roundTrip(ElementCodecs.UTF8, value, buffer));
+    }
+
+    @Test
+    public void testUtf8OnDirectBuffer() {
+        String value = "ascii, été, €, 😀";
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+        assertEquals(value, roundTrip(ElementCodecs.UTF8, value, buffer));
+    }
+
+    @Test
+    public void testUtf8MatchesStandardEncoding() {
+        String value = "é€😀";
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        ElementCodecs.UTF8.write(buffer, value);
+
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, buffer.get(0));
+        byte[] actual = new byte[expected.length];
+        buffer.position(1);
+        buffer.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testUtf8UnpairedSurrogates() {
+        String value = "x\uD800y\uDC00";
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(1 + expected.length,
+                ElementCodecs.UTF8.encodedSize(value));
+        assertEquals("x?y?", roundTrip(ElementCodecs.UTF8, value,
+                ByteBuffer.allocate(16)));
+        assertEquals("x?y?", roundTrip(ElementCodecs.UTF8, value,
+                ByteBuffer.allocateDirect(16)));
+    }
+
+    @Test
+    public void testUtf8LongString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            sb.append('x');
+        }
+        String value = sb.toString();
+        ByteBuffer buffer = ByteBuffer.allocate(302);
+
+        assertEquals(302, ElementCodecs.UTF8.encodedSize(value));
+        assertEquals(value, roundTrip(ElementCodecs.UTF8, value, buffer));
+    }
+
+    @Test
+    public void testUtf8EmptyString() {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+
+        assertEquals("", roundTrip(ElementCodecs.UTF8, "", buffer));
+    }
+
+    @Test
+    public void testNullable() {
+        ElementCodec<String> codec = ElementCodecs.nullable(ElementCodecs.UTF8);
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertNull(roundTrip(codec, null, buffer));
+        buffer.clear();
+        assertEquals("abc", roundTrip(codec, "abc", buffer));
+    }
+
+    @Test
+    public void testUtf8MalformedInputIsReplaced() {
+        int[][] inputs = {
+            {0x80}, {0x61, 0xC3}, {0xE2, 0x82}, {0xF8, 0x41}, {0xC0, 0x80},
+            {0xED, 0xA0, 0x80}, {0xF4, 0x90, 0x80, 0x80}, {0xE2, 0x28, 0xA1},
+            {0xF0, 0x9F, 0x98}, {0x61, 0xC3, 0xA9, 0xFF, 0xF0, 0x9F, 0x98, 0x80}
+        };
+        for (int[] input : inputs) {
+            byte[] bytes = new byte[input.length];
+            for (int i = 0; i < input.length; ++i) {
+                bytes[i] = (byte) input[i];
+            }
+            String expected = new String(bytes, StandardCharsets.UTF_8);
+            for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(32),
+                    ByteBuffer.allocateDirect(32)}) {
+                buffer.put((byte) bytes.length).put(bytes);
+                ElementCodecs.UTF8.write(buffer, "next");
+                buffer.flip();
+
+                assertEquals(expected, ElementCodecs.UTF8.read(buffer));
+                assertEquals("next", ElementCodecs.UTF8.read(buffer));
+            }
+        }
+    }
+
+    @Test
+    public void testUtf8ReadFailsWithCorruptLength() {
+        byte[] bytes = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                0x07, 'a'};
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(bytes),
+                ByteBuffer.allocateDirect(bytes.length).put(bytes)}) {
+            buffer.rewind();
+            try {
+                ElementCodecs.UTF8.read(buffer);
+                fail();
+            } catch (BufferUnderflowException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testWriteFailsWhenBufferIsFull() {
+        ElementCodecs.LONG.write(ByteBuffer.allocate(4), 1L);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class ExternalSorterTest {
+    private final TupleCodec<Pair<Integer, String>> codec =
+            TupleCodec.of(ElementCodecs.INT, ElementCodecs.UTF8);
+    private final Comparator<Pair<Integer, String>> order =
+            Comparator.comparing(Pair<Integer, String>::first)
+                    .thenComparing(Pair::second);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveBudgetIsRejected() {
+        new ExternalSorter<>(order, codec, 0L);
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (ExternalSorter<Pair<Integer, String>>.SortedIterator it =
+                sorter(1024L).sort(Collections.emptyIterator())) {
+            assertFalse(it.hasNext());
+        }
+        assertEquals(0, count(directory));
+    }
+
+    @Test
+    public void testSortInMemoryWritesNoFiles() throws IOException {
+        List<Pair<Integer, String>> values = values(1000);
+        List<Pair<Integer, String>> sorted = drain(
+                sorter(1L << 20).sort(values.iterator()), 0);
+
+        assertEquals(expected(values), sorted);
+    }
+
+    @Test
+    public void testSortWithSpills() throws IOException {
+        List<Pair<Integer, String>> values = values(5000);
+        List<Pair<Integer, String>> sorted = drain(
+                sorter(2048L).sort(values.iterator()), 1);
+
+        assertEquals(expected(values), sorted);
+        assertEquals(0, count(folder.getRoot().toPath()));
+    }
+
+    @Test
+    public void testSortStream() throws IOException {
+        List<Pair<Integer, String>> values = values(500);
+        Stream<Pair<Integer, String>> stream = values.stream();
+        List<Pair<Integer, String>> sorted = drain(
+                sorter(256L).sort(stream), 1);
+
+        assertEquals(expected(values), sorted);
+    }
+
+    @Test
+    public void testValuesLargerThanBuffer() throws IOException {
+        ExternalSorter<String> sorter = new ExternalSorter<>(
+                Comparator.<String>naturalOrder(), ElementCodecs.UTF8, 1L,
+                folder.getRoot().toPath());
+        List<String> values = new ArrayList<>();
+        for (char c = 'z'; c >= 'a'; --c) {
+            values.add(String.join("", Collections.nCopies(30000,
+                    String.valueOf(c))));
+        }
+        List<String> sorted = new ArrayList<>();
+        try (ExternalSorter<String>.SortedIterator it =
+                sorter.sort(values.iterator())) {
+            it.forEachRemaining(sorted::add);
+        }
+
+        Collections.sort(values);
+        assertEquals(values, sorted);
+    }
+
+    @Test
+    public void testSortWithEqualKeys() throws IOException {
+        ExternalSorter<Pair<Integer, String>> sorter = new ExternalSorter<>(
+                Comparator.comparing(Pair<Integer, String>::first), codec,
+                64L, folder.getRoot().toPath());
+        List<Pair<Integer, String>> values = new ArrayList<>();
+        for (int i = 0; i < 300; ++i) {
+            values.add(new Pair<>(i % 3, "v" + i));
+        }
+        List<Integer> keys = new ArrayList<>();
+        try (ExternalSorter<Pair<Integer, String>>.SortedIterator it =
+                sorter.sort(values.iterator())) {
+            it.forEachRemaining(p -> keys.add(p.first()));
+        }
+
+        assertEquals(300, keys.size());
+        for (int i = 1; i < keys.size(); ++i) {
+            assertTrue(keys.get(i - 1) <= keys.get(i));
+        }
+    }
+
+    @Test
+    public void testCloseDeletesTemporaryFiles() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        ExternalSorter<Pair<Integer, String>>.SortedIterator it =
+                sorter(512L).sort(values(1000).iterator());
+        it.next();
+        assertTrue(count(directory) > 1);
+
+        it.close();
+        assertEquals(0, count(directory));
+        assertFalse(it.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextAfterEnd() throws IOException {
+        try (ExternalSorter<Pair<Integer, String>>.SortedIterator it =
+                sorter(512L).sort(values(100).iterator())) {
+            while (it.hasNext()) {
+                it.next();
+            }
+            it.next();
+        }
+    }
+
+
+    private ExternalSorter<Pair<Integer, String>> sorter(long budget) {
+        return new ExternalSorter<>(order, codec, budget,
+                folder.getRoot().toPath());
+    }
+
+    private List<Pair<Integer, String>> drain(
+            ExternalSorter<Pair<Integer, String>>.SortedIterator it,
+            int minFiles) throws IOException {
+        assertTrue(count(folder.getRoot().toPath()) >= minFiles);
+        List<Pair<Integer, String>> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        it.close();
+        return list;
+    }
+
+    private List<Pair<Integer, String>> expected(
+            List<Pair<Integer, String>> values) {
+        List<Pair<Integer, String>> copy = new ArrayList<>(values);
+        copy.sort(order);
+        return copy;
+    }
+
+    private static List<Pair<Integer, String>> values(int count) {
+        Random random = new Random(count);
+        List<Pair<Integer, String>> values = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            values.add(new Pair<>(random.nextInt(count / 4),
+                    Integer.toString(random.nextInt(), 36)));
+        }
+        return values;
+    }
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -23,6 +23,7 @@ package org.jtuples;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -132,6 +133,235 @@ public class FunctionsTest {
         f.accept(new Pair<>(1, 2));
     }
 
+    @Test
+    public void testCurryTriple() {
+        TriFunction<Integer, Integer, Integer, Integer> f =
+                Functions.curryTriple(t -> t.first() * t.second() - t.third());
+
+        assertEquals(Integer.valueOf(5), f.apply(2, 3, 1));
+    }
+
+    @Test
+    public void testUncurry_TriFunction() {
+        Function<Triple<Integer, Integer, Integer>, Integer> f =
+                Functions.uncurry((Integer a, Integer b, Integer c) -> a * b - c);
+
+        assertEquals(Integer.valueOf(5), f.apply(new Triple<>(2, 3, 1)));
+    }
+
+    @Test
+    public void testCurryDecuple() {
+        DecaFunction<String, String, String, String, String,
+                String, String, String, String, String, String> f =
+                Functions.curryDecuple(Decuple::toString);
+
+        assertEquals("(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)",
+                f.apply("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"));
+    }
+
+    @Test
+    public void testUncurry_DecaFunction() {
+        Function<Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>, Integer> f =
+                Functions.uncurry((Integer a, Integer b, Integer c, Integer d,
+                        Integer e, Integer g, Integer h, Integer i, Integer j,
+                        Integer k) -> a + b + c + d + e + g + h + i + j + k);
+
+        assertEquals(Integer.valueOf(55), f.apply(
+                new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+
+    @Test
+    public void testAndThen_TetraFunction() {
+        TetraFunction<Integer, Integer, Integer, Integer, String> f =
+                (a, b, c, d) -> String.valueOf(a + b + c + d);
+        TetraFunction<Integer, Integer, Integer, Integer, String> g =
+                f.andThen(s -> s + "!");
+
+        assertEquals("10!", g.apply(1, 2, 3, 4));
+    }
+
+    @Test
+    public void testCurryUncurryRoundTrip() {
+        BiFunction<Integer, Integer, Integer> f = (a, b) -> a + b;
+        Function<Pair<Integer, Integer>, Integer> g = p -> p.first();
+
+        assertSame(f, Functions.curry(Functions.uncurry(f)));
+        assertSame(g, Functions.uncurry(Functions.curry(g)));
+    }
+
+    @Test
+    public void testProductAndThenProductIsFused() {
+        Function<Pair<Integer, String>, Pair<Integer, Integer>> f =
+                Functions.product((Integer i) -> i + 1, String::length)
+                .andThen(Functions.product(i -> i * 2, i -> i * 3));
+
+        assertTrue(f instanceof ProductFunction);
+        assertEquals(new Pair<>(4, 9), f.apply(new Pair<>(1, "abc")));
+    }
+
+    @Test
+    public void testProductComposeSplitIsFused() {
+        Function<Integer, Pair<Integer, String>> f =
+                Functions.product((Integer i) -> i * 2, String::valueOf)
+                .compose(Functions.split(i -> i + 1, i -> i - 1));
+
+        assertTrue(f instanceof SplitFunction);
+        assertEquals(new Pair<>(8, "2"), f.apply(3));
+    }
+
+    @Test
+    public void testFusedPipeline() {
+        Function<Integer, String> pipeline =
+                Functions.split((Integer i) -> i, i -> -i)
+                .andThen(Functions.product((Integer i) -> i + 1,
+                        (Integer i) -> i - 1))
+                .andThen(Functions.product((Integer i) -> i * 2,
+                        (Integer i) -> i * 2))
+                .andThen(Functions.product((Integer i) -> "" + i,
+                        (Integer i) -> "" + i))
+                .andThen(Functions.uncurry((String a, String b) -> a + "/" + b));
+
+        assertFalse(pipeline instanceof SplitFunction);
+        assertEquals("8/-8", pipeline.apply(3));
+    }
+
+    @Test
+    public void testUncurryComposeProduct() {
+        Function<Pair<Integer, Integer>, Integer> f =
+                Functions.uncurry((Integer a, Integer b) -> a - b)
+                .compose(Functions.product(i -> i * 10, i -> i));
+
+        assertEquals(Integer.valueOf(28), f.apply(new Pair<>(3, 2)));
+    }
+
+    @Test
+    public void testProductAndThenOtherFunction() {
+        Function<Pair<Integer, Integer>, Integer> f =
+                Functions.product((Integer i) -> i + 1, (Integer i) -> i)
+                .andThen(p -> p.first() * p.second());
+
+        assertEquals(Integer.valueOf(6), f.apply(new Pair<>(1, 3)));
+    }
+
+    @Test
+    public void testProduct_Triple_Function() {
+        Function<Triple<Integer, String, Integer>,
+                Triple<Integer, Integer, String>> f = Functions.product(
+                        (Integer i) -> i + 1, String::length,
+                        (Integer i) -> "" + i);
+
+        assertEquals(new Triple<>(2, 3, "4"),
+                f.apply(new Triple<>(1, "abc", 4)));
+    }
+
+    @Test
+    public void testProduct_Triple_Supplier() {
+        Supplier<Triple<Integer, String, Long>> f = Functions.product(
+                () -> 1, () -> "2", () -> 3L);
+
+        assertEquals(new Triple<>(1, "2", 3L), f.get());
+    }
+
+    @Test
+    public void testProduct_Triple_Consumer() {
+        StringBuilder sb = new StringBuilder();
+        Consumer<Integer> first = i -> sb.append(i);
+        Consumer<String> second = s -> sb.append(s);
+        Consumer<Long> third = l -> sb.append(l);
+        Consumer<Triple<Integer, String, Long>> f =
+                Functions.product(first, second, third);
+
+        f.accept(new Triple<>(1, "2", 3L));
+        assertEquals("123", sb.toString());
+    }
+
+    @Test
+    public void testProduct_Decuple_Function() {
+        Function<Integer, Integer> inc = i -> i + 1;
+        Function<Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>,
+                Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>> f =
+                Functions.product(inc, inc, inc, inc, inc,
+                        inc, inc, inc, inc, inc);
+
+        assertEquals(new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                f.apply(new Decuple<>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+
+    @Test
+    public void testProduct_ImplicitlyTypedLambdas() {
+        Function<Triple<Integer, Integer, Integer>,
+                Triple<Integer, Integer, String>> f = Functions.product(
+                        a -> a + 1, b -> 2 * b, c -> "" + c);
+        Function<Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>,
+                Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>> g =
+                Functions.product(a -> a + 1, a -> a + 1, a -> a + 1,
+                        a -> a + 1, a -> a + 1, a -> a + 1, a -> a + 1,
+                        a -> a + 1, a -> a + 1, a -> a + 1);
+
+        assertEquals(new Triple<>(2, 4, "3"),
+                f.apply(new Triple<>(1, 2, 3)));
+        assertEquals(new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                g.apply(new Decuple<>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testProduct_Quadruple_NullFunction() {
+        Function<Integer, Integer> id = i -> i;
+        Functions.product(id, id, id, null);
+    }
+
+    /**
+     * Test of memoize method, of class Functions.
+     */
+    @Test
+    public void testMemoize_Function() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Integer> f = Functions.memoize((String s) -> {
+            calls.incrementAndGet();
+            return s.length();
+        }, 10);
+        assertEquals(Integer.valueOf(5), f.apply("hello"));
+        assertEquals(Integer.valueOf(5), f.apply("hello"));
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * Test of memoize method, of class Functions.
+     */
+    @Test
+    public void testMemoize_BiFunction() {
+        Memoizer<Pair<Integer, Integer>, Integer> memoizer =
+                new Memoizer<>(10);
+        BiFunction<Integer, Integer, Integer> f =
+                Functions.memoize((a, b) -> a + b, memoizer);
+        assertEquals(Integer.valueOf(5), f.apply(2, 3));
+        assertEquals(Integer.valueOf(5), f.apply(2, 3));
+        assertEquals(Integer.valueOf(5), f.apply(3, 2));
+        assertEquals(1, memoizer.hitCount());
+        assertEquals(2, memoizer.missCount());
+    }
+
+    /**
+     * Test of memoize method, of class Functions.
+     */
+    @Test
+    public void testMemoize_TriFunction() {
+        AtomicInteger calls = new AtomicInteger();
+        TriFunction<Integer, Integer, Integer, Integer> f =
+                Functions.memoize((a, b, c) -> {
+                    calls.incrementAndGet();
+                    return a + b + c;
+                }, 10);
+        assertEquals(Integer.valueOf(6), f.apply(1, 2, 3));
+        assertEquals(Integer.valueOf(6), f.apply(1, 2, 3));
+        assertEquals(1, calls.get());
+    }
+
     @Test
     public void testNonInstantiable() throws InstantiationException,
             IllegalAccessException, IllegalArgumentException {
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class IndexedTupleSetTest {
+    private IndexedTupleSet<Triple<String, Integer, String>> set;
+
+    @Before
+    public void setup() {
+        set = new IndexedTupleSet<>(Arrays.asList(
+                new Triple<>("a", 1, "x"),
+                new Triple<>("b", 1, "y"),
+                new Triple<>("a", 2, "x"),
+                new Triple<>("c", 3, "z")
+        ));
+    }
+
+    @Test
+    public void testSingleIndex() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(2);
+        Set<Triple<String, Integer, String>> expected = new HashSet<>(
+                Arrays.asList(new Triple<>("a", 1, "x"),
+                        new Triple<>("b", 1, "y")));
+        assertEquals(expected, index.get(1));
+        assertEquals(Collections.emptySet(), index.get(4));
+        assertEquals(3, index.keys());
+    }
+
+    @Test
+    public void testCompositeIndex() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(3, 1);
+        Set<Triple<String, Integer, String>> expected = new HashSet<>(
+                Arrays.asList(new Triple<>("a", 1, "x"),
+                        new Triple<>("a", 2, "x")));
+        assertEquals(expected, index.get("x", "a"));
+        assertTrue(index.get("a", "x").isEmpty());
+        assertArrayEquals(new int[]{3, 1}, index.positions());
+    }
+
+    @Test
+    public void testSameIndexIsReused() {
+        assertSame(set.index(1, 2), set.index(1, 2));
+        assertNotSame(set.index(1, 2), set.index(2, 1));
+    }
+
+    @Test
+    public void testIndexIsMaintained() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(1);
+        Set<Triple<String, Integer, String>> view = index.get("d");
+        assertTrue(view.isEmpty());
+
+        set.add(new Triple<>("d", 4, "w"));
+        assertEquals(Collections.singleton(new Triple<>("d", 4, "w")), view);
+
+        set.remove(new Triple<>("d", 4, "w"));
+        assertTrue(view.isEmpty());
+        assertEquals(2, index.get("a").size());
+    }
+
+    @Test
+    public void testIteratorRemoveUpdatesIndex() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(1);
+        Iterator<Triple<String, Integer, String>> it = set.iterator();
+        it.next();
+        it.remove();
+        assertEquals(3, set.size());
+        assertEquals(Collections.singleton(new Triple<>("a", 2, "x")),
+                index.get("a"));
+    }
+
+    @Test
+    public void testClear() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(1);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertEquals(0, index.keys());
+    }
+
+    @Test
+    public void testDuplicatesAreIgnored() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(1);
+        assertFalse(set.add(new Triple<>("a", 1, "x")));
+        assertEquals(2, index.get("a").size());
+    }
+
+    @Test
+    public void testDropIndex() {
+        TupleIndex<Triple<String, Integer, String>> index = set.index(1);
+        assertTrue(set.dropIndex(index));
+        assertFalse(set.dropIndex(index));
+        assertNotSame(index, set.index(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPositionOutOfRange() {
+        set.index(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPositionTooHighForTuples() {
+        set.index(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRepeatedPosition() {
+        set.index(1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongNumberOfValues() {
+        set.index(1, 2).get("a");
+    }
+
+    @Test
+    public void testTooShortTupleIsRejected() {
+        IndexedTupleSet<Tuple> tuples = new IndexedTupleSet<>();
+        tuples.add(new Triple<>("a", 1, "x"));
+        tuples.index(3);
+        try {
+            tuples.add(new Pair<>("b", 2));
+            fail("Tuple should be too short for the index");
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, tuples.size());
+        }
+    }
+}
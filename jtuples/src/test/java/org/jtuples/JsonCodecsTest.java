@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class JsonCodecsTest {
+    private static <T> String write(JsonCodec<T> codec, T value)
+            throws IOException {
+        StringWriter out = new StringWriter();
+        codec.write(out, value);
+        return out.toString();
+    }
+
+    private static <T> T read(JsonCodec<T> codec, String json)
+            throws IOException {
+        return codec.read(new JsonReader(new StringReader(json)));
+    }
+
+    @Test
+    public void testInt() throws IOException {
+        assertEquals("-42", write(JsonCodecs.INT, -42));
+        assertEquals("0", write(JsonCodecs.INT, 0));
+        assertEquals(Integer.valueOf(-42), read(JsonCodecs.INT, " -42 "));
+    }
+
+    @Test
+    public void testLong() throws IOException {
+        assertEquals("-9223372036854775808",
+                write(JsonCodecs.LONG, Long.MIN_VALUE));
+        assertEquals("9223372036854775807",
+                write(JsonCodecs.LONG, Long.MAX_VALUE));
+        assertEquals(Long.valueOf(Long.MIN_VALUE),
+                read(JsonCodecs.LONG, "-9223372036854775808"));
+    }
+
+    @Test
+    public void testDouble() throws IOException {
+        assertEquals("0.5", write(JsonCodecs.DOUBLE, 0.5));
+        assertEquals(Double.valueOf(1.5e-7),
+                read(JsonCodecs.DOUBLE, "1.5e-7"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleFailsOnNaN() throws IOException {
+        write(JsonCodecs.DOUBLE, Double.NaN);
+    }
+
+    @Test
+    public void testBoolean() throws IOException {
+        assertEquals("true", write(JsonCodecs.BOOLEAN, true));
+        assertEquals(Boolean.FALSE, read(JsonCodecs.BOOLEAN, "false"));
+    }
+
+    @Test
+    public void testStringEscapes() throws IOException {
+        String value = "a\"b\\c\nd\u0001é";
+        String json = write(JsonCodecs.STRING, value);
+
+        assertEquals("\"a\\\"b\\\\c\\nd\\u0001é\"", json);
+        assertEquals(value, read(JsonCodecs.STRING, json));
+    }
+
+    @Test
+    public void testNullable() throws IOException {
+        JsonCodec<Integer> codec = JsonCodecs.nullable(JsonCodecs.INT);
+
+        assertEquals("null", write(codec, null));
+        assertEquals("3", write(codec, 3));
+        assertNull(read(codec, "null"));
+        assertEquals(Integer.valueOf(3), read(codec, "3"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFailsOnWrongType() throws IOException {
+        read(JsonCodecs.INT, "\"1\"");
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class JsonReaderTest {
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    @Test
+    public void testNestedArrays() throws IOException {
+        JsonReader in = reader(" [ [1, 2] ,[], [ \"a\" , null, true ] ] ");
+
+        in.beginArray();
+        in.beginArray();
+        assertEquals(1, in.nextInt());
+        assertTrue(in.hasNext());
+        assertEquals(2L, in.nextLong());
+        assertFalse(in.hasNext());
+        in.endArray();
+        in.beginArray();
+        assertFalse(in.hasNext());
+        in.endArray();
+        in.beginArray();
+        assertEquals("a", in.nextString());
+        assertTrue(in.peekNull());
+        assertTrue(in.peekNull());
+        in.nextNull();
+        assertFalse(in.peekNull());
+        assertTrue(in.nextBoolean());
+        in.endArray();
+        assertFalse(in.hasNext());
+        in.endArray();
+    }
+
+    @Test
+    public void testStringEscapes() throws IOException {
+        JsonReader in = reader("\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\u20AC\"");
+
+        assertEquals("\"\\/\b\f\n\r\té€", in.nextString());
+    }
+
+    @Test
+    public void testTokensAcrossBufferBoundaries() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; ++i) {
+            text.append((char) ('a' + i % 26));
+        }
+        for (int i = 0; i < 5000; ++i) {
+            json.append(i == 0 ? "" : ",").append(1234567.25 + i);
+        }
+        json.append(",\"").append(text).append("\"]");
+        JsonReader in = new JsonReader(new OneCharReader(json.toString()));
+
+        in.beginArray();
+        for (int i = 0; i < 5000; ++i) {
+            assertEquals(1234567.25 + i, in.nextDouble(), 0.0);
+        }
+        assertEquals(text.toString(), in.nextString());
+        in.endArray();
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        JsonReader in = new JsonReader(new ByteArrayInputStream(
+                "[\"€\"]".getBytes(StandardCharsets.UTF_8)));
+
+        in.beginArray();
+        assertEquals("€", in.nextString());
+        in.endArray();
+    }
+
+    @Test
+    public void testErrorReportsOffset() throws IOException {
+        JsonReader in = reader("[1 2]");
+        in.beginArray();
+        in.nextInt();
+
+        try {
+            in.nextInt();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Expected ',' at offset 3", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailsOnUnterminatedString() throws IOException {
+        reader("\"abc").nextString();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailsOnMissingNumber() throws IOException {
+        reader("[]").nextLong();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailsOnBadLiteral() throws IOException {
+        reader("nul").nextNull();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEndArrayFailsOutsideArray() throws IOException {
+        reader("]").endArray();
+    }
+
+    /**
+     * A reader that returns one character at a time.
+     */
+    private static final class OneCharReader extends Reader {
+        private final String text;
+        private int index;
+
+        OneCharReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (index == text.length()) {
+                return -1;
+            }
+            buffer[offset] = text.charAt(index++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class JsonTupleCodecTest {
+    private final JsonTupleCodec<Triple<String, Long, Double>> codec =
+            JsonTupleCodec.of(JsonCodecs.STRING, JsonCodecs.LONG,
+                    JsonCodecs.DOUBLE);
+
+    @Test
+    public void testWrite() throws IOException {
+        StringWriter out = new StringWriter();
+
+        codec.write(out, new Triple<>("a", 1L, 0.5));
+
+        assertEquals("[\"a\",1,0.5]", out.toString());
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        Triple<String, Long, Double> triple = codec.read(
+                new JsonReader(new StringReader(" [ \"a\" , 1 , 0.5 ] ")));
+
+        assertEquals(new Triple<>("a", 1L, 0.5), triple);
+    }
+
+    @Test
+    public void testNestedTuple() throws IOException {
+        JsonTupleCodec<Pair<Integer, Pair<String, Boolean>>> nested =
+                JsonTupleCodec.of(JsonCodecs.INT, JsonTupleCodec.of(
+                        JsonCodecs.STRING, JsonCodecs.BOOLEAN));
+        Pair<Integer, Pair<String, Boolean>> pair =
+                new Pair<>(1, new Pair<>("x", true));
+        StringWriter out = new StringWriter();
+
+        nested.write(out, pair);
+
+        assertEquals("[1,[\"x\",true]]", out.toString());
+        assertEquals(pair, nested.read(
+                new JsonReader(new StringReader(out.toString()))));
+    }
+
+    @Test
+    public void testDecuple() throws IOException {
+        JsonTupleCodec<Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer>> decuples =
+                JsonTupleCodec.of(JsonCodecs.INT, JsonCodecs.INT,
+                        JsonCodecs.INT, JsonCodecs.INT, JsonCodecs.INT,
+                        JsonCodecs.INT, JsonCodecs.INT, JsonCodecs.INT,
+                        JsonCodecs.INT, JsonCodecs.INT);
+        Decuple<Integer, Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer> decuple =
+                new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        StringWriter out = new StringWriter();
+
+        decuples.write(out, decuple);
+
+        assertEquals("[1,2,3,4,5,6,7,8,9,10]", out.toString());
+        assertEquals(decuple, decuples.read(
+                new JsonReader(new StringReader(out.toString()))));
+    }
+
+    @Test
+    public void testWriteAllAndReadAll() throws IOException {
+        List<Triple<String, Long, Double>> tuples = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            tuples.add(new Triple<>("t" + i, (long) i, i / 8.0));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        codec.writeAll(bytes, tuples);
+        List<Triple<String, Long, Double>> result = new ArrayList<>();
+        codec.readAll(new JsonReader(
+                new ByteArrayInputStream(bytes.toByteArray())), result::add);
+
+        assertEquals(tuples, result);
+    }
+
+    @Test
+    public void testWriteAllEmpty() throws IOException {
+        StringWriter out = new StringWriter();
+
+        codec.writeAll(out, Arrays.asList());
+
+        assertEquals("[]", out.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFailsWithTooFewElements() throws IOException {
+        codec.read(new JsonReader(new StringReader("[\"a\",1]")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFailsWithTooManyElements() throws IOException {
+        codec.read(new JsonReader(new StringReader("[\"a\",1,2,3]")));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(3, codec.arity());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfFailsWhenCodecIsNull() {
+        JsonTupleCodec.of(JsonCodecs.INT, null);
+    }
+}
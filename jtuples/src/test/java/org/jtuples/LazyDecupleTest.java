@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyDecupleTest {
+    private AtomicInteger calls;
+    private LazyDecuple<String, String, String, String, String, String, String, String, String, String> decuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        decuple = new LazyDecuple<>(counted("1"), counted("2"), counted("3"),
+                counted("4"), counted("5"), counted("6"), counted("7"),
+                counted("8"), counted("9"), counted("10"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(10, decuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 10; ++i) {
+            assertFalse(decuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", decuple.first());
+        assertEquals("1", decuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", decuple.second());
+        assertEquals("2", decuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", decuple.third());
+        assertEquals("3", decuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", decuple.fourth());
+        assertEquals("4", decuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", decuple.fifth());
+        assertEquals("5", decuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testSixth() {
+        assertEquals("6", decuple.sixth());
+        assertEquals("6", decuple.sixth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testSeventh() {
+        assertEquals("7", decuple.seventh());
+        assertEquals("7", decuple.seventh());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(7));
+    }
+
+    @Test
+    public void testEighth() {
+        assertEquals("8", decuple.eighth());
+        assertEquals("8", decuple.eighth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(8));
+    }
+
+    @Test
+    public void testNinth() {
+        assertEquals("9", decuple.ninth());
+        assertEquals("9", decuple.ninth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(9));
+    }
+
+    @Test
+    public void testTenth() {
+        assertEquals("10", decuple.tenth());
+        assertEquals("10", decuple.tenth());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(10));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Decuple<String, String, String, String, String, String, String, String, String, String> expected = new Decuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+        assertEquals(expected, decuple);
+        assertEquals(decuple, expected);
+        assertEquals(expected.hashCode(), decuple.hashCode());
+        assertEquals(expected.toString(), decuple.toString());
+        assertEquals(expected, decuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Decuple<String, String, String, String, String, String, String, String, String, String> other = new Decuple<>(
+                "0", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+        assertNotEquals(other, decuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Decuple<String, String, String, String, String, String, String, String, String, String> eager = new Decuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+        LazyDecuple<String, String, String, String, String, String, String, String, String, String> result = new LazyDecuple<>(eager);
+
+        for (int i = 1; i <= 10; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", decuple.shiftLeft().tenth());
+        assertEquals("10", decuple.shiftRight().first());
+        assertEquals("10", decuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(decuple.isEvaluated(1));
+        assertTrue(decuple.isEvaluated(10));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", decuple.shiftLeft("x").tenth());
+        assertEquals("x", decuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyDecuple<Integer, String, String, String, String, String, String, String, String, String> result =
+                decuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(decuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        decuple = decuple.applyFirst(s -> flaky.get());
+        try {
+            decuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(decuple.isEvaluated(1));
+        }
+        assertEquals("ok", decuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyDecuple<String, String, String, String, String, String, String, String, String, String>(
+                null, () -> "2", () -> "3", () -> "4", () -> "5", () -> "6",
+                () -> "7", () -> "8", () -> "9", () -> "10");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        decuple.isEvaluated(11);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
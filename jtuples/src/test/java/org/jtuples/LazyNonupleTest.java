@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyNonupleTest {
+    private AtomicInteger calls;
+    private LazyNonuple<String, String, String, String, String, String, String, String, String> nonuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        nonuple = new LazyNonuple<>(counted("1"), counted("2"), counted("3"),
+                counted("4"), counted("5"), counted("6"), counted("7"),
+                counted("8"), counted("9"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(9, nonuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 9; ++i) {
+            assertFalse(nonuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", nonuple.first());
+        assertEquals("1", nonuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", nonuple.second());
+        assertEquals("2", nonuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", nonuple.third());
+        assertEquals("3", nonuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", nonuple.fourth());
+        assertEquals("4", nonuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", nonuple.fifth());
+        assertEquals("5", nonuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testSixth() {
+        assertEquals("6", nonuple.sixth());
+        assertEquals("6", nonuple.sixth());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testSeventh() {
+        assertEquals("7", nonuple.seventh());
+        assertEquals("7", nonuple.seventh());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(7));
+    }
+
+    @Test
+    public void testEighth() {
+        assertEquals("8", nonuple.eighth());
+        assertEquals("8", nonuple.eighth());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(8));
+    }
+
+    @Test
+    public void testNinth() {
+        assertEquals("9", nonuple.ninth());
+        assertEquals("9", nonuple.ninth());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(9));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Nonuple<String, String, String, String, String, String, String, String, String> expected = new Nonuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8", "9");
+
+        assertEquals(expected, nonuple);
+        assertEquals(nonuple, expected);
+        assertEquals(expected.hashCode(), nonuple.hashCode());
+        assertEquals(expected.toString(), nonuple.toString());
+        assertEquals(expected, nonuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Nonuple<String, String, String, String, String, String, String, String, String> other = new Nonuple<>(
+                "0", "2", "3", "4", "5", "6", "7", "8", "9");
+
+        assertNotEquals(other, nonuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Nonuple<String, String, String, String, String, String, String, String, String> eager = new Nonuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8", "9");
+
+        LazyNonuple<String, String, String, String, String, String, String, String, String> result = new LazyNonuple<>(eager);
+
+        for (int i = 1; i <= 9; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", nonuple.shiftLeft().ninth());
+        assertEquals("9", nonuple.shiftRight().first());
+        assertEquals("9", nonuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(nonuple.isEvaluated(1));
+        assertTrue(nonuple.isEvaluated(9));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", nonuple.shiftLeft("x").ninth());
+        assertEquals("x", nonuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyNonuple<Integer, String, String, String, String, String, String, String, String> result =
+                nonuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(nonuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        nonuple = nonuple.applyFirst(s -> flaky.get());
+        try {
+            nonuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(nonuple.isEvaluated(1));
+        }
+        assertEquals("ok", nonuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyNonuple<String, String, String, String, String, String, String, String, String>(
+                null, () -> "2", () -> "3", () -> "4", () -> "5", () -> "6",
+                () -> "7", () -> "8", () -> "9");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        nonuple.isEvaluated(10);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
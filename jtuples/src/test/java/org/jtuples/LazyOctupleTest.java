@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyOctupleTest {
+    private AtomicInteger calls;
+    private LazyOctuple<String, String, String, String, String, String, String, String> octuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        octuple = new LazyOctuple<>(counted("1"), counted("2"), counted("3"),
+                counted("4"), counted("5"), counted("6"), counted("7"),
+                counted("8"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(8, octuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 8; ++i) {
+            assertFalse(octuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", octuple.first());
+        assertEquals("1", octuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", octuple.second());
+        assertEquals("2", octuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", octuple.third());
+        assertEquals("3", octuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", octuple.fourth());
+        assertEquals("4", octuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", octuple.fifth());
+        assertEquals("5", octuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testSixth() {
+        assertEquals("6", octuple.sixth());
+        assertEquals("6", octuple.sixth());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testSeventh() {
+        assertEquals("7", octuple.seventh());
+        assertEquals("7", octuple.seventh());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(7));
+    }
+
+    @Test
+    public void testEighth() {
+        assertEquals("8", octuple.eighth());
+        assertEquals("8", octuple.eighth());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(8));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Octuple<String, String, String, String, String, String, String, String> expected = new Octuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8");
+
+        assertEquals(expected, octuple);
+        assertEquals(octuple, expected);
+        assertEquals(expected.hashCode(), octuple.hashCode());
+        assertEquals(expected.toString(), octuple.toString());
+        assertEquals(expected, octuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Octuple<String, String, String, String, String, String, String, String> other = new Octuple<>(
+                "0", "2", "3", "4", "5", "6", "7", "8");
+
+        assertNotEquals(other, octuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Octuple<String, String, String, String, String, String, String, String> eager = new Octuple<>(
+                "1", "2", "3", "4", "5", "6", "7", "8");
+
+        LazyOctuple<String, String, String, String, String, String, String, String> result = new LazyOctuple<>(eager);
+
+        for (int i = 1; i <= 8; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", octuple.shiftLeft().eighth());
+        assertEquals("8", octuple.shiftRight().first());
+        assertEquals("8", octuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(octuple.isEvaluated(1));
+        assertTrue(octuple.isEvaluated(8));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", octuple.shiftLeft("x").eighth());
+        assertEquals("x", octuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyOctuple<Integer, String, String, String, String, String, String, String> result =
+                octuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(octuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        octuple = octuple.applyFirst(s -> flaky.get());
+        try {
+            octuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(octuple.isEvaluated(1));
+        }
+        assertEquals("ok", octuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyOctuple<String, String, String, String, String, String, String, String>(
+                null, () -> "2", () -> "3", () -> "4", () -> "5", () -> "6",
+                () -> "7", () -> "8");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        octuple.isEvaluated(9);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
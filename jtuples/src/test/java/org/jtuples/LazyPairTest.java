@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyPairTest {
+    private AtomicInteger calls;
+    private LazyPair<String, String> pair;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        pair = new LazyPair<>(counted("1"), counted("2"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(2, pair.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 2; ++i) {
+            assertFalse(pair.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", pair.first());
+        assertEquals("1", pair.first());
+        assertEquals(1, calls.get());
+        assertTrue(pair.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", pair.second());
+        assertEquals("2", pair.second());
+        assertEquals(1, calls.get());
+        assertTrue(pair.isEvaluated(2));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Pair<String, String> expected = new Pair<>("1", "2");
+
+        assertEquals(expected, pair);
+        assertEquals(pair, expected);
+        assertEquals(expected.hashCode(), pair.hashCode());
+        assertEquals(expected.toString(), pair.toString());
+        assertEquals(expected, pair.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Pair<String, String> other = new Pair<>("0", "2");
+
+        assertNotEquals(other, pair);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Pair<String, String> eager = new Pair<>("1", "2");
+
+        LazyPair<String, String> result = new LazyPair<>(eager);
+
+        for (int i = 1; i <= 2; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", pair.shiftLeft().second());
+        assertEquals("2", pair.shiftRight().first());
+        assertEquals("2", pair.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(pair.isEvaluated(1));
+        assertTrue(pair.isEvaluated(2));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", pair.shiftLeft("x").second());
+        assertEquals("x", pair.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyPair<Integer, String> result =
+                pair.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(pair.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        pair = pair.applyFirst(s -> flaky.get());
+        try {
+            pair.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(pair.isEvaluated(1));
+        }
+        assertEquals("ok", pair.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyPair<String, String>(null, () -> "2");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        pair.isEvaluated(3);
+    }
+
+    @Test
+    public void testComputedOnceUnderContention() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        LazyPair<String, String> slow = new LazyPair<>(() -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "1";
+        }, () -> "2");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return slow.first();
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("1", future.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals("12", pair.apply((a, b) -> a + b));
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyQuadrupleTest {
+    private AtomicInteger calls;
+    private LazyQuadruple<String, String, String, String> quadruple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        quadruple = new LazyQuadruple<>(counted("1"), counted("2"),
+                counted("3"), counted("4"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(4, quadruple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 4; ++i) {
+            assertFalse(quadruple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", quadruple.first());
+        assertEquals("1", quadruple.first());
+        assertEquals(1, calls.get());
+        assertTrue(quadruple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", quadruple.second());
+        assertEquals("2", quadruple.second());
+        assertEquals(1, calls.get());
+        assertTrue(quadruple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", quadruple.third());
+        assertEquals("3", quadruple.third());
+        assertEquals(1, calls.get());
+        assertTrue(quadruple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", quadruple.fourth());
+        assertEquals("4", quadruple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(quadruple.isEvaluated(4));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Quadruple<String, String, String, String> expected = new Quadruple<>(
+                "1", "2", "3", "4");
+
+        assertEquals(expected, quadruple);
+        assertEquals(quadruple, expected);
+        assertEquals(expected.hashCode(), quadruple.hashCode());
+        assertEquals(expected.toString(), quadruple.toString());
+        assertEquals(expected, quadruple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Quadruple<String, String, String, String> other = new Quadruple<>("0",
+                "2", "3", "4");
+
+        assertNotEquals(other, quadruple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Quadruple<String, String, String, String> eager = new Quadruple<>("1",
+                "2", "3", "4");
+
+        LazyQuadruple<String, String, String, String> result = new LazyQuadruple<>(eager);
+
+        for (int i = 1; i <= 4; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", quadruple.shiftLeft().fourth());
+        assertEquals("4", quadruple.shiftRight().first());
+        assertEquals("4", quadruple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(quadruple.isEvaluated(1));
+        assertTrue(quadruple.isEvaluated(4));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", quadruple.shiftLeft("x").fourth());
+        assertEquals("x", quadruple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyQuadruple<Integer, String, String, String> result =
+                quadruple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(quadruple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        quadruple = quadruple.applyFirst(s -> flaky.get());
+        try {
+            quadruple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(quadruple.isEvaluated(1));
+        }
+        assertEquals("ok", quadruple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyQuadruple<String, String, String, String>(null, () -> "2",
+                () -> "3", () -> "4");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        quadruple.isEvaluated(5);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
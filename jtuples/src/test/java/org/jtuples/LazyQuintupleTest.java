@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyQuintupleTest {
+    private AtomicInteger calls;
+    private LazyQuintuple<String, String, String, String, String> quintuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        quintuple = new LazyQuintuple<>(counted("1"), counted("2"),
+                counted("3"), counted("4"), counted("5"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(5, quintuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 5; ++i) {
+            assertFalse(quintuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", quintuple.first());
+        assertEquals("1", quintuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", quintuple.second());
+        assertEquals("2", quintuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", quintuple.third());
+        assertEquals("3", quintuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", quintuple.fourth());
+        assertEquals("4", quintuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", quintuple.fifth());
+        assertEquals("5", quintuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Quintuple<String, String, String, String, String> expected = new Quintuple<>(
+                "1", "2", "3", "4", "5");
+
+        assertEquals(expected, quintuple);
+        assertEquals(quintuple, expected);
+        assertEquals(expected.hashCode(), quintuple.hashCode());
+        assertEquals(expected.toString(), quintuple.toString());
+        assertEquals(expected, quintuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Quintuple<String, String, String, String, String> other = new Quintuple<>(
+                "0", "2", "3", "4", "5");
+
+        assertNotEquals(other, quintuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Quintuple<String, String, String, String, String> eager = new Quintuple<>(
+                "1", "2", "3", "4", "5");
+
+        LazyQuintuple<String, String, String, String, String> result = new LazyQuintuple<>(eager);
+
+        for (int i = 1; i <= 5; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", quintuple.shiftLeft().fifth());
+        assertEquals("5", quintuple.shiftRight().first());
+        assertEquals("5", quintuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(quintuple.isEvaluated(1));
+        assertTrue(quintuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", quintuple.shiftLeft("x").fifth());
+        assertEquals("x", quintuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyQuintuple<Integer, String, String, String, String> result =
+                quintuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(quintuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        quintuple = quintuple.applyFirst(s -> flaky.get());
+        try {
+            quintuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(quintuple.isEvaluated(1));
+        }
+        assertEquals("ok", quintuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyQuintuple<String, String, String, String, String>(null,
+                () -> "2", () -> "3", () -> "4", () -> "5");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        quintuple.isEvaluated(6);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
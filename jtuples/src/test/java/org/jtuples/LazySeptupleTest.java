@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazySeptupleTest {
+    private AtomicInteger calls;
+    private LazySeptuple<String, String, String, String, String, String, String> septuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        septuple = new LazySeptuple<>(counted("1"), counted("2"), counted("3"),
+                counted("4"), counted("5"), counted("6"), counted("7"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(7, septuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 7; ++i) {
+            assertFalse(septuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", septuple.first());
+        assertEquals("1", septuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", septuple.second());
+        assertEquals("2", septuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", septuple.third());
+        assertEquals("3", septuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", septuple.fourth());
+        assertEquals("4", septuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", septuple.fifth());
+        assertEquals("5", septuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testSixth() {
+        assertEquals("6", septuple.sixth());
+        assertEquals("6", septuple.sixth());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testSeventh() {
+        assertEquals("7", septuple.seventh());
+        assertEquals("7", septuple.seventh());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(7));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Septuple<String, String, String, String, String, String, String> expected = new Septuple<>(
+                "1", "2", "3", "4", "5", "6", "7");
+
+        assertEquals(expected, septuple);
+        assertEquals(septuple, expected);
+        assertEquals(expected.hashCode(), septuple.hashCode());
+        assertEquals(expected.toString(), septuple.toString());
+        assertEquals(expected, septuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Septuple<String, String, String, String, String, String, String> other = new Septuple<>(
+                "0", "2", "3", "4", "5", "6", "7");
+
+        assertNotEquals(other, septuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Septuple<String, String, String, String, String, String, String> eager = new Septuple<>(
+                "1", "2", "3", "4", "5", "6", "7");
+
+        LazySeptuple<String, String, String, String, String, String, String> result = new LazySeptuple<>(eager);
+
+        for (int i = 1; i <= 7; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", septuple.shiftLeft().seventh());
+        assertEquals("7", septuple.shiftRight().first());
+        assertEquals("7", septuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(septuple.isEvaluated(1));
+        assertTrue(septuple.isEvaluated(7));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", septuple.shiftLeft("x").seventh());
+        assertEquals("x", septuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazySeptuple<Integer, String, String, String, String, String, String> result =
+                septuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(septuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        septuple = septuple.applyFirst(s -> flaky.get());
+        try {
+            septuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(septuple.isEvaluated(1));
+        }
+        assertEquals("ok", septuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazySeptuple<String, String, String, String, String, String, String>(
+                null, () -> "2", () -> "3", () -> "4", () -> "5", () -> "6",
+                () -> "7");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        septuple.isEvaluated(8);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
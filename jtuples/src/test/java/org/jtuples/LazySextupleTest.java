@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazySextupleTest {
+    private AtomicInteger calls;
+    private LazySextuple<String, String, String, String, String, String> sextuple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        sextuple = new LazySextuple<>(counted("1"), counted("2"), counted("3"),
+                counted("4"), counted("5"), counted("6"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(6, sextuple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 6; ++i) {
+            assertFalse(sextuple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", sextuple.first());
+        assertEquals("1", sextuple.first());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", sextuple.second());
+        assertEquals("2", sextuple.second());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", sextuple.third());
+        assertEquals("3", sextuple.third());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(3));
+    }
+
+    @Test
+    public void testFourth() {
+        assertEquals("4", sextuple.fourth());
+        assertEquals("4", sextuple.fourth());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(4));
+    }
+
+    @Test
+    public void testFifth() {
+        assertEquals("5", sextuple.fifth());
+        assertEquals("5", sextuple.fifth());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(5));
+    }
+
+    @Test
+    public void testSixth() {
+        assertEquals("6", sextuple.sixth());
+        assertEquals("6", sextuple.sixth());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Sextuple<String, String, String, String, String, String> expected = new Sextuple<>(
+                "1", "2", "3", "4", "5", "6");
+
+        assertEquals(expected, sextuple);
+        assertEquals(sextuple, expected);
+        assertEquals(expected.hashCode(), sextuple.hashCode());
+        assertEquals(expected.toString(), sextuple.toString());
+        assertEquals(expected, sextuple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Sextuple<String, String, String, String, String, String> other = new Sextuple<>(
+                "0", "2", "3", "4", "5", "6");
+
+        assertNotEquals(other, sextuple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Sextuple<String, String, String, String, String, String> eager = new Sextuple<>(
+                "1", "2", "3", "4", "5", "6");
+
+        LazySextuple<String, String, String, String, String, String> result = new LazySextuple<>(eager);
+
+        for (int i = 1; i <= 6; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", sextuple.shiftLeft().sixth());
+        assertEquals("6", sextuple.shiftRight().first());
+        assertEquals("6", sextuple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(sextuple.isEvaluated(1));
+        assertTrue(sextuple.isEvaluated(6));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", sextuple.shiftLeft("x").sixth());
+        assertEquals("x", sextuple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazySextuple<Integer, String, String, String, String, String> result =
+                sextuple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(sextuple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        sextuple = sextuple.applyFirst(s -> flaky.get());
+        try {
+            sextuple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(sextuple.isEvaluated(1));
+        }
+        assertEquals("ok", sextuple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazySextuple<String, String, String, String, String, String>(null,
+                () -> "2", () -> "3", () -> "4", () -> "5", () -> "6");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        sextuple.isEvaluated(7);
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
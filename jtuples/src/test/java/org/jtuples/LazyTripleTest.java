@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LazyTripleTest {
+    private AtomicInteger calls;
+    private LazyTriple<String, String, String> triple;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        triple = new LazyTriple<>(counted("1"), counted("2"), counted("3"));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(3, triple.arity());
+    }
+
+    @Test
+    public void testNothingIsComputedOnConstruction() {
+        assertEquals(0, calls.get());
+        for (int i = 1; i <= 3; ++i) {
+            assertFalse(triple.isEvaluated(i));
+        }
+    }
+
+    @Test
+    public void testFirst() {
+        assertEquals("1", triple.first());
+        assertEquals("1", triple.first());
+        assertEquals(1, calls.get());
+        assertTrue(triple.isEvaluated(1));
+    }
+
+    @Test
+    public void testSecond() {
+        assertEquals("2", triple.second());
+        assertEquals("2", triple.second());
+        assertEquals(1, calls.get());
+        assertTrue(triple.isEvaluated(2));
+    }
+
+    @Test
+    public void testThird() {
+        assertEquals("3", triple.third());
+        assertEquals("3", triple.third());
+        assertEquals(1, calls.get());
+        assertTrue(triple.isEvaluated(3));
+    }
+
+    @Test
+    public void testEqualsEager() {
+        Triple<String, String, String> expected = new Triple<>("1", "2", "3");
+
+        assertEquals(expected, triple);
+        assertEquals(triple, expected);
+        assertEquals(expected.hashCode(), triple.hashCode());
+        assertEquals(expected.toString(), triple.toString());
+        assertEquals(expected, triple.evaluate());
+    }
+
+    @Test
+    public void testEqualsStopsAtFirstMismatch() {
+        Triple<String, String, String> other = new Triple<>("0", "2", "3");
+
+        assertNotEquals(other, triple);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testEvaluatedConstructor() {
+        Triple<String, String, String> eager = new Triple<>("1", "2", "3");
+
+        LazyTriple<String, String, String> result = new LazyTriple<>(eager);
+
+        for (int i = 1; i <= 3; ++i) {
+            assertTrue(result.isEvaluated(i));
+        }
+        assertEquals(eager, result);
+    }
+
+    @Test
+    public void testShiftsShareComputations() {
+        assertEquals("1", triple.shiftLeft().third());
+        assertEquals("3", triple.shiftRight().first());
+        assertEquals("3", triple.invert().first());
+        assertEquals(2, calls.get());
+        assertTrue(triple.isEvaluated(1));
+        assertTrue(triple.isEvaluated(3));
+    }
+
+    @Test
+    public void testShiftWithValue() {
+        assertEquals("x", triple.shiftLeft("x").third());
+        assertEquals("x", triple.shiftRight("x").first());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testApplyIsLazy() {
+        LazyTriple<Integer, String, String> result =
+                triple.applyFirst(Integer::parseInt);
+
+        assertEquals(0, calls.get());
+        assertEquals(Integer.valueOf(1), result.first());
+        assertEquals(1, calls.get());
+        assertTrue(triple.isEvaluated(1));
+    }
+
+    @Test
+    public void testFailedComputationIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> flaky = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "ok";
+        };
+        triple = triple.applyFirst(s -> flaky.get());
+        try {
+            triple.first();
+            fail("The exception should be propagated");
+        } catch (IllegalStateException e) {
+            assertFalse(triple.isEvaluated(1));
+        }
+        assertEquals("ok", triple.first());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSupplier() {
+        new LazyTriple<String, String, String>(null, () -> "2", () -> "3");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIsEvaluatedOutOfBounds() {
+        triple.isEvaluated(4);
+    }
+
+    @Test
+    public void testApply() {
+        assertEquals("123", triple.apply((a, b, c) -> a + b + c));
+        assertEquals(3, calls.get());
+    }
+
+    private Supplier<String> counted(String value) {
+        return () -> {
+            calls.incrementAndGet();
+            return value;
+        };
+    }
+}
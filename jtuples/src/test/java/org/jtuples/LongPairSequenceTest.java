@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class LongPairSequenceTest {
+    private static final int SIZE = 10000;
+
+    private static LongPairSequence postings() {
+        LongPairSequence.Builder builder = LongPairSequence.builder();
+        for (int i = 0; i < SIZE; ++i) {
+            builder.add(i * 3L, (i % 7) - 3);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testEmpty() {
+        LongPairSequence sequence = LongPairSequence.builder().build();
+        LongPairSequence.Cursor cursor = sequence.cursor();
+
+        assertEquals(0, sequence.size());
+        assertFalse(cursor.next());
+        assertFalse(cursor.advance(0));
+    }
+
+    @Test
+    public void testSequentialDecode() {
+        LongPairSequence sequence = postings();
+        LongPairSequence.Cursor cursor = sequence.cursor();
+
+        assertEquals(SIZE, sequence.size());
+        for (int i = 0; i < SIZE; ++i) {
+            assertTrue(cursor.next());
+            assertEquals(i, cursor.index());
+            assertEquals(i * 3L, cursor.first());
+            assertEquals((i % 7) - 3, cursor.second());
+        }
+        assertFalse(cursor.next());
+        assertEquals(SIZE, cursor.index());
+    }
+
+    @Test
+    public void testExtremeValues() {
+        long[][] pairs = {
+            {Long.MIN_VALUE, Long.MAX_VALUE}, {-1, Long.MIN_VALUE},
+            {0, 0}, {0, -1}, {Long.MAX_VALUE, Long.MAX_VALUE}
+        };
+        LongPairSequence.Builder builder = LongPairSequence.builder();
+        for (long[] pair : pairs) {
+            builder.add(pair[0], pair[1]);
+        }
+        LongPairSequence.Cursor cursor = builder.build().cursor();
+
+        for (long[] pair : pairs) {
+            assertTrue(cursor.next());
+            assertEquals(pair[0], cursor.first());
+            assertEquals(pair[1], cursor.second());
+        }
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    public void testAdvance() {
+        LongPairSequence.Cursor cursor = postings().cursor();
+
+        assertTrue(cursor.advance(1000));
+        assertEquals(1002, cursor.first());
+        assertEquals(334, cursor.index());
+        assertTrue(cursor.advance(1002));
+        assertEquals(334, cursor.index());
+        assertTrue(cursor.advance(0));
+        assertEquals(334, cursor.index());
+        assertTrue(cursor.advance(20001));
+        assertEquals(20001, cursor.first());
+        assertEquals(6667, cursor.index());
+        assertEquals(6667 % 7 - 3, cursor.second());
+        assertFalse(cursor.advance(SIZE * 3L));
+        assertEquals(SIZE, cursor.index());
+    }
+
+    @Test
+    public void testAdvanceMatchesLinearScan() {
+        Random random = new Random(3);
+        LongPairSequence.Builder builder = LongPairSequence.builder();
+        long key = 0;
+        long[] keys = new long[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            key += random.nextInt(3);
+            keys[i] = key;
+            builder.add(key, random.nextLong());
+        }
+        LongPairSequence sequence = builder.build();
+        LongPairSequence.Cursor cursor = sequence.cursor();
+        long target = 0;
+        int expected = 0;
+
+        while (true) {
+            target += random.nextInt(200);
+            while (expected < SIZE && keys[expected] < target) {
+                ++expected;
+            }
+            if (expected == SIZE) {
+                assertFalse(cursor.advance(target));
+                break;
+            }
+            assertTrue(cursor.advance(target));
+            assertEquals(expected, cursor.index());
+            assertEquals(keys[expected], cursor.first());
+        }
+    }
+
+    @Test
+    public void testCompression() {
+        LongPairSequence sequence = postings();
+
+        assertTrue(sequence.sizeInBytes() < 3L * SIZE);
+    }
+
+    @Test
+    public void testGet() {
+        LongPairSequence.Cursor cursor = postings().cursor();
+        cursor.next();
+
+        assertEquals(new Pair<>(0L, -3L), cursor.get());
+    }
+
+    @Test
+    public void testBuilderCanContinueAfterBuild() {
+        LongPairSequence.Builder builder = LongPairSequence.builder();
+        builder.add(1, 1);
+        LongPairSequence first = builder.build();
+        builder.add(2, 2);
+
+        assertEquals(1, first.size());
+        assertEquals(2, builder.build().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddFailsWhenNotSorted() {
+        LongPairSequence.builder().add(2, 0).add(1, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFirstFailsBeforeFirstPair() {
+        postings().cursor().first();
+    }
+}
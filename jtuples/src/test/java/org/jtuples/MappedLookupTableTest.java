@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class MappedLookupTableTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testEmptyTable() throws IOException {
+        Path path = path("empty.table");
+        MappedLookupTable.write(path, ElementCodecs.UTF8, ElementCodecs.INT,
+                Stream.<Pair<String, Integer>>empty());
+        try (MappedLookupTable<String, Integer> table = open(path)) {
+            assertEquals(0, table.size());
+            assertNull(table.get("a"));
+            assertFalse(table.containsKey(""));
+        }
+    }
+
+    @Test
+    public void testGet() throws IOException {
+        Path path = path("numbers.table");
+        MappedLookupTable.write(path, ElementCodecs.UTF8, ElementCodecs.INT,
+                IntStream.range(0, 10000).mapToObj(
+                        i -> new Pair<>("key" + i, i)));
+        try (MappedLookupTable<String, Integer> table = open(path)) {
+            assertEquals(10000, table.size());
+            for (int i = 0; i < 10000; ++i) {
+                assertEquals(Integer.valueOf(i), table.get("key" + i));
+            }
+            assertNull(table.get("key10000"));
+            assertFalse(table.containsKey("key-1"));
+            assertTrue(table.containsKey("key0"));
+        }
+    }
+
+    @Test
+    public void testGetOrDefault() throws IOException {
+        Path path = path("default.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+        try (MappedLookupTable<String, Integer> table = open(path)) {
+            assertEquals(Integer.valueOf(1), table.getOrDefault("a", 0));
+            assertEquals(Integer.valueOf(0), table.getOrDefault("b", 0));
+        }
+    }
+
+    @Test
+    public void testTupleKeys() throws IOException {
+        Path path = path("tuples.table");
+        TupleCodec<Pair<Long, String>> keys =
+                TupleCodec.of(ElementCodecs.LONG, ElementCodecs.UTF8);
+        List<Pair<Pair<Long, String>, String>> entries = new ArrayList<>();
+        for (long i = 0; i < 100; ++i) {
+            entries.add(new Pair<>(new Pair<>(i, "x"), "value" + i));
+        }
+        MappedLookupTable.write(path, keys, ElementCodecs.UTF8,
+                entries.iterator());
+        try (MappedLookupTable<Pair<Long, String>, String> table =
+                MappedLookupTable.open(path, keys, ElementCodecs.UTF8)) {
+            assertEquals("value42", table.get(new Pair<>(42L, "x")));
+            assertNull(table.get(new Pair<>(42L, "y")));
+        }
+    }
+
+    @Test
+    public void testLargeValues() throws IOException {
+        Path path = path("large.table");
+        String large = String.join("", Collections.nCopies(100000, "v"));
+        write(path, ElementCodecs.UTF8, Arrays.asList(new Pair<>("small", "v"),
+                new Pair<>("large", large)));
+        try (MappedLookupTable<String, String> table =
+                MappedLookupTable.open(path, ElementCodecs.UTF8,
+                        ElementCodecs.UTF8)) {
+            assertEquals(large, table.get("large"));
+            assertEquals("v", table.get("small"));
+        }
+    }
+
+    @Test
+    public void testDuplicateKeyIsRejected() throws IOException {
+        Path path = path("duplicate.table");
+        try {
+            write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1),
+                    new Pair<>("b", 2), new Pair<>("a", 3)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertFalse(Files.exists(path));
+        }
+    }
+
+    @Test
+    public void testRewriteKeepsOpenTables() throws IOException {
+        Path path = path("rewrite.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+        try (MappedLookupTable<String, Integer> old = open(path)) {
+            write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 2),
+                    new Pair<>("b", 3)));
+            try (MappedLookupTable<String, Integer> table = open(path)) {
+                assertEquals(Integer.valueOf(2), table.get("a"));
+                assertEquals(2, table.size());
+            }
+
+            assertEquals(Integer.valueOf(1), old.get("a"));
+            assertEquals(1, old.size());
+        }
+        assertEquals(1, count(folder.getRoot().toPath()));
+    }
+
+    @Test
+    public void testFailedWriteKeepsOldTable() throws IOException {
+        Path path = path("failed.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+        try {
+            write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 2),
+                    new Pair<>("a", 3)));
+            fail();
+        } catch (IllegalArgumentException e) {
+            try (MappedLookupTable<String, Integer> table = open(path)) {
+                assertEquals(Integer.valueOf(1), table.get("a"));
+            }
+        }
+        assertEquals(1, count(folder.getRoot().toPath()));
+    }
+
+    @Test
+    public void testNewTableHasDefaultPermissions() throws IOException {
+        Path reference = folder.newFile("reference").toPath();
+        assumeTrue(supportsPosix(reference));
+        Path path = path("new.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+
+        assertEquals(Files.getPosixFilePermissions(reference),
+                Files.getPosixFilePermissions(path));
+    }
+
+    @Test
+    public void testRewriteKeepsPermissions() throws IOException {
+        Path path = path("permissions.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+        assumeTrue(supportsPosix(path));
+        Set<PosixFilePermission> permissions =
+                PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(path, permissions);
+
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 2)));
+
+        assertEquals(permissions, Files.getPosixFilePermissions(path));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFileIsRejected() throws IOException {
+        Path path = path("invalid.table");
+        Files.write(path, new byte[64]);
+        open(path);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetAfterClose() throws IOException {
+        Path path = path("closed.table");
+        write(path, ElementCodecs.INT, Arrays.asList(new Pair<>("a", 1)));
+        MappedLookupTable<String, Integer> table = open(path);
+        table.close();
+        table.get("a");
+    }
+
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static boolean supportsPosix(Path path) throws IOException {
+        return Files.getFileStore(path)
+                .supportsFileAttributeView(PosixFileAttributeView.class);
+    }
+
+    private Path path(String name) {
+        return folder.getRoot().toPath().resolve(name);
+    }
+
+    private static MappedLookupTable<String, Integer> open(Path path)
+            throws IOException {
+        return MappedLookupTable.open(path, ElementCodecs.UTF8,
+                ElementCodecs.INT);
+    }
+
+    private static <V> void write(Path path, ElementCodec<V> codec,
+            List<Pair<String, V>> entries) throws IOException {
+        MappedLookupTable.write(path, ElementCodecs.UTF8, codec,
+                entries.iterator());
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.jtuples.PrimitiveType.*;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class MappedTupleFileTest {
+    private static final int ROWS = 100;
+
+    private final PrimitiveSchema schema =
+            PrimitiveSchema.of(LONG, INT, DOUBLE, BYTE, SHORT, FLOAT);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void setup() throws IOException {
+        path = folder.getRoot().toPath().resolve("test.tuples");
+        try (TupleFileAppender appender =
+                TupleFileAppender.open(path, schema)) {
+            for (int i = 0; i < ROWS; ++i) {
+                appender.setLong(1, 1000L + i).setInt(2, i)
+                        .setDouble(3, i * 0.25).setByte(4, (byte) i)
+                        .setShort(5, (short) -i).setFloat(6, i * 0.5f)
+                        .endRow();
+            }
+        }
+    }
+
+    @Test
+    public void testSchemaAndRowCount() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(schema, file.schema());
+            assertEquals(ROWS, file.rowCount());
+        }
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(1042L, file.getLong(42, 1));
+            assertEquals(42, file.getInt(42, 2));
+            assertEquals(10.5, file.getDouble(42, 3), 0.0);
+            assertEquals((byte) 42, file.getByte(42, 4));
+            assertEquals((short) -42, file.getShort(42, 5));
+            assertEquals(21f, file.getFloat(42, 6), 0f);
+        }
+    }
+
+    @Test
+    public void testGetMaterializesTuple() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            Tuple row = file.get(3);
+
+            assertTrue(row instanceof Sextuple);
+            assertEquals(new Sextuple<>(1003L, 3, 0.75, (byte) 3,
+                    (short) -3, 1.5f), row);
+        }
+    }
+
+    @Test
+    public void testSegmentsHoldWholeRows() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path, 100)) {
+            for (int i = 0; i < ROWS; ++i) {
+                assertEquals(1000L + i, file.getLong(i, 1));
+                assertEquals((short) -i, file.getShort(i, 5));
+            }
+        }
+    }
+
+    @Test
+    public void testCursor() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path, 100)) {
+            MappedTupleFile.Cursor cursor = file.cursor();
+            assertEquals(-1, cursor.row());
+            long sum = 0;
+            int count = 0;
+            while (cursor.next()) {
+                assertEquals(count, cursor.row());
+                assertEquals(count, cursor.getInt(2));
+                sum += cursor.getLong(1);
+                ++count;
+            }
+
+            assertEquals(ROWS, count);
+            assertEquals(ROWS * 1000L + ROWS * (ROWS - 1) / 2, sum);
+            assertFalse(cursor.next());
+            assertEquals(ROWS, cursor.row());
+        }
+    }
+
+    @Test
+    public void testCursorSeek() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path, 100)) {
+            MappedTupleFile.Cursor cursor = file.cursor();
+            cursor.seek(50);
+            assertEquals(50, cursor.getInt(2));
+            assertTrue(cursor.next());
+            assertEquals(51, cursor.getInt(2));
+            assertEquals(file.get(51), cursor.get());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCursorFailsBeforeFirstRow() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            file.cursor().getLong(1);
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        Path empty = folder.getRoot().toPath().resolve("empty.tuples");
+        TupleFileAppender.open(empty, schema).close();
+
+        try (MappedTupleFile file = MappedTupleFile.open(empty)) {
+            assertEquals(0, file.rowCount());
+            assertFalse(file.cursor().next());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetFailsWhenRowIsOutOfRange() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            file.getLong(ROWS, 1);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetFailsWithWrongType() throws IOException {
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            file.getInt(0, 1);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetFailsWhenClosed() throws IOException {
+        MappedTupleFile file = MappedTupleFile.open(path);
+        file.close();
+
+        file.getLong(0, 1);
+    }
+
+    @Test
+    public void testCursorFailsWhenClosed() throws IOException {
+        MappedTupleFile file = MappedTupleFile.open(path);
+        MappedTupleFile.Cursor cursor = file.cursor();
+        assertTrue(cursor.next());
+        file.close();
+
+        try {
+            cursor.getLong(1);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            cursor.next();
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenFailsWhenNotTupleFile() throws IOException {
+        Path text = folder.newFile("text.txt").toPath();
+        Files.write(text, "x".getBytes("UTF-8"));
+
+        MappedTupleFile.open(text);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class MemoizerTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        assertEquals(Integer.valueOf(1), memoizer.get("a", String::length));
+        assertEquals(Integer.valueOf(1), memoizer.get("a", s -> 42));
+        assertEquals(Integer.valueOf(2), memoizer.get("bb", String::length));
+        assertEquals(1, memoizer.hitCount());
+        assertEquals(2, memoizer.missCount());
+        assertEquals(2, memoizer.size());
+    }
+
+    @Test
+    public void testEviction() {
+        Memoizer<Integer, Integer> memoizer = new Memoizer<>(3);
+        for (int i = 0; i < 10; ++i) {
+            memoizer.get(i, k -> k * k);
+        }
+        assertEquals(3, memoizer.size());
+        assertEquals(7, memoizer.evictionCount());
+    }
+
+    @Test
+    public void testRecentlyUsedSurvivesEviction() {
+        Memoizer<Integer, Integer> memoizer = new Memoizer<>(2);
+        memoizer.get(1, k -> k);
+        memoizer.get(2, k -> k);
+        memoizer.get(1, k -> k);
+        memoizer.get(3, k -> k);
+        AtomicInteger loads = new AtomicInteger();
+        memoizer.get(1, k -> loads.incrementAndGet());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void testFailureIsNotCached() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        try {
+            memoizer.get("a", s -> {
+                throw new IllegalArgumentException();
+            });
+            fail("The exception should be rethrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, memoizer.size());
+        }
+        assertEquals(Integer.valueOf(1), memoizer.get("a", String::length));
+    }
+
+    @Test
+    public void testNullValueIsCached() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        assertNull(memoizer.get("a", s -> null));
+        assertNull(memoizer.get("a", String::length));
+        assertEquals(1, memoizer.hitCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRecursiveLoad() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        memoizer.get("a", s -> memoizer.get("a", String::length));
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Integer> first = executor.submit(() ->
+                    memoizer.get("a", s -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        await(release);
+                        return 1;
+                    }));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            Future<Integer> second = executor.submit(() ->
+                    memoizer.get("a", s -> loads.incrementAndGet()));
+            Future<Integer> third = executor.submit(() ->
+                    memoizer.get("a", s -> loads.incrementAndGet()));
+            release.countDown();
+            assertEquals(Integer.valueOf(1), first.get(10, TimeUnit.SECONDS));
+            assertEquals(Integer.valueOf(1), second.get(10, TimeUnit.SECONDS));
+            assertEquals(Integer.valueOf(1), third.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClear() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(10);
+        memoizer.get("a", String::length);
+        memoizer.clear();
+        assertEquals(0, memoizer.size());
+        assertEquals(1, memoizer.missCount());
+    }
+
+    @Test
+    public void testClearDuringLoadKeepsCapacity() {
+        Memoizer<String, Integer> memoizer = new Memoizer<>(2);
+        memoizer.get("a", s -> {
+            memoizer.clear();
+            return 1;
+        });
+        memoizer.get("b", String::length);
+        memoizer.get("c", String::length);
+
+        assertEquals(2, memoizer.size());
+        assertEquals(0, memoizer.evictionCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMaximumSize() {
+        new Memoizer<String, Integer>(0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
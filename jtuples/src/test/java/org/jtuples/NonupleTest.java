@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -291,6 +295,47 @@ public class NonupleTest {
         assertEquals("(1, 2, 3, 4, 5, 6, 7, 8, 9)", nonuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = nonuple.apply((a, b, c, d, e, f, g, h, i) ->
+                a + b + c + d + e + f + g + h + i);
+
+        assertEquals("123456789", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = nonuple.toBuilder()
+                .first("a")
+                .applyNinth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("99", result.ninth());
+        assertEquals("1", nonuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(nonuple, nonuple.toBuilder().build());
+        assertSame(nonuple, nonuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(nonuple);
+            out.writeObject(nullNonuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(nonuple, in.readObject());
+        assertEquals(nullNonuple(), in.readObject());
+    }
+
     private Nonuple<Object, Object, Object, Object,
     		Object, Object, Object, Object, Object> nullNonuple() {
         return new Nonuple<>();
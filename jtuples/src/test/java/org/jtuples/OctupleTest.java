@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -274,6 +278,47 @@ public class OctupleTest {
         assertEquals("(1, 2, 3, 4, 5, 6, 7, 8)", octuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = octuple.apply((a, b, c, d, e, f, g, h) ->
+                a + b + c + d + e + f + g + h);
+
+        assertEquals("12345678", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = octuple.toBuilder()
+                .first("a")
+                .applyEighth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("88", result.eighth());
+        assertEquals("1", octuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(octuple, octuple.toBuilder().build());
+        assertSame(octuple, octuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(octuple);
+            out.writeObject(nullOctuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(octuple, in.readObject());
+        assertEquals(nullOctuple(), in.readObject());
+    }
+
     private Octuple<Object, Object, Object, Object,
     		Object, Object, Object, Object> nullOctuple() {
         return new Octuple<>();
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Test;
+import static org.jtuples.PrimitiveType.*;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class OffHeapTupleListTest {
+    private final PrimitiveSchema schema =
+            PrimitiveSchema.of(INT, LONG, DOUBLE);
+    private final OffHeapTupleList list =
+            new OffHeapTupleList(schema, MemoryBackend.DIRECT, 64);
+
+    @After
+    public void teardown() {
+        list.close();
+    }
+
+    @Test
+    public void testAddAndGet() {
+        list.add(new Triple<>(1, 2L, 3.0));
+        long row = list.addRow();
+        list.setInt(row, 1, 4);
+        list.setDouble(row, 3, 6.0);
+
+        assertEquals(2, list.size());
+        assertEquals(new Triple<>(1, 2L, 3.0), list.get(0));
+        assertEquals(new Triple<>(4, 0L, 6.0), list.get(1));
+        assertEquals(2L, list.getLong(0, 2));
+        assertTrue(list.get(0) instanceof Triple);
+    }
+
+    @Test
+    public void testManyPages() {
+        for (int i = 0; i < 1000; ++i) {
+            list.add(new Triple<>(i, (long) -i, i / 2.0));
+        }
+
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(i, list.getInt(i, 1));
+            assertEquals(-i, list.getLong(i, 2));
+            assertEquals(i / 2.0, list.getDouble(i, 3), 0.0);
+        }
+    }
+
+    @Test
+    public void testAllTypes() {
+        try (OffHeapTupleList all = new OffHeapTupleList(PrimitiveSchema.of(
+                BYTE, SHORT, INT, LONG, FLOAT, DOUBLE))) {
+            Sextuple<Byte, Short, Integer, Long, Float, Double> tuple =
+                    new Sextuple<>((byte) 1, (short) 2, 3, 4L, 5f, 6.0);
+            long row = all.add(tuple);
+            all.setByte(row, 1, (byte) -1);
+            all.setShort(row, 2, (short) -2);
+            all.setFloat(row, 5, -5f);
+
+            assertEquals((byte) -1, all.getByte(row, 1));
+            assertEquals((short) -2, all.getShort(row, 2));
+            assertEquals(-5f, all.getFloat(row, 5), 0f);
+            assertEquals(new Sextuple<>((byte) -1, (short) -2, 3, 4L, -5f,
+                    6.0), all.get(row));
+        }
+    }
+
+    @Test
+    public void testSortByOnePosition() {
+        Random random = new Random(42);
+        List<Triple<Integer, Long, Double>> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            Triple<Integer, Long, Double> t = new Triple<>(
+                    random.nextInt(), (long) i, random.nextDouble());
+            expected.add(t);
+            list.add(t);
+        }
+        expected.sort(Comparator.comparing(Triple::first));
+
+        list.sort(1);
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testSortByTwoPositionsWithDuplicates() {
+        Random random = new Random(7);
+        List<Triple<Integer, Long, Double>> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            Triple<Integer, Long, Double> t = new Triple<>(
+                    random.nextInt(10), (long) random.nextInt(100), 0.0);
+            expected.add(t);
+            list.add(t);
+        }
+        expected.sort(Comparator.comparing(Triple<Integer, Long, Double>::third)
+                .thenComparing(Triple::second).thenComparing(Triple::first));
+
+        list.sort(3, 2, 1);
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testSortSortedAndReversed() {
+        for (int i = 0; i < 3000; ++i) {
+            list.add(new Triple<>(i, 0L, 0.0));
+        }
+        list.sort(1);
+        for (int i = 0; i < 3000; ++i) {
+            assertEquals(i, list.getInt(i, 1));
+            list.setInt(i, 1, -i);
+        }
+
+        list.sort(1);
+
+        for (int i = 0; i < 3000; ++i) {
+            assertEquals(i - 2999, list.getInt(i, 1));
+        }
+    }
+
+    @Test
+    public void testCursor() {
+        for (int i = 0; i < 100; ++i) {
+            list.add(new Triple<>(i, (long) i, 0.0));
+        }
+        OffHeapTupleList.Cursor cursor = list.cursor();
+        int count = 0;
+
+        while (cursor.next()) {
+            assertEquals(count, cursor.row());
+            assertEquals(count, cursor.getInt(1));
+            cursor.setDouble(3, cursor.getLong(2) * 2.0);
+            ++count;
+        }
+
+        assertEquals(100, count);
+        assertFalse(cursor.next());
+        assertEquals(198.0, list.getDouble(99, 3), 0.0);
+        cursor.seek(10);
+        assertEquals(new Triple<>(10, 10L, 20.0), cursor.get());
+    }
+
+    @Test
+    public void testCloseFreesPages() {
+        List<ByteBuffer> freed = new ArrayList<>();
+        MemoryBackend backend = new MemoryBackend() {
+            @Override
+            public ByteBuffer allocate(int capacity) {
+                return ByteBuffer.allocate(capacity);
+            }
+
+            @Override
+            public void free(ByteBuffer buffer) {
+                freed.add(buffer);
+            }
+        };
+        OffHeapTupleList heap = new OffHeapTupleList(schema, backend, 64);
+        for (int i = 0; i < 10; ++i) {
+            heap.addRow();
+        }
+
+        heap.close();
+        heap.close();
+
+        assertEquals(4, freed.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetFailsWhenClosed() {
+        list.addRow();
+        list.close();
+
+        list.getInt(0, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetFailsWhenRowIsOutOfRange() {
+        list.addRow();
+
+        list.getInt(1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetFailsWithWrongType() {
+        list.addRow();
+
+        list.getLong(0, 1);
+    }
+
+    @Test
+    public void testAddFailureLeavesListUnchanged() {
+        try {
+            list.add(new Triple<>(1, 2, 3.0));
+            fail();
+        } catch (ClassCastException e) {
+            assertEquals(0, list.size());
+        }
+    }
+
+    @Test
+    public void testAddFailureOnNewPageReleasesPage() {
+        try {
+            list.add(new Triple<>(7, "x", 1.0));
+            fail();
+        } catch (ClassCastException e) {
+            assertEquals(0, list.size());
+        }
+
+        assertEquals(0L, list.addRow());
+        assertEquals(0, list.getInt(0, 1));
+        for (int i = 1; i < 5; ++i) {
+            list.add(new Triple<>(i, (long) i, (double) i));
+        }
+        for (int i = 1; i < 5; ++i) {
+            assertEquals(new Triple<>(i, (long) i, (double) i), list.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortFailsWithoutPositions() {
+        list.sort();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCursorFailsBeforeFirstRow() {
+        list.addRow();
+
+        list.cursor().getInt(1);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class PairKeyMapTest {
+    private PairKeyMap<String, Integer, String> map;
+
+    @Before
+    public void setup() {
+        map = new PairKeyMap<>();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        assertNull(map.put("a", 1, "x"));
+        assertEquals("x", map.get("a", 1));
+        assertNull(map.get("a", 2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        map.put("a", 1, "x");
+        assertEquals("x", map.put("a", 1, "y"));
+        assertEquals("y", map.get("a", 1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGetByTuple() {
+        map.put("a", 1, "x");
+        assertEquals("x", map.get(new Pair<>("a", 1)));
+        assertTrue(map.containsKey(new Pair<>("a", 1)));
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    public void testOtherTuplesOfSameArity() {
+        map.put("a", 1, "x");
+        map.put("b", 2, "y");
+        assertEquals("x", map.get(new LazyPair<String, Integer>(
+                () -> "a", () -> 1)));
+        assertTrue(map.containsKey(new LazyPair<>(new Pair<>("b", 2))));
+        assertFalse(map.containsKey(new Triple<>("a", 1, 0)));
+        assertEquals("y", map.remove(new LazyPair<>(new Pair<>("b", 2))));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testNullComponents() {
+        map.put(null, null, "x");
+        assertEquals("x", map.get(null, null));
+        assertTrue(map.containsKey(null, null));
+    }
+
+    @Test
+    public void testRemoveKey() {
+        map.put("a", 1, "x");
+        map.put("b", 2, "y");
+        assertEquals("x", map.removeKey("a", 1));
+        assertNull(map.removeKey("a", 1));
+        assertEquals("y", map.remove(new Pair<>("b", 2)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; ++i) {
+            String value = map.computeIfAbsent("a", 1,
+                    (a, b) -> {
+                        calls.incrementAndGet();
+                        return a + b;
+                    });
+            assertEquals("a1", value);
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testComputeIfAbsentNull() {
+        assertNull(map.computeIfAbsent("a", 1, (a, b) -> null));
+        assertFalse(map.containsKey("a", 1));
+    }
+
+    @Test
+    public void testResize() {
+        Map<Pair<String, Integer>, String> expected = new HashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            map.put("k" + i, i, "v" + i);
+            expected.put(new Pair<>("k" + i, i), "v" + i);
+        }
+        assertEquals(1000, map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        map.put("a", 1, "x");
+        map.put("b", 2, "y");
+        Iterator<Map.Entry<Pair<String, Integer>, String>> it =
+                map.entrySet().iterator();
+        Map.Entry<Pair<String, Integer>, String> entry = it.next();
+        it.remove();
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(entry.getKey()));
+    }
+
+    @Test
+    public void testClear() {
+        map.put("a", 1, "x");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a", 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedSize() {
+        new PairKeyMap<String, Integer, String>(-1);
+    }
+}
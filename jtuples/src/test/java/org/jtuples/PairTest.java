@@ -22,6 +22,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -168,6 +172,39 @@ public class PairTest {
         assertEquals("(1, 2)", pair.toString());
     }
 
+    @Test
+    public void testToBuilder() {
+        result = pair.toBuilder()
+                .first("a")
+                .applySecond(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("22", result.second());
+        assertEquals("1", pair.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(pair, pair.toBuilder().build());
+        assertSame(pair, pair.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pair);
+            out.writeObject(nullPair());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(pair, in.readObject());
+        assertEquals(nullPair(), in.readObject());
+    }
+
     private Pair<Object, Object> nullPair() {
         return new Pair<>();
     }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import org.junit.Test;
+import static org.jtuples.PrimitiveType.*;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class PrimitiveSchemaTest {
+    private final PrimitiveSchema schema =
+            PrimitiveSchema.of(LONG, INT, DOUBLE);
+
+    @Test
+    public void testArity() {
+        assertEquals(3, schema.arity());
+    }
+
+    @Test
+    public void testTypes() {
+        assertEquals(LONG, schema.type(1));
+        assertEquals(INT, schema.type(2));
+        assertEquals(DOUBLE, schema.type(3));
+    }
+
+    @Test
+    public void testOffsetsAndRowSize() {
+        assertEquals(0, schema.offset(1));
+        assertEquals(8, schema.offset(2));
+        assertEquals(12, schema.offset(3));
+        assertEquals(20, schema.rowSize());
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(PrimitiveSchema.of(LONG, INT, DOUBLE), schema);
+        assertEquals(PrimitiveSchema.of(LONG, INT, DOUBLE).hashCode(),
+                schema.hashCode());
+        assertNotEquals(PrimitiveSchema.of(LONG, DOUBLE, INT), schema);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("PrimitiveSchema[LONG, INT, DOUBLE]", schema.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTypeFailsWhenPositionIsZero() {
+        schema.type(0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testTypeFailsWhenPositionIsTooLarge() {
+        schema.type(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfFailsWithOneType() {
+        PrimitiveSchema.of(INT);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfFailsWithElevenTypes() {
+        PrimitiveSchema.of(INT, INT, INT, INT, INT, INT, INT, INT, INT, INT,
+                INT);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfFailsWithNullType() {
+        PrimitiveSchema.of(INT, null);
+    }
+}
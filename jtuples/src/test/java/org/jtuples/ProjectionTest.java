@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class ProjectionTest {
+    private final Decuple<Integer, Integer, Integer, Integer, Integer,
+            Integer, Integer, Integer, Integer, Integer> decuple =
+            new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    @Test
+    public void testApplyToTriple() {
+        Tuple result = Projection.of(1, 4, 9).apply(decuple);
+
+        assertTrue(result instanceof Triple);
+        assertEquals(new Triple<>(1, 4, 9), result);
+    }
+
+    @Test
+    public void testApplyReordersAndDuplicates() {
+        Tuple result =
+                Projection.of(2, 1, 2, 3).apply(new Triple<>("a", "b", "c"));
+
+        assertTrue(result instanceof Quadruple);
+        assertEquals(new Quadruple<>("b", "a", "b", "c"), result);
+    }
+
+    @Test
+    public void testApplyToDecuple() {
+        Projection reverse = Projection.of(10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+
+        assertEquals(decuple.invert(), reverse.apply(decuple));
+    }
+
+    @Test
+    public void testArityAndPositions() {
+        Projection projection = Projection.of(3, 1);
+
+        assertEquals(2, projection.arity());
+        assertArrayEquals(new int[]{3, 1}, projection.positions());
+    }
+
+    @Test
+    public void testEquals() {
+        assertEquals(Projection.of(1, 2), Projection.of(1, 2));
+        assertEquals(Projection.of(1, 2).hashCode(),
+                Projection.of(1, 2).hashCode());
+        assertNotEquals(Projection.of(1, 2), Projection.of(2, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testApplyToShortTuple() {
+        Projection.of(1, 3).apply(new Pair<>(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewPositions() {
+        Projection.of(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyPositions() {
+        Projection.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPosition() {
+        Projection.of(0, 1);
+    }
+}
@@ -22,6 +22,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -193,6 +197,66 @@ public class QuadrupleTest {
         assertEquals("(1, 2, 3, 4)", quadruple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = quadruple.apply((a, b, c, d) ->
+                a + b + c + d);
+
+        assertEquals("1234", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = quadruple.toBuilder()
+                .first("a")
+                .applyFourth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("44", result.fourth());
+        assertEquals("1", quadruple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(quadruple, quadruple.toBuilder().build());
+        assertSame(quadruple, quadruple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(quadruple);
+            out.writeObject(nullQuadruple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(quadruple, in.readObject());
+        assertEquals(nullQuadruple(), in.readObject());
+    }
+
+    @Test
+    public void testSerializationOfSubclass() throws Exception {
+        Quadruple<String, String, String, String> sub =
+                new Quadruple<String, String, String, String>(
+                        "1", "2", "3", "4") {
+            private static final long serialVersionUID = 1L;
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sub);
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        Object result = in.readObject();
+        assertEquals(Quadruple.class, result.getClass());
+        assertEquals(sub, result);
+    }
+
     private Quadruple<Object, Object, Object, Object> nullQuadruple() {
         return new Quadruple<>();
     }
@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -246,6 +250,47 @@ public class QuintupleTest {
         assertEquals("(1, 2, 3, 4, 5)", quintuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = quintuple.apply((a, b, c, d, e) ->
+                a + b + c + d + e);
+
+        assertEquals("12345", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = quintuple.toBuilder()
+                .first("a")
+                .applyFifth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("55", result.fifth());
+        assertEquals("1", quintuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(quintuple, quintuple.toBuilder().build());
+        assertSame(quintuple, quintuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(quintuple);
+            out.writeObject(nullQuintuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(quintuple, in.readObject());
+        assertEquals(nullQuintuple(), in.readObject());
+    }
+
     private Quintuple<Object, Object, Object, Object, Object> nullQuintuple() {
         return new Quintuple<>();
     }
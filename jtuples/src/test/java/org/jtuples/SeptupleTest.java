@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -257,6 +261,47 @@ public class SeptupleTest {
         assertEquals("(1, 2, 3, 4, 5, 6, 7)", septuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = septuple.apply((a, b, c, d, e, f, g) ->
+                a + b + c + d + e + f + g);
+
+        assertEquals("1234567", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = septuple.toBuilder()
+                .first("a")
+                .applySeventh(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("77", result.seventh());
+        assertEquals("1", septuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(septuple, septuple.toBuilder().build());
+        assertSame(septuple, septuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(septuple);
+            out.writeObject(nullSeptuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(septuple, in.readObject());
+        assertEquals(nullSeptuple(), in.readObject());
+    }
+
     private Septuple<Object, Object, Object, Object,
     		Object, Object, Object> nullSeptuple() {
         return new Septuple<>();
@@ -21,6 +21,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -235,6 +239,47 @@ public class SextupleTest {
         assertEquals("(1, 2, 3, 4, 5, 6)", sextuple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = sextuple.apply((a, b, c, d, e, f) ->
+                a + b + c + d + e + f);
+
+        assertEquals("123456", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = sextuple.toBuilder()
+                .first("a")
+                .applySixth(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("66", result.sixth());
+        assertEquals("1", sextuple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(sextuple, sextuple.toBuilder().build());
+        assertSame(sextuple, sextuple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sextuple);
+            out.writeObject(nullSextuple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(sextuple, in.readObject());
+        assertEquals(nullSextuple(), in.readObject());
+    }
+
     private Sextuple<Object, Object, Object, Object, Object, Object> nullSextuple() {
         return new Sextuple<>();
     }
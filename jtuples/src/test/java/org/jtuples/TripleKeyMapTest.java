@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class TripleKeyMapTest {
+    private TripleKeyMap<String, Integer, Long, String> map;
+
+    @Before
+    public void setup() {
+        map = new TripleKeyMap<>();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        assertNull(map.put("a", 1, 7L, "x"));
+        assertEquals("x", map.get("a", 1, 7L));
+        assertNull(map.get("a", 2, 7L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testPutReplaces() {
+        map.put("a", 1, 7L, "x");
+        assertEquals("x", map.put("a", 1, 7L, "y"));
+        assertEquals("y", map.get("a", 1, 7L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testGetByTuple() {
+        map.put("a", 1, 7L, "x");
+        assertEquals("x", map.get(new Triple<>("a", 1, 7L)));
+        assertTrue(map.containsKey(new Triple<>("a", 1, 7L)));
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    public void testOtherTuplesOfSameArity() {
+        map.put("a", 1, 7L, "x");
+        map.put("b", 2, 7L, "y");
+        assertEquals("x", map.get(new LazyTriple<String, Integer, Long>(
+                () -> "a", () -> 1, () -> 7L)));
+        assertTrue(map.containsKey(
+                new LazyTriple<>(new Triple<>("b", 2, 7L))));
+        assertFalse(map.containsKey(new Pair<>("a", 1)));
+        assertEquals("y",
+                map.remove(new LazyTriple<>(new Triple<>("b", 2, 7L))));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testNullComponents() {
+        map.put(null, null, null, "x");
+        assertEquals("x", map.get(null, null, null));
+        assertTrue(map.containsKey(null, null, null));
+    }
+
+    @Test
+    public void testRemoveKey() {
+        map.put("a", 1, 7L, "x");
+        map.put("b", 2, 7L, "y");
+        assertEquals("x", map.removeKey("a", 1, 7L));
+        assertNull(map.removeKey("a", 1, 7L));
+        assertEquals("y", map.remove(new Triple<>("b", 2, 7L)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; ++i) {
+            String value = map.computeIfAbsent("a", 1, 7L,
+                    (a, b, c) -> {
+                        calls.incrementAndGet();
+                        return a + b + c;
+                    });
+            assertEquals("a17", value);
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testComputeIfAbsentNull() {
+        assertNull(map.computeIfAbsent("a", 1, 7L, (a, b, c) -> null));
+        assertFalse(map.containsKey("a", 1, 7L));
+    }
+
+    @Test
+    public void testResize() {
+        Map<Triple<String, Integer, Long>, String> expected = new HashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            map.put("k" + i, i, (long) i, "v" + i);
+            expected.put(new Triple<>("k" + i, i, (long) i), "v" + i);
+        }
+        assertEquals(1000, map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        map.put("a", 1, 7L, "x");
+        map.put("b", 2, 7L, "y");
+        Iterator<Map.Entry<Triple<String, Integer, Long>, String>> it =
+                map.entrySet().iterator();
+        Map.Entry<Triple<String, Integer, Long>, String> entry = it.next();
+        it.remove();
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(entry.getKey()));
+    }
+
+    @Test
+    public void testClear() {
+        map.put("a", 1, 7L, "x");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a", 1, 7L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedSize() {
+        new TripleKeyMap<String, Integer, Long, String>(-1);
+    }
+}
@@ -22,6 +22,10 @@
  */
 package org.jtuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Before;
@@ -176,6 +180,47 @@ public class TripleTest {
         assertEquals("(1, 2, 3)", triple.toString());
     }
 
+    @Test
+    public void testApply() {
+        String concatenated = triple.apply((a, b, c) ->
+                a + b + c);
+
+        assertEquals("123", concatenated);
+    }
+
+    @Test
+    public void testToBuilder() {
+        result = triple.toBuilder()
+                .first("a")
+                .applyThird(s -> s + s)
+                .applyFirst(s -> s + "b")
+                .build();
+
+        assertEquals("ab", result.first());
+        assertEquals("33", result.third());
+        assertEquals("1", triple.first());
+    }
+
+    @Test
+    public void testToBuilderReturnsSameWhenUnchanged() {
+        assertSame(triple, triple.toBuilder().build());
+        assertSame(triple, triple.toBuilder().applyFirst(s -> s).build());
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(triple);
+            out.writeObject(nullTriple());
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(triple, in.readObject());
+        assertEquals(nullTriple(), in.readObject());
+    }
+
     private Triple<Object, Object, Object> nullTriple() {
         return new Triple<>();
     }
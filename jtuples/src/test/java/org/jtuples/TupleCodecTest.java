@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class TupleCodecTest {
+    @Test
+    public void testPairRoundTrip() {
+        TupleCodec<Pair<Integer, String>> codec =
+                TupleCodec.of(ElementCodecs.INT, ElementCodecs.UTF8);
+        Pair<Integer, String> pair = new Pair<>(7, "seven");
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(pair));
+
+        codec.write(buffer, pair);
+        buffer.flip();
+
+        assertEquals(2, buffer.get(0));
+        assertEquals(pair, codec.read(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testDecupleRoundTripOnDirectBuffer() {
+        TupleCodec<Decuple<Integer, Long, Double, String, Integer, Long,
+                Double, String, Integer, Long>> codec = TupleCodec.of(
+                        ElementCodecs.INT, ElementCodecs.LONG,
+                        ElementCodecs.DOUBLE, ElementCodecs.UTF8,
+                        ElementCodecs.INT, ElementCodecs.LONG,
+                        ElementCodecs.DOUBLE, ElementCodecs.UTF8,
+                        ElementCodecs.INT, ElementCodecs.LONG);
+        Decuple<Integer, Long, Double, String, Integer, Long, Double,
+                String, Integer, Long> decuple = new Decuple<>(1, 2L, 3.0,
+                        "4", 5, 6L, 7.0, "8", 9, 10L);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+
+        codec.write(buffer, decuple);
+        assertEquals(codec.encodedSize(decuple), buffer.position());
+        buffer.flip();
+
+        assertEquals(decuple, codec.read(buffer));
+    }
+
+    @Test
+    public void testNestedTuple() {
+        TupleCodec<Triple<Integer, Pair<String, Long>, Double>> codec =
+                TupleCodec.of(ElementCodecs.INT,
+                        TupleCodec.of(ElementCodecs.UTF8, ElementCodecs.LONG),
+                        ElementCodecs.DOUBLE);
+        Triple<Integer, Pair<String, Long>, Double> triple =
+                new Triple<>(1, new Pair<>("a", 2L), 3.0);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        codec.write(buffer, triple);
+        buffer.flip();
+
+        assertEquals(triple, codec.read(buffer));
+    }
+
+    @Test
+    public void testArity() {
+        assertEquals(3, TupleCodec.of(ElementCodecs.INT, ElementCodecs.INT,
+                ElementCodecs.INT).arity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadFailsOnArityMismatch() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        TupleCodec.of(ElementCodecs.INT, ElementCodecs.INT, ElementCodecs.INT)
+                .write(buffer, new Triple<>(1, 2, 3));
+        buffer.flip();
+
+        TupleCodec.of(ElementCodecs.INT, ElementCodecs.INT).read(buffer);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfFailsWhenCodecIsNull() {
+        TupleCodec.of(ElementCodecs.INT, null);
+    }
+}
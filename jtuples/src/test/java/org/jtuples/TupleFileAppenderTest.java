@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2015 git-afsantos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jtuples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.jtuples.PrimitiveType.*;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Andre Santos
+ */
+public class TupleFileAppenderTest {
+    private final PrimitiveSchema schema =
+            PrimitiveSchema.of(LONG, INT, DOUBLE);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testNewFileHasHeaderOnly() throws IOException {
+        Path path = path("empty.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            assertEquals(0, appender.rowCount());
+        }
+
+        assertEquals(MappedTupleFile.HEADER_SIZE, Files.size(path));
+    }
+
+    @Test
+    public void testRowsAreWrittenOnClose() throws IOException {
+        Path path = path("rows.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            appender.setLong(1, 10L).setInt(2, 1).setDouble(3, 0.5).endRow();
+            appender.append(new Triple<>(20L, 2, 1.5));
+            assertEquals(2, appender.rowCount());
+        }
+
+        assertEquals(MappedTupleFile.HEADER_SIZE + 2 * 20, Files.size(path));
+    }
+
+    @Test
+    public void testFlushKeepsCurrentRow() throws IOException {
+        Path path = path("flush.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            appender.append(new Triple<>(1L, 1, 1.0));
+            appender.setLong(1, 2L).setInt(2, 2);
+            appender.flush();
+            assertEquals(MappedTupleFile.HEADER_SIZE + 20, Files.size(path));
+            appender.setDouble(3, 2.0).endRow();
+        }
+
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(new Triple<>(2L, 2, 2.0), file.get(1));
+        }
+    }
+
+    @Test
+    public void testUnsetMembersAreZero() throws IOException {
+        Path path = path("zero.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            appender.setLong(1, 1L).setInt(2, 1).setDouble(3, 1.0).endRow();
+            appender.setInt(2, 2).endRow();
+        }
+
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(new Triple<>(0L, 2, 0.0), file.get(1));
+        }
+    }
+
+    @Test
+    public void testManyRowsSpanSeveralBuffers() throws IOException {
+        Path path = path("many.tuples");
+        int count = 10000;
+        try (TupleFileAppender appender = open(path)) {
+            for (int i = 0; i < count; ++i) {
+                appender.setLong(1, i).setInt(2, -i).setDouble(3, i / 2.0)
+                        .endRow();
+            }
+        }
+
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(count, file.rowCount());
+            for (int i = 0; i < count; ++i) {
+                assertEquals(i, file.getLong(i, 1));
+                assertEquals(-i, file.getInt(i, 2));
+                assertEquals(i / 2.0, file.getDouble(i, 3), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testReopenAppendsAndDropsPartialRow() throws IOException {
+        Path path = path("reopen.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            appender.append(new Triple<>(1L, 1, 1.0));
+        }
+        Files.write(path, new byte[7], StandardOpenOption.APPEND);
+
+        try (TupleFileAppender appender = open(path)) {
+            assertEquals(1, appender.rowCount());
+            appender.append(new Triple<>(2L, 2, 2.0));
+        }
+
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(2, file.rowCount());
+            assertEquals(new Triple<>(1L, 1, 1.0), file.get(0));
+            assertEquals(new Triple<>(2L, 2, 2.0), file.get(1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOpenFailsWithOtherSchema() throws IOException {
+        Path path = path("schema.tuples");
+        TupleFileAppender.open(path, schema).close();
+
+        TupleFileAppender.open(path, PrimitiveSchema.of(INT, INT));
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenFailsWhenNotTupleFile() throws IOException {
+        Path path = folder.newFile("text.txt").toPath();
+        Files.write(path, "not a tuple file at all".getBytes("UTF-8"));
+
+        TupleFileAppender.open(path, schema);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetFailsWithWrongType() throws IOException {
+        Path path = path("type.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            appender.setInt(1, 1);
+        }
+    }
+
+    @Test
+    public void testAppendFailureClearsRow() throws IOException {
+        Path path = path("clear.tuples");
+        try (TupleFileAppender appender = open(path)) {
+            try {
+                appender.append(new Triple<>(1L, "one", 1.0));
+                fail();
+            } catch (ClassCastException e) {
+                assertEquals(0, appender.rowCount());
+            }
+            appender.setInt(2, 2).endRow();
+        }
+
+        try (MappedTupleFile file = MappedTupleFile.open(path)) {
+            assertEquals(new Triple<>(0L, 2, 0.0), file.get(0));
+        }
+    }
+
+    private Path path(String name) {
+        return folder.getRoot().toPath().resolve(name);
+    }
+
+    private TupleFileAppender open(Path path) throws IOException {
+        return TupleFileAppender.open(path, schema);
+    }
+}
@@ -69,6 +69,13 @@ public class TupleTest {
         assertEquals(other.hashCode(), tuple.hashCode());
     }
 
+    @Test
+    public void testHashCodeIsTheSameAsList() {
+        Tuple tuple = new Quintuple<>("1", null, 3, 4L, "5");
+
+        assertEquals(tuple.asList().hashCode(), tuple.hashCode());
+    }
+
     @Test
     public void testEqualsIsTrueWhenEqualPair() {
         Tuple tuple = new Pair<>("1", "2");
@@ -23,9 +23,15 @@ package org.jtuples;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -246,6 +252,264 @@ public class TuplesTest {
         assertEquals(expected.hasNext(), iterator.hasNext());
     }
 
+    @Test
+    public void testPairwise() {
+        List<Pair<String, String>> expected = Arrays.asList(
+                new Pair<>("1", "2"),
+                new Pair<>("2", "3"),
+                new Pair<>("3", "4")
+        );
+        assertEquals(expected, Tuples.pairwise(Stream.of("1", "2", "3", "4"))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPairwise_TooShort() {
+        assertEquals(0, Tuples.pairwise(Stream.of("1")).count());
+    }
+
+    @Test
+    public void testTriples() {
+        List<Triple<String, String, String>> expected = Arrays.asList(
+                new Triple<>("1", "2", "3"),
+                new Triple<>("2", "3", "4")
+        );
+        Stream<Triple<String, String, String>> windows =
+                Tuples.triples(Stream.of("1", "2", "3", "4"));
+        assertEquals(expected, windows.collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testTriples_TooShort() {
+        assertEquals(0, Tuples.triples(Stream.of("1", "2")).count());
+    }
+
+    @Test
+    public void testQuintuples() {
+        List<Quintuple<Integer, Integer, Integer, Integer, Integer>> windows =
+                Tuples.quintuples(IntStream.range(0, 6).boxed())
+                        .collect(Collectors.toList());
+        assertEquals(Arrays.asList(new Quintuple<>(0, 1, 2, 3, 4),
+                new Quintuple<>(1, 2, 3, 4, 5)), windows);
+    }
+
+    @Test
+    public void testDecuples() {
+        List<Decuple<Integer, Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer>> windows = Tuples.decuples(
+                IntStream.rangeClosed(1, 11).boxed())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(
+                new Decuple<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                new Decuple<>(2, 3, 4, 5, 6, 7, 8, 9, 10, 11)
+        ), windows);
+    }
+
+    @Test
+    public void testWindows_Parallel() {
+        List<Quadruple<Integer, Integer, Integer, Integer>> expected =
+                Tuples.quadruples(IntStream.range(0, 10000).boxed())
+                        .collect(Collectors.toList());
+        List<Quadruple<Integer, Integer, Integer, Integer>> result =
+                Tuples.quadruples(IntStream.range(0, 10000).boxed().parallel())
+                        .collect(Collectors.toList());
+        assertEquals(9997, result.size());
+        assertEquals(expected, result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindows_IllegalArity() {
+        Tuples.windows(Stream.of("1", "2"), 11);
+    }
+
+    @Test
+    public void testHashJoin() {
+        List<String> left = Arrays.asList("a1", "b1", "c1", "a2");
+        List<String> right = Arrays.asList("a", "c", "c", "d");
+        List<Pair<String, String>> expected = Arrays.asList(
+                new Pair<>("a1", "a"),
+                new Pair<>("c1", "c"),
+                new Pair<>("c1", "c"),
+                new Pair<>("a2", "a")
+        );
+        assertEquals(new HashSet<>(expected), Tuples.hashJoin(left, right,
+                s -> s.substring(0, 1), s -> s)
+                .collect(Collectors.toSet()));
+        assertEquals(4, Tuples.hashJoin(left, right,
+                s -> s.substring(0, 1), s -> s).count());
+    }
+
+    @Test
+    public void testHashJoin_BuildsSmallerSide() {
+        List<String> left = Arrays.asList("a", "c");
+        List<String> right = Arrays.asList("a1", "b1", "c1", "a2");
+        List<Pair<String, String>> expected = Arrays.asList(
+                new Pair<>("a", "a1"),
+                new Pair<>("c", "c1"),
+                new Pair<>("a", "a2")
+        );
+        assertEquals(expected, Tuples.hashJoin(left, right,
+                s -> s, s -> s.substring(0, 1))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testHashJoin_Parallel() {
+        List<Integer> left = new ArrayList<>();
+        for (int i = 0; i < 10000; ++i) {
+            left.add(i);
+        }
+        List<Integer> right = Arrays.asList(0, 1, 2);
+        long count = Tuples.hashJoin(left, right, i -> i % 5, i -> i)
+                .parallel()
+                .filter(p -> p.first() % 5 == p.second())
+                .count();
+        assertEquals(6000, count);
+    }
+
+    @Test
+    public void testLeftHashJoin() {
+        List<String> left = Arrays.asList("a1", "b1", "c1");
+        List<String> right = Arrays.asList("a", "c", "c");
+        List<Pair<String, String>> expected = Arrays.asList(
+                new Pair<>("a1", "a"),
+                new Pair<>("b1", null),
+                new Pair<>("c1", "c"),
+                new Pair<>("c1", "c")
+        );
+        assertEquals(expected, Tuples.leftHashJoin(left, right,
+                s -> s.substring(0, 1), s -> s)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSemiHashJoin() {
+        List<String> left = Arrays.asList("a1", "b1", "c1", "a2");
+        List<String> right = Arrays.asList("a", "c", "c");
+        assertEquals(Arrays.asList("a1", "c1", "a2"),
+                Tuples.semiHashJoin(left, right,
+                        s -> s.substring(0, 1), s -> s)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testAntiHashJoin() {
+        List<String> left = Arrays.asList("a1", "b1", "c1", "a2");
+        List<String> right = Arrays.asList("a", "c", "c");
+        assertEquals(Arrays.asList("b1"), Tuples.antiHashJoin(left, right,
+                s -> s.substring(0, 1), s -> s)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMergeJoin() {
+        List<Integer> left = Arrays.asList(1, 2, 2, 4, 6);
+        List<String> right = Arrays.asList("2a", "2b", "3", "4", "5");
+        List<Pair<Integer, String>> expected = Arrays.asList(
+                new Pair<>(2, "2a"),
+                new Pair<>(2, "2b"),
+                new Pair<>(2, "2a"),
+                new Pair<>(2, "2b"),
+                new Pair<>(4, "4")
+        );
+        List<Pair<Integer, String>> result = new ArrayList<>();
+        Tuples.mergeJoin(left.iterator(), right.iterator(), i -> i,
+                s -> Integer.valueOf(s.substring(0, 1)),
+                Comparator.<Integer>naturalOrder())
+                .forEachRemaining(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testMergeJoin_Empty() {
+        List<Integer> left = Arrays.asList(1, 2);
+        List<Integer> right = Arrays.asList();
+        assertFalse(Tuples.mergeJoin(left.iterator(), right.iterator(),
+                i -> i, i -> i, Comparator.<Integer>naturalOrder())
+                .hasNext());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMergeJoin_Unsorted() {
+        List<Integer> left = Arrays.asList(2, 1);
+        List<Integer> right = Arrays.asList(1, 2);
+        Tuples.mergeJoin(left.iterator(), right.iterator(),
+                i -> i, i -> i, Comparator.<Integer>naturalOrder())
+                .forEachRemaining(p -> { });
+    }
+
+    @Test
+    public void testAsOfJoin() {
+        List<Long> references = Arrays.asList(1L, 5L);
+        List<Long> events = Arrays.asList(0L, 3L, 5L, 9L);
+        List<Pair<Long, Long>> expected = Arrays.asList(
+                new Pair<>(0L, null),
+                new Pair<>(3L, 1L),
+                new Pair<>(5L, 5L),
+                new Pair<>(9L, 5L)
+        );
+        List<Pair<Long, Long>> result = new ArrayList<>();
+        Tuples.asOfJoin(events.iterator(), references.iterator(),
+                t -> t, t -> t)
+                .forEachRemaining(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testAsOfJoin_Tolerance() {
+        List<Long> references = Arrays.asList(1L, 5L);
+        List<Long> events = Arrays.asList(3L, 6L, 9L);
+        List<Pair<Long, Long>> expected = Arrays.asList(
+                new Pair<>(3L, 1L),
+                new Pair<>(6L, 5L),
+                new Pair<>(9L, null)
+        );
+        List<Pair<Long, Long>> result = new ArrayList<>();
+        Tuples.asOfJoin(events.iterator(), references.iterator(),
+                t -> t, t -> t, 2)
+                .forEachRemaining(result::add);
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testAsOfJoin_Keyed() {
+        List<Pair<String, Long>> references = Arrays.asList(
+                new Pair<>("a", 1L),
+                new Pair<>("b", 2L),
+                new Pair<>("a", 4L)
+        );
+        List<Pair<String, Long>> events = Arrays.asList(
+                new Pair<>("b", 1L),
+                new Pair<>("a", 3L),
+                new Pair<>("b", 5L),
+                new Pair<>("a", 5L)
+        );
+        List<Long> expected = Arrays.asList(null, 1L, 2L, 4L);
+        List<Long> result = new ArrayList<>();
+        Tuples.asOfJoin(events.iterator(), references.iterator(),
+                Pair::second, Pair::second, Pair::first, Pair::first,
+                Long.MAX_VALUE)
+                .forEachRemaining(p -> result.add(
+                        p.second() == null ? null : p.second().second()));
+        assertEquals(expected, result);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAsOfJoin_Unsorted() {
+        List<Long> references = Arrays.asList(1L, 5L);
+        List<Long> events = Arrays.asList(3L, 2L);
+        Tuples.asOfJoin(events.iterator(), references.iterator(),
+                t -> t, t -> t)
+                .forEachRemaining(p -> { });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAsOfJoin_NegativeTolerance() {
+        List<Long> values = Arrays.asList(1L);
+        Tuples.asOfJoin(values.iterator(), values.iterator(),
+                t -> t, t -> t, -1);
+    }
+
     @Test
     public void testNonInstantiable() throws InstantiationException,
             IllegalAccessException, IllegalArgumentException {
@@ -263,4 +527,227 @@ public class TuplesTest {
             assertTrue(e.getCause() instanceof AssertionError);
         }
     }
+
+    @Test
+    public void testLazy() {
+        LazyTriple<String, Integer, Long> triple =
+                Tuples.lazy(() -> "1", () -> 2, () -> 3L);
+
+        assertFalse(triple.isEvaluated(1));
+        assertEquals(Tuples.with("1", 2, 3L), triple);
+        assertTrue(triple.isEvaluated(3));
+    }
+
+
+    @Test
+    public void testConcat_Pair_Triple() {
+        Quintuple<Integer, String, Long, Integer, String> result =
+                Tuples.concat(Tuples.with(1, "2"), Tuples.with(3L, 4, "5"));
+
+        assertEquals(Tuples.with(1, "2", 3L, 4, "5"), result);
+    }
+
+    @Test
+    public void testConcat_Pair_Pair() {
+        assertEquals(Tuples.with(1, 2, 3, 4),
+                Tuples.concat(Tuples.with(1, 2), Tuples.with(3, 4)));
+    }
+
+    @Test
+    public void testConcat_Octuple_Pair() {
+        assertEquals(Tuples.with(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                Tuples.concat(Tuples.with(1, 2, 3, 4, 5, 6, 7, 8),
+                        Tuples.with(9, 10)));
+    }
+
+    @Test
+    public void testConcat_Quintuple_Quintuple() {
+        assertEquals(Tuples.with(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                Tuples.concat(Tuples.with(1, 2, 3, 4, 5),
+                        Tuples.with(6, 7, 8, 9, 10)));
+    }
+
+
+    @Test
+    public void testFlatFirstQuadruple() {
+        Pair<Pair<Pair<Integer, String>, Long>, Character> pair =
+                Tuples.with(Tuples.with(Tuples.with(1, "2"), 3L), '4');
+
+        assertEquals(Tuples.with(1, "2", 3L, '4'),
+                Tuples.flatFirstQuadruple(pair));
+    }
+
+    @Test
+    public void testFlatSecondQuadruple() {
+        Pair<Integer, Pair<String, Pair<Long, Character>>> pair =
+                Tuples.with(1, Tuples.with("2", Tuples.with(3L, '4')));
+
+        assertEquals(Tuples.with(1, "2", 3L, '4'),
+                Tuples.flatSecondQuadruple(pair));
+    }
+
+    @Test
+    public void testNestAndFlatDecuple() {
+        Decuple<Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer, Integer, Integer> decuple =
+                Tuples.with(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        assertEquals(decuple,
+                Tuples.flatFirstDecuple(Tuples.nestFirst(decuple)));
+        assertEquals(decuple,
+                Tuples.flatSecondDecuple(Tuples.nestSecond(decuple)));
+    }
+
+    @Test
+    public void testNestFirst() {
+        assertEquals(Tuples.with(Tuples.with(1, 2), 3),
+                Tuples.nestFirst(Tuples.with(1, 2, 3)));
+        assertEquals("((((1, 2), 3), 4), 5)",
+                Tuples.nestFirst(Tuples.with(1, 2, 3, 4, 5)).toString());
+    }
+
+    @Test
+    public void testNestSecond() {
+        assertEquals(Tuples.with(1, Tuples.with(2, 3)),
+                Tuples.nestSecond(Tuples.with(1, 2, 3)));
+        assertEquals("(1, (2, (3, (4, 5))))",
+                Tuples.nestSecond(Tuples.with(1, 2, 3, 4, 5)).toString());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFlatFirstQuintupleWithNullInnerPair() {
+        Tuples.flatFirstQuintuple(Tuples.with(Tuples.with(
+                Tuples.with((Pair<Integer, Integer>) null, 3), 4), 5));
+    }
+
+
+    @Test
+    public void testAssociateFirst_Iterable() {
+        List<Pair<Integer, Pair<String, Long>>> pairs = Arrays.asList(
+                Tuples.with(1, Tuples.with("a", 1L)),
+                Tuples.with(2, Tuples.with("b", 2L)));
+        Iterable<Pair<Pair<Integer, String>, Long>> result =
+                Tuples.associateFirst(pairs);
+
+        List<Pair<Pair<Integer, String>, Long>> list = new ArrayList<>();
+        result.forEach(list::add);
+        assertEquals(Arrays.asList(
+                Tuples.with(Tuples.with(1, "a"), 1L),
+                Tuples.with(Tuples.with(2, "b"), 2L)), list);
+        assertTrue(result.iterator().hasNext());
+    }
+
+    @Test
+    public void testAssociateSecond_Iterator() {
+        List<Pair<Pair<Integer, String>, Long>> pairs = new ArrayList<>(
+                Arrays.asList(Tuples.with(Tuples.with(1, "a"), 1L),
+                        Tuples.with(Tuples.with(2, "b"), 2L)));
+        Iterator<Pair<Integer, Pair<String, Long>>> it =
+                Tuples.associateSecond(pairs.iterator());
+
+        assertEquals(Tuples.with(1, Tuples.with("a", 1L)), it.next());
+        it.remove();
+        assertEquals(Tuples.with(2, Tuples.with("b", 2L)), it.next());
+        assertFalse(it.hasNext());
+        assertEquals(1, pairs.size());
+    }
+
+
+    @Test
+    public void testFromArray() {
+        Tuple triple = Tuples.fromArray(new Object[]{"1", 2, 3L});
+
+        assertTrue(triple instanceof Triple);
+        assertEquals(Tuples.with("1", 2, 3L), triple);
+        assertEquals(Tuples.with(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                Tuples.fromArray(new Object[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}));
+    }
+
+    @Test
+    public void testFromArrayWithOffset() {
+        Object[] buffer = {0, 1, 2, 3, 4, 5};
+
+        assertEquals(Tuples.with(2, 3, 4, 5), Tuples.fromArray(buffer, 2, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArrayWithIllegalArity() {
+        Tuples.fromArray(new Object[]{1});
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFromArrayOutOfBounds() {
+        Tuples.fromArray(new Object[]{1, 2, 3}, 2, 2);
+    }
+
+    @Test
+    public void testFromRows() {
+        List<Tuple> pairs = Tuples.fromRows(new Object[][]{
+            {"a", 1}, {"b", 2}
+        });
+
+        assertEquals(Arrays.asList(Tuples.with("a", 1), Tuples.with("b", 2)),
+                pairs);
+    }
+
+    @Test
+    public void testFromArrayAndRowsDoNotInferTupleTypes()
+            throws NoSuchMethodException {
+        assertEquals(Tuple.class, Tuples.class.getMethod("fromArray",
+                Object[].class).getGenericReturnType());
+        assertEquals(Tuple.class, Tuples.class.getMethod("fromArray",
+                Object[].class, int.class, int.class).getGenericReturnType());
+        assertEquals("java.util.List<org.jtuples.Tuple>",
+                Tuples.class.getMethod("fromRows", Object[][].class)
+                        .getGenericReturnType().getTypeName());
+        assertEquals("java.util.List<org.jtuples.Tuple>",
+                Tuples.class.getMethod("fromRows", Object[].class, int.class,
+                        int.class, int.class, int.class)
+                        .getGenericReturnType().getTypeName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromRowsWithDifferentLengths() {
+        Tuples.fromRows(new Object[][]{{1, 2}, {1, 2, 3}});
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testFromRowsWithNullRow() {
+        Tuples.fromRows(new Object[][]{{1, 2}, null});
+    }
+
+    @Test
+    public void testFromRowsEmpty() {
+        assertTrue(Tuples.fromRows(new Object[0][]).isEmpty());
+    }
+
+    @Test
+    public void testFromRowsFlat() {
+        Object[] data = {"x", "a", 1, "b", 2, "c", 3};
+        List<Tuple> pairs = Tuples.fromRows(data, 1, 3, 2);
+
+        assertEquals(Arrays.asList(Tuples.with("a", 1), Tuples.with("b", 2),
+                Tuples.with("c", 3)), pairs);
+    }
+
+    @Test
+    public void testFromRowsWithStride() {
+        Object[] data = {"a", 1, true, "b", 2, false};
+        List<Tuple> pairs = Tuples.fromRows(data, 0, 2, 2, 3);
+
+        assertEquals(Arrays.asList(Tuples.with("a", 1), Tuples.with("b", 2)),
+                pairs);
+        assertTrue(Tuples.fromRows(data, 6, 0, 2).isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFromRowsOutOfBounds() {
+        Tuples.fromRows(new Object[]{1, 2, 3, 4, 5}, 0, 3, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromRowsWithSmallStride() {
+        Tuples.fromRows(new Object[]{1, 2, 3, 4}, 0, 2, 2, 1);
+    }
+
 }